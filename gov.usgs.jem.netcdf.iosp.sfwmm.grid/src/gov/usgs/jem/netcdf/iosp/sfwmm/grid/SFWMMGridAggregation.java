@@ -0,0 +1,627 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import gov.usgs.jem.sfwmm.grid.GIOAvailability;
+import gov.usgs.jem.sfwmm.grid.GIOHeader;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import ucar.ma2.Array;
+import ucar.ma2.DataType;
+import ucar.ma2.Section;
+
+/**
+ * Presents the SFWMM GridIO files of one run that was split over time as a
+ * single time-concatenated series, like an NcML {@code joinExisting}
+ * aggregation over {@link SFWMMGridIOSP} but without opening every member
+ * through NetCDF-Java. This is a reader-level API, not a
+ * {@link ucar.nc2.NetcdfFile}: NcML aggregations of the members through the
+ * IOSP are unaffected, and still read the time variable of every member.
+ *
+ * Building the aggregation reads only the header of each member, whose file
+ * length gives its number of timesteps; these counts form the offset index
+ * that routes a date index to a member. Members are opened on first read and
+ * only the most recently read few are kept open (see
+ * {@link Builder#withMaxOpenMembers(int)}), so that aggregations of many
+ * files do not hold a file handle per member. The tags of a member are only
+ * read if {@link #getDates()} is called, closing the member afterwards unless
+ * it was already open.
+ *
+ * Not thread-safe, like {@link GIOReader}.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class SFWMMGridAggregation implements Closeable
+{
+	/**
+	 * Builds new instances of {@link SFWMMGridAggregation}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withFilePaths(Collection)
+		 */
+		private List<String>	m_bFilePaths;
+
+		/**
+		 * @see #withMaxOpenMembers(int)
+		 */
+		private int				m_bMaxOpenMembers;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bFilePaths = Lists.newArrayList();
+			m_bMaxOpenMembers = DEFAULT_MAX_OPEN_MEMBERS;
+		}
+
+		/**
+		 * Read the header of each member and build the offset index
+		 *
+		 * @return {@link SFWMMGridAggregation} instance
+		 * @throws IOException
+		 *             if a member could not be opened
+		 * @throws IllegalArgumentException
+		 *             if the members do not share a grid
+		 * @since Oct 18, 2026
+		 */
+		public SFWMMGridAggregation build() throws IOException
+		{
+			checkArgument(!m_bFilePaths.isEmpty(),
+					"At least one file path required.");
+			checkArgument(m_bMaxOpenMembers > 0,
+					"At least one open member required, but got %s",
+					m_bMaxOpenMembers);
+
+			final int[] offsets = new int[m_bFilePaths.size() + 1];
+			GIOHeader header = null;
+			GIOAvailability availability = null;
+			for (int i = 0; i < m_bFilePaths.size(); i++)
+			{
+				final String filePath = m_bFilePaths.get(i);
+				try (GIOReader reader = GIOReader.open(filePath))
+				{
+					final GIOHeader other = reader.getHeader();
+					if (header == null)
+					{
+						header = other;
+						availability = reader.getAvailability();
+					}
+					checkArgument(
+							header.getRowsSize() == other.getRowsSize()
+									&& header.getColsSize() == other
+											.getColsSize()
+									&& header.getNodesSize() == other
+											.getNodesSize()
+									&& availability.equals(
+											reader.getAvailability()),
+							"Grid of %s differs from %s", filePath,
+							m_bFilePaths.get(0));
+					offsets[i + 1] = offsets[i] + reader.getDateCount();
+				}
+				catch (final IllegalStateException e)
+				{
+					throw new IOException(
+							"Unable to read header of file: " + filePath, e);
+				}
+			}
+			return new SFWMMGridAggregation(this, header, offsets);
+		}
+
+		/**
+		 * Set the members, in time order
+		 *
+		 * @param p_FilePaths
+		 *            paths to the SFWMM GridIO files, earliest first
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withFilePaths(final Collection<String> p_FilePaths)
+		{
+			m_bFilePaths = Lists.newArrayList(
+					checkNotNull(p_FilePaths, "File paths required."));
+			return this;
+		}
+
+		/**
+		 * Set the most members kept open between reads; the least recently
+		 * read member is closed to open another. Defaults to
+		 * {@value SFWMMGridAggregation#DEFAULT_MAX_OPEN_MEMBERS}.
+		 *
+		 * @param p_MaxOpenMembers
+		 *            the number of members, at least 1
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withMaxOpenMembers(final int p_MaxOpenMembers)
+		{
+			m_bMaxOpenMembers = p_MaxOpenMembers;
+			return this;
+		}
+	}
+
+	/**
+	 * Default number of members kept open, enough for reads that span a
+	 * member boundary
+	 *
+	 * @see Builder#withMaxOpenMembers(int)
+	 * @since Oct 18, 2026
+	 */
+	public static final int DEFAULT_MAX_OPEN_MEMBERS = 4;
+
+	/**
+	 * Get a new {@link Builder}
+	 *
+	 * @return a new {@link Builder}
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * @see #getDates()
+	 * @since Oct 18, 2026
+	 */
+	private List<Date>					m_Dates;
+
+	/**
+	 * @see #getFilePaths()
+	 * @since Oct 18, 2026
+	 */
+	private final List<String>			m_FilePaths;
+
+	/**
+	 * @see #getHeader()
+	 * @since Oct 18, 2026
+	 */
+	private final GIOHeader				m_Header;
+
+	/**
+	 * @see Builder#withMaxOpenMembers(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int					m_MaxOpenMembers;
+
+	/**
+	 * Date index of the first timestep of each member, followed by the total
+	 * number of timesteps
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]					m_Offsets;
+
+	/**
+	 * Open members by index, least recently read first
+	 *
+	 * @see #getReader(int)
+	 * @since Oct 18, 2026
+	 */
+	private final Map<Integer, GIOReader>	m_Readers;
+
+	/**
+	 * Create a new aggregation
+	 *
+	 * @param p_Builder
+	 *            the validated builder
+	 * @param p_Header
+	 *            the header of the first member
+	 * @param p_Offsets
+	 *            the offset index
+	 * @since Oct 18, 2026
+	 */
+	private SFWMMGridAggregation(final Builder p_Builder,
+			final GIOHeader p_Header, final int[] p_Offsets)
+	{
+		m_FilePaths = ImmutableList.copyOf(p_Builder.m_bFilePaths);
+		m_Header = p_Header;
+		m_Offsets = p_Offsets;
+		m_MaxOpenMembers = p_Builder.m_bMaxOpenMembers;
+		m_Readers = new LinkedHashMap<>(m_MaxOpenMembers, 0.75f, true);
+		m_Dates = null;
+	}
+
+	/**
+	 * Close the members that were opened
+	 *
+	 * @throws IOException
+	 *             if a member could not be closed
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		IOException exception = null;
+		for (final GIOReader reader : m_Readers.values())
+		{
+			try
+			{
+				reader.close();
+			}
+			catch (final IOException e)
+			{
+				if (exception == null)
+				{
+					exception = e;
+				}
+				else
+				{
+					exception.addSuppressed(e);
+				}
+			}
+		}
+		m_Readers.clear();
+		if (exception != null)
+		{
+			throw exception;
+		}
+	}
+
+	/**
+	 * Get the total number of timesteps of the members, without reading any
+	 * tags
+	 *
+	 * @return the number of timesteps
+	 * @since Oct 18, 2026
+	 */
+	public int getDateCount()
+	{
+		return m_Offsets[m_Offsets.length - 1];
+	}
+
+	/**
+	 * Get the dates of all members, in member order. Reads the tags of every
+	 * member the first time it is called, opening and closing in turn the
+	 * members that are not open.
+	 *
+	 * @return the dates
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @throws IllegalStateException
+	 *             if a member does not start after the previous one ends
+	 * @since Oct 18, 2026
+	 */
+	public List<Date> getDates() throws IOException, ParseException
+	{
+		if (m_Dates == null)
+		{
+			final List<Date> dates = Lists
+					.newArrayListWithCapacity(getDateCount());
+			for (int i = 0; i < m_FilePaths.size(); i++)
+			{
+				final List<Date> memberDates = getMemberDates(i);
+				checkState(memberDates.size() == getMemberSize(i),
+						"File %s has changed since the aggregation was built",
+						m_FilePaths.get(i));
+				checkState(
+						dates.isEmpty() || memberDates.isEmpty()
+								|| dates.get(dates.size() - 1)
+										.before(memberDates.get(0)),
+						"Dates of %s do not follow those of the files before it",
+						m_FilePaths.get(i));
+				dates.addAll(memberDates);
+			}
+			m_Dates = Collections.unmodifiableList(dates);
+		}
+		return m_Dates;
+	}
+
+	/**
+	 * Get the paths of the members, in time order
+	 *
+	 * @return the member file paths
+	 * @since Oct 18, 2026
+	 */
+	public List<String> getFilePaths()
+	{
+		return m_FilePaths;
+	}
+
+	/**
+	 * Get the header shared by the members, that of the first member
+	 *
+	 * @return the header
+	 * @since Oct 18, 2026
+	 */
+	public GIOHeader getHeader()
+	{
+		return m_Header;
+	}
+
+	/**
+	 * Get the member holding the provided date index
+	 *
+	 * @param p_DateIndex
+	 *            the 0-based date index within the aggregation
+	 * @return the index of the member within {@link #getFilePaths()}
+	 * @since Oct 18, 2026
+	 */
+	public int getMember(final int p_DateIndex)
+	{
+		checkElementIndex(p_DateIndex, getDateCount(), "Date index");
+		/**
+		 * Members without timesteps share an offset with the next member, so
+		 * take the last member starting at or before the index
+		 */
+		int index = Arrays.binarySearch(m_Offsets, 0, m_FilePaths.size(),
+				p_DateIndex);
+		if (index < 0)
+		{
+			return -index - 2;
+		}
+		while (index + 1 < m_FilePaths.size()
+				&& m_Offsets[index + 1] == p_DateIndex)
+		{
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Get the dates of a member, without keeping it open if it was not
+	 *
+	 * @param p_Member
+	 *            the index of the member
+	 * @return the dates
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private List<Date> getMemberDates(final int p_Member)
+			throws IOException, ParseException
+	{
+		final GIOReader open = m_Readers.get(p_Member);
+		if (open != null)
+		{
+			return open.getDates();
+		}
+		try (GIOReader reader = GIOReader.open(m_FilePaths.get(p_Member)))
+		{
+			return reader.getDates();
+		}
+	}
+
+	/**
+	 * Get the number of timesteps of a member
+	 *
+	 * @param p_Member
+	 *            the index of the member
+	 * @return the number of timesteps
+	 * @since Oct 18, 2026
+	 */
+	private int getMemberSize(final int p_Member)
+	{
+		return m_Offsets[p_Member + 1] - m_Offsets[p_Member];
+	}
+
+	/**
+	 * Get the number of members currently open
+	 *
+	 * @return the number of open members, at most the maximum set with
+	 *         {@link Builder#withMaxOpenMembers(int)}
+	 * @since Oct 18, 2026
+	 */
+	int getOpenMemberCount()
+	{
+		return m_Readers.size();
+	}
+
+	/**
+	 * Get the reader of a member, opening it if needed and closing the least
+	 * recently read member if too many are open
+	 *
+	 * @param p_Member
+	 *            the index of the member
+	 * @return the open reader
+	 * @throws IOException
+	 *             if the member could not be opened, or the least recently
+	 *             read one closed
+	 * @since Oct 18, 2026
+	 */
+	private GIOReader getReader(final int p_Member) throws IOException
+	{
+		GIOReader reader = m_Readers.get(p_Member);
+		if (reader == null)
+		{
+			if (m_Readers.size() >= m_MaxOpenMembers)
+			{
+				final Iterator<GIOReader> eldest = m_Readers.values()
+						.iterator();
+				final GIOReader evicted = eldest.next();
+				eldest.remove();
+				evicted.close();
+			}
+			reader = GIOReader.open(m_FilePaths.get(p_Member));
+			m_Readers.put(p_Member, reader);
+		}
+		return reader;
+	}
+
+	/**
+	 * Read a section of the aggregated data variable as
+	 * {@link SFWMMGridIOSP} presents it: time, then rows from north to south,
+	 * then columns.
+	 *
+	 * @param p_Section
+	 *            the section of time, y and x indices to read, without strides
+	 * @return the data, {@link Float#NaN} where there are no nodes
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @throws IllegalArgumentException
+	 *             if the section has strides
+	 * @since Oct 18, 2026
+	 */
+	public Array read(final Section p_Section)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Section, "Section required.");
+		final int expectedRank = 3;
+		checkArgument(p_Section.getRank() == expectedRank,
+				"Invalid section rank. Expected %s but found %s.",
+				expectedRank, p_Section.getRank());
+		for (int i = 0; i < expectedRank; i++)
+		{
+			checkArgument(p_Section.getStride(i) == 1,
+					"Strided sections are not supported: %s", p_Section);
+		}
+
+		final int tOrigin = p_Section.getOrigin(0);
+		final int yOrigin = p_Section.getOrigin(1);
+		final int xOrigin = p_Section.getOrigin(2);
+		final Range<Integer> tRange = Range.closedOpen(tOrigin,
+				tOrigin + p_Section.getShape(0));
+		/**
+		 * Rows are stored south to north
+		 */
+		final int numRows = m_Header.getRowsSize();
+		final Range<Integer> yRange = Range.closed(
+				numRows - yOrigin - p_Section.getShape(1), numRows - yOrigin - 1);
+		final Range<Integer> xRange = Range.closedOpen(xOrigin,
+				xOrigin + p_Section.getShape(2));
+		return Array.factory(DataType.FLOAT, p_Section.getShape(),
+				read(tRange, yRange, xRange, true));
+	}
+
+	/**
+	 * Read the timesteps in the provided range from the members holding them,
+	 * in order
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices to read from
+	 * @param p_RowIndices
+	 *            the range of rows to read from
+	 * @param p_ColumnIndices
+	 *            the range of columns to read from
+	 * @param p_ReverseRows
+	 *            true to fill each timestep from its last row to its first
+	 * @return the data of all timesteps
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private float[] read(final Range<Integer> p_DateIndices,
+			final Range<Integer> p_RowIndices,
+			final Range<Integer> p_ColumnIndices, final boolean p_ReverseRows)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_DateIndices, "Date index range required.");
+		int first = 0;
+		if (p_DateIndices.hasLowerBound())
+		{
+			first = Math.max(first,
+					p_DateIndices.lowerBoundType() == BoundType.CLOSED
+							? p_DateIndices.lowerEndpoint()
+							: p_DateIndices.lowerEndpoint() + 1);
+		}
+		int last = getDateCount() - 1;
+		if (p_DateIndices.hasUpperBound())
+		{
+			last = Math.min(last,
+					p_DateIndices.upperBoundType() == BoundType.CLOSED
+							? p_DateIndices.upperEndpoint()
+							: p_DateIndices.upperEndpoint() - 1);
+		}
+
+		final List<float[]> parts = Lists.newArrayList();
+		int length = 0;
+		if (first <= last)
+		{
+			for (int member = getMember(first); member < m_FilePaths.size()
+					&& m_Offsets[member] <= last; member++)
+			{
+				if (getMemberSize(member) == 0)
+				{
+					continue;
+				}
+				final int offset = m_Offsets[member];
+				final Range<Integer> memberDates = Range.closed(
+						Math.max(first, offset) - offset,
+						Math.min(last, m_Offsets[member + 1] - 1) - offset);
+				final GIOReader reader = getReader(member);
+				final float[] part = p_ReverseRows
+						? reader.readDataReversedRows(memberDates,
+								p_RowIndices, p_ColumnIndices)
+						: reader.readData(memberDates, p_RowIndices,
+								p_ColumnIndices);
+				parts.add(part);
+				length += part.length;
+			}
+		}
+
+		final float[] data = new float[length];
+		int position = 0;
+		for (final float[] part : parts)
+		{
+			System.arraycopy(part, 0, data, position, part.length);
+			position += part.length;
+		}
+		return data;
+	}
+
+	/**
+	 * Read data from the members. As with
+	 * {@link GIOReader#readData(Range, Range, Range)}, out of bounds ranges are
+	 * silently corrected to be within the bounds of the aggregation.
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices to read from
+	 * @param p_RowIndices
+	 *            the range of rows to read from
+	 * @param p_ColumnIndices
+	 *            the range of columns to read from
+	 * @return the data, one grid per date index in order, each from its first
+	 *         row, {@link Float#NaN} where there are no nodes
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public float[] readData(final Range<Integer> p_DateIndices,
+			final Range<Integer> p_RowIndices,
+			final Range<Integer> p_ColumnIndices)
+			throws IOException, ParseException
+	{
+		return read(p_DateIndices, p_RowIndices, p_ColumnIndices, false);
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("files", m_FilePaths.size())
+				.add("dates", getDateCount()).toString();
+	}
+}
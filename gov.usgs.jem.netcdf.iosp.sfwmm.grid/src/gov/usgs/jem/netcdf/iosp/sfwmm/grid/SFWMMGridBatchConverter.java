@@ -0,0 +1,876 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import gov.usgs.jem.sfwmm.grid.GIOWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.log4j.BasicConfigurator;
+
+/**
+ * Converts every SFWMM GridIO (.bin) file in a directory on a bounded pool of
+ * worker threads, either to NetCDF with {@link SFWMMGridNetCDFExporter} or to
+ * a rewritten GridIO file with {@link GIOWriter}.
+ *
+ * Each worker reads and writes one file at a time, so the pool size bounds
+ * both the decoding and the number of files being written at once. Files are
+ * scheduled largest first so that long conversions do not trail at the end
+ * of a batch. Output is written to a {@value #PART_EXTENSION} file that is
+ * renamed when complete, and a {@value #DONE_EXTENSION} marker recording the
+ * size and modification time of the input is then written next to it. When
+ * resuming, inputs with a matching marker are skipped, so a failed or
+ * interrupted batch can be run again to convert only what is left.
+ *
+ * Usable from the command line, see {@link #main(String[])}.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class SFWMMGridBatchConverter
+{
+	/**
+	 * Builds new instances of {@link SFWMMGridBatchConverter}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withInputDirectory(String)
+		 */
+		private String	m_bInputDirectory;
+
+		/**
+		 * @see #withOutputDirectory(String)
+		 */
+		private String	m_bOutputDirectory;
+
+		/**
+		 * @see #withRecursive(boolean)
+		 */
+		private boolean	m_bRecursive;
+
+		/**
+		 * @see #withResume(boolean)
+		 */
+		private boolean	m_bResume;
+
+		/**
+		 * @see #withTarget(Target)
+		 */
+		private Target	m_bTarget;
+
+		/**
+		 * @see #withThreads(int)
+		 */
+		private int		m_bThreads;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bTarget = Target.NETCDF;
+			m_bThreads = Math.min(MAX_DEFAULT_THREADS,
+					Runtime.getRuntime().availableProcessors());
+			m_bResume = true;
+			m_bRecursive = false;
+		}
+
+		/**
+		 * Create the converter
+		 *
+		 * @return {@link SFWMMGridBatchConverter} instance
+		 * @since Oct 18, 2026
+		 */
+		public SFWMMGridBatchConverter build()
+		{
+			checkNotNull(m_bInputDirectory, "Input directory required.");
+			checkNotNull(m_bTarget, "Target required.");
+			checkArgument(m_bThreads > 0, "Thread count must be positive.");
+			checkArgument(Files.isDirectory(Paths.get(m_bInputDirectory)),
+					"Input directory does not exist: %s", m_bInputDirectory);
+			if (m_bOutputDirectory == null)
+			{
+				m_bOutputDirectory = m_bInputDirectory;
+			}
+			checkArgument(
+					m_bTarget != Target.GRIDIO || !Paths.get(m_bInputDirectory)
+							.toAbsolutePath().normalize()
+							.equals(Paths.get(m_bOutputDirectory)
+									.toAbsolutePath().normalize()),
+					"Output directory must differ from the input directory when converting to %s",
+					m_bTarget);
+			return new SFWMMGridBatchConverter(this);
+		}
+
+		/**
+		 * Set the directory to search for .bin files
+		 *
+		 * @param p_InputDirectory
+		 *            the input directory
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withInputDirectory(final String p_InputDirectory)
+		{
+			m_bInputDirectory = p_InputDirectory;
+			return this;
+		}
+
+		/**
+		 * Set the directory to write converted files to, mirroring the
+		 * subdirectories of the input directory. Defaults to the input
+		 * directory.
+		 *
+		 * @param p_OutputDirectory
+		 *            the output directory
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withOutputDirectory(final String p_OutputDirectory)
+		{
+			m_bOutputDirectory = p_OutputDirectory;
+			return this;
+		}
+
+		/**
+		 * Set whether subdirectories of the input directory are searched.
+		 * Defaults to false.
+		 *
+		 * @param p_Recursive
+		 *            true to search subdirectories
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withRecursive(final boolean p_Recursive)
+		{
+			m_bRecursive = p_Recursive;
+			return this;
+		}
+
+		/**
+		 * Set whether inputs that have a completion marker from an earlier run
+		 * are skipped. Defaults to true.
+		 *
+		 * @param p_Resume
+		 *            true to skip completed inputs, false to convert all
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withResume(final boolean p_Resume)
+		{
+			m_bResume = p_Resume;
+			return this;
+		}
+
+		/**
+		 * Set the format to convert to. Defaults to {@link Target#NETCDF}.
+		 *
+		 * @param p_Target
+		 *            the target format
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withTarget(final Target p_Target)
+		{
+			m_bTarget = p_Target;
+			return this;
+		}
+
+		/**
+		 * Set the number of files converted at once. Defaults to the number of
+		 * processors, but no more than four: beyond that, a single disk is
+		 * usually the bottleneck.
+		 *
+		 * @param p_Threads
+		 *            the number of worker threads
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThreads(final int p_Threads)
+		{
+			m_bThreads = p_Threads;
+			return this;
+		}
+	}
+
+	/**
+	 * The outcome of converting one file
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Result
+	{
+		/**
+		 * @see #getElapsedNanos()
+		 */
+		private final long		m_ElapsedNanos;
+
+		/**
+		 * @see #getError()
+		 */
+		private final Exception	m_Error;
+
+		/**
+		 * @see #getInputBytes()
+		 */
+		private final long		m_InputBytes;
+
+		/**
+		 * @see #getInputPath()
+		 */
+		private final Path		m_InputPath;
+
+		/**
+		 * @see #getOutputBytes()
+		 */
+		private final long		m_OutputBytes;
+
+		/**
+		 * @see #getOutputPath()
+		 */
+		private final Path		m_OutputPath;
+
+		/**
+		 * @see #isSkipped()
+		 */
+		private final boolean	m_Skipped;
+
+		/**
+		 * @param p_InputPath
+		 *            the input file
+		 * @param p_OutputPath
+		 *            the output file
+		 * @param p_InputBytes
+		 *            the size of the input file
+		 * @param p_OutputBytes
+		 *            the number of bytes written
+		 * @param p_ElapsedNanos
+		 *            the conversion time
+		 * @param p_Skipped
+		 *            true if the input was already converted
+		 * @param p_Error
+		 *            the problem converting, or null
+		 * @since Oct 18, 2026
+		 */
+		private Result(final Path p_InputPath, final Path p_OutputPath,
+				final long p_InputBytes, final long p_OutputBytes,
+				final long p_ElapsedNanos, final boolean p_Skipped,
+				final Exception p_Error)
+		{
+			m_InputPath = p_InputPath;
+			m_OutputPath = p_OutputPath;
+			m_InputBytes = p_InputBytes;
+			m_OutputBytes = p_OutputBytes;
+			m_ElapsedNanos = p_ElapsedNanos;
+			m_Skipped = p_Skipped;
+			m_Error = p_Error;
+		}
+
+		/**
+		 * @return the conversion time, in nanoseconds
+		 * @since Oct 18, 2026
+		 */
+		public long getElapsedNanos()
+		{
+			return m_ElapsedNanos;
+		}
+
+		/**
+		 * @return the problem converting, or null if converted or skipped
+		 * @since Oct 18, 2026
+		 */
+		public Exception getError()
+		{
+			return m_Error;
+		}
+
+		/**
+		 * @return the size of the input file, in bytes
+		 * @since Oct 18, 2026
+		 */
+		public long getInputBytes()
+		{
+			return m_InputBytes;
+		}
+
+		/**
+		 * @return the input file
+		 * @since Oct 18, 2026
+		 */
+		public Path getInputPath()
+		{
+			return m_InputPath;
+		}
+
+		/**
+		 * @return the throughput, in megabytes of input read per second, or 0
+		 *         if skipped or failed
+		 * @since Oct 18, 2026
+		 */
+		public double getMBPerSecond()
+		{
+			if (!isConverted() || m_ElapsedNanos <= 0)
+			{
+				return 0.0;
+			}
+			return m_InputBytes / (1024.0 * 1024.0)
+					/ (m_ElapsedNanos / 1.0e9);
+		}
+
+		/**
+		 * @return the number of bytes written
+		 * @since Oct 18, 2026
+		 */
+		public long getOutputBytes()
+		{
+			return m_OutputBytes;
+		}
+
+		/**
+		 * @return the output file
+		 * @since Oct 18, 2026
+		 */
+		public Path getOutputPath()
+		{
+			return m_OutputPath;
+		}
+
+		/**
+		 * @return true if the input was converted by this run
+		 * @since Oct 18, 2026
+		 */
+		public boolean isConverted()
+		{
+			return !m_Skipped && m_Error == null;
+		}
+
+		/**
+		 * @return true if the input was already converted by an earlier run
+		 * @since Oct 18, 2026
+		 */
+		public boolean isSkipped()
+		{
+			return m_Skipped;
+		}
+
+		@Override
+		public String toString()
+		{
+			return MoreObjects.toStringHelper(this).add("input", m_InputPath)
+					.add("output", m_OutputPath).add("skipped", m_Skipped)
+					.add("MB/s", String.format("%.1f", getMBPerSecond()))
+					.add("error", m_Error).toString();
+		}
+	}
+
+	/**
+	 * Supported conversion targets
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public enum Target
+	{
+		/**
+		 * SFWMM GridIO, rewritten with {@link GIOWriter}
+		 */
+		GRIDIO("bin"),
+
+		/**
+		 * NetCDF-3, written with {@link SFWMMGridNetCDFExporter}
+		 */
+		NETCDF("nc");
+
+		/**
+		 * @see #getExtension()
+		 */
+		private final String m_Extension;
+
+		/**
+		 * @param p_Extension
+		 *            the output file extension
+		 * @since Oct 18, 2026
+		 */
+		Target(final String p_Extension)
+		{
+			m_Extension = p_Extension;
+		}
+
+		/**
+		 * @return the output file extension, without a leading period
+		 * @since Oct 18, 2026
+		 */
+		public String getExtension()
+		{
+			return m_Extension;
+		}
+	}
+
+	/**
+	 * Extension appended to the output file name for the completion marker
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final String				DONE_EXTENSION		= ".done";
+
+	/**
+	 * Extension of the files to convert
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final String				INPUT_EXTENSION		= ".bin";
+
+	/**
+	 * Class logger
+	 */
+	private static final org.apache.log4j.Logger	log					= org.apache.log4j.Logger
+			.getLogger(SFWMMGridBatchConverter.class);
+
+	/**
+	 * Upper limit of the default thread count
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				MAX_DEFAULT_THREADS	= 4;
+
+	/**
+	 * Extension appended to the output file name while it is being written
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final String				PART_EXTENSION		= ".part";
+
+	/**
+	 * Command line usage
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final String				USAGE				= String
+			.format("Usage: %s <input directory> [<output directory>] [-target netcdf|gridio] [-threads <n>] [-recursive] [-restart]",
+					SFWMMGridBatchConverter.class.getSimpleName());
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Get the contents of the completion marker for the provided input file
+	 *
+	 * @param p_InputPath
+	 *            the input file
+	 * @return the size and modification time of the input file
+	 * @throws IOException
+	 *             problem reading file attributes
+	 * @since Oct 18, 2026
+	 */
+	private static String getStamp(final Path p_InputPath) throws IOException
+	{
+		return String.format("%s %s", Files.size(p_InputPath),
+				Files.getLastModifiedTime(p_InputPath).toMillis());
+	}
+
+	/**
+	 * Convert a directory from the command line. Arguments are an input
+	 * directory, an optional output directory, and the options
+	 * <ul>
+	 * <li>-target netcdf|gridio: the target format, netcdf by default</li>
+	 * <li>-threads n: the number of files converted at once</li>
+	 * <li>-recursive: search subdirectories of the input directory</li>
+	 * <li>-restart: convert all files, ignoring completion markers</li>
+	 * </ul>
+	 *
+	 * @param args
+	 *            the command line arguments
+	 * @throws IOException
+	 *             problem searching the input directory, or if any conversion
+	 *             failed
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for conversions
+	 * @since Oct 18, 2026
+	 */
+	public static void main(final String[] args)
+			throws IOException, InterruptedException
+	{
+		if (!org.apache.log4j.Logger.getRootLogger().getAllAppenders()
+				.hasMoreElements())
+		{
+			BasicConfigurator.configure();
+		}
+
+		final Builder builder = builder();
+		final List<String> directories = Lists.newArrayList();
+		for (int i = 0; i < args.length; i++)
+		{
+			final String arg = args[i];
+			switch (arg)
+			{
+				case "-target":
+					checkArgument(i + 1 < args.length, USAGE);
+					builder.withTarget(Target
+							.valueOf(args[++i].toUpperCase(Locale.US)));
+					break;
+				case "-threads":
+					checkArgument(i + 1 < args.length, USAGE);
+					builder.withThreads(Integer.parseInt(args[++i]));
+					break;
+				case "-recursive":
+					builder.withRecursive(true);
+					break;
+				case "-restart":
+					builder.withResume(false);
+					break;
+				default:
+					checkArgument(!arg.startsWith("-"), USAGE);
+					directories.add(arg);
+					break;
+			}
+		}
+		checkArgument(directories.size() == 1 || directories.size() == 2,
+				USAGE);
+		builder.withInputDirectory(directories.get(0));
+		if (directories.size() == 2)
+		{
+			builder.withOutputDirectory(directories.get(1));
+		}
+
+		final List<Result> results = builder.build().convert();
+		final long failed = results.stream().filter(r -> r.getError() != null)
+				.count();
+		if (failed > 0)
+		{
+			throw new IOException(String.format("%s of %s conversions failed.",
+					failed, results.size()));
+		}
+	}
+
+	/**
+	 * @see Builder#withInputDirectory(String)
+	 * @since Oct 18, 2026
+	 */
+	private final Path		m_InputDirectory;
+
+	/**
+	 * @see Builder#withOutputDirectory(String)
+	 * @since Oct 18, 2026
+	 */
+	private final Path		m_OutputDirectory;
+
+	/**
+	 * @see Builder#withRecursive(boolean)
+	 * @since Oct 18, 2026
+	 */
+	private final boolean	m_Recursive;
+
+	/**
+	 * @see Builder#withResume(boolean)
+	 * @since Oct 18, 2026
+	 */
+	private final boolean	m_Resume;
+
+	/**
+	 * @see Builder#withTarget(Target)
+	 * @since Oct 18, 2026
+	 */
+	private final Target	m_Target;
+
+	/**
+	 * @see Builder#withThreads(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int		m_Threads;
+
+	/**
+	 * Create a new converter from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private SFWMMGridBatchConverter(final Builder p_Builder)
+	{
+		m_InputDirectory = Paths.get(p_Builder.m_bInputDirectory)
+				.toAbsolutePath().normalize();
+		m_OutputDirectory = Paths.get(p_Builder.m_bOutputDirectory)
+				.toAbsolutePath().normalize();
+		m_Target = p_Builder.m_bTarget;
+		m_Threads = p_Builder.m_bThreads;
+		m_Resume = p_Builder.m_bResume;
+		m_Recursive = p_Builder.m_bRecursive;
+	}
+
+	/**
+	 * Convert all discovered files. A file that fails to convert does not stop
+	 * the batch; its problem is logged and reported in its {@link Result}.
+	 *
+	 * @return the result for each discovered file, in scheduling order
+	 * @throws IOException
+	 *             problem searching the input directory
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for conversions
+	 * @since Oct 18, 2026
+	 */
+	public List<Result> convert() throws IOException, InterruptedException
+	{
+		final long start = System.nanoTime();
+		final List<Path> inputPaths = discover();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				m_Threads,
+				new ThreadFactoryBuilder().setDaemon(true)
+						.setNameFormat(
+								getClass().getSimpleName() + "-%d")
+						.build());
+		final List<Result> results = Lists.newArrayList();
+		try
+		{
+			final List<Future<Result>> futures = Lists.newArrayList();
+			for (final Path inputPath : inputPaths)
+			{
+				futures.add(executor.submit(() -> convert(inputPath)));
+			}
+			for (final Future<Result> future : futures)
+			{
+				try
+				{
+					results.add(future.get());
+				}
+				catch (final ExecutionException e)
+				{
+					throw new IOException(e.getCause());
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		final double seconds = (System.nanoTime() - start) / 1.0e9;
+		final long inputBytes = results.stream().filter(Result::isConverted)
+				.mapToLong(Result::getInputBytes).sum();
+		log.info(String.format(
+				"Converted %s, skipped %s and failed %s of %s files in %s with %s threads: %.1f MB at %.1f MB/s",
+				results.stream().filter(Result::isConverted).count(),
+				results.stream().filter(Result::isSkipped).count(),
+				results.stream().filter(r -> r.getError() != null).count(),
+				results.size(), m_InputDirectory, m_Threads,
+				inputBytes / (1024.0 * 1024.0),
+				seconds > 0 ? inputBytes / (1024.0 * 1024.0) / seconds : 0.0));
+		return results;
+	}
+
+	/**
+	 * Convert one file, unless it has already been converted and resuming is
+	 * enabled
+	 *
+	 * @param p_InputPath
+	 *            the input file
+	 * @return the result
+	 * @since Oct 18, 2026
+	 */
+	private Result convert(final Path p_InputPath)
+	{
+		final long start = System.nanoTime();
+		final Path outputPath = getOutputPath(p_InputPath);
+		final Path markerPath = outputPath.resolveSibling(
+				outputPath.getFileName() + DONE_EXTENSION);
+		final Path partPath = outputPath.resolveSibling(
+				outputPath.getFileName() + PART_EXTENSION);
+		long inputBytes = 0;
+		try
+		{
+			final String stamp = getStamp(p_InputPath);
+			inputBytes = Files.size(p_InputPath);
+			if (m_Resume && Files.isRegularFile(outputPath)
+					&& Files.isRegularFile(markerPath)
+					&& stamp.equals(new String(Files.readAllBytes(markerPath),
+							StandardCharsets.US_ASCII).trim()))
+			{
+				log.debug("Already converted " + p_InputPath);
+				return new Result(p_InputPath, outputPath, inputBytes, 0L,
+						0L, true, null);
+			}
+
+			Files.createDirectories(outputPath.getParent());
+			Files.deleteIfExists(markerPath);
+			final long outputBytes = write(p_InputPath, partPath);
+			try
+			{
+				Files.move(partPath, outputPath,
+						StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (final AtomicMoveNotSupportedException e)
+			{
+				checkNotNull(e);
+				Files.move(partPath, outputPath,
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+			Files.write(markerPath, stamp.getBytes(StandardCharsets.US_ASCII));
+
+			final Result result = new Result(p_InputPath, outputPath,
+					inputBytes, outputBytes, System.nanoTime() - start, false,
+					null);
+			log.info(String.format(
+					"Converted %s to %s: %.1f MB in %.2f s (%.1f MB/s)",
+					p_InputPath, outputPath, inputBytes / (1024.0 * 1024.0),
+					result.getElapsedNanos() / 1.0e9,
+					result.getMBPerSecond()));
+			return result;
+		}
+		catch (final IOException | ParseException | RuntimeException e)
+		{
+			log.error("Unable to convert " + p_InputPath, e);
+			try
+			{
+				Files.deleteIfExists(partPath);
+			}
+			catch (final IOException e1)
+			{
+				log.warn("Unable to delete " + partPath, e1);
+			}
+			return new Result(p_InputPath, outputPath, inputBytes, 0L,
+					System.nanoTime() - start, false, e);
+		}
+	}
+
+	/**
+	 * Find the .bin files to convert, largest first
+	 *
+	 * @return the input files
+	 * @throws IOException
+	 *             problem searching the input directory
+	 * @since Oct 18, 2026
+	 */
+	public List<Path> discover() throws IOException
+	{
+		final boolean separateOutput = !m_OutputDirectory
+				.equals(m_InputDirectory)
+				&& m_OutputDirectory.startsWith(m_InputDirectory);
+		try (Stream<Path> paths = Files.walk(m_InputDirectory,
+				m_Recursive ? Integer.MAX_VALUE : 1))
+		{
+			final List<Path> inputPaths = paths.filter(Files::isRegularFile)
+					.filter(p -> p.getFileName().toString()
+							.toLowerCase(Locale.US).endsWith(INPUT_EXTENSION))
+					.filter(p -> !separateOutput
+							|| !p.startsWith(m_OutputDirectory))
+					.collect(Collectors.toList());
+			final Map<Path, Long> sizes = Maps.newHashMap();
+			for (final Path inputPath : inputPaths)
+			{
+				sizes.put(inputPath, Files.size(inputPath));
+			}
+			inputPaths.sort(Comparator.comparing((final Path p) -> sizes.get(p))
+					.reversed().thenComparing(Comparator.naturalOrder()));
+			return inputPaths;
+		}
+	}
+
+	/**
+	 * Get the path a discovered input file is converted to
+	 *
+	 * @param p_InputPath
+	 *            an input file within the input directory
+	 * @return the output file, in the corresponding subdirectory of the output
+	 *         directory
+	 * @since Oct 18, 2026
+	 */
+	public Path getOutputPath(final Path p_InputPath)
+	{
+		final Path relative = m_InputDirectory
+				.relativize(p_InputPath.toAbsolutePath().normalize());
+		final String name = relative.getFileName().toString();
+		final String baseName = name.substring(0,
+				name.length() - INPUT_EXTENSION.length());
+		return m_OutputDirectory.resolve(relative)
+				.resolveSibling(baseName + "." + m_Target.getExtension());
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("input", m_InputDirectory)
+				.add("output", m_OutputDirectory).add("target", m_Target)
+				.add("threads", m_Threads).add("resume", m_Resume)
+				.add("recursive", m_Recursive).toString();
+	}
+
+	/**
+	 * Write the provided input file to the provided output file in the target
+	 * format
+	 *
+	 * @param p_InputPath
+	 *            the input file
+	 * @param p_OutputPath
+	 *            the file to write
+	 * @return the number of bytes written
+	 * @throws IOException
+	 *             problem reading or writing
+	 * @throws ParseException
+	 *             problem parsing dates from the input file
+	 * @since Oct 18, 2026
+	 */
+	private long write(final Path p_InputPath, final Path p_OutputPath)
+			throws IOException, ParseException
+	{
+		try (GIOReader reader = GIOReader.open(p_InputPath.toString()))
+		{
+			switch (m_Target)
+			{
+				case NETCDF:
+					return SFWMMGridNetCDFExporter.builder().withReader(reader)
+							.withOutputFilePath(p_OutputPath.toString())
+							.build().export();
+				case GRIDIO:
+					try (GIOWriter writer = GIOWriter.builder()
+							.withFilePath(p_OutputPath.toString())
+							.withHeader(reader.getHeader())
+							.withAvailability(reader.getAvailability())
+							.build())
+					{
+						reader.forEachTimestep(Range.all(),
+								(p_DateIndex, p_Date, p_Nodes) -> writer
+										.writeNodes(p_Date, p_Nodes));
+					}
+					return Files.size(p_OutputPath);
+				default:
+					throw new IllegalStateException(
+							"Unsupported target: " + m_Target);
+			}
+		}
+	}
+}
@@ -1,32 +1,39 @@
 package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import com.google.common.io.Files;
+import gov.usgs.jem.sfwmm.grid.GIOAggregator;
+import gov.usgs.jem.sfwmm.grid.GIOAggregator.Aggregate;
+import gov.usgs.jem.sfwmm.grid.GIOAggregator.Period;
+import gov.usgs.jem.sfwmm.grid.GIOAvailability;
 import gov.usgs.jem.sfwmm.grid.GIOReader;
 import java.io.File;
 import java.io.IOException;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.UnsupportedTemporalTypeException;
-import java.util.Calendar;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TimeZone;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import ucar.ma2.Array;
 import ucar.ma2.DataType;
 import ucar.ma2.InvalidRangeException;
@@ -49,24 +56,215 @@ import ucar.unidata.io.RandomAccessFile;
  */
 public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 {
+	/**
+	 * How {@link #open(RandomAccessFile, NetcdfFile, CancelTask)} builds the
+	 * header and resolves the global author and history attributes. Sent with
+	 * {@link #sendIospMessage(Object)}; defaults to {@link #CACHED}. The
+	 * attributes written by {@link SFWMMGridNetCDFExporter} follow the same
+	 * profiles.
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public enum OpenProfile
+	{
+		/**
+		 * Build the header once per file identity (path, length and last
+		 * modified time) and replay it onto later opens. The author is looked
+		 * up once per JVM.
+		 */
+		CACHED,
+
+		/**
+		 * As {@link #CACHED}, but without the author and the creation time in
+		 * the history, so that the header only depends on the file
+		 */
+		DETERMINISTIC,
+
+		/**
+		 * Build the header on every open, looking up the author and creation
+		 * time each time
+		 */
+		FRESH;
+	}
+
+	/**
+	 * The header built for one file identity and open configuration: the
+	 * dimensions, variables and attributes, along with what was read from the
+	 * file to build them. Arrays computed for the coordinate and derived
+	 * variables of any open of the file are kept here and shared with later
+	 * opens.
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class Template
+	{
+		/**
+		 * Cached data of variables, by name
+		 */
+		private final Map<String, Array>		m_Arrays;
+
+		/**
+		 * The data variable name
+		 */
+		private final String					m_DataVariableName;
+
+		/**
+		 * Names of the derived variables
+		 */
+		private final List<String>				m_DerivedVariableNames;
+
+		/**
+		 * The dimensions, in order
+		 */
+		private final List<Dimension>			m_Dimensions;
+
+		/**
+		 * The global attributes, in order
+		 */
+		private final List<Attribute>			m_GlobalAttributes;
+
+		/**
+		 * Start of each period of each derived mean variable
+		 */
+		private final Map<Period, List<Date>>	m_PeriodStarts;
+
+		/**
+		 * Names of the supporting variables
+		 */
+		private final List<String>				m_SupportingVariableNames;
+
+		/**
+		 * Time step used
+		 */
+		private final ChronoUnit				m_TimeStep;
+
+		/**
+		 * The variables, in order
+		 */
+		private final List<VariableTemplate>	m_Variables;
+
+		/**
+		 * Capture the header of a newly opened file
+		 *
+		 * @param p_IOSP
+		 *            the service provider that just built the header
+		 * @throws IOException
+		 *             if problem reading cached data
+		 * @since Oct 18, 2026
+		 */
+		@SuppressWarnings("deprecation")
+		Template(final SFWMMGridIOSP p_IOSP) throws IOException
+		{
+			final NetcdfFile netcdfFile = p_IOSP.ncfile;
+			m_Arrays = new ConcurrentHashMap<>();
+			m_DataVariableName = p_IOSP.m_DataVariableName;
+			m_DerivedVariableNames = p_IOSP.m_DerivedVariables.stream()
+					.map(Variable::getShortName)
+					.collect(ImmutableList.toImmutableList());
+			m_Dimensions = ImmutableList.copyOf(netcdfFile.getDimensions());
+			m_GlobalAttributes = ImmutableList
+					.copyOf(netcdfFile.getGlobalAttributes());
+			m_PeriodStarts = ImmutableMap.copyOf(p_IOSP.m_PeriodStarts);
+			m_SupportingVariableNames = p_IOSP.m_SupportingVariables.stream()
+					.map(Variable::getShortName)
+					.collect(ImmutableList.toImmutableList());
+			m_TimeStep = p_IOSP.m_TimeStep;
+			final List<VariableTemplate> variables = Lists.newArrayList();
+			for (final Variable variable : netcdfFile.getVariables())
+			{
+				variables.add(new VariableTemplate(variable));
+				if (variable.hasCachedData())
+				{
+					m_Arrays.put(variable.getShortName(), variable.read());
+				}
+			}
+			m_Variables = ImmutableList.copyOf(variables);
+		}
+	}
+
+	/**
+	 * The definition of one variable of a {@link Template}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class VariableTemplate
+	{
+		/**
+		 * The attributes, in order
+		 */
+		private final List<Attribute>	m_Attributes;
+
+		/**
+		 * The data type
+		 */
+		private final DataType			m_DataType;
+
+		/**
+		 * The dimension names, space separated
+		 */
+		private final String			m_Dimensions;
+
+		/**
+		 * The short name
+		 */
+		private final String			m_Name;
+
+		/**
+		 * @param p_Variable
+		 *            the variable to take the definition from
+		 * @since Oct 18, 2026
+		 */
+		@SuppressWarnings("deprecation")
+		VariableTemplate(final Variable p_Variable)
+		{
+			m_Attributes = ImmutableList.copyOf(p_Variable.getAttributes());
+			m_DataType = p_Variable.getDataType();
+			m_Dimensions = p_Variable.getDimensionsString();
+			m_Name = p_Variable.getShortName();
+		}
+	}
+
 	/**
 	 * @since Nov 4, 2016
 	 */
 	static final String								AXIS					= "axis";
 
 	/**
-	 * Used in helping determine output date indices
+	 * The derived cell area variable name
 	 *
-	 * @since Nov 2, 2016
+	 * @since Oct 18, 2026
 	 */
-	private static final Calendar					CALENDAR;
+	static final String								CELL_AREA_VAR_NAME		= "cell_area";
 
 	/**
-	 * Grid cell size, horizontal or vertical
+	 * Bytes of the direct buffer reused by
+	 * {@link #readToByteChannel(Variable, Section, WritableByteChannel)}; a
+	 * multiple of {@link Float#BYTES}
 	 *
-	 * @since Oct 31, 2016
+	 * @since Oct 18, 2026
+	 */
+	private static final int						CHANNEL_BUFFER_SIZE		= 64 * 1024;
+
+	/**
+	 * Number of timestep chunks of the data variable kept by
+	 * {@link #getChunk(int)}, enough for the tiles of a few map frames
+	 *
+	 * @since Oct 18, 2026
 	 */
-	private static float							CELL_SIZE_M				= 3218.69f;
+	private static final int						CHUNK_CACHE_SIZE		= 8;
+
+	/**
+	 * Sections of the data variable whose y and x extent covers at least this
+	 * fraction (1 / divisor) of a timestep are read through
+	 * {@link #getChunk(int)}; smaller ones are read by row spans and leave the
+	 * chunk cache alone
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int						CHUNK_READ_DIVISOR		= 4;
 
 	/**
 	 * @since Nov 4, 2016
@@ -85,13 +283,6 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 	 */
 	private static final DataType					DATA_TYPE;
 
-	/**
-	 * Used to format reference date string
-	 *
-	 * @since Nov 2, 2016
-	 */
-	private static final SimpleDateFormat			DATE_FORMATTER;
-
 	/**
 	 * Class logger
 	 */
@@ -103,11 +294,34 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 	 */
 	static final String								LONG_NAME				= "long_name";
 
+	/**
+	 * The derived node availability mask variable name
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final String								MASK_VAR_NAME			= "mask";
+
 	/**
 	 * @since Nov 4, 2016
 	 */
 	static final String								STANDARD_NAME			= "standard_name";
 
+	/**
+	 * Number of file identities whose headers are kept by {@link #TEMPLATES}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int						TEMPLATE_CACHE_SIZE		= 32;
+
+	/**
+	 * Headers built by {@link #open(RandomAccessFile, NetcdfFile, CancelTask)},
+	 * by file identity and open configuration
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final Cache<List<Object>, Template>	TEMPLATES				= CacheBuilder
+			.newBuilder().maximumSize(TEMPLATE_CACHE_SIZE).build();
+
 	/**
 	 * The time variable name
 	 *
@@ -136,146 +350,61 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 
 	static
 	{
-		final TimeZone timeZone = TimeZone.getTimeZone("UTC");
-		DATE_FORMATTER = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss Z");
-		DATE_FORMATTER.setTimeZone(timeZone);
-		CALENDAR = Calendar.getInstance();
-		CALENDAR.setTimeZone(timeZone);
 		DATA_TYPE = DataType.FLOAT;
 	}
 
 	/**
-	 * Takes in a Date List and a timestep and returns an int array that can be
-	 * written to a NetCDF file as time variable data.
+	 * Write the contents of a buffer to a channel and clear the buffer
 	 *
-	 * @param p_Dates
-	 *            List of Date objects
-	 * @param p_ChronoUnit
-	 *            The {@link ChronoUnit} to use when parsing date indices to
-	 *            dates
-	 * @return Array of int containing offsets from first date in p_Dates
+	 * @param p_Buffer
+	 *            the buffer being filled
+	 * @param p_Channel
+	 *            the destination
+	 * @return the number of bytes written
+	 * @throws IOException
+	 *             if unable to write to the channel
+	 * @since Oct 18, 2026
 	 */
-	private static int[] getDateIndexes(final List<Date> p_Dates,
-			final ChronoUnit p_ChronoUnit)
+	private static long drain(final ByteBuffer p_Buffer,
+			final WritableByteChannel p_Channel) throws IOException
 	{
-		checkNotNull(p_Dates, "Dates cannot be null.");
-
-		final int[] indexes = new int[p_Dates.size()];
-		indexes[0] = 0;
-		final Instant refInstant = p_Dates.get(0).toInstant();
-		try
+		long count = 0;
+		p_Buffer.flip();
+		while (p_Buffer.hasRemaining())
 		{
-			for (int i = 1; i < indexes.length; i++)
-			{
-				final Instant toInstant = p_Dates.get(i).toInstant();
-				final Long between = p_ChronoUnit.between(refInstant,
-						toInstant);
-				indexes[i] = between.intValue();
-			}
+			count += p_Channel.write(p_Buffer);
 		}
-		catch (final UnsupportedTemporalTypeException e)
-		{
-			final Calendar cal = CALENDAR;
-			cal.setTime(p_Dates.get(0));
-			switch (p_ChronoUnit)
-			{
-				case MONTHS:
-				{
-					final int ref = cal.get(Calendar.YEAR) * 12
-							+ cal.get(Calendar.MONTH);
-					for (int i = 1; i < indexes.length; i++)
-					{
-						cal.setTime(p_Dates.get(i));
-						final int now = cal.get(Calendar.YEAR) * 12
-								+ cal.get(Calendar.MONTH);
-						indexes[i] = now - ref;
-					}
-				}
-					break;
-				case YEARS:
-				{
-					final int ref = cal.get(Calendar.YEAR);
-					for (int i = 1; i < indexes.length; i++)
-					{
-						cal.setTime(p_Dates.get(i));
-						final int now = cal.get(Calendar.YEAR);
-						indexes[i] = now - ref;
-					}
-				}
-					break;
-				default:
-					throw e;
-			}
-		}
-		return indexes;
+		p_Buffer.clear();
+		return count;
 	}
 
 	/**
-	 * Determine the preferred {@link ChronoUnit} to use based on the minimum
-	 * span of seconds between sorted date entries
+	 * Get the name of the dimension and coordinate variable of a period
 	 *
-	 * @param p_Dates
-	 *            a collection of dates
-	 * @return the {@link ChronoUnit} to use
-	 * @since Oct 31, 2016
+	 * @param p_Period
+	 *            the period
+	 * @return the dimension name, such as time_month
+	 * @since Oct 18, 2026
 	 */
-	private static ChronoUnit getTimeStep(final Collection<Date> p_Dates)
+	private static String getPeriodDimName(final Period p_Period)
 	{
-		final SortedSet<Date> dates = Sets.newTreeSet(p_Dates);
-
-		long numSeconds = Long.MAX_VALUE;
-		Date ref = dates.first();
-		final Instant refInstant = ref.toInstant();
-		/**
-		 * Determine the minimum number of seconds between consecutive
-		 * timestamps
-		 */
-		boolean isFirst = true;
-		for (final Date date : dates)
-		{
-			if (isFirst)
-			{
-				isFirst = false;
-				continue;
-			}
-			numSeconds = Math.min(Math.abs(
-					ChronoUnit.SECONDS.between(refInstant, date.toInstant())),
-					numSeconds);
-			ref = date;
-		}
+		return TIME_VAR_NAME + "_" + p_Period.name().toLowerCase();
+	}
 
-		final int second = 1;
-		final int minute = 60 * second;
-		final int hour = 60 * minute;
-		final int day = 24 * hour;
-		final int month = 28 * day;
-		final int year = 12 * month;
+	/**
+	 * Reused by {@link #readToByteChannel(Variable, Section, WritableByteChannel)}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private ByteBuffer				m_ChannelBuffer;
 
-		if (numSeconds < minute)
-		{
-			return ChronoUnit.SECONDS;
-		}
-		else if (numSeconds < hour)
-		{
-			return ChronoUnit.MINUTES;
-		}
-		else if (numSeconds < day - hour)
-		{
-			return ChronoUnit.HOURS;
-		}
-		else if (numSeconds < month)
-		{
-			return ChronoUnit.DAYS;
-		}
-		else if (numSeconds < year)
-		{
-			return ChronoUnit.MONTHS;
-		}
-		else
-		{
-			return ChronoUnit.YEARS;
-		}
-	}
+	/**
+	 * Node vectors of recently read timesteps, least recently used first
+	 *
+	 * @see #getChunk(int)
+	 * @since Oct 18, 2026
+	 */
+	private final Map<Integer, float[]>	m_Chunks;
 
 	/**
 	 * The data variable name.
@@ -284,6 +413,13 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 	 */
 	private String					m_DataVariableName;
 
+	/**
+	 * Variables derived from the file, computed when first read
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final List<Variable>	m_DerivedVariables;
+
 	/**
 	 * The file that was supplied to the constructor.
 	 */
@@ -294,6 +430,27 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 	 */
 	private Number					m_NoDataValue;
 
+	/**
+	 * Periods to derive mean variables for
+	 *
+	 * @see #sendIospMessage(Object)
+	 * @since Oct 18, 2026
+	 */
+	private final Set<Period>		m_Periods;
+
+	/**
+	 * Start of each period of each derived mean variable
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Map<Period, List<Date>>	m_PeriodStarts;
+
+	/**
+	 * @see #sendIospMessage(Object)
+	 * @since Oct 18, 2026
+	 */
+	private OpenProfile				m_Profile;
+
 	/**
 	 * @see GIOReader
 	 * @since Oct 28, 2016
@@ -328,6 +485,14 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 	 */
 	private final List<Variable>	m_SupportingVariables;
 
+	/**
+	 * The header shared with other opens of the file, or null if built with
+	 * {@link OpenProfile#FRESH}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private Template				m_Template;
+
 	/**
 	 * Time step used
 	 *
@@ -337,7 +502,12 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 
 	{
 		m_SupportingVariables = Lists.newArrayList();
+		m_DerivedVariables = Lists.newArrayList();
+		m_Periods = EnumSet.noneOf(Period.class);
+		m_PeriodStarts = new EnumMap<>(Period.class);
+		m_Profile = OpenProfile.CACHED;
 		m_DataVariableName = null;
+		m_Chunks = new LinkedHashMap<>(CHUNK_CACHE_SIZE, 0.75f, true);
 	}
 
 	/**
@@ -364,9 +534,114 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 		m_Reader = null;
 
 		m_SupportingVariables.clear();
+		m_DerivedVariables.clear();
+		m_PeriodStarts.clear();
+		m_Template = null;
+		m_Chunks.clear();
 		super.close();
 	}
 
+	/**
+	 * Create an array for a derived variable
+	 *
+	 * @param p_Variable
+	 *            one of the derived variables
+	 * @return the new array
+	 * @throws IOException
+	 *             if problem reading from file, or if the variable is unknown
+	 * @throws ParseException
+	 *             if unable to parse date
+	 * @since Oct 18, 2026
+	 */
+	private Array createDerivedArray(final Variable p_Variable)
+			throws ParseException, IOException
+	{
+		final String shortName = p_Variable.getShortName();
+		if (shortName.equals(MASK_VAR_NAME))
+		{
+			return createMaskArray();
+		}
+		if (shortName.equals(CELL_AREA_VAR_NAME))
+		{
+			final float[] area = new float[m_SizeY * m_SizeX];
+			Arrays.fill(area, SFWMMGridMetadata.CELL_SIZE_M
+					* SFWMMGridMetadata.CELL_SIZE_M);
+			return Array.factory(DataType.FLOAT,
+					new int[] { m_SizeY, m_SizeX }, area);
+		}
+		for (final Period period : m_PeriodStarts.keySet())
+		{
+			if (shortName.equals(getPeriodDimName(period)))
+			{
+				return Array.factory(DataType.INT,
+						new int[] { m_PeriodStarts.get(period).size() },
+						SFWMMGridMetadata.getDateIndexes(
+								m_PeriodStarts.get(period), ChronoUnit.DAYS));
+			}
+			if (shortName.equals(getPeriodMeanName(period)))
+			{
+				return createPeriodMeanArray(period);
+			}
+		}
+		throw new IOException(
+				String.format("Unknown variable! %s", shortName));
+	}
+
+	/**
+	 * Create an array for the mask variable: 1 where the grid has a node, 0
+	 * elsewhere
+	 *
+	 * @return the new array
+	 * @since Oct 18, 2026
+	 */
+	private Array createMaskArray()
+	{
+		final int[] cellNodes = getCellNodes(
+				new Section(new int[] { 1, m_SizeY, m_SizeX }));
+		final byte[] mask = new byte[cellNodes.length];
+		for (int c = 0; c < cellNodes.length; c++)
+		{
+			mask[c] = (byte) (cellNodes[c] < 0 ? 0 : 1);
+		}
+		return Array.factory(DataType.BYTE, new int[] { m_SizeY, m_SizeX },
+				mask);
+	}
+
+	/**
+	 * Create an array for the mean of the data variable over each period,
+	 * aggregating the whole file in one pass
+	 *
+	 * @param p_Period
+	 *            the period to aggregate by
+	 * @return the new array
+	 * @throws IOException
+	 *             if problem reading from file
+	 * @throws ParseException
+	 *             if unable to parse date
+	 * @since Oct 18, 2026
+	 */
+	private Array createPeriodMeanArray(final Period p_Period)
+			throws ParseException, IOException
+	{
+		final int[] cellNodes = getCellNodes(
+				new Section(new int[] { 1, m_SizeY, m_SizeX }));
+		final List<Aggregate> aggregates = GIOAggregator.builder()
+				.withReader(m_Reader).withPeriod(p_Period).build().aggregate();
+		final float[] data = new float[aggregates.size() * cellNodes.length];
+		for (int i = 0; i < aggregates.size(); i++)
+		{
+			final float[] mean = aggregates.get(i).getMean();
+			final int offset = i * cellNodes.length;
+			for (int c = 0; c < cellNodes.length; c++)
+			{
+				final int node = cellNodes[c];
+				data[offset + c] = node < 0 ? Float.NaN : mean[node];
+			}
+		}
+		return Array.factory(DATA_TYPE,
+				new int[] { aggregates.size(), m_SizeY, m_SizeX }, data);
+	}
+
 	/**
 	 * Create an array for the t coordinate values
 	 *
@@ -379,8 +654,8 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 	 */
 	private Array createTArray() throws ParseException, IOException
 	{
-		final int[] dateIndexes = getDateIndexes(m_Reader.getDates(),
-				m_TimeStep);
+		final int[] dateIndexes = SFWMMGridMetadata
+				.getDateIndexes(m_Reader.getDates(), m_TimeStep);
 		final Array cacheData = Array.factory(DataType.INT,
 				new int[] { m_SizeT }, dateIndexes);
 		return cacheData;
@@ -394,21 +669,8 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 	 */
 	private Array createXArray()
 	{
-		/**
-		 * south and west bounding coordinates (25.133890, -81.330940 lat-lon)
-		 *
-		 * 466641.10, 2779814.25
-		 */
-		Array cacheData;
-		/**
-		 * Build coords list - x
-		 */
-		cacheData = Array.factory(DataType.DOUBLE, new int[] { m_SizeX });
-		final double refX = 466641.10;
-		IntStream.range(0, m_SizeX)
-				.forEach(i -> cacheData.setObject(i, refX + i * CELL_SIZE_M));
-
-		return cacheData;
+		return Array.factory(DataType.DOUBLE, new int[] { m_SizeX },
+				SFWMMGridMetadata.getXCoordinates(m_SizeX));
 	}
 
 	/**
@@ -420,21 +682,77 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 	private Array createYArray()
 	{
 		/**
-		 * south and west bounding coordinates (25.133890, -81.330940 lat-lon)
-		 *
-		 * 466641.10, 2779814.25
+		 * North to south
 		 */
-		Array cacheData;
-		/**
-		 * Build coords list - y, reverse order
-		 */
-		cacheData = Array.factory(DataType.DOUBLE, new int[] { m_SizeY });
-		final double refY = 2779814.25 + (m_SizeY - 1) * CELL_SIZE_M
-				+ 0.5 * CELL_SIZE_M;
-		IntStream.range(0, m_SizeY)
-				.forEach(i -> cacheData.setObject(i, refY - i * CELL_SIZE_M));
+		return Array.factory(DataType.DOUBLE, new int[] { m_SizeY },
+				SFWMMGridMetadata.getYCoordinates(m_SizeY));
+	}
 
-		return cacheData;
+	/**
+	 * Map the cells of the y and x dimensions of a section of the data
+	 * variable to nodes. Row indices are flipped, since y runs north to south
+	 * while the rows of the file run south to north.
+	 *
+	 * @param p_Section
+	 *            a section of the data variable
+	 * @return the node of each cell of the section, in y then x order, or -1
+	 *         where there is no node
+	 * @since Oct 18, 2026
+	 */
+	private int[] getCellNodes(final Section p_Section)
+	{
+		final GIOAvailability availability = m_Reader.getAvailability();
+		final int ySize = p_Section.getShape(1);
+		final int xSize = p_Section.getShape(2);
+		final int[] cellNodes = new int[ySize * xSize];
+		for (int y = 0; y < ySize; y++)
+		{
+			final int row = m_SizeY - 1
+					- (p_Section.getOrigin(1) + y * p_Section.getStride(1));
+			for (int x = 0; x < xSize; x++)
+			{
+				cellNodes[y * xSize + x] = availability.getNodeIndex(row,
+						p_Section.getOrigin(2) + x * p_Section.getStride(2));
+			}
+		}
+		return cellNodes;
+	}
+
+	/**
+	 * Get the node vector of a timestep, the unit that large data variable
+	 * reads are aligned to. The most recently used timesteps are kept, so that
+	 * the tiles of a map frame read it only once; the array of the least
+	 * recently used timestep is reused.
+	 *
+	 * @param p_DateIndex
+	 *            the 0-based date index
+	 * @return the nodes of the timestep, not to be modified
+	 * @throws IOException
+	 *             if problem reading from file
+	 * @throws ParseException
+	 *             if unable to parse date
+	 * @since Oct 18, 2026
+	 */
+	private float[] getChunk(final int p_DateIndex)
+			throws ParseException, IOException
+	{
+		float[] nodes = m_Chunks.get(p_DateIndex);
+		if (nodes == null)
+		{
+			if (m_Chunks.size() < CHUNK_CACHE_SIZE)
+			{
+				nodes = new float[m_Reader.getHeader().getNodesSize()];
+			}
+			else
+			{
+				final Iterator<float[]> eldest = m_Chunks.values().iterator();
+				nodes = eldest.next();
+				eldest.remove();
+			}
+			m_Reader.readNodes(p_DateIndex, nodes);
+			m_Chunks.put(p_DateIndex, nodes);
+		}
+		return nodes;
 	}
 
 	@Override
@@ -449,46 +767,38 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 		return SFWMMGridIOSP.class.getCanonicalName();
 	}
 
+	/**
+	 * Get the name of the variable of the mean of the data variable over a
+	 * period
+	 *
+	 * @param p_Period
+	 *            the period
+	 * @return the variable name, such as eomth_stage_month_mean
+	 * @since Oct 18, 2026
+	 */
+	private String getPeriodMeanName(final Period p_Period)
+	{
+		return String.format("%s_%s_mean", m_DataVariableName,
+				p_Period.name().toLowerCase());
+	}
+
 	@Override
 	public boolean isValidFile(final RandomAccessFile p_RAF) throws IOException
 	{
-		if (p_RAF == null)
-		{
-			return false;
-		}
-
-		m_File = new File(p_RAF.getLocation());
-		if (!m_File.exists())
-		{
-			log.error("File does not exist: " + m_File.getAbsolutePath());
-			return false;
-		}
-		if (!p_RAF.getLocation().endsWith(".bin"))
+		if (p_RAF == null || !p_RAF.getLocation().endsWith(".bin"))
 		{
-			log.error("Does not end with .bin");
 			return false;
 		}
 
-		p_RAF.order(ByteOrder.BIG_ENDIAN);
-		p_RAF.seek(80);
-
-		final int numRows = p_RAF.readInt();
-		if (numRows <= 0 || numRows > 1000)
-		{
-			log.error(String.format(
-					"Does not look like .bin file...num rows read is %s",
-					numRows));
-		}
-
-		final int numNodes = p_RAF.readInt();
-		if (numNodes <= 0 || numNodes > 100000)
-		{
-			log.error(String.format(
-					"Does not look like .bin file...num nodes read is %s",
-					numNodes));
-		}
-
-		return true;
+		/**
+		 * Bounded structural probe: the header, row configuration, first and
+		 * last grid tags and the file length must agree. The header is checked
+		 * against the file length before the configuration is read, and the
+		 * configuration is checked as it is read, so the I/O is bounded
+		 * whatever the header claims. Leaves this instance untouched.
+		 */
+		return GIOReader
+				.isGridIO(new SFWMMGridRandomAccessFileStream(p_RAF));
 	}
 
 	@SuppressWarnings("deprecation")
@@ -500,7 +810,13 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 		super.open(p_RAF, p_NetcdfFile, p_CancelTask);
 
 		m_File = new File(p_RAF.getLocation());
-		m_Reader = GIOReader.open(m_File.getAbsolutePath());
+
+		/**
+		 * Read through the provided file rather than opening it again, so
+		 * that NetCDF-Java buffering and file caching govern the I/O
+		 */
+		m_Reader = GIOReader
+				.openStream(new SFWMMGridRandomAccessFileStream(p_RAF));
 		if (m_Reader == null)
 		{
 			final String message = String
@@ -514,10 +830,34 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 		 * Find no data value, determine class type.
 		 */
 		m_NoDataValue = m_Reader.getNoDataValue();
+		/**
+		 * Size the time dimension from the file length and take the time
+		 * units from a few tags; the full time coordinate is only built from
+		 * all tags when the time variable is read
+		 */
+		m_SizeT = m_Reader.getDateCount();
+
+		/**
+		 * Replay the header of an earlier open of the same file, if any
+		 */
+		List<Object> templateKey = null;
+		if (m_Profile != OpenProfile.FRESH)
+		{
+			templateKey = ImmutableList.of(m_File.getCanonicalPath(),
+					p_RAF.length(), m_File.lastModified(), m_Profile,
+					Sets.immutableEnumSet(m_Periods));
+			m_Template = TEMPLATES.getIfPresent(templateKey);
+			if (m_Template != null)
+			{
+				openTemplate(m_Template);
+				return;
+			}
+		}
+
 		List<Date> dates = null;
 		try
 		{
-			dates = m_Reader.getDates();
+			dates = sampleDates();
 		}
 		catch (final ParseException e)
 		{
@@ -527,18 +867,12 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 			close();
 			throw new IOException(message);
 		}
-		m_SizeT = dates.size();
-		m_TimeStep = getTimeStep(dates);
-		if (m_TimeStep.equals(ChronoUnit.MONTHS)
-				|| m_TimeStep.equals(ChronoUnit.YEARS))
-		{
-			m_TimeStep = ChronoUnit.DAYS;
-		}
+		m_TimeStep = SFWMMGridMetadata.getTimeUnit(dates);
 
 		Variable tVariable = null;
 		try
 		{
-			Dimension tDimension = new Dimension(TIME_VAR_NAME, dates.size());
+			Dimension tDimension = new Dimension(TIME_VAR_NAME, m_SizeT);
 			tDimension = ncfile.addDimension(null, tDimension);
 			tVariable = ncfile.addVariable(null, tDimension.getShortName(),
 					DataType.INT, tDimension.getShortName());
@@ -548,10 +882,8 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 					new Attribute(COORDINATE_AXIS_TYPE, "Time"));
 			ncfile.addVariableAttribute(tVariable, new Attribute(AXIS, "t"));
 			final Date refDate = dates.get(0);
-			ncfile.addVariableAttribute(tVariable,
-					new Attribute(UNITS, String.format("%s since %s",
-							m_TimeStep.toString().toLowerCase(), DATE_FORMATTER
-									.format(refDate.getTime()).toString())));
+			ncfile.addVariableAttribute(tVariable, new Attribute(UNITS,
+					SFWMMGridMetadata.getTimeUnits(m_TimeStep, refDate)));
 			ncfile.addVariableAttribute(tVariable, new Attribute(CHUNK_SIZES,
 					Lists.newArrayList(tDimension.getLength())));
 		}
@@ -690,14 +1022,22 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 					new Attribute("coordinates", dimNames));
 			ncfile.addVariableAttribute(dataVariable,
 					new Attribute("_FillValue", m_NoDataValue));
+			/**
+			 * Each timestep is stored as one contiguous block of nodes, and
+			 * reads are aligned to whole timesteps
+			 */
+			ncfile.addVariableAttribute(dataVariable, new Attribute(
+					CHUNK_SIZES, Lists.newArrayList(1, m_SizeY, m_SizeX)));
 
 			/**
 			 * assignCRSToDataVariable
 			 */
-			final String wkt = "PROJCS[\"NAD83 / UTM zone 17N\",   GEOGCS[\"NAD83\",     DATUM[\"North American Datum 1983\",       SPHEROID[\"GRS 1980\", 6378137.0, 298.257222101, AUTHORITY[\"EPSG\",\"7019\"]],       TOWGS84[0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0],       AUTHORITY[\"EPSG\",\"6269\"]],     PRIMEM[\"Greenwich\", 0.0, AUTHORITY[\"EPSG\",\"8901\"]],     UNIT[\"degree\", 0.017453292519943295],     AXIS[\"Geodetic longitude\", EAST],     AXIS[\"Geodetic latitude\", NORTH],     AUTHORITY[\"EPSG\",\"4269\"]],   PROJECTION[\"Transverse_Mercator\", AUTHORITY[\"EPSG\",\"9807\"]],   PARAMETER[\"central_meridian\", -81.0],   PARAMETER[\"latitude_of_origin\", 0.0],   PARAMETER[\"scale_factor\", 0.9996],   PARAMETER[\"false_easting\", 500000.0],   PARAMETER[\"false_northing\", 0.0],   UNIT[\"m\", 1.0],   AXIS[\"Easting\", EAST],   AXIS[\"Northing\", NORTH],   AUTHORITY[\"EPSG\",\"26917\"]]";
+			final String wkt = SFWMMGridMetadata.WKT;
 			dataVariable.addAttribute(new Attribute("esri_pe_string", wkt));
 			dataVariable.addAttribute(
 					new Attribute("grid_mapping", crsVar.getShortName()));
+			dataVariable.addAttribute(new Attribute("cell_measures",
+					String.format("area: %s", CELL_AREA_VAR_NAME)));
 		}
 		catch (final Exception e)
 		{
@@ -707,6 +1047,108 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 			throw new IOException(message, e);
 		}
 
+		/**
+		 * Derived variables, computed and cached when first read
+		 */
+		final String yxDimNames = String.format("%s %s", Y_VAR_NAME,
+				X_VAR_NAME);
+		try
+		{
+			final Variable maskVariable = ncfile.addVariable(null,
+					MASK_VAR_NAME, DataType.BYTE, yxDimNames);
+			ncfile.addVariableAttribute(maskVariable,
+					new Attribute(LONG_NAME, "grid node availability"));
+			ncfile.addVariableAttribute(maskVariable,
+					new Attribute("flag_values", Array.factory(DataType.BYTE,
+							new int[] { 2 }, new byte[] { 0, 1 })));
+			ncfile.addVariableAttribute(maskVariable,
+					new Attribute("flag_meanings", "no_node node"));
+			ncfile.addVariableAttribute(maskVariable,
+					new Attribute("grid_mapping", crsVar.getShortName()));
+			m_DerivedVariables.add(maskVariable);
+
+			final Variable areaVariable = ncfile.addVariable(null,
+					CELL_AREA_VAR_NAME, DataType.FLOAT, yxDimNames);
+			ncfile.addVariableAttribute(areaVariable,
+					new Attribute(LONG_NAME, "area of grid cell"));
+			ncfile.addVariableAttribute(areaVariable,
+					new Attribute(STANDARD_NAME, "cell_area"));
+			ncfile.addVariableAttribute(areaVariable,
+					new Attribute(UNITS, "m2"));
+			ncfile.addVariableAttribute(areaVariable,
+					new Attribute("grid_mapping", crsVar.getShortName()));
+			m_DerivedVariables.add(areaVariable);
+
+			for (final Period period : m_Periods)
+			{
+				/**
+				 * Timesteps are uniform and ordered, so unless they are longer
+				 * than the period the first and last dates size the period
+				 * dimension without reading every tag of the file
+				 */
+				final GIOAggregator aggregator = GIOAggregator.builder()
+						.withReader(m_Reader).withPeriod(period).build();
+				final ChronoUnit periodUnit = period == Period.MONTH
+						? ChronoUnit.MONTHS : ChronoUnit.YEARS;
+				final List<Date> starts = m_TimeStep.compareTo(periodUnit) > 0
+						? aggregator.getPeriodStarts()
+						: aggregator.getPeriodStarts(dates.get(0),
+								dates.get(dates.size() - 1));
+				if (starts.isEmpty())
+				{
+					continue;
+				}
+				m_PeriodStarts.put(period, starts);
+				final String periodName = period.name().toLowerCase()
+						.replace('_', ' ');
+
+				final Dimension periodDimension = ncfile.addDimension(null,
+						new Dimension(getPeriodDimName(period),
+								starts.size()));
+				final Variable periodVariable = ncfile.addVariable(null,
+						periodDimension.getShortName(), DataType.INT,
+						periodDimension.getShortName());
+				ncfile.addVariableAttribute(periodVariable, new Attribute(
+						LONG_NAME, String.format("start of %s", periodName)));
+				ncfile.addVariableAttribute(periodVariable,
+						new Attribute(COORDINATE_AXIS_TYPE, "Time"));
+				ncfile.addVariableAttribute(periodVariable, new Attribute(
+						UNITS, SFWMMGridMetadata.getTimeUnits(ChronoUnit.DAYS,
+								starts.get(0))));
+				m_DerivedVariables.add(periodVariable);
+
+				final String meanDimNames = String.format("%s %s",
+						periodDimension.getShortName(), yxDimNames);
+				final Variable meanVariable = ncfile.addVariable(null,
+						getPeriodMeanName(period), DATA_TYPE, meanDimNames);
+				ncfile.addVariableAttribute(meanVariable,
+						new Attribute(LONG_NAME, String.format("%s mean of %s",
+								periodName, dataVarLongName)));
+				ncfile.addVariableAttribute(meanVariable,
+						new Attribute(UNITS, dataVarUnits));
+				ncfile.addVariableAttribute(meanVariable,
+						new Attribute("coordinates", meanDimNames));
+				ncfile.addVariableAttribute(meanVariable,
+						new Attribute("_FillValue", m_NoDataValue));
+				ncfile.addVariableAttribute(meanVariable,
+						new Attribute("cell_methods", String.format("%s: mean",
+								periodDimension.getShortName())));
+				ncfile.addVariableAttribute(meanVariable,
+						new Attribute("cell_measures",
+								String.format("area: %s", CELL_AREA_VAR_NAME)));
+				ncfile.addVariableAttribute(meanVariable,
+						new Attribute("grid_mapping", crsVar.getShortName()));
+				m_DerivedVariables.add(meanVariable);
+			}
+		}
+		catch (final Exception e)
+		{
+			final String message = "Unable to create derived variables.";
+			log.error(message, e);
+			close();
+			throw new IOException(message, e);
+		}
+
 		/**
 		 * Add common global attributes such as the conventions used, time that
 		 * the file was created, the source and application name, the
@@ -716,35 +1158,170 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 				"Unidata Dataset Discovery v1.0"));
 		ncfile.addAttribute(null, new Attribute("Conventions", "CF-1.6"));
 		ncfile.addAttribute(null, new Attribute("cerp_version", "1.2"));
-		final Date now = new Date();
 		final Date lastModified = new Date(new File(location).lastModified());
-		ncfile.addAttribute(null,
-				new Attribute("history", String.format("Created %s; %s %s", now,
-						m_File.getName(), lastModified)));
+		final String history = String.format("%s %s", m_File.getName(),
+				lastModified);
+		if (m_Profile == OpenProfile.DETERMINISTIC)
+		{
+			ncfile.addAttribute(null, new Attribute("history", history));
+		}
+		else
+		{
+			ncfile.addAttribute(null, new Attribute("history",
+					String.format("Created %s; %s", new Date(), history)));
+		}
 		ncfile.addAttribute(null,
 				new Attribute("source", getClass().getCanonicalName()));
 		ncfile.addAttribute(null, new Attribute("comment", String
 				.format("JEM NetCDF %s v1.0", getClass().getSimpleName())));
-		final String user = MoreObjects
-				.firstNonNull(System.getProperty("user.name"), "Unknown User");
-		String computerName = "Unknown Computer";
-		try
+		if (m_Profile == OpenProfile.FRESH)
 		{
-			computerName = MoreObjects.firstNonNull(
-					InetAddress.getLocalHost().getHostName(), computerName);
+			ncfile.addAttribute(null, new Attribute("author",
+					SFWMMGridMetadata.lookUpAuthor()));
 		}
-		catch (final UnknownHostException e)
+		else if (m_Profile == OpenProfile.CACHED)
 		{
-			/**
-			 * Ignore
-			 */
-			checkNotNull(e);
+			ncfile.addAttribute(null, new Attribute("author",
+					SFWMMGridMetadata.AUTHOR.get()));
+		}
+
+		ncfile.finish();
+
+		if (templateKey != null)
+		{
+			m_Template = new Template(this);
+			TEMPLATES.put(templateKey, m_Template);
 		}
-		ncfile.addAttribute(null, new Attribute("author",
-				String.format("%s on %s", user, computerName)));
+	}
 
+	/**
+	 * Build the header from one built by an earlier open of the same file
+	 *
+	 * @param p_Template
+	 *            the header of the earlier open
+	 * @since Oct 18, 2026
+	 */
+	@SuppressWarnings("deprecation")
+	private void openTemplate(final Template p_Template)
+	{
+		m_DataVariableName = p_Template.m_DataVariableName;
+		m_PeriodStarts.putAll(p_Template.m_PeriodStarts);
+		m_SizeX = m_Reader.getHeader().getColsSize();
+		m_SizeY = m_Reader.getHeader().getRowsSize();
+		m_TimeStep = p_Template.m_TimeStep;
+		for (final Dimension dimension : p_Template.m_Dimensions)
+		{
+			ncfile.addDimension(null, new Dimension(dimension.getShortName(),
+					dimension.getLength()));
+		}
+		for (final VariableTemplate template : p_Template.m_Variables)
+		{
+			final Variable variable = ncfile.addVariable(null,
+					template.m_Name, template.m_DataType,
+					template.m_Dimensions);
+			for (final Attribute attribute : template.m_Attributes)
+			{
+				ncfile.addVariableAttribute(variable, attribute);
+			}
+			final Array array = p_Template.m_Arrays.get(template.m_Name);
+			if (array != null)
+			{
+				variable.setCachedData(array);
+			}
+			if (p_Template.m_SupportingVariableNames.contains(template.m_Name))
+			{
+				m_SupportingVariables.add(variable);
+			}
+			if (p_Template.m_DerivedVariableNames.contains(template.m_Name))
+			{
+				m_DerivedVariables.add(variable);
+			}
+		}
+		for (final Attribute attribute : p_Template.m_GlobalAttributes)
+		{
+			ncfile.addAttribute(null, attribute);
+		}
 		ncfile.finish();
+	}
+
+	/**
+	 * Read the cells of one timestep of a section of the data variable.
+	 * Sections covering a large part of a timestep are taken from its whole
+	 * node vector through {@link #getChunk(int)}. Smaller sections, such as a
+	 * window read as a time series, read only the row spans that contain them
+	 * (or use an already cached node vector) so that they neither read whole
+	 * timesteps nor evict the chunks of the tiles being drawn.
+	 *
+	 * @param p_Section
+	 *            the section of the data variable
+	 * @param p_DateIndex
+	 *            the 0-based date index of the timestep to read
+	 * @param p_CellNodes
+	 *            the nodes of the cells of the section, from
+	 *            {@link #getCellNodes(Section)}
+	 * @param p_Data
+	 *            the array to fill, in final (flipped) row order
+	 * @param p_Offset
+	 *            the index of p_Data to fill from
+	 * @throws IOException
+	 *             if problem reading from file
+	 * @throws ParseException
+	 *             if unable to parse date
+	 * @since Oct 18, 2026
+	 */
+	private void readCells(final Section p_Section, final int p_DateIndex,
+			final int[] p_CellNodes, final float[] p_Data, final int p_Offset)
+			throws ParseException, IOException
+	{
+		if (p_CellNodes.length == 0)
+		{
+			return;
+		}
+		final int yStride = p_Section.getStride(1);
+		final int xStride = p_Section.getStride(2);
+		final int boxY = (p_Section.getShape(1) - 1) * yStride + 1;
+		final int boxX = (p_Section.getShape(2) - 1) * xStride + 1;
+		float[] chunk = m_Chunks.get(p_DateIndex);
+		if (chunk == null && boxY * boxX * CHUNK_READ_DIVISOR >= m_SizeY
+				* m_SizeX)
+		{
+			chunk = getChunk(p_DateIndex);
+		}
+		if (chunk != null)
+		{
+			for (int c = 0; c < p_CellNodes.length; c++)
+			{
+				final int node = p_CellNodes[c];
+				p_Data[p_Offset + c] = node < 0 ? Float.NaN : chunk[node];
+			}
+			return;
+		}
 
+		/**
+		 * The file rows of the y extent, read north to south
+		 */
+		final int yOrigin = p_Section.getOrigin(1);
+		final int xOrigin = p_Section.getOrigin(2);
+		final Range<Integer> dates = Range.singleton(p_DateIndex);
+		final Range<Integer> rows = Range.closed(m_SizeY - yOrigin - boxY,
+				m_SizeY - yOrigin - 1);
+		final Range<Integer> cols = Range.closedOpen(xOrigin, xOrigin + boxX);
+		if (yStride == 1 && xStride == 1)
+		{
+			m_Reader.readDataReversedRowsInto(dates, rows, cols, p_Data,
+					p_Offset);
+			return;
+		}
+		final float[] box = m_Reader.readDataReversedRows(dates, rows, cols);
+		final int xSize = p_Section.getShape(2);
+		for (int y = 0; y < p_Section.getShape(1); y++)
+		{
+			for (int x = 0; x < xSize; x++)
+			{
+				p_Data[p_Offset + y * xSize + x] = box[y * yStride * boxX
+						+ x * xStride];
+			}
+		}
 	}
 
 	@SuppressWarnings("deprecation")
@@ -790,7 +1367,22 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 					close();
 					throw new IOException(message);
 				}
-				p_Variable.setCachedData(cacheData);
+				p_Variable.setCachedData(share(shortName, cacheData));
+			}
+			else if (m_DerivedVariables.contains(p_Variable))
+			{
+				try
+				{
+					p_Variable.setCachedData(
+							share(shortName, createDerivedArray(p_Variable)));
+				}
+				catch (final ParseException e)
+				{
+					log.error(String.format("%s: %s", p_Variable, p_Section),
+							e);
+					close();
+					throw new IOException(e);
+				}
 			}
 			/**
 			 * Data variable
@@ -808,26 +1400,22 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 					section = p_Section;
 				}
 
-				final int tOrigin = section.getOrigin(0);
-				final int yOrigin = section.getOrigin(1);
-				final int xOrigin = section.getOrigin(2);
+				/**
+				 * Filled in final (flipped) row order, so the array is
+				 * contiguous rather than a flipped view
+				 */
+				final int[] cellNodes = getCellNodes(section);
 				final int tSize = section.getShape(0);
-				final int ySize = section.getShape(1);
-				final int xSize = section.getShape(2);
-
+				final float[] data = new float[tSize * cellNodes.length];
 				try
 				{
-					final Range<Integer> tRange = Range.closedOpen(tOrigin,
-							tOrigin + tSize);
-					final Range<Integer> yRange = Range.closedOpen(yOrigin,
-							yOrigin + ySize);
-					final Range<Integer> xRange = Range.closedOpen(xOrigin,
-							xOrigin + xSize);
-					final float[] readData = m_Reader.readData(tRange, yRange,
-							xRange);
-					final Array data = Array.factory(DATA_TYPE,
-							section.getShape(), readData);
-					return data.flip(1);
+					for (int i = 0; i < tSize; i++)
+					{
+						readCells(section,
+								section.getOrigin(0) + i * section.getStride(0),
+								cellNodes, data, i * cellNodes.length);
+					}
+					return Array.factory(DATA_TYPE, section.getShape(), data);
 				}
 				catch (final ParseException e)
 				{
@@ -851,4 +1439,155 @@ public final class SFWMMGridIOSP extends AbstractIOServiceProvider
 		}
 	}
 
+	/**
+	 * Streams the data variable timestep by timestep, read as by
+	 * {@link #readCells(Section, int, int[], float[], int)}, through a reused
+	 * direct buffer, producing the same big-endian
+	 * bytes as {@link #readData(Variable, Section)} without building the
+	 * {@link Array} of the whole section. Other variables are left to the
+	 * default implementation.
+	 */
+	@Override
+	public long readToByteChannel(final Variable p_Variable,
+			final Section p_Section, final WritableByteChannel p_Channel)
+			throws IOException, InvalidRangeException
+	{
+		if (p_Variable.hasCachedData()
+				|| !m_DataVariableName.equals(p_Variable.getShortName()))
+		{
+			return super.readToByteChannel(p_Variable, p_Section, p_Channel);
+		}
+		Section section = new Section(new int[] { m_SizeT, m_SizeY, m_SizeX });
+		if (p_Section != null)
+		{
+			final int expectedRank = 3;
+			checkArgument(p_Section.getRank() == expectedRank,
+					"Invalid section rank. Expected %s but found %s.",
+					expectedRank, p_Section.getRank());
+			section = p_Section;
+		}
+		final int[] cellNodes = getCellNodes(section);
+		if (m_ChannelBuffer == null)
+		{
+			m_ChannelBuffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE)
+					.order(ByteOrder.BIG_ENDIAN);
+		}
+		final ByteBuffer buffer = m_ChannelBuffer;
+		buffer.clear();
+		final float[] cells = new float[cellNodes.length];
+		long count = 0;
+		for (int i = 0; i < section.getShape(0); i++)
+		{
+			try
+			{
+				readCells(section,
+						section.getOrigin(0) + i * section.getStride(0),
+						cellNodes, cells, 0);
+			}
+			catch (final ParseException e)
+			{
+				log.error(String.format("%s: %s", p_Variable, p_Section), e);
+				close();
+				throw new IOException(e);
+			}
+			for (final float cell : cells)
+			{
+				if (!buffer.hasRemaining())
+				{
+					count += drain(buffer, p_Channel);
+				}
+
+				/**
+				 * Canonical NaN, as written by DataOutputStream
+				 */
+				buffer.putInt(Float.floatToIntBits(cell));
+			}
+		}
+		count += drain(buffer, p_Channel);
+		return count;
+	}
+
+	/**
+	 * Read the dates needed to determine the time units without indexing the
+	 * tags of the whole file: the first, second and last tags. The time step
+	 * is measured from the first date, so the second date sets it just as it
+	 * would among all dates. Repeated tags are subdivided by
+	 * {@link GIOReader#getDates()}, so if the first two tags are the same all
+	 * dates are read instead.
+	 *
+	 * @return dates that determine the time units, earliest first
+	 * @throws IOException
+	 *             if problem reading from file
+	 * @throws ParseException
+	 *             if unable to parse date
+	 * @since Oct 18, 2026
+	 */
+	private List<Date> sampleDates() throws ParseException, IOException
+	{
+		if (m_SizeT < 2)
+		{
+			return m_Reader.getDates();
+		}
+		final Date first = m_Reader.readTag(0);
+		final Date second = m_Reader.readTag(1);
+		if (first.equals(second))
+		{
+			return m_Reader.getDates();
+		}
+		return Lists.newArrayList(first, second,
+				m_Reader.readTag(m_SizeT - 1));
+	}
+
+	/**
+	 * Accepts a {@link Period} to derive a variable of the mean of the data
+	 * variable over each such period, along a time dimension of its own, an
+	 * {@link OpenProfile}, or a collection of these. Must be sent before the
+	 * file is opened, for example through
+	 * {@link ucar.nc2.NetcdfFiles#open(String, String, int, CancelTask, Object)}.
+	 */
+	@Override
+	public Object sendIospMessage(final Object p_Message)
+	{
+		if (p_Message instanceof Period)
+		{
+			m_Periods.add((Period) p_Message);
+			return Boolean.TRUE;
+		}
+		if (p_Message instanceof OpenProfile)
+		{
+			m_Profile = (OpenProfile) p_Message;
+			return Boolean.TRUE;
+		}
+		if (p_Message instanceof Collection)
+		{
+			for (final Object message : (Collection<?>) p_Message)
+			{
+				sendIospMessage(message);
+			}
+			return Boolean.TRUE;
+		}
+		return super.sendIospMessage(p_Message);
+	}
+
+	/**
+	 * Keep an array computed for a variable in the header template of the file,
+	 * so that later opens of the file reuse it
+	 *
+	 * @param p_Name
+	 *            the variable name
+	 * @param p_Array
+	 *            the computed array
+	 * @return the array to cache: the one kept by an earlier open, if any, or
+	 *         the provided one
+	 * @since Oct 18, 2026
+	 */
+	private Array share(final String p_Name, final Array p_Array)
+	{
+		if (m_Template == null)
+		{
+			return p_Array;
+		}
+		final Array shared = m_Template.m_Arrays.putIfAbsent(p_Name, p_Array);
+		return shared == null ? p_Array : shared;
+	}
 }
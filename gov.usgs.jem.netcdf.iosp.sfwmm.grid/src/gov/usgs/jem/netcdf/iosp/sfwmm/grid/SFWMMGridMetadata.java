@@ -0,0 +1,328 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Sets;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TimeZone;
+
+/**
+ * Coordinate and time metadata shared by {@link SFWMMGridIOSP} and
+ * {@link SFWMMGridNetCDFExporter}, so that files served by the IOSP and files
+ * written by the exporter describe grids identically. Unlike the IOSP, this
+ * class does not depend on the NetCDF library. All methods are thread-safe.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+final class SFWMMGridMetadata
+{
+	/**
+	 * The author attribute, looked up once per JVM
+	 *
+	 * @see SFWMMGridIOSP.OpenProfile#CACHED
+	 * @since Oct 18, 2026
+	 */
+	static final Supplier<String>	AUTHOR		= Suppliers
+			.memoize(SFWMMGridMetadata::lookUpAuthor);
+
+	/**
+	 * Grid cell size, horizontal or vertical
+	 *
+	 * @since Oct 31, 2016
+	 */
+	static final float				CELL_SIZE_M	= 3218.69f;
+
+	/**
+	 * Projected x coordinate of the west edge of the grid
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final double				REF_X		= 466641.10;
+
+	/**
+	 * Projected y coordinate of the south edge of the grid
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final double				REF_Y		= 2779814.25;
+
+	/**
+	 * Well-known text of the coordinate reference system of the grid
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final String				WKT			= "PROJCS[\"NAD83 / UTM zone 17N\",   GEOGCS[\"NAD83\",     DATUM[\"North American Datum 1983\",       SPHEROID[\"GRS 1980\", 6378137.0, 298.257222101, AUTHORITY[\"EPSG\",\"7019\"]],       TOWGS84[0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0],       AUTHORITY[\"EPSG\",\"6269\"]],     PRIMEM[\"Greenwich\", 0.0, AUTHORITY[\"EPSG\",\"8901\"]],     UNIT[\"degree\", 0.017453292519943295],     AXIS[\"Geodetic longitude\", EAST],     AXIS[\"Geodetic latitude\", NORTH],     AUTHORITY[\"EPSG\",\"4269\"]],   PROJECTION[\"Transverse_Mercator\", AUTHORITY[\"EPSG\",\"9807\"]],   PARAMETER[\"central_meridian\", -81.0],   PARAMETER[\"latitude_of_origin\", 0.0],   PARAMETER[\"scale_factor\", 0.9996],   PARAMETER[\"false_easting\", 500000.0],   PARAMETER[\"false_northing\", 0.0],   UNIT[\"m\", 1.0],   AXIS[\"Easting\", EAST],   AXIS[\"Northing\", NORTH],   AUTHORITY[\"EPSG\",\"26917\"]]";
+
+	/**
+	 * Takes in a Date List and a timestep and returns an int array that can be
+	 * written to a NetCDF file as time variable data.
+	 *
+	 * @param p_Dates
+	 *            List of Date objects
+	 * @param p_ChronoUnit
+	 *            The {@link ChronoUnit} to use when parsing date indices to
+	 *            dates
+	 * @return Array of int containing offsets from first date in p_Dates
+	 */
+	static int[] getDateIndexes(final List<Date> p_Dates,
+			final ChronoUnit p_ChronoUnit)
+	{
+		checkNotNull(p_Dates, "Dates cannot be null.");
+
+		final int[] indexes = new int[p_Dates.size()];
+		if (indexes.length == 0)
+		{
+			return indexes;
+		}
+		indexes[0] = 0;
+		final Instant refInstant = p_Dates.get(0).toInstant();
+		try
+		{
+			for (int i = 1; i < indexes.length; i++)
+			{
+				final Instant toInstant = p_Dates.get(i).toInstant();
+				final Long between = p_ChronoUnit.between(refInstant,
+						toInstant);
+				indexes[i] = between.intValue();
+			}
+		}
+		catch (final UnsupportedTemporalTypeException e)
+		{
+			final Calendar cal = Calendar
+					.getInstance(TimeZone.getTimeZone("UTC"));
+			cal.setTime(p_Dates.get(0));
+			switch (p_ChronoUnit)
+			{
+				case MONTHS:
+				{
+					final int ref = cal.get(Calendar.YEAR) * 12
+							+ cal.get(Calendar.MONTH);
+					for (int i = 1; i < indexes.length; i++)
+					{
+						cal.setTime(p_Dates.get(i));
+						final int now = cal.get(Calendar.YEAR) * 12
+								+ cal.get(Calendar.MONTH);
+						indexes[i] = now - ref;
+					}
+				}
+					break;
+				case YEARS:
+				{
+					final int ref = cal.get(Calendar.YEAR);
+					for (int i = 1; i < indexes.length; i++)
+					{
+						cal.setTime(p_Dates.get(i));
+						final int now = cal.get(Calendar.YEAR);
+						indexes[i] = now - ref;
+					}
+				}
+					break;
+				default:
+					throw e;
+			}
+		}
+		return indexes;
+	}
+
+	/**
+	 * Determine the preferred {@link ChronoUnit} to use based on the minimum
+	 * span of seconds between sorted date entries
+	 *
+	 * @param p_Dates
+	 *            a collection of dates
+	 * @return the {@link ChronoUnit} to use
+	 * @since Oct 31, 2016
+	 */
+	static ChronoUnit getTimeStep(final Collection<Date> p_Dates)
+	{
+		final SortedSet<Date> dates = Sets.newTreeSet(p_Dates);
+
+		long numSeconds = Long.MAX_VALUE;
+		Date ref = dates.first();
+		final Instant refInstant = ref.toInstant();
+		/**
+		 * Determine the minimum number of seconds between consecutive
+		 * timestamps
+		 */
+		boolean isFirst = true;
+		for (final Date date : dates)
+		{
+			if (isFirst)
+			{
+				isFirst = false;
+				continue;
+			}
+			numSeconds = Math.min(Math.abs(
+					ChronoUnit.SECONDS.between(refInstant, date.toInstant())),
+					numSeconds);
+			ref = date;
+		}
+
+		final int second = 1;
+		final int minute = 60 * second;
+		final int hour = 60 * minute;
+		final int day = 24 * hour;
+		final int month = 28 * day;
+		final int year = 12 * month;
+
+		if (numSeconds < minute)
+		{
+			return ChronoUnit.SECONDS;
+		}
+		else if (numSeconds < hour)
+		{
+			return ChronoUnit.MINUTES;
+		}
+		else if (numSeconds < day - hour)
+		{
+			return ChronoUnit.HOURS;
+		}
+		else if (numSeconds < month)
+		{
+			return ChronoUnit.DAYS;
+		}
+		else if (numSeconds < year)
+		{
+			return ChronoUnit.MONTHS;
+		}
+		else
+		{
+			return ChronoUnit.YEARS;
+		}
+	}
+
+	/**
+	 * Determine the unit of the time coordinate values. Months and years are
+	 * not fixed-length units in UDUNITS, so days are used instead.
+	 *
+	 * @param p_Dates
+	 *            the dates of the file, at least one
+	 * @return the {@link ChronoUnit} to use for time coordinate values
+	 * @since Oct 18, 2026
+	 */
+	static ChronoUnit getTimeUnit(final Collection<Date> p_Dates)
+	{
+		final ChronoUnit timeStep = getTimeStep(p_Dates);
+		if (timeStep.equals(ChronoUnit.MONTHS)
+				|| timeStep.equals(ChronoUnit.YEARS))
+		{
+			return ChronoUnit.DAYS;
+		}
+		return timeStep;
+	}
+
+	/**
+	 * Get the units attribute value of the time coordinate variable
+	 *
+	 * @param p_TimeUnit
+	 *            the unit of the time coordinate values
+	 * @param p_RefDate
+	 *            the date of the first time coordinate
+	 * @return e.g. "days since 1965-01-01T00:00:00 +0000"
+	 * @since Oct 18, 2026
+	 */
+	static String getTimeUnits(final ChronoUnit p_TimeUnit,
+			final Date p_RefDate)
+	{
+		final SimpleDateFormat formatter = new SimpleDateFormat(
+				"yyyy-MM-dd'T'HH:mm:ss Z");
+		formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
+		return String.format("%s since %s",
+				p_TimeUnit.toString().toLowerCase(),
+				formatter.format(p_RefDate));
+	}
+
+	/**
+	 * Get the x coordinate values, west to east
+	 *
+	 * @param p_SizeX
+	 *            the number of columns
+	 * @return the coordinate values
+	 * @since Oct 18, 2026
+	 */
+	static double[] getXCoordinates(final int p_SizeX)
+	{
+		/**
+		 * south and west bounding coordinates (25.133890, -81.330940 lat-lon)
+		 *
+		 * 466641.10, 2779814.25
+		 */
+		final double[] coordinates = new double[p_SizeX];
+		for (int i = 0; i < p_SizeX; i++)
+		{
+			coordinates[i] = REF_X + i * CELL_SIZE_M;
+		}
+		return coordinates;
+	}
+
+	/**
+	 * Get the y coordinate values, north to south
+	 *
+	 * @param p_SizeY
+	 *            the number of rows
+	 * @return the coordinate values
+	 * @since Oct 18, 2026
+	 */
+	static double[] getYCoordinates(final int p_SizeY)
+	{
+		final double refY = REF_Y + (p_SizeY - 1) * CELL_SIZE_M
+				+ 0.5 * CELL_SIZE_M;
+		final double[] coordinates = new double[p_SizeY];
+		for (int i = 0; i < p_SizeY; i++)
+		{
+			coordinates[i] = refY - i * CELL_SIZE_M;
+		}
+		return coordinates;
+	}
+
+	/**
+	 * Look up the author attribute: the user and host name. Resolving the
+	 * host name may be slow when name lookups are, so prefer {@link #AUTHOR}.
+	 *
+	 * @return the author
+	 * @since Oct 18, 2026
+	 */
+	static String lookUpAuthor()
+	{
+		final String user = MoreObjects
+				.firstNonNull(System.getProperty("user.name"), "Unknown User");
+		String computerName = "Unknown Computer";
+		try
+		{
+			computerName = MoreObjects.firstNonNull(
+					InetAddress.getLocalHost().getHostName(), computerName);
+		}
+		catch (final UnknownHostException e)
+		{
+			/**
+			 * Ignore
+			 */
+			checkNotNull(e);
+		}
+		return String.format("%s on %s", user, computerName);
+	}
+
+	/**
+	 * Not instantiable
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private SFWMMGridMetadata()
+	{
+		/** Nothing */
+	}
+}
@@ -0,0 +1,984 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.io.Files;
+import gov.usgs.jem.sfwmm.grid.GIOAvailability;
+import gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridIOSP.OpenProfile;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Exports an SFWMM GridIO file to a NetCDF-3 file without going through the
+ * NetCDF library. The header is computed directly and the data variable is
+ * written in record order from {@link GIOReader#readNodes(int, float[])} node
+ * vectors, so memory use is constant and the export is a single sequential
+ * write of the output file.
+ *
+ * The output uses the 64-bit offset variant of the classic format, so that
+ * large archives are not limited to 2 GiB, with time as the record
+ * (unlimited) dimension. Dimensions, variables and attributes match those
+ * served by {@link SFWMMGridIOSP}, with rows ordered north to south.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class SFWMMGridNetCDFExporter
+{
+	/**
+	 * Builds new instances of {@link SFWMMGridNetCDFExporter}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withBufferSize(int)
+		 */
+		private int			m_bBufferSize;
+
+		/**
+		 * @see #withOutputFilePath(String)
+		 */
+		private String		m_bOutputFilePath;
+
+		/**
+		 * @see #withProfile(OpenProfile)
+		 */
+		private OpenProfile	m_bProfile;
+
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withVariableName(String)
+		 */
+		private String		m_bVariableName;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bBufferSize = DEFAULT_BUFFER_SIZE;
+			m_bProfile = OpenProfile.CACHED;
+		}
+
+		/**
+		 * Create the exporter
+		 *
+		 * @return {@link SFWMMGridNetCDFExporter} instance
+		 * @since Oct 18, 2026
+		 */
+		public SFWMMGridNetCDFExporter build()
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkNotNull(m_bOutputFilePath, "Output file path required.");
+			checkNotNull(m_bProfile, "Profile required.");
+			checkArgument(m_bBufferSize >= Double.BYTES,
+					"Buffer size must be at least %s bytes", Double.BYTES);
+			if (m_bVariableName == null)
+			{
+				m_bVariableName = getVariableName(m_bReader.getFilePath());
+			}
+			checkArgument(!m_bVariableName.isEmpty(),
+					"Variable name required.");
+			return new SFWMMGridNetCDFExporter(this);
+		}
+
+		/**
+		 * Set the size of the write buffer
+		 *
+		 * @param p_BufferSize
+		 *            the number of bytes to buffer between writes
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withBufferSize(final int p_BufferSize)
+		{
+			m_bBufferSize = p_BufferSize;
+			return this;
+		}
+
+		/**
+		 * Set the path of the NetCDF file to create. An existing file is
+		 * replaced.
+		 *
+		 * @param p_OutputFilePath
+		 *            the output file path
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withOutputFilePath(final String p_OutputFilePath)
+		{
+			m_bOutputFilePath = p_OutputFilePath;
+			return this;
+		}
+
+		/**
+		 * Set how the global author and history attributes are resolved, as
+		 * for {@link SFWMMGridIOSP}: {@link OpenProfile#CACHED} (the default)
+		 * looks the author up once per JVM, {@link OpenProfile#DETERMINISTIC}
+		 * omits the author and the creation time so that the output only
+		 * depends on the input file, and {@link OpenProfile#FRESH} looks the
+		 * author up on every export.
+		 *
+		 * @param p_Profile
+		 *            the profile
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withProfile(final OpenProfile p_Profile)
+		{
+			m_bProfile = p_Profile;
+			return this;
+		}
+
+		/**
+		 * Set the reader of the SFWMM GridIO file to export
+		 *
+		 * @param p_Reader
+		 *            an open reader
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set the name of the data variable. Defaults to the name used by
+		 * {@link SFWMMGridIOSP}, derived from the input file name.
+		 *
+		 * @param p_VariableName
+		 *            the data variable name
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withVariableName(final String p_VariableName)
+		{
+			m_bVariableName = p_VariableName;
+			return this;
+		}
+	}
+
+	/**
+	 * A NetCDF attribute
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class NCAttribute
+	{
+		/**
+		 * Attribute name
+		 */
+		private final String	m_Name;
+
+		/**
+		 * A {@link String}, int[], float[] or double[]
+		 */
+		private final Object	m_Values;
+
+		/**
+		 * @param p_Name
+		 *            attribute name
+		 * @param p_Values
+		 *            a {@link String}, int[], float[] or double[]
+		 * @since Oct 18, 2026
+		 */
+		NCAttribute(final String p_Name, final Object p_Values)
+		{
+			m_Name = p_Name;
+			m_Values = p_Values;
+		}
+
+		/**
+		 * Write this attribute
+		 *
+		 * @param p_Out
+		 *            the header output
+		 * @throws IOException
+		 *             problem writing
+		 * @since Oct 18, 2026
+		 */
+		void write(final DataOutputStream p_Out) throws IOException
+		{
+			writeName(p_Out, m_Name);
+			if (m_Values instanceof String)
+			{
+				final byte[] bytes = ((String) m_Values)
+						.getBytes(StandardCharsets.UTF_8);
+				p_Out.writeInt(NC_CHAR);
+				p_Out.writeInt(bytes.length);
+				p_Out.write(bytes);
+				writePadding(p_Out, bytes.length);
+			}
+			else if (m_Values instanceof int[])
+			{
+				final int[] values = (int[]) m_Values;
+				p_Out.writeInt(NC_INT);
+				p_Out.writeInt(values.length);
+				for (final int value : values)
+				{
+					p_Out.writeInt(value);
+				}
+			}
+			else if (m_Values instanceof float[])
+			{
+				final float[] values = (float[]) m_Values;
+				p_Out.writeInt(NC_FLOAT);
+				p_Out.writeInt(values.length);
+				for (final float value : values)
+				{
+					p_Out.writeFloat(value);
+				}
+			}
+			else
+			{
+				final double[] values = (double[]) m_Values;
+				p_Out.writeInt(NC_DOUBLE);
+				p_Out.writeInt(values.length);
+				for (final double value : values)
+				{
+					p_Out.writeDouble(value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A NetCDF variable
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class NCVariable
+	{
+		/**
+		 * Variable attributes
+		 */
+		private final List<NCAttribute>	m_Attributes;
+
+		/**
+		 * Byte offset of the variable data, or of its first record
+		 */
+		private long					m_Begin;
+
+		/**
+		 * Dimension ids
+		 */
+		private final int[]				m_DimIds;
+
+		/**
+		 * Variable name
+		 */
+		private final String			m_Name;
+
+		/**
+		 * NetCDF type
+		 */
+		private final int				m_Type;
+
+		/**
+		 * Size of the data, or of one record, in bytes
+		 */
+		private final int				m_VSize;
+
+		/**
+		 * @param p_Name
+		 *            variable name
+		 * @param p_Type
+		 *            NetCDF type
+		 * @param p_VSize
+		 *            size of the data, or of one record, in bytes
+		 * @param p_DimIds
+		 *            dimension ids
+		 * @since Oct 18, 2026
+		 */
+		NCVariable(final String p_Name, final int p_Type, final int p_VSize,
+				final int... p_DimIds)
+		{
+			m_Name = p_Name;
+			m_Type = p_Type;
+			m_VSize = p_VSize;
+			m_DimIds = p_DimIds;
+			m_Attributes = Lists.newArrayList();
+		}
+
+		/**
+		 * Add an attribute
+		 *
+		 * @param p_Name
+		 *            attribute name
+		 * @param p_Values
+		 *            a {@link String}, int[], float[] or double[]
+		 * @return this variable
+		 * @since Oct 18, 2026
+		 */
+		NCVariable add(final String p_Name, final Object p_Values)
+		{
+			m_Attributes.add(new NCAttribute(p_Name, p_Values));
+			return this;
+		}
+
+		/**
+		 * Write this variable's header entry
+		 *
+		 * @param p_Out
+		 *            the header output
+		 * @throws IOException
+		 *             problem writing
+		 * @since Oct 18, 2026
+		 */
+		void write(final DataOutputStream p_Out) throws IOException
+		{
+			writeName(p_Out, m_Name);
+			p_Out.writeInt(m_DimIds.length);
+			for (final int dimId : m_DimIds)
+			{
+				p_Out.writeInt(dimId);
+			}
+			writeAttributes(p_Out, m_Attributes);
+			p_Out.writeInt(m_Type);
+			p_Out.writeInt(m_VSize);
+			p_Out.writeLong(m_Begin);
+		}
+	}
+
+	/**
+	 * Default size of the write buffer
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				DEFAULT_BUFFER_SIZE	= 4 * 1024 * 1024;
+
+	/**
+	 * Class logger
+	 */
+	private static final org.apache.log4j.Logger	log					= org.apache.log4j.Logger
+			.getLogger(SFWMMGridNetCDFExporter.class);
+
+	/**
+	 * Magic number of the 64-bit offset format
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final byte[]				MAGIC				= { 'C', 'D',
+			'F', 2 };
+
+	/**
+	 * Tag of an attribute list
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				NC_ATTRIBUTE		= 0x0C;
+
+	/**
+	 * Type of character data
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				NC_CHAR				= 2;
+
+	/**
+	 * Tag of a dimension list
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				NC_DIMENSION		= 0x0A;
+
+	/**
+	 * Type of double data
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				NC_DOUBLE			= 6;
+
+	/**
+	 * Type of float data
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				NC_FLOAT			= 5;
+
+	/**
+	 * Type of int data
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				NC_INT				= 4;
+
+	/**
+	 * Tag of a variable list
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				NC_VARIABLE			= 0x0B;
+
+	/**
+	 * Name of the coordinate reference system variable
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final String				PROJ_VAR_NAME		= "transverse_mercator";
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Get the data variable name that {@link SFWMMGridIOSP} uses for the
+	 * provided file
+	 *
+	 * @param p_FilePath
+	 *            the SFWMM GridIO file path
+	 * @return the data variable name
+	 * @since Oct 18, 2026
+	 */
+	public static String getVariableName(final String p_FilePath)
+	{
+		return Files.getNameWithoutExtension(new File(p_FilePath).getName())
+				.replace(".", "");
+	}
+
+	/**
+	 * Write an attribute list
+	 *
+	 * @param p_Out
+	 *            the header output
+	 * @param p_Attributes
+	 *            the attributes
+	 * @throws IOException
+	 *             problem writing
+	 * @since Oct 18, 2026
+	 */
+	private static void writeAttributes(final DataOutputStream p_Out,
+			final List<NCAttribute> p_Attributes) throws IOException
+	{
+		if (p_Attributes.isEmpty())
+		{
+			p_Out.writeInt(0);
+			p_Out.writeInt(0);
+			return;
+		}
+		p_Out.writeInt(NC_ATTRIBUTE);
+		p_Out.writeInt(p_Attributes.size());
+		for (final NCAttribute attribute : p_Attributes)
+		{
+			attribute.write(p_Out);
+		}
+	}
+
+	/**
+	 * Write the header
+	 *
+	 * @param p_NumRecs
+	 *            the number of records
+	 * @param p_DimNames
+	 *            dimension names
+	 * @param p_DimLengths
+	 *            dimension lengths, 0 for the record dimension
+	 * @param p_Variables
+	 *            the variables
+	 * @param p_GlobalAttributes
+	 *            the global attributes
+	 * @return the header bytes
+	 * @throws IOException
+	 *             problem writing
+	 * @since Oct 18, 2026
+	 */
+	private static byte[] writeHeader(final int p_NumRecs,
+			final String[] p_DimNames, final int[] p_DimLengths,
+			final List<NCVariable> p_Variables,
+			final List<NCAttribute> p_GlobalAttributes) throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		out.write(MAGIC);
+		out.writeInt(p_NumRecs);
+		out.writeInt(NC_DIMENSION);
+		out.writeInt(p_DimNames.length);
+		for (int i = 0; i < p_DimNames.length; i++)
+		{
+			writeName(out, p_DimNames[i]);
+			out.writeInt(p_DimLengths[i]);
+		}
+		writeAttributes(out, p_GlobalAttributes);
+		out.writeInt(NC_VARIABLE);
+		out.writeInt(p_Variables.size());
+		for (final NCVariable variable : p_Variables)
+		{
+			variable.write(out);
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Write a name
+	 *
+	 * @param p_Out
+	 *            the header output
+	 * @param p_Name
+	 *            the name
+	 * @throws IOException
+	 *             problem writing
+	 * @since Oct 18, 2026
+	 */
+	private static void writeName(final DataOutputStream p_Out,
+			final String p_Name) throws IOException
+	{
+		final byte[] bytes = p_Name.getBytes(StandardCharsets.UTF_8);
+		p_Out.writeInt(bytes.length);
+		p_Out.write(bytes);
+		writePadding(p_Out, bytes.length);
+	}
+
+	/**
+	 * Pad with zeros to a 4-byte boundary
+	 *
+	 * @param p_Out
+	 *            the header output
+	 * @param p_Length
+	 *            the number of bytes written that need padding
+	 * @throws IOException
+	 *             problem writing
+	 * @since Oct 18, 2026
+	 */
+	private static void writePadding(final DataOutputStream p_Out,
+			final int p_Length) throws IOException
+	{
+		for (int i = p_Length; i % 4 != 0; i++)
+		{
+			p_Out.writeByte(0);
+		}
+	}
+
+	/**
+	 * Write buffer
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private ByteBuffer				m_Buffer;
+
+	/**
+	 * @see Builder#withBufferSize(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int				m_BufferSize;
+
+	/**
+	 * The channel written to during {@link #export()}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private FileChannel				m_Channel;
+
+	/**
+	 * @see #getOutputFilePath()
+	 * @since Oct 18, 2026
+	 */
+	private final String			m_OutputFilePath;
+
+	/**
+	 * @see Builder#withProfile(OpenProfile)
+	 * @since Oct 18, 2026
+	 */
+	private final OpenProfile		m_Profile;
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader			m_Reader;
+
+	/**
+	 * @see #getVariableName()
+	 * @since Oct 18, 2026
+	 */
+	private final String			m_VariableName;
+
+	/**
+	 * Create a new exporter from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private SFWMMGridNetCDFExporter(final Builder p_Builder)
+	{
+		m_Reader = p_Builder.m_bReader;
+		m_OutputFilePath = p_Builder.m_bOutputFilePath;
+		m_VariableName = p_Builder.m_bVariableName;
+		m_BufferSize = p_Builder.m_bBufferSize;
+		m_Profile = p_Builder.m_bProfile;
+	}
+
+	/**
+	 * Create the global attributes
+	 *
+	 * @return the attributes
+	 * @since Oct 18, 2026
+	 */
+	private List<NCAttribute> createGlobalAttributes()
+	{
+		final File inputFile = new File(m_Reader.getFilePath());
+		final List<NCAttribute> attributes = Lists.newArrayList();
+		attributes.add(new NCAttribute("Metadata_Conventions",
+				"Unidata Dataset Discovery v1.0"));
+		attributes.add(new NCAttribute("Conventions", "CF-1.6"));
+		attributes.add(new NCAttribute("cerp_version", "1.2"));
+		final String history = String.format("%s %s", inputFile.getName(),
+				new Date(inputFile.lastModified()));
+		if (m_Profile == OpenProfile.DETERMINISTIC)
+		{
+			attributes.add(new NCAttribute("history", history));
+		}
+		else
+		{
+			attributes.add(new NCAttribute("history",
+					String.format("Created %s; %s", new Date(), history)));
+		}
+		attributes.add(
+				new NCAttribute("source", getClass().getCanonicalName()));
+		attributes.add(new NCAttribute("comment", String
+				.format("JEM NetCDF %s v1.0", getClass().getSimpleName())));
+		if (m_Profile == OpenProfile.FRESH)
+		{
+			attributes.add(new NCAttribute("author",
+					SFWMMGridMetadata.lookUpAuthor()));
+		}
+		else if (m_Profile == OpenProfile.CACHED)
+		{
+			attributes.add(new NCAttribute("author",
+					SFWMMGridMetadata.AUTHOR.get()));
+		}
+		return attributes;
+	}
+
+	/**
+	 * Write the file.
+	 *
+	 * @return the number of bytes written
+	 * @throws IOException
+	 *             problem reading from the input file or writing the output
+	 *             file
+	 * @throws ParseException
+	 *             problem parsing dates from the input file
+	 * @since Oct 18, 2026
+	 */
+	public long export() throws IOException, ParseException
+	{
+		final long start = System.nanoTime();
+		final List<Date> dates = m_Reader.getDates();
+		checkArgument(!dates.isEmpty(), "No timesteps in %s",
+				m_Reader.getFilePath());
+		final GIOAvailability availability = m_Reader.getAvailability();
+		final int sizeT = dates.size();
+		final int sizeY = availability.getRowsSize();
+		final int sizeX = availability.getColsSize();
+
+		final ChronoUnit timeUnit = SFWMMGridMetadata.getTimeUnit(dates);
+		final int[] timeValues = SFWMMGridMetadata.getDateIndexes(dates,
+				timeUnit);
+
+		/**
+		 * Dimensions: time (record), y, x
+		 */
+		final String[] dimNames = { SFWMMGridIOSP.TIME_VAR_NAME,
+				SFWMMGridIOSP.Y_VAR_NAME, SFWMMGridIOSP.X_VAR_NAME };
+		final int[] dimLengths = { 0, sizeY, sizeX };
+
+		final NCVariable tVariable = new NCVariable(dimNames[0], NC_INT,
+				Integer.BYTES, 0)
+						.add(SFWMMGridIOSP.LONG_NAME, "time step")
+						.add(SFWMMGridIOSP.COORDINATE_AXIS_TYPE, "Time")
+						.add(SFWMMGridIOSP.AXIS, "t")
+						.add(SFWMMGridIOSP.UNITS,
+								SFWMMGridMetadata.getTimeUnits(timeUnit,
+										dates.get(0)))
+						.add(SFWMMGridIOSP.CHUNK_SIZES, new int[] { sizeT });
+		final NCVariable yVariable = new NCVariable(dimNames[1], NC_DOUBLE,
+				sizeY * Double.BYTES, 1)
+						.add(SFWMMGridIOSP.LONG_NAME,
+								"y coordinate of projection")
+						.add(SFWMMGridIOSP.STANDARD_NAME,
+								"projection_y_coordinate")
+						.add(SFWMMGridIOSP.COORDINATE_AXIS_TYPE, "GeoY")
+						.add(SFWMMGridIOSP.AXIS, SFWMMGridIOSP.Y_VAR_NAME)
+						.add(SFWMMGridIOSP.UNITS, "m")
+						.add(SFWMMGridIOSP.CHUNK_SIZES, new int[] { sizeY });
+		final NCVariable xVariable = new NCVariable(dimNames[2], NC_DOUBLE,
+				sizeX * Double.BYTES, 2)
+						.add(SFWMMGridIOSP.LONG_NAME,
+								"x coordinate of projection")
+						.add(SFWMMGridIOSP.STANDARD_NAME,
+								"projection_x_coordinate")
+						.add(SFWMMGridIOSP.COORDINATE_AXIS_TYPE, "GeoX")
+						.add(SFWMMGridIOSP.AXIS, SFWMMGridIOSP.X_VAR_NAME)
+						.add(SFWMMGridIOSP.UNITS, "m")
+						.add(SFWMMGridIOSP.CHUNK_SIZES, new int[] { sizeX });
+		final NCVariable crsVariable = new NCVariable(PROJ_VAR_NAME, NC_INT,
+				Integer.BYTES).add("_CoordinateAxisTypes", "GeoY GeoX")
+						.add("grid_mapping_name", PROJ_VAR_NAME)
+						.add("longitude_of_central_meridian",
+								new double[] { -81.0 })
+						.add("latitude_of_projection_origin",
+								new double[] { 0.0 })
+						.add("scale_factor_at_central_meridian",
+								new double[] { 0.9996 })
+						.add("earth_radius", new double[] { 6371229.0 })
+						.add("false_easting", new double[] { 500000.0 })
+						.add("false_northing", new double[] { 0.0 })
+						.add("semi_major_axis", new double[] { 6378137.0 })
+						.add("semi_minor_axis",
+								new double[] { 6356752.314140356 });
+		final String coordinates = String.join(" ", dimNames);
+		final NCVariable dataVariable = new NCVariable(m_VariableName,
+				NC_FLOAT, sizeY * sizeX * Float.BYTES, 0, 1, 2)
+						.add(SFWMMGridIOSP.LONG_NAME, m_VariableName)
+						.add(SFWMMGridIOSP.UNITS, "")
+						.add("coordinates", coordinates)
+						.add("_FillValue", new float[] {
+								m_Reader.getNoDataValue().floatValue() })
+						.add("esri_pe_string", SFWMMGridMetadata.WKT)
+						.add("grid_mapping", PROJ_VAR_NAME);
+		final List<NCVariable> variables = Lists.newArrayList(tVariable,
+				yVariable, xVariable, crsVariable, dataVariable);
+		final List<NCAttribute> globalAttributes = createGlobalAttributes();
+
+		/**
+		 * The header size does not depend on the data offsets, so measure it
+		 * first, then lay out the non-record variables followed by the records
+		 */
+		final int headerSize = writeHeader(sizeT, dimNames, dimLengths,
+				variables, globalAttributes).length;
+		yVariable.m_Begin = headerSize;
+		xVariable.m_Begin = yVariable.m_Begin + yVariable.m_VSize;
+		crsVariable.m_Begin = xVariable.m_Begin + xVariable.m_VSize;
+		tVariable.m_Begin = crsVariable.m_Begin + crsVariable.m_VSize;
+		dataVariable.m_Begin = tVariable.m_Begin + tVariable.m_VSize;
+		final byte[] header = writeHeader(sizeT, dimNames, dimLengths,
+				variables, globalAttributes);
+
+		/**
+		 * Map each output cell, north to south, to its node, or -1 if there
+		 * is no node for the cell
+		 */
+		final int[] cellNodes = new int[sizeY * sizeX];
+		for (int j = 0; j < sizeY; j++)
+		{
+			final int row = sizeY - 1 - j;
+			for (int col = 0; col < sizeX; col++)
+			{
+				cellNodes[j * sizeX + col] = availability.getNodeIndex(row,
+						col);
+			}
+		}
+		final float noData = m_Reader.getNoDataValue().floatValue();
+		final float[] grid = new float[cellNodes.length];
+
+		long bytes = 0;
+		m_Buffer = ByteBuffer.allocateDirect(m_BufferSize)
+				.order(ByteOrder.BIG_ENDIAN);
+		log.debug(String.format("Export %s to %s", m_Reader.getFilePath(),
+				m_OutputFilePath));
+		try (FileChannel channel = FileChannel.open(
+				Paths.get(m_OutputFilePath), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			m_Channel = channel;
+			putBytes(header);
+			for (final double value : SFWMMGridMetadata
+					.getYCoordinates(sizeY))
+			{
+				ensureRemaining(Double.BYTES);
+				m_Buffer.putDouble(value);
+			}
+			for (final double value : SFWMMGridMetadata
+					.getXCoordinates(sizeX))
+			{
+				ensureRemaining(Double.BYTES);
+				m_Buffer.putDouble(value);
+			}
+			ensureRemaining(Integer.BYTES);
+			m_Buffer.putInt(0);
+
+			/**
+			 * One record per timestep: the time value, then the grid
+			 */
+			m_Reader.forEachTimestep(Range.all(),
+					(p_DateIndex, p_Date, p_Nodes) -> {
+						for (int cell = 0; cell < grid.length; cell++)
+						{
+							final int node = cellNodes[cell];
+							grid[cell] = node < 0 ? noData : p_Nodes[node];
+						}
+						ensureRemaining(Integer.BYTES);
+						m_Buffer.putInt(timeValues[p_DateIndex]);
+						putFloats(grid);
+					});
+			flush();
+			bytes = channel.size();
+		}
+		finally
+		{
+			m_Channel = null;
+			m_Buffer = null;
+		}
+
+		final double seconds = (System.nanoTime() - start) / 1e9;
+		log.info(String.format(
+				"Exported %s timesteps to %s: %s bytes, %.1f MB/s", sizeT,
+				m_OutputFilePath, bytes, bytes / 1e6 / Math.max(seconds, 1e-9)));
+		return bytes;
+	}
+
+	/**
+	 * Ensure the buffer has room for the provided number of bytes, writing its
+	 * contents out if needed
+	 *
+	 * @param p_Count
+	 *            the number of bytes needed
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	private void ensureRemaining(final int p_Count) throws IOException
+	{
+		if (m_Buffer.remaining() < p_Count)
+		{
+			flush();
+		}
+	}
+
+	/**
+	 * Write any buffered bytes to the file
+	 *
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	private void flush() throws IOException
+	{
+		m_Buffer.flip();
+		while (m_Buffer.hasRemaining())
+		{
+			m_Channel.write(m_Buffer);
+		}
+		m_Buffer.clear();
+	}
+
+	/**
+	 * Get the path of the NetCDF file to create
+	 *
+	 * @return the output file path
+	 * @since Oct 18, 2026
+	 */
+	public String getOutputFilePath()
+	{
+		return m_OutputFilePath;
+	}
+
+	/**
+	 * Get the name of the data variable
+	 *
+	 * @return the data variable name
+	 * @since Oct 18, 2026
+	 */
+	public String getVariableName()
+	{
+		return m_VariableName;
+	}
+
+	/**
+	 * Put bytes, flushing as needed
+	 *
+	 * @param p_Bytes
+	 *            the bytes
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	private void putBytes(final byte[] p_Bytes) throws IOException
+	{
+		int offset = 0;
+		while (offset < p_Bytes.length)
+		{
+			if (!m_Buffer.hasRemaining())
+			{
+				flush();
+			}
+			final int count = Math.min(p_Bytes.length - offset,
+					m_Buffer.remaining());
+			m_Buffer.put(p_Bytes, offset, count);
+			offset += count;
+		}
+	}
+
+	/**
+	 * Put floats, flushing as needed
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	private void putFloats(final float[] p_Values) throws IOException
+	{
+		int offset = 0;
+		while (offset < p_Values.length)
+		{
+			if (m_Buffer.remaining() < Float.BYTES)
+			{
+				flush();
+			}
+			final int count = Math.min(p_Values.length - offset,
+					m_Buffer.remaining() / Float.BYTES);
+			m_Buffer.asFloatBuffer().put(p_Values, offset, count);
+			m_Buffer.position(m_Buffer.position() + count * Float.BYTES);
+			offset += count;
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("input", m_Reader.getFilePath())
+				.add("output", m_OutputFilePath)
+				.add("variable", m_VariableName).toString();
+	}
+}
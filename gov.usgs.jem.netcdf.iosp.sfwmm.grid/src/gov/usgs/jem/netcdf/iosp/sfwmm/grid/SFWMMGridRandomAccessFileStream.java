@@ -0,0 +1,221 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import gov.usgs.jem.sfwmm.grid.SeekableDataFileInputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import ucar.unidata.io.RandomAccessFile;
+
+/**
+ * Adapts the CDM {@link RandomAccessFile} handed to {@link SFWMMGridIOSP} as a
+ * big-endian {@link SeekableDataFileInputStream}, so that the
+ * {@link gov.usgs.jem.sfwmm.grid.GIOReader} reads through the buffer and file
+ * handle managed by NetCDF-Java (and its file cache) rather than opening the
+ * file a second time.
+ *
+ * The {@link RandomAccessFile} belongs to the IOSP; {@link #close()} leaves it
+ * open so that its lifecycle stays with NetCDF-Java.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+final class SFWMMGridRandomAccessFileStream
+		implements SeekableDataFileInputStream
+{
+	/**
+	 * The wrapped file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final RandomAccessFile m_RAF;
+
+	/**
+	 * Wrap the provided file, switching it to big-endian
+	 *
+	 * @param p_RAF
+	 *            the open file
+	 * @since Oct 18, 2026
+	 */
+	SFWMMGridRandomAccessFileStream(final RandomAccessFile p_RAF)
+	{
+		m_RAF = checkNotNull(p_RAF, "Random access file required.");
+		m_RAF.order(ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Leaves the wrapped {@link RandomAccessFile} open; it is closed by
+	 * {@link SFWMMGridIOSP#close()}
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		/** Nothing for now */
+	}
+
+	@Override
+	public ByteOrder getByteOrder()
+	{
+		return ByteOrder.BIG_ENDIAN;
+	}
+
+	@Override
+	public String getFilePath()
+	{
+		return m_RAF.getLocation();
+	}
+
+	@Override
+	public long getLength() throws IOException
+	{
+		return m_RAF.length();
+	}
+
+	@Override
+	public long getPosition()
+	{
+		return m_RAF.getFilePointer();
+	}
+
+	@Override
+	public boolean readBoolean() throws IOException
+	{
+		return m_RAF.readBoolean();
+	}
+
+	@Override
+	public byte readByte() throws IOException
+	{
+		return m_RAF.readByte();
+	}
+
+	@Override
+	public char readChar() throws IOException
+	{
+		return m_RAF.readChar();
+	}
+
+	@Override
+	public char[] readCharsAsAscii(final int p_Count) throws IOException
+	{
+		final byte[] bytes = new byte[p_Count];
+		m_RAF.readFully(bytes);
+		final char[] chars = new char[p_Count];
+		for (int i = 0; i < p_Count; i++)
+		{
+			chars[i] = (char) (bytes[i] & 0xff);
+		}
+		return chars;
+	}
+
+	@Override
+	public double readDouble() throws IOException
+	{
+		return m_RAF.readDouble();
+	}
+
+	@Override
+	public float readFloat() throws IOException
+	{
+		return m_RAF.readFloat();
+	}
+
+	@Override
+	public void readFully(final byte[] p_ByteBuffer) throws IOException
+	{
+		m_RAF.readFully(p_ByteBuffer);
+	}
+
+	@Override
+	public void readFully(final byte[] p_ByteBuffer, final int p_Offset,
+			final int p_Length) throws IOException
+	{
+		m_RAF.readFully(p_ByteBuffer, p_Offset, p_Length);
+	}
+
+	@Override
+	public int readInt() throws IOException
+	{
+		return m_RAF.readInt();
+	}
+
+	@Override
+	public String readLine() throws IOException
+	{
+		return m_RAF.readLine();
+	}
+
+	@Override
+	public long readLong() throws IOException
+	{
+		return m_RAF.readLong();
+	}
+
+	@Override
+	public short readShort() throws IOException
+	{
+		return m_RAF.readShort();
+	}
+
+	@Override
+	public int readUInt32() throws IOException
+	{
+		return m_RAF.readInt();
+	}
+
+	@Override
+	public int readUnsignedByte() throws IOException
+	{
+		return m_RAF.readUnsignedByte();
+	}
+
+	@Override
+	public int readUnsignedShort() throws IOException
+	{
+		return m_RAF.readUnsignedShort();
+	}
+
+	@Override
+	public String readUTF() throws IOException
+	{
+		return m_RAF.readUTF();
+	}
+
+	/**
+	 * Seeks directly within the buffered file, without reopening it
+	 */
+	@Override
+	public int seek(final int p_Position) throws IOException
+	{
+		m_RAF.seek(p_Position);
+		return p_Position;
+	}
+
+	@Override
+	public int skipBytes(final int p_NumBytes) throws IOException
+	{
+		return m_RAF.skipBytes(p_NumBytes);
+	}
+
+	/**
+	 * A {@link RandomAccessFile} skips in one call, up to the end of the file
+	 */
+	@Override
+	public int skipBytesAggressive(final int p_Count) throws IOException
+	{
+		final long remaining = Math.max(0L,
+				m_RAF.length() - m_RAF.getFilePointer());
+		final int count = (int) Math.min(p_Count, remaining);
+		m_RAF.seek(m_RAF.getFilePointer() + count);
+		return count;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("file", m_RAF.getLocation())
+				.add("position", m_RAF.getFilePointer()).toString();
+	}
+}
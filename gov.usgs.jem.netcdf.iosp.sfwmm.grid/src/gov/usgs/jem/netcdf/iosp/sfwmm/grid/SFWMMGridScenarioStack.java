@@ -0,0 +1,428 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import gov.usgs.jem.sfwmm.grid.GIOHeader;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import ucar.ma2.Array;
+import ucar.ma2.DataType;
+import ucar.ma2.Section;
+
+/**
+ * Stacks SFWMM GridIO files of compatible scenarios, which share a grid and a
+ * timeline, as one 4-D variable with dimensions {@value #SCENARIO_DIM_NAME},
+ * {@value SFWMMGridIOSP#TIME_VAR_NAME}, {@value SFWMMGridIOSP#Y_VAR_NAME} and
+ * {@value SFWMMGridIOSP#X_VAR_NAME}, in the layout that {@link SFWMMGridIOSP}
+ * uses for each scenario.
+ *
+ * A read fans out to the {@link GIOReader} of each scenario in the section on
+ * a bounded pool of worker threads. Each reader fills its own slice of the
+ * result array directly, so the scenarios are assembled without intermediate
+ * copies. Readers are not shared between threads, but the stack itself is not
+ * thread-safe.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class SFWMMGridScenarioStack implements Closeable
+{
+	/**
+	 * Builds new instances of {@link SFWMMGridScenarioStack}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withFilePaths(Collection)
+		 */
+		private List<String>	m_bFilePaths;
+
+		/**
+		 * @see #withThreads(int)
+		 */
+		private int				m_bThreads;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bFilePaths = Lists.newArrayList();
+			m_bThreads = Runtime.getRuntime().availableProcessors();
+		}
+
+		/**
+		 * Open the scenarios and validate that they share a grid and timeline
+		 *
+		 * @return {@link SFWMMGridScenarioStack} instance
+		 * @throws IOException
+		 *             if a scenario could not be opened
+		 * @throws ParseException
+		 *             problem parsing dates
+		 * @throws IllegalArgumentException
+		 *             if the scenarios are not compatible
+		 * @since Oct 18, 2026
+		 */
+		public SFWMMGridScenarioStack build() throws IOException, ParseException
+		{
+			checkArgument(!m_bFilePaths.isEmpty(),
+					"At least one file path required.");
+			checkArgument(m_bThreads > 0, "Thread count must be positive.");
+
+			final List<GIOReader> readers = Lists.newArrayList();
+			try
+			{
+				for (final String filePath : m_bFilePaths)
+				{
+					readers.add(GIOReader.open(filePath));
+				}
+				final GIOReader first = readers.get(0);
+				final GIOHeader header = first.getHeader();
+				final List<Date> dates = first.getDates();
+				for (final GIOReader reader : readers)
+				{
+					final GIOHeader other = reader.getHeader();
+					checkArgument(
+							header.getRowsSize() == other.getRowsSize()
+									&& header.getColsSize() == other
+											.getColsSize()
+									&& header.getNodesSize() == other
+											.getNodesSize()
+									&& first.getAvailability()
+											.equals(reader.getAvailability()),
+							"Grid of %s differs from %s", reader.getFilePath(),
+							first.getFilePath());
+					checkArgument(dates.equals(reader.getDates()),
+							"Timeline of %s differs from %s",
+							reader.getFilePath(), first.getFilePath());
+				}
+				return new SFWMMGridScenarioStack(this, readers, dates);
+			}
+			catch (final IOException | ParseException | RuntimeException e)
+			{
+				for (final GIOReader reader : readers)
+				{
+					reader.close();
+				}
+				throw e;
+			}
+		}
+
+		/**
+		 * Set the scenarios
+		 *
+		 * @param p_FilePaths
+		 *            paths to the SFWMM GridIO files, one per scenario
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withFilePaths(final Collection<String> p_FilePaths)
+		{
+			m_bFilePaths = Lists.newArrayList(
+					checkNotNull(p_FilePaths, "File paths required."));
+			return this;
+		}
+
+		/**
+		 * Set the most scenarios read at once. Defaults to the number of
+		 * available processors.
+		 *
+		 * @param p_Threads
+		 *            the number of worker threads
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThreads(final int p_Threads)
+		{
+			m_bThreads = p_Threads;
+			return this;
+		}
+	}
+
+	/**
+	 * The scenario dimension name
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final String SCENARIO_DIM_NAME = "scenario";
+
+	/**
+	 * Get a new {@link Builder}
+	 *
+	 * @return a new {@link Builder}
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * @see #getDates()
+	 * @since Oct 18, 2026
+	 */
+	private final List<Date>		m_Dates;
+
+	/**
+	 * Runs the reads of the scenarios
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final ExecutorService	m_Executor;
+
+	/**
+	 * @see #getFilePaths()
+	 * @since Oct 18, 2026
+	 */
+	private final List<String>		m_FilePaths;
+
+	/**
+	 * One reader per scenario
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final List<GIOReader>	m_Readers;
+
+	/**
+	 * Create a new stack
+	 *
+	 * @param p_Builder
+	 *            the validated builder
+	 * @param p_Readers
+	 *            the open readers, one per scenario
+	 * @param p_Dates
+	 *            the shared timeline
+	 * @since Oct 18, 2026
+	 */
+	private SFWMMGridScenarioStack(final Builder p_Builder,
+			final List<GIOReader> p_Readers, final List<Date> p_Dates)
+	{
+		m_FilePaths = ImmutableList.copyOf(p_Builder.m_bFilePaths);
+		m_Readers = ImmutableList.copyOf(p_Readers);
+		m_Dates = ImmutableList.copyOf(p_Dates);
+		m_Executor = Executors.newFixedThreadPool(
+				Math.min(p_Builder.m_bThreads, m_Readers.size()),
+				new ThreadFactoryBuilder().setDaemon(true)
+						.setNameFormat(getClass().getSimpleName() + "-%d")
+						.build());
+	}
+
+	/**
+	 * Stop the worker threads and close the scenarios
+	 *
+	 * @throws IOException
+	 *             if a scenario could not be closed
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		m_Executor.shutdownNow();
+		IOException exception = null;
+		for (final GIOReader reader : m_Readers)
+		{
+			try
+			{
+				reader.close();
+			}
+			catch (final IOException e)
+			{
+				if (exception == null)
+				{
+					exception = e;
+				}
+				else
+				{
+					exception.addSuppressed(e);
+				}
+			}
+		}
+		if (exception != null)
+		{
+			throw exception;
+		}
+	}
+
+	/**
+	 * Get the shared timeline of the scenarios
+	 *
+	 * @return the dates, in date order
+	 * @since Oct 18, 2026
+	 */
+	public List<Date> getDates()
+	{
+		return m_Dates;
+	}
+
+	/**
+	 * Get the paths of the scenarios, in scenario order
+	 *
+	 * @return the scenario file paths
+	 * @since Oct 18, 2026
+	 */
+	public List<String> getFilePaths()
+	{
+		return m_FilePaths;
+	}
+
+	/**
+	 * Get the header shared by the scenarios, that of the first scenario
+	 *
+	 * @return the header
+	 * @since Oct 18, 2026
+	 */
+	public GIOHeader getHeader()
+	{
+		return m_Readers.get(0).getHeader();
+	}
+
+	/**
+	 * Get the shape of the stacked variable
+	 *
+	 * @return the number of scenarios, timesteps, rows and columns
+	 * @since Oct 18, 2026
+	 */
+	public int[] getShape()
+	{
+		final GIOHeader header = getHeader();
+		return new int[] { m_Readers.size(), m_Dates.size(),
+				header.getRowsSize(), header.getColsSize() };
+	}
+
+	/**
+	 * Run the provided reads on the worker threads and wait for all of them
+	 *
+	 * @param p_Tasks
+	 *            the reads
+	 * @throws IOException
+	 *             problem reading from file, or if interrupted
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private void invokeAll(final List<Callable<float[]>> p_Tasks)
+			throws IOException, ParseException
+	{
+		try
+		{
+			for (final Future<float[]> future : m_Executor.invokeAll(p_Tasks))
+			{
+				future.get();
+			}
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted.", e);
+		}
+		catch (final ExecutionException e)
+		{
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			if (cause instanceof ParseException)
+			{
+				throw (ParseException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Read a section of the stacked variable: scenario, time, rows from north
+	 * to south, then columns
+	 *
+	 * @param p_Section
+	 *            the section of scenario, time, y and x indices to read,
+	 *            without strides
+	 * @return the data, {@link Float#NaN} where there are no nodes
+	 * @throws IOException
+	 *             problem reading from file, or if interrupted
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public Array read(final Section p_Section)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Section, "Section required.");
+		final int expectedRank = 4;
+		checkArgument(p_Section.getRank() == expectedRank,
+				"Invalid section rank. Expected %s but found %s.",
+				expectedRank, p_Section.getRank());
+		final int[] shape = getShape();
+		for (int i = 0; i < expectedRank; i++)
+		{
+			checkArgument(p_Section.getStride(i) == 1,
+					"Strided sections are not supported: %s", p_Section);
+			checkArgument(
+					p_Section.getOrigin(i) >= 0 && p_Section.getOrigin(i)
+							+ p_Section.getShape(i) <= shape[i],
+					"Section %s is outside of the shape of the stack",
+					p_Section);
+		}
+
+		final int sOrigin = p_Section.getOrigin(0);
+		final int tOrigin = p_Section.getOrigin(1);
+		final int yOrigin = p_Section.getOrigin(2);
+		final int xOrigin = p_Section.getOrigin(3);
+		final int sSize = p_Section.getShape(0);
+		final Range<Integer> tRange = Range.closedOpen(tOrigin,
+				tOrigin + p_Section.getShape(1));
+		/**
+		 * Rows are stored south to north
+		 */
+		final Range<Integer> yRange = Range.closed(
+				shape[2] - yOrigin - p_Section.getShape(2),
+				shape[2] - yOrigin - 1);
+		final Range<Integer> xRange = Range.closedOpen(xOrigin,
+				xOrigin + p_Section.getShape(3));
+
+		final int scenarioSize = p_Section.getShape(1) * p_Section.getShape(2)
+				* p_Section.getShape(3);
+		final float[] data = new float[sSize * scenarioSize];
+		if (data.length > 0)
+		{
+			final List<Callable<float[]>> tasks = Lists
+					.newArrayListWithCapacity(sSize);
+			for (int s = 0; s < sSize; s++)
+			{
+				final GIOReader reader = m_Readers.get(sOrigin + s);
+				final int offset = s * scenarioSize;
+				tasks.add(() -> reader.readDataReversedRowsInto(tRange, yRange,
+						xRange, data, offset));
+			}
+			invokeAll(tasks);
+		}
+		return Array.factory(DataType.FLOAT, p_Section.getShape(), data);
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("scenarios", m_Readers.size())
+				.add("dates", m_Dates.size()).toString();
+	}
+}
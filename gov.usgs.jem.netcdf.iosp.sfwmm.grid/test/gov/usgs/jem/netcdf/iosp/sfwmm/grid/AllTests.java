@@ -16,7 +16,11 @@ import org.junit.runners.Suite.SuiteClasses;
  *
  */
 @RunWith(Suite.class)
-@SuiteClasses({ SFWMMGridIOSPTest.class })
+@SuiteClasses({ SFWMMGridIOSPTest.class, SFWMMGridMetadataTest.class,
+		SFWMMGridNetCDFExporterTest.class,
+		SFWMMGridBatchConverterTest.class,
+		SFWMMGridRandomAccessFileStreamTest.class,
+		SFWMMGridAggregationTest.class, SFWMMGridScenarioStackTest.class })
 public class AllTests
 {
 	/**
@@ -0,0 +1,353 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.io.Files;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+import ucar.ma2.Array;
+import ucar.ma2.IndexIterator;
+import ucar.ma2.Section;
+
+/**
+ * Tests {@link SFWMMGridAggregation}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SFWMMGridAggregationTest
+{
+	/**
+	 * Number of timesteps of each member split from the test file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int[] MEMBER_SIZES = { 100, 200, 133 };
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = SFWMMGridAggregation.class;
+		final Class<?> testingClass = SFWMMGridAggregationTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	private SFWMMGridAggregation	m_Aggregation;
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder			m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private List<String>			m_Members;
+
+	@SuppressWarnings("javadoc")
+	private GIOReader				m_Reader;
+
+	/**
+	 * Split the test file into members, each with a copy of the header
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+		final byte[] bytes = Files.toByteArray(AllTests.getTestFile());
+		final int gridSize = 80
+				+ m_Reader.getHeader().getNodesSize() * Float.BYTES;
+		final int firstGrid = bytes.length
+				- m_Reader.getDateCount() * gridSize;
+		m_Members = Lists.newArrayList();
+		int start = firstGrid;
+		for (int i = 0; i < MEMBER_SIZES.length; i++)
+		{
+			final int end = start + MEMBER_SIZES[i] * gridSize;
+			final byte[] member = Arrays.copyOf(bytes,
+					firstGrid + end - start);
+			System.arraycopy(bytes, start, member, firstGrid, end - start);
+			final File file = new File(m_Folder.getRoot(),
+					String.format("member%s.bin", i));
+			Files.write(member, file);
+			m_Members.add(file.getAbsolutePath());
+			start = end;
+		}
+		m_Aggregation = SFWMMGridAggregation.builder()
+				.withFilePaths(m_Members).build();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Aggregation.close();
+		m_Reader.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#builder()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBuilder() throws Exception
+	{
+		Assert.assertNotNull(SFWMMGridAggregation.builder());
+		try
+		{
+			SFWMMGridAggregation.builder().build();
+			Assert.fail("Not trapping missing members.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			SFWMMGridAggregation.builder().withFilePaths(m_Members)
+					.withMaxOpenMembers(0).build();
+			Assert.fail("Not trapping no open members.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#close()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testClose() throws Exception
+	{
+		m_Aggregation.readData(Range.singleton(150), Range.all(), Range.all());
+		m_Aggregation.close();
+		m_Aggregation.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#getDateCount()}.
+	 */
+	@Test
+	public void testGetDateCount()
+	{
+		Assert.assertEquals(m_Reader.getDateCount(),
+				m_Aggregation.getDateCount());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#getDates()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetDates() throws Exception
+	{
+		Assert.assertEquals(m_Reader.getDates(), m_Aggregation.getDates());
+
+		/**
+		 * Members out of time order
+		 */
+		try (SFWMMGridAggregation reversed = SFWMMGridAggregation.builder()
+				.withFilePaths(Lists.reverse(m_Members)).build())
+		{
+			reversed.getDates();
+			Assert.fail("Not trapping members out of order.");
+		}
+		catch (final IllegalStateException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#getFilePaths()}.
+	 */
+	@Test
+	public void testGetFilePaths()
+	{
+		Assert.assertEquals(m_Members, m_Aggregation.getFilePaths());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#getHeader()}.
+	 */
+	@Test
+	public void testGetHeader()
+	{
+		Assert.assertEquals(m_Reader.getHeader().getNodesSize(),
+				m_Aggregation.getHeader().getNodesSize());
+		Assert.assertEquals(m_Reader.getHeader().getTitle(),
+				m_Aggregation.getHeader().getTitle());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#getMember(int)}.
+	 */
+	@Test
+	public void testGetMember()
+	{
+		Assert.assertEquals(0, m_Aggregation.getMember(0));
+		Assert.assertEquals(0, m_Aggregation.getMember(99));
+		Assert.assertEquals(1, m_Aggregation.getMember(100));
+		Assert.assertEquals(1, m_Aggregation.getMember(299));
+		Assert.assertEquals(2, m_Aggregation.getMember(300));
+		Assert.assertEquals(2,
+				m_Aggregation.getMember(m_Aggregation.getDateCount() - 1));
+		try
+		{
+			m_Aggregation.getMember(m_Aggregation.getDateCount());
+			Assert.fail("Not trapping date index out of bounds.");
+		}
+		catch (final IndexOutOfBoundsException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#getOpenMemberCount()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetOpenMemberCount() throws Exception
+	{
+		Assert.assertEquals(0, m_Aggregation.getOpenMemberCount());
+		m_Aggregation.getDates();
+		Assert.assertEquals(0, m_Aggregation.getOpenMemberCount());
+		m_Aggregation.readData(Range.all(), Range.all(), Range.all());
+		Assert.assertEquals(MEMBER_SIZES.length,
+				m_Aggregation.getOpenMemberCount());
+
+		/**
+		 * Reading every member through one open member
+		 */
+		try (SFWMMGridAggregation aggregation = SFWMMGridAggregation.builder()
+				.withFilePaths(m_Members).withMaxOpenMembers(1).build())
+		{
+			Assert.assertArrayEquals(
+					m_Reader.readData(Range.all(), Range.all(),
+							Range.closed(10, 30)),
+					aggregation.readData(Range.all(), Range.all(),
+							Range.closed(10, 30)),
+					0.0f);
+			Assert.assertEquals(1, aggregation.getOpenMemberCount());
+			Assert.assertEquals(m_Reader.getDates(), aggregation.getDates());
+			Assert.assertEquals(1, aggregation.getOpenMemberCount());
+			aggregation.close();
+			Assert.assertEquals(0, aggregation.getOpenMemberCount());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#read(ucar.ma2.Section)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRead() throws Exception
+	{
+		final int numRows = m_Reader.getHeader().getRowsSize();
+		final int numCols = m_Reader.getHeader().getColsSize();
+		final Array array = m_Aggregation
+				.read(new Section(new int[] { 95, 10, 5 },
+						new int[] { 10, 20, numCols - 5 }));
+		Assert.assertArrayEquals(new int[] { 10, 20, numCols - 5 },
+				array.getShape());
+		final float[] expected = m_Reader.readDataReversedRows(
+				Range.closedOpen(95, 105),
+				Range.closedOpen(numRows - 30, numRows - 10),
+				Range.atLeast(5));
+		Assert.assertEquals(expected.length, array.getSize());
+		final IndexIterator indexIterator = array.getIndexIterator();
+		for (final float value : expected)
+		{
+			Assert.assertEquals(value, indexIterator.getFloatNext(), 0.0f);
+		}
+
+		try
+		{
+			m_Aggregation.read(new Section(new int[] { 0, 0, 0 },
+					new int[] { 10, 20, 5 }, new int[] { 7, 3, 1 }));
+			Assert.fail("Not trapping strided section.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridAggregation#readData(com.google.common.collect.Range, com.google.common.collect.Range, com.google.common.collect.Range)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testReadData() throws Exception
+	{
+		for (final Range<Integer> dates : Arrays.asList(Range.closed(0, 0),
+				Range.closed(99, 100), Range.closedOpen(50, 350),
+				Range.atLeast(299), Range.<Integer> all()))
+		{
+			Assert.assertArrayEquals(dates.toString(),
+					m_Reader.readData(dates, Range.all(), Range.closed(10, 30)),
+					m_Aggregation.readData(dates, Range.all(),
+							Range.closed(10, 30)),
+					0.0f);
+		}
+		Assert.assertEquals(0, m_Aggregation
+				.readData(Range.atLeast(1000), Range.all(), Range.all()).length);
+	}
+}
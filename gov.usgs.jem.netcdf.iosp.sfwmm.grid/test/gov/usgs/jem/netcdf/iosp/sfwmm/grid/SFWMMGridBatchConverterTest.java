@@ -0,0 +1,251 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import com.google.common.io.Files;
+import gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridBatchConverter.Result;
+import gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridBatchConverter.Target;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link SFWMMGridBatchConverter}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SFWMMGridBatchConverterTest
+{
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = SFWMMGridBatchConverter.class;
+		final Class<?> testingClass = SFWMMGridBatchConverterTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder	m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private File			m_Input;
+
+	@SuppressWarnings("javadoc")
+	private File			m_Output;
+
+	/**
+	 * Create an input directory with one file at the top level and a smaller
+	 * one in a subdirectory
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Input = m_Folder.newFolder("input");
+		m_Output = m_Folder.newFolder("output");
+		final File sub = new File(m_Input, "sub");
+		Assert.assertTrue(sub.mkdir());
+		Files.copy(AllTests.getTestFile(), new File(m_Input, "a.bin"));
+		Files.write(Files.toByteArray(AllTests.getTestFile()),
+				new File(sub, "b.bin"));
+		Files.write(new byte[] { 0 }, new File(m_Input, "c.txt"));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridBatchConverter#builder()}.
+	 */
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(SFWMMGridBatchConverter.builder());
+		Assert.assertNotNull(SFWMMGridBatchConverter.builder()
+				.withInputDirectory(m_Input.getAbsolutePath()).build());
+		try
+		{
+			SFWMMGridBatchConverter.builder()
+					.withInputDirectory(m_Input.getAbsolutePath())
+					.withTarget(Target.GRIDIO).build();
+			Assert.fail("Not trapping GridIO output over its input.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			SFWMMGridBatchConverter.builder()
+					.withInputDirectory(m_Input.getAbsolutePath())
+					.withThreads(0).build();
+			Assert.fail("Not trapping bad thread count.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridBatchConverter#convert()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testConvert() throws Exception
+	{
+		final SFWMMGridBatchConverter converter = SFWMMGridBatchConverter
+				.builder().withInputDirectory(m_Input.getAbsolutePath())
+				.withOutputDirectory(m_Output.getAbsolutePath())
+				.withTarget(Target.GRIDIO).withRecursive(true).withThreads(2)
+				.build();
+		List<Result> results = converter.convert();
+		Assert.assertEquals(2, results.size());
+		for (final Result result : results)
+		{
+			Assert.assertTrue(result.isConverted());
+			Assert.assertTrue(result.getMBPerSecond() > 0.0);
+			Assert.assertEquals(result.getOutputPath().toFile().length(),
+					result.getOutputBytes());
+			Assert.assertTrue(new File(result.getOutputPath().toString()
+					+ SFWMMGridBatchConverter.DONE_EXTENSION).exists());
+			Assert.assertFalse(new File(result.getOutputPath().toString()
+					+ SFWMMGridBatchConverter.PART_EXTENSION).exists());
+			try (GIOReader expected = GIOReader
+					.open(result.getInputPath().toString());
+					GIOReader actual = GIOReader
+							.open(result.getOutputPath().toString()))
+			{
+				Assert.assertEquals(expected.getDates(), actual.getDates());
+				final float[] nodes = new float[expected.getHeader()
+						.getNodesSize()];
+				Assert.assertArrayEquals(
+						expected.readNodes(0, nodes).clone(),
+						actual.readNodes(0, nodes), 0.0f);
+			}
+		}
+
+		/**
+		 * Completed files are skipped when resuming, unless the input changed
+		 */
+		results = converter.convert();
+		Assert.assertTrue(results.stream().allMatch(Result::isSkipped));
+		final File changed = new File(m_Input, "a.bin");
+		Assert.assertTrue(
+				changed.setLastModified(changed.lastModified() - 60000L));
+		results = converter.convert();
+		Assert.assertEquals(1,
+				results.stream().filter(Result::isConverted).count());
+
+		/**
+		 * A file that fails does not stop the others
+		 */
+		Files.write(new byte[100], new File(m_Input, "bad.bin"));
+		results = SFWMMGridBatchConverter.builder()
+				.withInputDirectory(m_Input.getAbsolutePath())
+				.withOutputDirectory(m_Output.getAbsolutePath())
+				.withTarget(Target.GRIDIO).withResume(false).build()
+				.convert();
+		Assert.assertEquals(2, results.size());
+		Assert.assertEquals(1,
+				results.stream().filter(Result::isConverted).count());
+		Assert.assertEquals(1,
+				results.stream().filter(r -> r.getError() != null).count());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridBatchConverter#discover()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDiscover() throws Exception
+	{
+		List<Path> paths = SFWMMGridBatchConverter.builder()
+				.withInputDirectory(m_Input.getAbsolutePath()).build()
+				.discover();
+		Assert.assertEquals(1, paths.size());
+		Assert.assertEquals("a.bin", paths.get(0).getFileName().toString());
+
+		/**
+		 * Largest first
+		 */
+		Files.write(new byte[10], new File(m_Input, "small.bin"));
+		paths = SFWMMGridBatchConverter.builder()
+				.withInputDirectory(m_Input.getAbsolutePath())
+				.withRecursive(true).build().discover();
+		Assert.assertEquals(3, paths.size());
+		Assert.assertEquals("small.bin",
+				paths.get(2).getFileName().toString());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridBatchConverter#getOutputPath(java.nio.file.Path)}.
+	 */
+	@Test
+	public void testGetOutputPath()
+	{
+		final SFWMMGridBatchConverter converter = SFWMMGridBatchConverter
+				.builder().withInputDirectory(m_Input.getAbsolutePath())
+				.withOutputDirectory(m_Output.getAbsolutePath()).build();
+		final File input = new File(new File(m_Input, "sub"), "b.bin");
+		Assert.assertEquals(
+				new File(new File(m_Output, "sub"), "b.nc").toPath()
+						.toAbsolutePath().normalize(),
+				converter.getOutputPath(input.toPath()));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridBatchConverter#main(java.lang.String[])}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testMain() throws Exception
+	{
+		SFWMMGridBatchConverter.main(new String[] { m_Input.getAbsolutePath(),
+				m_Output.getAbsolutePath(), "-target", "gridio", "-threads",
+				"1" });
+		Assert.assertTrue(new File(m_Output, "a.bin").exists());
+		Assert.assertFalse(new File(m_Output, "sub").exists());
+		try
+		{
+			SFWMMGridBatchConverter.main(new String[0]);
+			Assert.fail("Not trapping missing input directory.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+}
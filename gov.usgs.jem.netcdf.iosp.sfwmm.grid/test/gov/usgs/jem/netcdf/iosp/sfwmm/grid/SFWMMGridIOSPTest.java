@@ -5,8 +5,18 @@ import static org.junit.Assert.fail;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.io.Files;
+import gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridIOSP.OpenProfile;
+import gov.usgs.jem.sfwmm.grid.GIOAggregator;
+import gov.usgs.jem.sfwmm.grid.GIOAggregator.Aggregate;
+import gov.usgs.jem.sfwmm.grid.GIOAggregator.Period;
+import gov.usgs.jem.sfwmm.grid.GIOAvailability;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
 import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Set;
@@ -16,8 +26,10 @@ import org.junit.BeforeClass;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
+import ucar.ma2.Array;
 import ucar.ma2.IndexIterator;
 import ucar.ma2.InvalidRangeException;
+import ucar.ma2.Section;
 import ucar.nc2.Attribute;
 import ucar.nc2.Dimension;
 import ucar.nc2.NetcdfFile;
@@ -244,6 +256,29 @@ public class SFWMMGridIOSPTest
 			e.printStackTrace();
 			fail(message);
 		}
+
+		/**
+		 * Other files sharing the extension are rejected
+		 */
+		try
+		{
+			final File file = File.createTempFile("notGridIO", ".bin");
+			file.deleteOnExit();
+			final byte[] bytes = new byte[(int) AllTests.getTestFile()
+					.length()];
+			java.util.Arrays.fill(bytes, (byte) 'x');
+			Files.write(bytes, file);
+			try (RandomAccessFile raf = new RandomAccessFile(
+					file.getAbsolutePath(), "r"))
+			{
+				Assert.assertEquals(false, iosp.isValidFile(raf));
+			}
+		}
+		catch (final IOException e)
+		{
+			e.printStackTrace();
+			fail("Unable to test if a non-GridIO file is valid.");
+		}
 	}
 
 	/**
@@ -275,6 +310,10 @@ public class SFWMMGridIOSPTest
 					if (coordVar.equals(SFWMMGridIOSP.TIME_VAR_NAME))
 					{
 						Assert.assertEquals(NUM_DATES, d.getLength());
+						Assert.assertEquals(
+								"days since 1965-01-01T00:00:00 +0000",
+								v.findAttribute(SFWMMGridIOSP.UNITS)
+										.getStringValue());
 					}
 					else if (coordVar.equals(SFWMMGridIOSP.Y_VAR_NAME))
 					{
@@ -325,6 +364,22 @@ public class SFWMMGridIOSPTest
 				}
 
 				Assert.assertNotNull(nc.findVariable("transverse_mercator"));
+
+				/**
+				 * Data variable is chunked by timestep
+				 */
+				final Variable dataVariable = nc.findVariable(Files
+						.getNameWithoutExtension(
+								AllTests.getTestFile().getName()));
+				final Attribute chunkSizes = dataVariable
+						.findAttribute(SFWMMGridIOSP.CHUNK_SIZES);
+				Assert.assertNotNull(chunkSizes);
+				Assert.assertEquals(3, chunkSizes.getLength());
+				Assert.assertEquals(1, chunkSizes.getNumericValue(0).intValue());
+				Assert.assertEquals(NUM_ROWS,
+						chunkSizes.getNumericValue(1).intValue());
+				Assert.assertEquals(NUM_COLS,
+						chunkSizes.getNumericValue(2).intValue());
 			}
 		}
 		catch (final IOException e)
@@ -338,10 +393,11 @@ public class SFWMMGridIOSPTest
 	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridIOSP#readData(ucar.nc2.Variable, ucar.ma2.Section)}.
 	 *
 	 * @throws IOException
+	 * @throws InvalidRangeException
 	 */
 	@SuppressWarnings("static-method")
 	@Test
-	public void testReadData() throws IOException
+	public void testReadData() throws IOException, InvalidRangeException
 	{
 		try (NetcdfFile nc = NetcdfFiles
 				.open(AllTests.getTestFile().getAbsolutePath()))
@@ -363,6 +419,29 @@ public class SFWMMGridIOSPTest
 					summaryStatistics.getCount() / NUM_DATES);
 			Assert.assertEquals(8.634088f, summaryStatistics.getAverage(),
 					0.000001);
+
+			/**
+			 * Derived static variables
+			 */
+			final Array mask = nc.findVariable(SFWMMGridIOSP.MASK_VAR_NAME)
+					.read();
+			Assert.assertArrayEquals(new int[] { NUM_ROWS, NUM_COLS },
+					mask.getShape());
+			int maskCount = 0;
+			final IndexIterator maskIterator = mask.getIndexIterator();
+			while (maskIterator.hasNext())
+			{
+				maskCount += maskIterator.getByteNext();
+			}
+			Assert.assertEquals(NUM_NODES, maskCount);
+
+			final Array area = nc
+					.findVariable(SFWMMGridIOSP.CELL_AREA_VAR_NAME)
+					.read(new int[] { 0, 0 }, new int[] { 2, 2 });
+			Assert.assertEquals(
+					SFWMMGridMetadata.CELL_SIZE_M
+							* SFWMMGridMetadata.CELL_SIZE_M,
+					area.getFloat(3), 0.0f);
 		}
 	}
 
@@ -383,8 +462,7 @@ public class SFWMMGridIOSPTest
 			final Variable variable = nc.findVariable(Files
 					.getNameWithoutExtension(AllTests.getTestFile().getName()));
 			final IndexIterator indexIterator = variable
-					.read(new int[] { 1, NUM_ROWS - 1, 23 },
-							new int[] { 1, 1, 1 })
+					.read(new int[] { 1, 0, 23 }, new int[] { 1, 1, 1 })
 					.getIndexIterator();
 			final List<Float> values = Lists.newArrayList();
 			while (indexIterator.hasNext())
@@ -398,7 +476,170 @@ public class SFWMMGridIOSPTest
 			Assert.assertEquals(1, summaryStatistics.getCount());
 			Assert.assertEquals(13.79547f, summaryStatistics.getAverage(),
 					0.00001);
+
+			/**
+			 * Sections, strided or not, large or small enough to be read by
+			 * row spans (such as the time series of a window), match the same
+			 * cells of the whole variable
+			 */
+			final Array all = variable.read();
+			for (final Section section : new Section[] {
+					new Section(new int[] { 5, 10, 3 }, new int[] { 4, 20, 18 }),
+					new Section(new int[] { 2, 1, 0 }, new int[] { 3, 21, 21 },
+							new int[] { 7, 3, 2 }),
+					new Section(new int[] { 0, 30, 10 },
+							new int[] { NUM_DATES, 3, 4 }),
+					new Section(new int[] { 1, 2, 5 }, new int[] { 50, 3, 3 },
+							new int[] { 4, 2, 3 }),
+					new Section(new int[] { 0, 0, 0 },
+							new int[] { NUM_DATES, 0, 0 }) })
+			{
+				final IndexIterator expected = all.section(section.getRanges())
+						.getIndexIterator();
+				final IndexIterator actual = variable.read(section)
+						.getIndexIterator();
+				while (expected.hasNext())
+				{
+					Assert.assertEquals(String.valueOf(section),
+							expected.getFloatNext(), actual.getFloatNext(),
+							0.0f);
+				}
+				Assert.assertFalse(actual.hasNext());
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridIOSP#readToByteChannel(ucar.nc2.Variable, ucar.ma2.Section, java.nio.channels.WritableByteChannel)}.
+	 *
+	 * @throws IOException
+	 * @throws InvalidRangeException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testReadToByteChannel()
+			throws IOException, InvalidRangeException
+	{
+		try (RandomAccessFile raf = new RandomAccessFile(
+				AllTests.getTestFile().getAbsolutePath(), "r"))
+		{
+			final SFWMMGridIOSP iosp = new SFWMMGridIOSP();
+			try (final NetcdfFile nc = createNetcdfFile(iosp, raf))
+			{
+				final Variable variable = nc.findVariable(Files
+						.getNameWithoutExtension(
+								AllTests.getTestFile().getName()));
+				for (final Section section : new Section[] { null,
+						new Section(new int[] { 5, 10, 3 },
+								new int[] { 4, 20, 18 }),
+						new Section(new int[] { 0, 30, 10 },
+								new int[] { NUM_DATES, 3, 4 }),
+						new Section(new int[] { 0, 0, 0 },
+								new int[] { 3, NUM_ROWS, NUM_COLS },
+								new int[] { 2, 1, 1 }) })
+				{
+					final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+					try (DataOutputStream out = new DataOutputStream(expected))
+					{
+						final IndexIterator iterator = iosp
+								.readData(variable, section)
+								.getIndexIterator();
+						while (iterator.hasNext())
+						{
+							out.writeFloat(iterator.getFloatNext());
+						}
+					}
+
+					final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+					final long count = iosp.readToByteChannel(variable,
+							section, Channels.newChannel(actual));
+					Assert.assertEquals(expected.size(), count);
+					Assert.assertArrayEquals(String.valueOf(section),
+							expected.toByteArray(), actual.toByteArray());
+				}
+			}
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridIOSP#sendIospMessage(java.lang.Object)}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testSendIospMessage() throws Exception
+	{
+		try (RandomAccessFile raf = new RandomAccessFile(
+				AllTests.getTestFile().getAbsolutePath(), "r"))
+		{
+			final SFWMMGridIOSP iosp = new SFWMMGridIOSP();
+			Assert.assertEquals(Boolean.TRUE,
+					iosp.sendIospMessage(Period.YEAR));
+			try (final NetcdfFile nc = createNetcdfFile(iosp, raf);
+					GIOReader reader = GIOReader
+							.open(AllTests.getTestFile().getAbsolutePath()))
+			{
+				final List<Aggregate> aggregates = GIOAggregator.builder()
+						.withReader(reader).withPeriod(Period.YEAR).build()
+						.aggregate();
+				final Dimension dimension = nc.findDimension("time_year");
+				Assert.assertNotNull(dimension);
+				Assert.assertEquals(aggregates.size(), dimension.getLength());
+				Assert.assertNotNull(nc.findVariable("time_year"));
+				Assert.assertNull(nc.findDimension("time_month"));
+
+				final String name = Files.getNameWithoutExtension(
+						AllTests.getTestFile().getName());
+				final Variable mean = nc.findVariable(name + "_year_mean");
+				Assert.assertNotNull(mean);
+				Assert.assertEquals("time_year: mean", mean
+						.findAttribute("cell_methods").getStringValue());
+
+				/**
+				 * North to south, like the data variable
+				 */
+				final int period = 1;
+				final Array array = mean.read(new int[] { period, 0, 0 },
+						new int[] { 1, NUM_ROWS, NUM_COLS });
+				final GIOAvailability availability = reader.getAvailability();
+				final float[] expected = aggregates.get(period).getMean();
+				for (int y = 0; y < NUM_ROWS; y++)
+				{
+					for (int x = 0; x < NUM_COLS; x++)
+					{
+						final int node = availability
+								.getNodeIndex(NUM_ROWS - 1 - y, x);
+						Assert.assertEquals(
+								node < 0 ? Float.NaN : expected[node],
+								array.getFloat(y * NUM_COLS + x), 0.0f);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Deterministic headers, replayed by later opens of the file
+		 */
+		final List<List<Attribute>> globalAttributes = Lists.newArrayList();
+		for (int i = 0; i < 2; i++)
+		{
+			try (RandomAccessFile raf = new RandomAccessFile(
+					AllTests.getTestFile().getAbsolutePath(), "r"))
+			{
+				final SFWMMGridIOSP iosp = new SFWMMGridIOSP();
+				Assert.assertEquals(Boolean.TRUE, iosp.sendIospMessage(
+						Arrays.asList(OpenProfile.DETERMINISTIC, Period.YEAR)));
+				try (final NetcdfFile nc = createNetcdfFile(iosp, raf))
+				{
+					Assert.assertNull(nc.findGlobalAttribute("author"));
+					Assert.assertNotNull(nc.findDimension("time_year"));
+					globalAttributes.add(nc.getGlobalAttributes());
+				}
+			}
+		}
+		Assert.assertEquals(globalAttributes.get(0), globalAttributes.get(1));
+	}
 }
@@ -0,0 +1,175 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import com.google.common.collect.Lists;
+import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link SFWMMGridMetadata}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SFWMMGridMetadataTest
+{
+	/**
+	 * Create a list of dates, one per step of the provided calendar field
+	 *
+	 * @param p_Field
+	 *            the {@link Calendar} field to step
+	 * @param p_Count
+	 *            the number of dates
+	 * @return the dates
+	 * @since Oct 18, 2026
+	 */
+	private static List<Date> createDates(final int p_Field, final int p_Count)
+	{
+		final Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+		cal.clear();
+		cal.set(1965, Calendar.JANUARY, 1);
+		final List<Date> dates = Lists.newArrayList();
+		for (int i = 0; i < p_Count; i++)
+		{
+			dates.add(cal.getTime());
+			cal.add(p_Field, 1);
+		}
+		return dates;
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = SFWMMGridMetadata.class;
+		final Class<?> testingClass = SFWMMGridMetadataTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridMetadata#getDateIndexes(java.util.List, java.time.temporal.ChronoUnit)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetDateIndexes()
+	{
+		final List<Date> months = createDates(Calendar.MONTH, 13);
+		Assert.assertArrayEquals(new int[] { 0, 31, 59 }, SFWMMGridMetadata
+				.getDateIndexes(months.subList(0, 3), ChronoUnit.DAYS));
+		Assert.assertEquals(12, SFWMMGridMetadata.getDateIndexes(months,
+				ChronoUnit.MONTHS)[12]);
+		Assert.assertEquals(1, SFWMMGridMetadata.getDateIndexes(months,
+				ChronoUnit.YEARS)[12]);
+		Assert.assertEquals(0, SFWMMGridMetadata
+				.getDateIndexes(Lists.newArrayList(), ChronoUnit.DAYS).length);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridMetadata#getTimeStep(java.util.Collection)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetTimeStep()
+	{
+		Assert.assertEquals(ChronoUnit.HOURS, SFWMMGridMetadata
+				.getTimeStep(createDates(Calendar.HOUR_OF_DAY, 3)));
+		Assert.assertEquals(ChronoUnit.DAYS, SFWMMGridMetadata
+				.getTimeStep(createDates(Calendar.DAY_OF_MONTH, 3)));
+		Assert.assertEquals(ChronoUnit.MONTHS, SFWMMGridMetadata
+				.getTimeStep(createDates(Calendar.MONTH, 3)));
+		Assert.assertEquals(ChronoUnit.YEARS, SFWMMGridMetadata
+				.getTimeStep(createDates(Calendar.YEAR, 3)));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridMetadata#getTimeUnit(java.util.Collection)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetTimeUnit()
+	{
+		Assert.assertEquals(ChronoUnit.HOURS, SFWMMGridMetadata
+				.getTimeUnit(createDates(Calendar.HOUR_OF_DAY, 3)));
+		Assert.assertEquals(ChronoUnit.DAYS, SFWMMGridMetadata
+				.getTimeUnit(createDates(Calendar.MONTH, 3)));
+		Assert.assertEquals(ChronoUnit.DAYS, SFWMMGridMetadata
+				.getTimeUnit(createDates(Calendar.YEAR, 3)));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridMetadata#getTimeUnits(java.time.temporal.ChronoUnit, java.util.Date)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetTimeUnits()
+	{
+		Assert.assertEquals("days since 1965-01-01T00:00:00 +0000",
+				SFWMMGridMetadata.getTimeUnits(ChronoUnit.DAYS,
+						createDates(Calendar.MONTH, 1).get(0)));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridMetadata#getXCoordinates(int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetXCoordinates()
+	{
+		final double[] x = SFWMMGridMetadata.getXCoordinates(42);
+		Assert.assertEquals(42, x.length);
+		Assert.assertEquals(SFWMMGridMetadata.REF_X, x[0], 0.0);
+		Assert.assertEquals(SFWMMGridMetadata.CELL_SIZE_M, x[1] - x[0],
+				0.001);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridMetadata#getYCoordinates(int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetYCoordinates()
+	{
+		final double[] y = SFWMMGridMetadata.getYCoordinates(65);
+		Assert.assertEquals(65, y.length);
+		/**
+		 * North to south
+		 */
+		Assert.assertTrue(y[0] > y[64]);
+		Assert.assertEquals(
+				SFWMMGridMetadata.REF_Y + 0.5 * SFWMMGridMetadata.CELL_SIZE_M,
+				y[64], 0.001);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridMetadata#lookUpAuthor()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testLookUpAuthor()
+	{
+		final String author = SFWMMGridMetadata.lookUpAuthor();
+		Assert.assertTrue(author, author.contains(" on "));
+		Assert.assertEquals(author, SFWMMGridMetadata.AUTHOR.get());
+		Assert.assertSame(SFWMMGridMetadata.AUTHOR.get(),
+				SFWMMGridMetadata.AUTHOR.get());
+	}
+}
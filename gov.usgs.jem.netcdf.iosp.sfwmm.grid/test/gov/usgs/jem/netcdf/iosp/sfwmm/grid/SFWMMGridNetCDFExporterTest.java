@@ -0,0 +1,255 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridIOSP.OpenProfile;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+import ucar.ma2.Array;
+import ucar.nc2.Attribute;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+import ucar.nc2.Variable;
+
+/**
+ * Tests {@link SFWMMGridNetCDFExporter}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SFWMMGridNetCDFExporterTest
+{
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = SFWMMGridNetCDFExporter.class;
+		final Class<?> testingClass = SFWMMGridNetCDFExporterTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder	m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private GIOReader		m_Reader;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		NetcdfFiles.registerIOProvider(SFWMMGridIOSP.class);
+		m_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Reader.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridNetCDFExporter#builder()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBuilder() throws Exception
+	{
+		Assert.assertNotNull(SFWMMGridNetCDFExporter.builder());
+		final File file = m_Folder.newFile("builder.nc");
+		Assert.assertNotNull(SFWMMGridNetCDFExporter.builder()
+				.withReader(m_Reader).withOutputFilePath(file.getAbsolutePath())
+				.build());
+		try
+		{
+			SFWMMGridNetCDFExporter.builder().withReader(m_Reader)
+					.withOutputFilePath(file.getAbsolutePath())
+					.withBufferSize(1).build();
+			Assert.fail("Not trapping bad buffer size.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			SFWMMGridNetCDFExporter.builder().withReader(m_Reader).build();
+			Assert.fail("Not trapping missing output file path.");
+		}
+		catch (final NullPointerException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			SFWMMGridNetCDFExporter.builder().withReader(m_Reader)
+					.withOutputFilePath(file.getAbsolutePath())
+					.withProfile(null).build();
+			Assert.fail("Not trapping missing profile.");
+		}
+		catch (final NullPointerException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridNetCDFExporter#export()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testExport() throws Exception
+	{
+		final File file = m_Folder.newFile("export.nc");
+		final SFWMMGridNetCDFExporter exporter = SFWMMGridNetCDFExporter
+				.builder().withReader(m_Reader)
+				.withOutputFilePath(file.getAbsolutePath())
+				.withBufferSize(1024).build();
+		final long length = exporter.export();
+		Assert.assertEquals(file.length(), length);
+
+		/**
+		 * The exported file must read back the same as the file served by the
+		 * IOSP
+		 */
+		try (NetcdfFile expected = NetcdfFiles
+				.open(AllTests.getTestFile().getAbsolutePath());
+				NetcdfFile actual = NetcdfFiles.open(file.getAbsolutePath()))
+		{
+			for (final String name : new String[] {
+					SFWMMGridIOSP.TIME_VAR_NAME, SFWMMGridIOSP.Y_VAR_NAME,
+					SFWMMGridIOSP.X_VAR_NAME, exporter.getVariableName() })
+			{
+				final Variable expectedVariable = expected.findVariable(name);
+				final Variable actualVariable = actual.findVariable(name);
+				Assert.assertNotNull(name, actualVariable);
+				Assert.assertArrayEquals(name, expectedVariable.getShape(),
+						actualVariable.getShape());
+				final Array expectedArray = expectedVariable.read();
+				final Array actualArray = actualVariable.read();
+				for (int i = 0; i < expectedArray.getSize(); i++)
+				{
+					Assert.assertEquals(name,
+							expectedArray.getDouble(i),
+							actualArray.getDouble(i), 0.0);
+				}
+				for (final Attribute attribute : expectedVariable
+						.attributes())
+				{
+					if (attribute.getShortName()
+							.equals(SFWMMGridIOSP.CHUNK_SIZES))
+					{
+						continue;
+					}
+					Assert.assertEquals(attribute, actualVariable
+							.findAttribute(attribute.getShortName()));
+				}
+			}
+			Assert.assertTrue(actual.findDimension(SFWMMGridIOSP.TIME_VAR_NAME)
+					.isUnlimited());
+			Assert.assertNotNull(actual.findVariable("transverse_mercator"));
+		}
+
+		/**
+		 * Deterministic exports depend only on the input file
+		 */
+		final byte[][] deterministic = new byte[2][];
+		for (int i = 0; i < deterministic.length; i++)
+		{
+			final File output = m_Folder.newFile("deterministic" + i + ".nc");
+			SFWMMGridNetCDFExporter.builder().withReader(m_Reader)
+					.withOutputFilePath(output.getAbsolutePath())
+					.withProfile(OpenProfile.DETERMINISTIC).build().export();
+			deterministic[i] = java.nio.file.Files.readAllBytes(output.toPath());
+		}
+		Assert.assertArrayEquals(deterministic[0], deterministic[1]);
+		Assert.assertFalse(new String(deterministic[0],
+				StandardCharsets.US_ASCII).contains("author"));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridNetCDFExporter#getOutputFilePath()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetOutputFilePath() throws Exception
+	{
+		final File file = m_Folder.newFile("path.nc");
+		Assert.assertEquals(file.getAbsolutePath(),
+				SFWMMGridNetCDFExporter.builder().withReader(m_Reader)
+						.withOutputFilePath(file.getAbsolutePath()).build()
+						.getOutputFilePath());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridNetCDFExporter#getVariableName()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetVariableName() throws Exception
+	{
+		final File file = m_Folder.newFile("name.nc");
+		Assert.assertEquals("eomth_stage",
+				SFWMMGridNetCDFExporter.builder().withReader(m_Reader)
+						.withOutputFilePath(file.getAbsolutePath()).build()
+						.getVariableName());
+		Assert.assertEquals("stage",
+				SFWMMGridNetCDFExporter.builder().withReader(m_Reader)
+						.withOutputFilePath(file.getAbsolutePath())
+						.withVariableName("stage").build().getVariableName());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridNetCDFExporter#getVariableName(java.lang.String)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetVariableNameString()
+	{
+		Assert.assertEquals("eomth_stage", SFWMMGridNetCDFExporter
+				.getVariableName(AllTests.getTestFile().getPath()));
+		Assert.assertEquals("ab",
+				SFWMMGridNetCDFExporter.getVariableName("/tmp/a.b.bin"));
+	}
+}
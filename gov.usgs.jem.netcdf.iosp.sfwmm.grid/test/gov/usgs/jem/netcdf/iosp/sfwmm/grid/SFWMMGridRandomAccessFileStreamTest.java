@@ -0,0 +1,538 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import gov.usgs.jem.sfwmm.grid.SeekableDataFileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ucar.unidata.io.RandomAccessFile;
+
+/**
+ * Tests {@link SFWMMGridRandomAccessFileStream}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SFWMMGridRandomAccessFileStreamTest
+{
+
+	@SuppressWarnings("javadoc")
+	private static final java.util.Random r;
+
+	static
+	{
+		r = new java.util.Random(System.currentTimeMillis());
+	}
+
+	/**
+	 * Create a new {@link ByteBuffer} instance from the provided array
+	 *
+	 * @param p_Array
+	 *            a byte array to use
+	 * @param p_Size
+	 *            the number of bytes from the beginning of the array to use
+	 * @return the new {@link ByteBuffer} instance
+	 * @since Oct 18, 2026
+	 */
+	private static ByteBuffer buf(final byte[] p_Array, final int p_Size)
+	{
+		return ByteBuffer.wrap(Arrays.copyOf(p_Array, p_Size))
+				.order(ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = SFWMMGridRandomAccessFileStream.class;
+		final Class<?> testingClass = SFWMMGridRandomAccessFileStreamTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+	}
+
+	@SuppressWarnings("javadoc")
+	private ByteOrder					m_ByteOrder;
+
+	@SuppressWarnings("javadoc")
+	private byte[]						m_Bytes;
+
+	@SuppressWarnings("javadoc")
+	private boolean						m_ExpectedBoolean;
+
+	@SuppressWarnings("javadoc")
+	private byte						m_ExpectedByte;
+
+	@SuppressWarnings("javadoc")
+	private byte[]						m_ExpectedBytes;
+
+	@SuppressWarnings("javadoc")
+	private char						m_ExpectedChar;
+
+	@SuppressWarnings("javadoc")
+	private char						m_ExpectedCharAscii;
+
+	@SuppressWarnings("javadoc")
+	private double						m_ExpectedDouble;
+
+	@SuppressWarnings("javadoc")
+	private float						m_ExpectedFloat;
+
+	@SuppressWarnings("javadoc")
+	private int							m_ExpectedInt;
+
+	@SuppressWarnings("javadoc")
+	private long						m_ExpectedLong;
+
+	@SuppressWarnings("javadoc")
+	private short						m_ExpectedShort;
+
+	@SuppressWarnings("javadoc")
+	private byte						m_ExpectedUByte;
+
+	@SuppressWarnings("javadoc")
+	private int							m_ExpectedUInt32;
+
+	@SuppressWarnings("javadoc")
+	private short						m_ExpectedUShort;
+
+	@SuppressWarnings("javadoc")
+	private String						m_FilePath;
+
+	@SuppressWarnings("javadoc")
+	private SeekableDataFileInputStream	m_Input;
+
+	@SuppressWarnings("javadoc")
+	private RandomAccessFile			m_RAF;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = AllTests.getTestFile().getAbsolutePath();
+		m_ByteOrder = ByteOrder.BIG_ENDIAN;
+		m_RAF = new RandomAccessFile(m_FilePath, "r");
+		m_Input = new SFWMMGridRandomAccessFileStream(m_RAF);
+
+		m_Bytes = new byte[] { 0x4f, 0x50, 0x54, 0x42, 0x32, 0x20, 0x2d,
+				0x20, };
+		m_ExpectedBoolean = true;
+		m_ExpectedByte = m_Bytes[0];
+		m_ExpectedChar = buf(m_Bytes, 2).getChar();
+		m_ExpectedCharAscii = (char) m_Bytes[0];
+		m_ExpectedDouble = buf(m_Bytes, Double.BYTES).getDouble();
+		m_ExpectedFloat = buf(m_Bytes, Float.BYTES).getFloat();
+		m_ExpectedBytes = Arrays.copyOf(m_Bytes, 2);
+		m_ExpectedInt = buf(m_Bytes, Integer.BYTES).getInt();
+		m_ExpectedLong = buf(m_Bytes, Long.BYTES).getLong();
+		m_ExpectedShort = buf(m_Bytes, Short.BYTES).getShort();
+		m_ExpectedUInt32 = m_ExpectedInt;
+		m_ExpectedUByte = m_ExpectedByte;
+		m_ExpectedUShort = m_ExpectedShort;
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Input.close();
+		m_RAF.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#close()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testClose() throws IOException
+	{
+		m_Input.close();
+
+		/**
+		 * The random access file belongs to the IOSP and stays open
+		 */
+		Assert.assertEquals(m_ExpectedByte, m_RAF.readByte());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#getByteOrder()}.
+	 */
+	@Test
+	public final void testGetByteOrder()
+	{
+		Assert.assertEquals(m_ByteOrder, m_Input.getByteOrder());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#getFilePath()}.
+	 */
+	@Test
+	public final void testGetFilePath()
+	{
+		Assert.assertEquals(m_FilePath, m_Input.getFilePath());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#getLength()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetLength() throws IOException
+	{
+		Assert.assertEquals(AllTests.getTestFile().length(),
+				m_Input.getLength());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#getPosition()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetPosition() throws IOException
+	{
+		Assert.assertEquals(0, m_Input.getPosition());
+		final int pos = Math.abs(r.nextInt(10)) + 1;
+		m_Input.readFully(new byte[pos]);
+		Assert.assertEquals(pos, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readBoolean()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadBoolean() throws IOException
+	{
+		final boolean actual = m_Input.readBoolean();
+		Assert.assertEquals(m_ExpectedBoolean, actual);
+		Assert.assertEquals(1, m_Input.getPosition());
+
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readByte()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadByte() throws IOException
+	{
+		final byte actual = m_Input.readByte();
+		Assert.assertEquals(m_ExpectedByte, actual);
+		Assert.assertEquals(1, m_Input.getPosition());
+
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readChar()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadChar() throws IOException
+	{
+		final char actual = m_Input.readChar();
+		Assert.assertEquals(m_ExpectedChar, actual);
+		Assert.assertEquals(2, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readCharsAsAscii(int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadCharsAsAscii() throws IOException
+	{
+		final char[] actual = m_Input.readCharsAsAscii(1);
+		Assert.assertEquals(m_ExpectedCharAscii, actual[0]);
+		Assert.assertEquals(1, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readDouble()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadDouble() throws IOException
+	{
+		final double actual = m_Input.readDouble();
+		Assert.assertEquals(m_ExpectedDouble, actual, Double.MIN_NORMAL);
+		Assert.assertEquals(Double.BYTES, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readFloat()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFloat() throws IOException
+	{
+		final float actual = m_Input.readFloat();
+		Assert.assertEquals(m_ExpectedFloat, actual, Float.MIN_NORMAL);
+		Assert.assertEquals(Float.BYTES, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readFully(byte[])}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFullyByteArray() throws IOException
+	{
+		final int size = 2;
+		final byte[] actual = new byte[size];
+		m_Input.readFully(actual);
+		Assert.assertArrayEquals(m_ExpectedBytes, actual);
+		Assert.assertEquals(size, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readFully(byte[], int, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFullyByteArrayIntInt() throws IOException
+	{
+		final int size = 2;
+		final byte[] actual = new byte[size];
+		m_Input.readFully(actual, 0, size);
+		Assert.assertArrayEquals(m_ExpectedBytes, actual);
+		Assert.assertEquals(size, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readInt()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadInt() throws IOException
+	{
+		final int actual = m_Input.readInt();
+		Assert.assertEquals(m_ExpectedInt, actual);
+		Assert.assertEquals(Integer.BYTES, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readLine()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadLine() throws IOException
+	{
+		try
+		{
+			final String readLine = m_Input.readLine();
+			Assert.assertTrue(
+					readLine.startsWith("OPTB2 - CERP with LORS2008"));
+			Assert.assertTrue(!readLine.isEmpty());
+			/**
+			 * Due to different OS line endings, the actual string length may be
+			 * less than the number of bytes read.
+			 */
+			Assert.assertTrue(readLine.length() <= m_Input.getPosition());
+		}
+		catch (final UnsupportedOperationException e)
+		{
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readLong()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadLong() throws IOException
+	{
+		final long actual = m_Input.readLong();
+		Assert.assertEquals(m_ExpectedLong, actual);
+		Assert.assertEquals(Long.BYTES, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readShort()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadShort() throws IOException
+	{
+		final short actual = m_Input.readShort();
+		Assert.assertEquals(m_ExpectedShort, actual);
+		Assert.assertEquals(Short.BYTES, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readUInt32()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadUInt32() throws IOException
+	{
+		final int actual = m_Input.readUInt32();
+		Assert.assertEquals(m_ExpectedUInt32, actual);
+		Assert.assertEquals(Integer.BYTES, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readUnsignedByte()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadUnsignedByte() throws IOException
+	{
+		final int actual = m_Input.readUnsignedByte();
+		Assert.assertEquals(m_ExpectedUByte, actual);
+		Assert.assertEquals(1, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readUnsignedShort()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadUnsignedShort() throws IOException
+	{
+		final int actual = m_Input.readUnsignedShort();
+		Assert.assertEquals(m_ExpectedUShort, actual);
+		Assert.assertEquals(Short.BYTES, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#readUTF()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadUTF() throws IOException
+	{
+		/**
+		 * Not used.
+		 */
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#seek(int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testSeek() throws IOException
+	{
+		final int position = 4;
+		final int seek = m_Input.seek(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position], m_Input.readByte());
+		Assert.assertEquals(position + 1, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#skipBytes(int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testSkipBytes() throws IOException
+	{
+		final int position = 2;
+		int seek = m_Input.skipBytes(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position], m_Input.readByte());
+		Assert.assertEquals(position + 1, m_Input.getPosition());
+
+		seek = m_Input.skipBytes(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position + position + 1],
+				m_Input.readByte());
+		Assert.assertEquals(position + seek + 1 + 1, m_Input.getPosition());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridRandomAccessFileStream#skipBytesAggressive(int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testSkipBytesAggressive() throws IOException
+	{
+		final int position = 2;
+		int seek = m_Input.skipBytesAggressive(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position], m_Input.readByte());
+		Assert.assertEquals(position + 1, m_Input.getPosition());
+
+		seek = m_Input.skipBytesAggressive(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position + position + 1],
+				m_Input.readByte());
+		Assert.assertEquals(position + seek + 1 + 1, m_Input.getPosition());
+
+		/**
+		 * Stops at the end of the file
+		 */
+		final long remaining = m_Input.getLength() - m_Input.getPosition();
+		Assert.assertEquals(remaining,
+				m_Input.skipBytesAggressive(Integer.MAX_VALUE));
+		Assert.assertEquals(m_Input.getLength(), m_Input.getPosition());
+	}
+
+}
@@ -0,0 +1,280 @@
+package gov.usgs.jem.netcdf.iosp.sfwmm.grid;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.io.Files;
+import gov.usgs.jem.sfwmm.grid.GIOExpression;
+import gov.usgs.jem.sfwmm.grid.GIOExpression.Operator;
+import gov.usgs.jem.sfwmm.grid.GIOReader;
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+import ucar.ma2.Array;
+import ucar.ma2.IndexIterator;
+import ucar.ma2.Section;
+
+/**
+ * Tests {@link SFWMMGridScenarioStack}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SFWMMGridScenarioStackTest
+{
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = SFWMMGridScenarioStack.class;
+		final Class<?> testingClass = SFWMMGridScenarioStackTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder			m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private List<GIOReader>			m_Readers;
+
+	@SuppressWarnings("javadoc")
+	private List<String>			m_Scenarios;
+
+	@SuppressWarnings("javadoc")
+	private SFWMMGridScenarioStack	m_Stack;
+
+	/**
+	 * Create three scenarios: the test file, twice its values and its values
+	 * plus one
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Scenarios = Lists.newArrayList(
+				AllTests.getTestFile().getAbsolutePath());
+		try (GIOReader reader = GIOReader
+				.open(AllTests.getTestFile().getAbsolutePath()))
+		{
+			final GIOExpression stage = GIOExpression.variable("stage",
+					reader);
+			final String doubled = new File(m_Folder.getRoot(), "doubled.bin")
+					.getAbsolutePath();
+			stage.combine(Operator.MULTIPLY, GIOExpression.constant(2.0f))
+					.write(doubled);
+			m_Scenarios.add(doubled);
+			final String raised = new File(m_Folder.getRoot(), "raised.bin")
+					.getAbsolutePath();
+			stage.combine(Operator.ADD, GIOExpression.constant(1.0f))
+					.write(raised);
+			m_Scenarios.add(raised);
+		}
+		m_Readers = Lists.newArrayList();
+		for (final String scenario : m_Scenarios)
+		{
+			m_Readers.add(GIOReader.open(scenario));
+		}
+		m_Stack = SFWMMGridScenarioStack.builder().withFilePaths(m_Scenarios)
+				.withThreads(2).build();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Stack.close();
+		for (final GIOReader reader : m_Readers)
+		{
+			reader.close();
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridScenarioStack#builder()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBuilder() throws Exception
+	{
+		Assert.assertNotNull(SFWMMGridScenarioStack.builder());
+		try
+		{
+			SFWMMGridScenarioStack.builder().withFilePaths(m_Scenarios)
+					.withThreads(0).build();
+			Assert.fail("Not trapping bad thread count.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+
+		/**
+		 * A scenario with a shorter timeline
+		 */
+		final byte[] bytes = Files.toByteArray(AllTests.getTestFile());
+		final GIOReader reader = m_Readers.get(0);
+		final int gridSize = 80
+				+ reader.getHeader().getNodesSize() * Float.BYTES;
+		final File shorter = m_Folder.newFile("shorter.bin");
+		Files.write(Arrays.copyOf(bytes, bytes.length - gridSize), shorter);
+		try
+		{
+			SFWMMGridScenarioStack.builder()
+					.withFilePaths(Arrays.asList(m_Scenarios.get(0),
+							shorter.getAbsolutePath()))
+					.build();
+			Assert.fail("Not trapping different timelines.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridScenarioStack#close()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testClose() throws Exception
+	{
+		m_Stack.close();
+		try
+		{
+			m_Stack.read(new Section(new int[] { 0, 0, 0, 0 },
+					new int[] { 1, 1, 1, 1 }));
+			Assert.fail("Not trapping read after close.");
+		}
+		catch (final Exception e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridScenarioStack#getDates()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetDates() throws Exception
+	{
+		Assert.assertEquals(m_Readers.get(0).getDates(), m_Stack.getDates());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridScenarioStack#getFilePaths()}.
+	 */
+	@Test
+	public void testGetFilePaths()
+	{
+		Assert.assertEquals(m_Scenarios, m_Stack.getFilePaths());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridScenarioStack#getHeader()}.
+	 */
+	@Test
+	public void testGetHeader()
+	{
+		Assert.assertEquals(m_Readers.get(0).getHeader().getNodesSize(),
+				m_Stack.getHeader().getNodesSize());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridScenarioStack#getShape()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetShape() throws Exception
+	{
+		final GIOReader reader = m_Readers.get(0);
+		Assert.assertArrayEquals(
+				new int[] { 3, reader.getDates().size(),
+						reader.getHeader().getRowsSize(),
+						reader.getHeader().getColsSize() },
+				m_Stack.getShape());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.netcdf.iosp.sfwmm.grid.SFWMMGridScenarioStack#read(ucar.ma2.Section)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRead() throws Exception
+	{
+		final int[] shape = m_Stack.getShape();
+		final int numRows = shape[2];
+		final Array array = m_Stack.read(new Section(new int[] { 1, 20, 10, 5 },
+				new int[] { 2, 4, 30, shape[3] - 5 }));
+		Assert.assertArrayEquals(new int[] { 2, 4, 30, shape[3] - 5 },
+				array.getShape());
+		final IndexIterator indexIterator = array.getIndexIterator();
+		for (int s = 1; s < 3; s++)
+		{
+			final float[] expected = m_Readers.get(s).readDataReversedRows(
+					Range.closedOpen(20, 24),
+					Range.closedOpen(numRows - 40, numRows - 10),
+					Range.atLeast(5));
+			for (final float value : expected)
+			{
+				Assert.assertEquals(value, indexIterator.getFloatNext(), 0.0f);
+			}
+		}
+
+		try
+		{
+			m_Stack.read(new Section(new int[] { 2, 0, 0, 0 },
+					new int[] { 2, 1, 1, 1 }));
+			Assert.fail("Not trapping section outside of the stack.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+}
@@ -0,0 +1,692 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Aggregates the timesteps of an SFWMM GridIO file by calendar period (month,
+ * year or water year) in a single streaming pass. Each timestep is read once
+ * as a node vector and folded into per-node sum, count, minimum and maximum
+ * accumulators; when the period changes, an {@link Aggregate} holding the
+ * mean, minimum, maximum and sum of each node is emitted and the accumulators
+ * are reset. NaN values are ignored; a node with no valid value in a period
+ * is NaN in its {@link Aggregate}.
+ *
+ * Periods are computed in UTC, the time zone of {@link GIOReader#getDates()}.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOAggregator
+{
+	/**
+	 * Per-node accumulators of the current period
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private final class Accumulator implements GIOTimestepListener
+	{
+		/**
+		 * UTC calendar used to compute periods
+		 */
+		private final Calendar	m_Calendar;
+
+		/**
+		 * Number of valid values of each node
+		 */
+		private final int[]		m_Count;
+
+		/**
+		 * Receives each completed period
+		 */
+		private final Listener	m_Listener;
+
+		/**
+		 * Maximum of each node
+		 */
+		private final float[]	m_Max;
+
+		/**
+		 * Minimum of each node
+		 */
+		private final float[]	m_Min;
+
+		/**
+		 * Number of periods passed to the listener
+		 */
+		private int				m_Periods;
+
+		/**
+		 * Start of the current period, in milliseconds
+		 */
+		private long			m_Start;
+
+		/**
+		 * Sum of the valid values of each node
+		 */
+		private final double[]	m_Sum;
+
+		/**
+		 * Number of timesteps in the current period
+		 */
+		private int				m_Timesteps;
+
+		/**
+		 * @param p_NumNodes
+		 *            the number of nodes per timestep
+		 * @param p_Listener
+		 *            receives each completed period
+		 * @since Oct 18, 2026
+		 */
+		Accumulator(final int p_NumNodes, final Listener p_Listener)
+		{
+			m_Listener = p_Listener;
+			m_Calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+			m_Sum = new double[p_NumNodes];
+			m_Count = new int[p_NumNodes];
+			m_Min = new float[p_NumNodes];
+			m_Max = new float[p_NumNodes];
+			reset();
+		}
+
+		/**
+		 * Pass the current period to the listener, if it has any timesteps,
+		 * then reset the accumulators
+		 *
+		 * @throws IOException
+		 *             thrown by the listener
+		 * @since Oct 18, 2026
+		 */
+		void finish() throws IOException
+		{
+			if (m_Timesteps == 0)
+			{
+				return;
+			}
+			final int numNodes = m_Sum.length;
+			final float[] mean = new float[numNodes];
+			final float[] min = new float[numNodes];
+			final float[] max = new float[numNodes];
+			final float[] sum = new float[numNodes];
+			for (int node = 0; node < numNodes; node++)
+			{
+				if (m_Count[node] == 0)
+				{
+					mean[node] = Float.NaN;
+					min[node] = Float.NaN;
+					max[node] = Float.NaN;
+					sum[node] = Float.NaN;
+				}
+				else
+				{
+					mean[node] = (float) (m_Sum[node] / m_Count[node]);
+					min[node] = m_Min[node];
+					max[node] = m_Max[node];
+					sum[node] = (float) m_Sum[node];
+				}
+			}
+
+			m_Calendar.setTimeInMillis(m_Start);
+			m_Calendar.add(
+					m_Period == Period.MONTH ? Calendar.MONTH : Calendar.YEAR,
+					1);
+			final Aggregate aggregate = new Aggregate(new Date(m_Start),
+					m_Calendar.getTime(), m_Timesteps, mean, min, max, sum);
+			reset();
+			m_Periods++;
+			m_Listener.period(aggregate);
+		}
+
+		/**
+		 * Reset the accumulators for a new period
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private void reset()
+		{
+			Arrays.fill(m_Sum, 0.0);
+			Arrays.fill(m_Count, 0);
+			Arrays.fill(m_Min, Float.POSITIVE_INFINITY);
+			Arrays.fill(m_Max, Float.NEGATIVE_INFINITY);
+			m_Timesteps = 0;
+		}
+
+		@Override
+		public void timestep(final int p_DateIndex, final Date p_Date,
+				final float[] p_Nodes) throws IOException
+		{
+			final long start = getPeriodStart(m_Calendar, p_Date);
+			if (m_Timesteps > 0 && start != m_Start)
+			{
+				finish();
+			}
+			m_Start = start;
+			final int numNodes = m_Sum.length;
+			for (int node = 0; node < numNodes; node++)
+			{
+				final float value = p_Nodes[node];
+				if (Float.isNaN(value))
+				{
+					continue;
+				}
+				m_Sum[node] += value;
+				m_Count[node]++;
+				if (value < m_Min[node])
+				{
+					m_Min[node] = value;
+				}
+				if (value > m_Max[node])
+				{
+					m_Max[node] = value;
+				}
+			}
+			m_Timesteps++;
+		}
+	}
+
+	/**
+	 * The statistics of one period, by node index
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Aggregate
+	{
+		/**
+		 * @see #getEnd()
+		 */
+		private final Date		m_End;
+
+		/**
+		 * @see #getMax()
+		 */
+		private final float[]	m_Max;
+
+		/**
+		 * @see #getMean()
+		 */
+		private final float[]	m_Mean;
+
+		/**
+		 * @see #getMin()
+		 */
+		private final float[]	m_Min;
+
+		/**
+		 * @see #getStart()
+		 */
+		private final Date		m_Start;
+
+		/**
+		 * @see #getSum()
+		 */
+		private final float[]	m_Sum;
+
+		/**
+		 * @see #getTimestepCount()
+		 */
+		private final int		m_TimestepCount;
+
+		/**
+		 * @param p_Start
+		 *            the start of the period
+		 * @param p_End
+		 *            the start of the next period
+		 * @param p_TimestepCount
+		 *            the number of timesteps in the period
+		 * @param p_Mean
+		 *            the mean of each node
+		 * @param p_Min
+		 *            the minimum of each node
+		 * @param p_Max
+		 *            the maximum of each node
+		 * @param p_Sum
+		 *            the sum of each node
+		 * @since Oct 18, 2026
+		 */
+		private Aggregate(final Date p_Start, final Date p_End,
+				final int p_TimestepCount, final float[] p_Mean,
+				final float[] p_Min, final float[] p_Max, final float[] p_Sum)
+		{
+			m_Start = p_Start;
+			m_End = p_End;
+			m_TimestepCount = p_TimestepCount;
+			m_Mean = p_Mean;
+			m_Min = p_Min;
+			m_Max = p_Max;
+			m_Sum = p_Sum;
+		}
+
+		/**
+		 * @return the start of the next period, exclusive
+		 * @since Oct 18, 2026
+		 */
+		public Date getEnd()
+		{
+			return new Date(m_End.getTime());
+		}
+
+		/**
+		 * @return the maximum of each node, in file order
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMax()
+		{
+			return m_Max;
+		}
+
+		/**
+		 * @return the mean of each node, in file order
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMean()
+		{
+			return m_Mean;
+		}
+
+		/**
+		 * @return the minimum of each node, in file order
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMin()
+		{
+			return m_Min;
+		}
+
+		/**
+		 * @return the start of the period, inclusive
+		 * @since Oct 18, 2026
+		 */
+		public Date getStart()
+		{
+			return new Date(m_Start.getTime());
+		}
+
+		/**
+		 * @return the sum of each node, in file order
+		 * @since Oct 18, 2026
+		 */
+		public float[] getSum()
+		{
+			return m_Sum;
+		}
+
+		/**
+		 * @return the number of timesteps in the period
+		 * @since Oct 18, 2026
+		 */
+		public int getTimestepCount()
+		{
+			return m_TimestepCount;
+		}
+
+		@Override
+		public String toString()
+		{
+			return MoreObjects.toStringHelper(this).add("start", m_Start)
+					.add("end", m_End).add("timesteps", m_TimestepCount)
+					.toString();
+		}
+	}
+
+	/**
+	 * Builds new instances of {@link GIOAggregator}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withPeriod(Period)
+		 */
+		private Period		m_bPeriod;
+
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withWaterYearStart(Month)
+		 */
+		private Month		m_bWaterYearStart;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bPeriod = Period.MONTH;
+			m_bWaterYearStart = Month.OCTOBER;
+		}
+
+		/**
+		 * Create the aggregator
+		 *
+		 * @return {@link GIOAggregator} instance
+		 * @since Oct 18, 2026
+		 */
+		public GIOAggregator build()
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkNotNull(m_bPeriod, "Period required.");
+			checkNotNull(m_bWaterYearStart, "Water year start required.");
+			return new GIOAggregator(this);
+		}
+
+		/**
+		 * Set the period to aggregate by. Defaults to {@link Period#MONTH}.
+		 *
+		 * @param p_Period
+		 *            the period
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withPeriod(final Period p_Period)
+		{
+			m_bPeriod = p_Period;
+			return this;
+		}
+
+		/**
+		 * Set the reader to aggregate
+		 *
+		 * @param p_Reader
+		 *            an open {@link GIOReader}
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set the first month of the water year, used by
+		 * {@link Period#WATER_YEAR}. Defaults to {@link Month#OCTOBER}, the
+		 * USGS water year; use {@link Month#MAY} for the South Florida Water
+		 * Management District water year.
+		 *
+		 * @param p_Month
+		 *            the first month of the water year
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withWaterYearStart(final Month p_Month)
+		{
+			m_bWaterYearStart = p_Month;
+			return this;
+		}
+	}
+
+	/**
+	 * Receives each {@link Aggregate} as soon as its period is complete
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	@FunctionalInterface
+	public interface Listener
+	{
+		/**
+		 * Called once per period, in date order
+		 *
+		 * @param p_Aggregate
+		 *            the statistics of the period, owned by the listener
+		 * @throws IOException
+		 *             if the listener is unable to handle the period
+		 * @since Oct 18, 2026
+		 */
+		void period(Aggregate p_Aggregate) throws IOException;
+	}
+
+	/**
+	 * Calendar periods timesteps can be grouped by
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public enum Period
+	{
+		/**
+		 * Calendar month
+		 */
+		MONTH,
+
+		/**
+		 * Water year, starting on the first day of a configurable month
+		 *
+		 * @see Builder#withWaterYearStart(Month)
+		 */
+		WATER_YEAR,
+
+		/**
+		 * Calendar year
+		 */
+		YEAR;
+	}
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * @see Builder#withPeriod(Period)
+	 * @since Oct 18, 2026
+	 */
+	private final Period	m_Period;
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader	m_Reader;
+
+	/**
+	 * @see Builder#withWaterYearStart(Month)
+	 * @since Oct 18, 2026
+	 */
+	private final Month		m_WaterYearStart;
+
+	/**
+	 * Create a new aggregator from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private GIOAggregator(final Builder p_Builder)
+	{
+		m_Reader = p_Builder.m_bReader;
+		m_Period = p_Builder.m_bPeriod;
+		m_WaterYearStart = p_Builder.m_bWaterYearStart;
+	}
+
+	/**
+	 * Aggregate the whole file, keeping every period in memory
+	 *
+	 * @return the aggregate of each period, in date order
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public List<Aggregate> aggregate() throws IOException, ParseException
+	{
+		final List<Aggregate> aggregates = Lists.newArrayList();
+		aggregate(aggregates::add);
+		return aggregates;
+	}
+
+	/**
+	 * Aggregate the whole file, passing each period to the provided listener
+	 * as soon as it is complete. Only one period of accumulators is held in
+	 * memory.
+	 *
+	 * @param p_Listener
+	 *            receives each period
+	 * @return the number of periods passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int aggregate(final Listener p_Listener)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Listener, "Listener required.");
+		final Accumulator accumulator = new Accumulator(
+				m_Reader.getHeader().getNodesSize(), p_Listener);
+		m_Reader.forEachTimestep(Range.all(), accumulator);
+		accumulator.finish();
+		return accumulator.m_Periods;
+	}
+
+	/**
+	 * Get the period being aggregated by
+	 *
+	 * @return the period
+	 * @since Oct 18, 2026
+	 */
+	public Period getPeriod()
+	{
+		return m_Period;
+	}
+
+	/**
+	 * Get the start of the period containing the provided date
+	 *
+	 * @param p_Calendar
+	 *            the UTC calendar to compute with
+	 * @param p_Date
+	 *            the date
+	 * @return the start of its period, in milliseconds
+	 * @since Oct 18, 2026
+	 */
+	private long getPeriodStart(final Calendar p_Calendar, final Date p_Date)
+	{
+		p_Calendar.setTime(p_Date);
+		final int year = p_Calendar.get(Calendar.YEAR);
+		final int month = p_Calendar.get(Calendar.MONTH);
+		p_Calendar.clear();
+		switch (m_Period)
+		{
+			case MONTH:
+				p_Calendar.set(year, month, 1);
+				break;
+			case YEAR:
+				p_Calendar.set(year, Calendar.JANUARY, 1);
+				break;
+			case WATER_YEAR:
+			{
+				/**
+				 * Calendar months are 0-based, Month values are 1-based
+				 */
+				final int startMonth = m_WaterYearStart.getValue() - 1;
+				p_Calendar.set(month >= startMonth ? year : year - 1,
+						startMonth, 1);
+			}
+				break;
+			default:
+				throw new IllegalStateException(
+						"Unsupported period: " + m_Period);
+		}
+		return p_Calendar.getTimeInMillis();
+	}
+
+	/**
+	 * Get the start of each period that {@link #aggregate()} would produce,
+	 * from the dates of the file alone, without reading any grids
+	 *
+	 * @return the start of each period, in date order
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public List<Date> getPeriodStarts() throws IOException, ParseException
+	{
+		final Calendar calendar = Calendar
+				.getInstance(TimeZone.getTimeZone("UTC"));
+		final List<Date> starts = Lists.newArrayList();
+		long previous = 0;
+		for (final Date date : m_Reader.getDates())
+		{
+			final long start = getPeriodStart(calendar, date);
+			if (starts.isEmpty() || start != previous)
+			{
+				starts.add(new Date(start));
+			}
+			previous = start;
+		}
+		return starts;
+	}
+
+	/**
+	 * Get the start of each period from the one containing the first date
+	 * through the one containing the last, without reading the file. Matches
+	 * {@link #getPeriodStarts()} for ordered dates whose time step is no
+	 * longer than the period, so that no period between is without a date.
+	 *
+	 * @param p_First
+	 *            the first date of the file
+	 * @param p_Last
+	 *            the last date of the file
+	 * @return the start of each period, in date order
+	 * @since Oct 18, 2026
+	 */
+	public List<Date> getPeriodStarts(final Date p_First, final Date p_Last)
+	{
+		checkNotNull(p_First, "First date required.");
+		checkNotNull(p_Last, "Last date required.");
+		checkArgument(!p_Last.before(p_First),
+				"Last date %s is before first date %s.", p_Last, p_First);
+
+		final Calendar calendar = Calendar
+				.getInstance(TimeZone.getTimeZone("UTC"));
+		final long last = getPeriodStart(calendar, p_Last);
+		final int field = m_Period == Period.MONTH ? Calendar.MONTH
+				: Calendar.YEAR;
+		final List<Date> starts = Lists.newArrayList();
+		calendar.setTimeInMillis(getPeriodStart(calendar, p_First));
+		while (calendar.getTimeInMillis() <= last)
+		{
+			starts.add(calendar.getTime());
+			calendar.add(field, 1);
+		}
+		return starts;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("file", m_Reader.getFilePath()).add("period", m_Period)
+				.add("waterYearStart", m_WaterYearStart).toString();
+	}
+}
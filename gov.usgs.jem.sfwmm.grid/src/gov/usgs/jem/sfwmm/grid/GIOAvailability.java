@@ -0,0 +1,385 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Range;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * The SFWMM GridIO availability configuration: for each row of the grid, the
+ * closed range of columns that have a node (value) stored in the file. Nodes
+ * are stored row by row, so the availability also maps node indices of a
+ * timestep "node vector" to grid cells. Use {@link #builder()} to construct a
+ * new instance.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOAvailability
+{
+	/**
+	 * Builds new instances of {@link GIOAvailability}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withRow(int, int, int)
+		 */
+		private final SortedMap<Integer, Range<Integer>> m_bRows;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bRows = Maps.newTreeMap();
+		}
+
+		/**
+		 * @return {@link GIOAvailability} instance
+		 * @throws Exception
+		 *             if the configured rows are not valid
+		 * @since Oct 18, 2026
+		 */
+		public GIOAvailability build() throws Exception
+		{
+			return new GIOAvailability(this);
+		}
+
+		/**
+		 * Set the available columns of a row
+		 *
+		 * @param p_Row
+		 *            the 0-based row
+		 * @param p_FirstColumn
+		 *            the first 0-based column with a node in the row
+		 * @param p_LastColumn
+		 *            the last 0-based column with a node in the row
+		 *            (inclusive)
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withRow(final int p_Row, final int p_FirstColumn,
+				final int p_LastColumn)
+		{
+			checkArgument(p_FirstColumn <= p_LastColumn,
+					"Row %s has first column %s after last column %s", p_Row,
+					p_FirstColumn, p_LastColumn);
+			m_bRows.put(p_Row, Range.closed(p_FirstColumn, p_LastColumn));
+			return this;
+		}
+
+		/**
+		 * Set the available columns of several rows
+		 *
+		 * @param p_Rows
+		 *            maps 0-based row to the closed range of available columns
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withRows(final Map<Integer, Range<Integer>> p_Rows)
+		{
+			checkNotNull(p_Rows, "Rows required.");
+			for (final Map.Entry<Integer, Range<Integer>> entry : p_Rows
+					.entrySet())
+			{
+				withRow(entry.getKey(), entry.getValue().lowerEndpoint(),
+						entry.getValue().upperEndpoint());
+			}
+			return this;
+		}
+	}
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * The first available column of each row
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]	m_FirstColumns;
+
+	/**
+	 * The last available column of each row
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]	m_LastColumns;
+
+	/**
+	 * The number of columns spanned by all rows
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int	m_NumCols;
+
+	/**
+	 * Node index of the first node of each row, with one trailing entry that
+	 * holds the total number of nodes.
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]	m_RowOffsets;
+
+	/**
+	 * Create a new availability instance from the provided builder.
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private GIOAvailability(final Builder p_Builder)
+	{
+		final int numRows = p_Builder.m_bRows.size();
+		checkArgument(numRows > 0, "At least one row is required.");
+		checkArgument(p_Builder.m_bRows.firstKey() == 0
+				&& p_Builder.m_bRows.lastKey() == numRows - 1,
+				"Rows must be contiguous from 0, but are %s",
+				p_Builder.m_bRows.keySet());
+
+		m_FirstColumns = new int[numRows];
+		m_LastColumns = new int[numRows];
+		m_RowOffsets = new int[numRows + 1];
+		int numCols = 0;
+		for (int row = 0; row < numRows; row++)
+		{
+			final Range<Integer> columns = p_Builder.m_bRows.get(row);
+			m_FirstColumns[row] = columns.lowerEndpoint();
+			m_LastColumns[row] = columns.upperEndpoint();
+			checkArgument(m_FirstColumns[row] >= 0,
+					"Row %s has negative first column %s", row,
+					m_FirstColumns[row]);
+			m_RowOffsets[row + 1] = m_RowOffsets[row] + m_LastColumns[row]
+					- m_FirstColumns[row] + 1;
+			numCols = Math.max(numCols, m_LastColumns[row] + 1);
+		}
+		m_NumCols = numCols;
+	}
+
+	@Override
+	public boolean equals(final Object p_Obj)
+	{
+		if (this == p_Obj)
+		{
+			return true;
+		}
+		if (!(p_Obj instanceof GIOAvailability))
+		{
+			return false;
+		}
+		final GIOAvailability other = (GIOAvailability) p_Obj;
+		return Arrays.equals(m_FirstColumns, other.m_FirstColumns)
+				&& Arrays.equals(m_LastColumns, other.m_LastColumns);
+	}
+
+	/**
+	 * Get the number of columns spanned by the available rows
+	 *
+	 * @return the number of columns
+	 * @since Oct 18, 2026
+	 */
+	public int getColsSize()
+	{
+		return m_NumCols;
+	}
+
+	/**
+	 * Get the column of the provided node
+	 *
+	 * @param p_Node
+	 *            the 0-based node index
+	 * @return the 0-based column of the node
+	 * @since Oct 18, 2026
+	 */
+	public int getColumn(final int p_Node)
+	{
+		final int row = getRow(p_Node);
+		return m_FirstColumns[row] + p_Node - m_RowOffsets[row];
+	}
+
+	/**
+	 * Get the available columns of the provided row
+	 *
+	 * @param p_Row
+	 *            the 0-based row
+	 * @return the closed range of available columns
+	 * @since Oct 18, 2026
+	 */
+	public Range<Integer> getColumns(final int p_Row)
+	{
+		checkElementIndex(p_Row, m_FirstColumns.length, "Row");
+		return Range.closed(m_FirstColumns[p_Row], m_LastColumns[p_Row]);
+	}
+
+	/**
+	 * Get the node index of the provided cell
+	 *
+	 * @param p_Row
+	 *            the 0-based row
+	 * @param p_Col
+	 *            the 0-based column
+	 * @return the 0-based node index, or -1 if the cell has no node
+	 * @since Oct 18, 2026
+	 */
+	public int getNodeIndex(final int p_Row, final int p_Col)
+	{
+		if (p_Row < 0 || p_Row >= m_FirstColumns.length
+				|| p_Col < m_FirstColumns[p_Row]
+				|| p_Col > m_LastColumns[p_Row])
+		{
+			return -1;
+		}
+		return m_RowOffsets[p_Row] + p_Col - m_FirstColumns[p_Row];
+	}
+
+	/**
+	 * Get the number of nodes
+	 *
+	 * @return the number of nodes
+	 * @since Oct 18, 2026
+	 */
+	public int getNodesSize()
+	{
+		return m_RowOffsets[m_FirstColumns.length];
+	}
+
+	/**
+	 * Get the row of the provided node
+	 *
+	 * @param p_Node
+	 *            the 0-based node index
+	 * @return the 0-based row of the node
+	 * @since Oct 18, 2026
+	 */
+	public int getRow(final int p_Node)
+	{
+		checkElementIndex(p_Node, getNodesSize(), "Node");
+		final int search = Arrays.binarySearch(m_RowOffsets, 0,
+				m_FirstColumns.length, p_Node);
+		return search >= 0 ? search : -search - 2;
+	}
+
+	/**
+	 * Get the node index of the first node of the provided row. Nodes of the
+	 * row are consecutive, starting at this index.
+	 *
+	 * @param p_Row
+	 *            the 0-based row
+	 * @return the 0-based node index of the first node in the row
+	 * @since Oct 18, 2026
+	 */
+	public int getRowOffset(final int p_Row)
+	{
+		checkElementIndex(p_Row, m_FirstColumns.length, "Row");
+		return m_RowOffsets[p_Row];
+	}
+
+	/**
+	 * Get the number of rows
+	 *
+	 * @return the number of rows
+	 * @since Oct 18, 2026
+	 */
+	public int getRowsSize()
+	{
+		return m_FirstColumns.length;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return 31 * Arrays.hashCode(m_FirstColumns)
+				+ Arrays.hashCode(m_LastColumns);
+	}
+
+	/**
+	 * Scatter a node vector into a full grid (row-major, row 0 first, the same
+	 * order as {@link GIOReader#readData(Range, Range, Range)}). Cells without
+	 * a node are set to NaN.
+	 *
+	 * @param p_Nodes
+	 *            the node vector, at least {@link #getNodesSize()} long
+	 * @param p_Grid
+	 *            the destination grid, at least {@link #getRowsSize()} *
+	 *            {@link #getColsSize()} long
+	 * @return the destination grid
+	 * @since Oct 18, 2026
+	 */
+	public float[] toGrid(final float[] p_Nodes, final float[] p_Grid)
+	{
+		checkArgument(p_Nodes.length >= getNodesSize(),
+				"Expected at least %s nodes but got %s", getNodesSize(),
+				p_Nodes.length);
+		checkArgument(p_Grid.length >= getRowsSize() * m_NumCols,
+				"Expected at least %s cells but got %s",
+				getRowsSize() * m_NumCols, p_Grid.length);
+		for (int row = 0; row < m_FirstColumns.length; row++)
+		{
+			final int rowStart = row * m_NumCols;
+			final int first = m_FirstColumns[row];
+			final int count = m_LastColumns[row] - first + 1;
+			Arrays.fill(p_Grid, rowStart, rowStart + first, Float.NaN);
+			System.arraycopy(p_Nodes, m_RowOffsets[row], p_Grid,
+					rowStart + first, count);
+			Arrays.fill(p_Grid, rowStart + first + count, rowStart + m_NumCols,
+					Float.NaN);
+		}
+		return p_Grid;
+	}
+
+	/**
+	 * Gather a node vector from a full grid (row-major, row 0 first). Cells
+	 * without a node are ignored.
+	 *
+	 * @param p_Grid
+	 *            the grid, at least {@link #getRowsSize()} *
+	 *            {@link #getColsSize()} long
+	 * @param p_Nodes
+	 *            the destination node vector, at least
+	 *            {@link #getNodesSize()} long
+	 * @return the destination node vector
+	 * @since Oct 18, 2026
+	 */
+	public float[] toNodes(final float[] p_Grid, final float[] p_Nodes)
+	{
+		checkArgument(p_Grid.length >= getRowsSize() * m_NumCols,
+				"Expected at least %s cells but got %s",
+				getRowsSize() * m_NumCols, p_Grid.length);
+		checkArgument(p_Nodes.length >= getNodesSize(),
+				"Expected at least %s nodes but got %s", getNodesSize(),
+				p_Nodes.length);
+		for (int row = 0; row < m_FirstColumns.length; row++)
+		{
+			final int first = m_FirstColumns[row];
+			System.arraycopy(p_Grid, row * m_NumCols + first, p_Nodes,
+					m_RowOffsets[row], m_LastColumns[row] - first + 1);
+		}
+		return p_Nodes;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("numRows", getRowsSize()).add("numCols", m_NumCols)
+				.add("numNodes", getNodesSize()).toString();
+	}
+}
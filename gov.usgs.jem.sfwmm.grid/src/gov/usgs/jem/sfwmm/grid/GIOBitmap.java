@@ -0,0 +1,869 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable, compressed set of non-negative integers (typically node
+ * indices) organized like a roaring bitmap: values are partitioned by their
+ * high 16 bits into chunks, and each chunk stores its low 16 bits in whichever
+ * of a sorted array, a bitset or a list of runs is smallest. Spatially
+ * contiguous cells become runs, so masks over a grid stay small.
+ *
+ * @see #of(int[], int)
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOBitmap
+{
+	/**
+	 * Sorted array of low 16-bit values
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final class ArrayContainer extends Container
+	{
+		/**
+		 * Sorted, distinct values
+		 */
+		private final char[] m_Values;
+
+		/**
+		 * @param p_Values
+		 *            sorted, distinct values
+		 */
+		ArrayContainer(final char[] p_Values)
+		{
+			m_Values = p_Values;
+		}
+
+		@Override
+		int cardinality()
+		{
+			return m_Values.length;
+		}
+
+		@Override
+		boolean contains(final char p_Value)
+		{
+			return Arrays.binarySearch(m_Values, p_Value) >= 0;
+		}
+
+		@Override
+		void forEach(final int p_High, final IntConsumer p_Consumer)
+		{
+			for (final char value : m_Values)
+			{
+				p_Consumer.accept(p_High | value);
+			}
+		}
+
+		@Override
+		int sizeInBytes()
+		{
+			return Character.BYTES * m_Values.length;
+		}
+
+		@Override
+		void toBits(final long[] p_Words)
+		{
+			for (final char value : m_Values)
+			{
+				p_Words[value >>> 6] |= 1L << value;
+			}
+		}
+
+		@Override
+		byte type()
+		{
+			return TYPE_ARRAY;
+		}
+
+		@Override
+		void write(final DataOutput p_Output) throws IOException
+		{
+			p_Output.writeInt(m_Values.length);
+			for (final char value : m_Values)
+			{
+				p_Output.writeChar(value);
+			}
+		}
+	}
+
+	/**
+	 * Bitset of low 16-bit values, trimmed after the last set word
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final class BitmapContainer extends Container
+	{
+		/**
+		 * Number of set bits
+		 */
+		private final int		m_Cardinality;
+
+		/**
+		 * Bit words, where bit {@code v & 63} of word {@code v >>> 6} is set
+		 * for each value v
+		 */
+		private final long[]	m_Words;
+
+		/**
+		 * @param p_Words
+		 *            bit words
+		 */
+		BitmapContainer(final long[] p_Words)
+		{
+			m_Words = p_Words;
+			int cardinality = 0;
+			for (final long word : p_Words)
+			{
+				cardinality += Long.bitCount(word);
+			}
+			m_Cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality()
+		{
+			return m_Cardinality;
+		}
+
+		@Override
+		boolean contains(final char p_Value)
+		{
+			final int word = p_Value >>> 6;
+			return word < m_Words.length
+					&& (m_Words[word] & 1L << p_Value) != 0;
+		}
+
+		@Override
+		void forEach(final int p_High, final IntConsumer p_Consumer)
+		{
+			for (int word = 0; word < m_Words.length; word++)
+			{
+				long bits = m_Words[word];
+				while (bits != 0)
+				{
+					p_Consumer.accept(p_High | word << 6
+							| Long.numberOfTrailingZeros(bits));
+					bits &= bits - 1;
+				}
+			}
+		}
+
+		@Override
+		int sizeInBytes()
+		{
+			return Long.BYTES * m_Words.length;
+		}
+
+		@Override
+		void toBits(final long[] p_Words)
+		{
+			for (int word = 0; word < m_Words.length; word++)
+			{
+				p_Words[word] |= m_Words[word];
+			}
+		}
+
+		@Override
+		byte type()
+		{
+			return TYPE_BITMAP;
+		}
+
+		@Override
+		void write(final DataOutput p_Output) throws IOException
+		{
+			p_Output.writeInt(m_Words.length);
+			for (final long word : m_Words)
+			{
+				p_Output.writeLong(word);
+			}
+		}
+	}
+
+	/**
+	 * The low 16 bits of all values in one chunk
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private abstract static class Container
+	{
+		/**
+		 * @return the number of values
+		 */
+		abstract int cardinality();
+
+		/**
+		 * @param p_Value
+		 *            low 16 bits
+		 * @return true if contained
+		 */
+		abstract boolean contains(char p_Value);
+
+		/**
+		 * @param p_High
+		 *            the high 16 bits, already shifted
+		 * @param p_Consumer
+		 *            receives the full values in ascending order
+		 */
+		abstract void forEach(int p_High, IntConsumer p_Consumer);
+
+		/**
+		 * @return the approximate payload size
+		 */
+		abstract int sizeInBytes();
+
+		/**
+		 * @param p_Words
+		 *            1024 bit words to OR the values into
+		 */
+		abstract void toBits(long[] p_Words);
+
+		/**
+		 * @return serialization type
+		 */
+		abstract byte type();
+
+		/**
+		 * @param p_Output
+		 *            serializes the payload
+		 * @throws IOException
+		 *             problem writing
+		 */
+		abstract void write(DataOutput p_Output) throws IOException;
+	}
+
+	/**
+	 * Runs of consecutive low 16-bit values
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final class RunContainer extends Container
+	{
+		/**
+		 * Number of values
+		 */
+		private final int		m_Cardinality;
+
+		/**
+		 * Length of each run, minus one
+		 */
+		private final char[]	m_Lengths;
+
+		/**
+		 * First value of each run, ascending
+		 */
+		private final char[]	m_Starts;
+
+		/**
+		 * @param p_Starts
+		 *            first value of each run, ascending
+		 * @param p_Lengths
+		 *            length of each run, minus one
+		 */
+		RunContainer(final char[] p_Starts, final char[] p_Lengths)
+		{
+			m_Starts = p_Starts;
+			m_Lengths = p_Lengths;
+			int cardinality = 0;
+			for (final char length : p_Lengths)
+			{
+				cardinality += length + 1;
+			}
+			m_Cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality()
+		{
+			return m_Cardinality;
+		}
+
+		@Override
+		boolean contains(final char p_Value)
+		{
+			int run = Arrays.binarySearch(m_Starts, p_Value);
+			if (run >= 0)
+			{
+				return true;
+			}
+			run = -run - 2;
+			return run >= 0 && p_Value <= m_Starts[run] + m_Lengths[run];
+		}
+
+		@Override
+		void forEach(final int p_High, final IntConsumer p_Consumer)
+		{
+			for (int run = 0; run < m_Starts.length; run++)
+			{
+				final int end = m_Starts[run] + m_Lengths[run];
+				for (int value = m_Starts[run]; value <= end; value++)
+				{
+					p_Consumer.accept(p_High | value);
+				}
+			}
+		}
+
+		@Override
+		int sizeInBytes()
+		{
+			return 2 * Character.BYTES * m_Starts.length;
+		}
+
+		@Override
+		void toBits(final long[] p_Words)
+		{
+			for (int run = 0; run < m_Starts.length; run++)
+			{
+				final int end = m_Starts[run] + m_Lengths[run];
+				for (int value = m_Starts[run]; value <= end; value++)
+				{
+					p_Words[value >>> 6] |= 1L << value;
+				}
+			}
+		}
+
+		@Override
+		byte type()
+		{
+			return TYPE_RUN;
+		}
+
+		@Override
+		void write(final DataOutput p_Output) throws IOException
+		{
+			p_Output.writeInt(m_Starts.length);
+			for (int run = 0; run < m_Starts.length; run++)
+			{
+				p_Output.writeChar(m_Starts[run]);
+				p_Output.writeChar(m_Lengths[run]);
+			}
+		}
+	}
+
+	/**
+	 * The empty bitmap
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final GIOBitmap	EMPTY		= new GIOBitmap(new char[0],
+			new Container[0]);
+
+	/**
+	 * Serialization type of {@link ArrayContainer}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final byte		TYPE_ARRAY	= 0;
+
+	/**
+	 * Serialization type of {@link BitmapContainer}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final byte		TYPE_BITMAP	= 1;
+
+	/**
+	 * Serialization type of {@link RunContainer}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final byte		TYPE_RUN	= 2;
+
+	/**
+	 * Combine two bitmaps chunk by chunk
+	 *
+	 * @param p_A
+	 *            the first bitmap
+	 * @param p_B
+	 *            the second bitmap
+	 * @param p_And
+	 *            true for intersection, false for union
+	 * @return the combined bitmap
+	 * @since Oct 18, 2026
+	 */
+	private static GIOBitmap combine(final GIOBitmap p_A, final GIOBitmap p_B,
+			final boolean p_And)
+	{
+		final int maxChunks = p_A.m_Keys.length + p_B.m_Keys.length;
+		final char[] keys = new char[maxChunks];
+		final Container[] containers = new Container[maxChunks];
+		final long[] words = new long[1024];
+		int numChunks = 0;
+		int a = 0;
+		int b = 0;
+		while (a < p_A.m_Keys.length || b < p_B.m_Keys.length)
+		{
+			final int keyA = a < p_A.m_Keys.length ? p_A.m_Keys[a]
+					: Integer.MAX_VALUE;
+			final int keyB = b < p_B.m_Keys.length ? p_B.m_Keys[b]
+					: Integer.MAX_VALUE;
+			Arrays.fill(words, 0L);
+			final int key = Math.min(keyA, keyB);
+			if (keyA == keyB)
+			{
+				final long[] other = new long[1024];
+				p_A.m_Containers[a++].toBits(words);
+				p_B.m_Containers[b++].toBits(other);
+				for (int word = 0; word < words.length; word++)
+				{
+					words[word] = p_And ? words[word] & other[word]
+							: words[word] | other[word];
+				}
+			}
+			else if (p_And)
+			{
+				if (keyA < keyB)
+				{
+					a++;
+				}
+				else
+				{
+					b++;
+				}
+				continue;
+			}
+			else if (keyA < keyB)
+			{
+				p_A.m_Containers[a++].toBits(words);
+			}
+			else
+			{
+				p_B.m_Containers[b++].toBits(words);
+			}
+			final Container container = fromBits(words);
+			if (container != null)
+			{
+				keys[numChunks] = (char) key;
+				containers[numChunks++] = container;
+			}
+		}
+		return new GIOBitmap(Arrays.copyOf(keys, numChunks),
+				Arrays.copyOf(containers, numChunks));
+	}
+
+	/**
+	 * Encode the provided sorted low 16-bit values using the smallest
+	 * container type
+	 *
+	 * @param p_Values
+	 *            sorted, distinct values
+	 * @param p_From
+	 *            the first index to use
+	 * @param p_To
+	 *            the index after the last index to use
+	 * @return the new container
+	 * @since Oct 18, 2026
+	 */
+	private static Container encode(final int[] p_Values, final int p_From,
+			final int p_To)
+	{
+		final int cardinality = p_To - p_From;
+		int numRuns = 0;
+		for (int i = p_From; i < p_To; i++)
+		{
+			if (i == p_From || p_Values[i] != p_Values[i - 1] + 1)
+			{
+				numRuns++;
+			}
+		}
+		final int numWords = ((p_Values[p_To - 1] & 0xFFFF) >>> 6) + 1;
+
+		final int arrayBytes = Character.BYTES * cardinality;
+		final int bitmapBytes = Long.BYTES * numWords;
+		final int runBytes = 2 * Character.BYTES * numRuns;
+		if (runBytes <= arrayBytes && runBytes <= bitmapBytes)
+		{
+			final char[] starts = new char[numRuns];
+			final char[] lengths = new char[numRuns];
+			int run = -1;
+			for (int i = p_From; i < p_To; i++)
+			{
+				if (i == p_From || p_Values[i] != p_Values[i - 1] + 1)
+				{
+					starts[++run] = (char) p_Values[i];
+				}
+				else
+				{
+					lengths[run]++;
+				}
+			}
+			return new RunContainer(starts, lengths);
+		}
+		if (arrayBytes <= bitmapBytes)
+		{
+			final char[] values = new char[cardinality];
+			for (int i = p_From; i < p_To; i++)
+			{
+				values[i - p_From] = (char) p_Values[i];
+			}
+			return new ArrayContainer(values);
+		}
+		final long[] words = new long[numWords];
+		for (int i = p_From; i < p_To; i++)
+		{
+			final int value = p_Values[i] & 0xFFFF;
+			words[value >>> 6] |= 1L << value;
+		}
+		return new BitmapContainer(words);
+	}
+
+	/**
+	 * Encode the provided bit words as a container
+	 *
+	 * @param p_Words
+	 *            1024 bit words
+	 * @return the new container or null if no bits are set
+	 * @since Oct 18, 2026
+	 */
+	private static Container fromBits(final long[] p_Words)
+	{
+		int cardinality = 0;
+		for (final long word : p_Words)
+		{
+			cardinality += Long.bitCount(word);
+		}
+		if (cardinality == 0)
+		{
+			return null;
+		}
+		final int[] values = new int[cardinality];
+		int index = 0;
+		for (int word = 0; word < p_Words.length; word++)
+		{
+			long bits = p_Words[word];
+			while (bits != 0)
+			{
+				values[index++] = word << 6 | Long.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+			}
+		}
+		return encode(values, 0, cardinality);
+	}
+
+	/**
+	 * Create a new bitmap from the provided values
+	 *
+	 * @param p_Values
+	 *            non-negative values in strictly ascending order
+	 * @param p_Count
+	 *            the number of values to use from the beginning of the array
+	 * @return the new bitmap
+	 * @since Oct 18, 2026
+	 */
+	public static GIOBitmap of(final int[] p_Values, final int p_Count)
+	{
+		checkNotNull(p_Values, "Values required.");
+		checkArgument(p_Count >= 0 && p_Count <= p_Values.length,
+				"Invalid count %s for %s values", p_Count, p_Values.length);
+		if (p_Count == 0)
+		{
+			return EMPTY;
+		}
+		checkArgument(p_Values[0] >= 0, "Values must be non-negative.");
+
+		final char[] keys = new char[(p_Values[p_Count - 1] >>> 16) + 1];
+		final Container[] containers = new Container[keys.length];
+		int numChunks = 0;
+		int start = 0;
+		while (start < p_Count)
+		{
+			final int key = p_Values[start] >>> 16;
+			int end = start + 1;
+			while (end < p_Count && p_Values[end] >>> 16 == key)
+			{
+				checkArgument(p_Values[end] > p_Values[end - 1],
+						"Values must be strictly ascending.");
+				end++;
+			}
+			checkArgument(end == p_Count || p_Values[end] > p_Values[end - 1],
+					"Values must be strictly ascending.");
+			keys[numChunks] = (char) key;
+			containers[numChunks++] = encode(p_Values, start, end);
+			start = end;
+		}
+		return new GIOBitmap(Arrays.copyOf(keys, numChunks),
+				Arrays.copyOf(containers, numChunks));
+	}
+
+	/**
+	 * Read a bitmap previously written with {@link #write(DataOutput)}
+	 *
+	 * @param p_Input
+	 *            the input to read from
+	 * @return the bitmap
+	 * @throws IOException
+	 *             problem reading, or unknown container type
+	 * @since Oct 18, 2026
+	 */
+	public static GIOBitmap read(final DataInput p_Input) throws IOException
+	{
+		final int numChunks = p_Input.readInt();
+		if (numChunks == 0)
+		{
+			return EMPTY;
+		}
+		final char[] keys = new char[numChunks];
+		final Container[] containers = new Container[numChunks];
+		for (int chunk = 0; chunk < numChunks; chunk++)
+		{
+			keys[chunk] = p_Input.readChar();
+			final byte type = p_Input.readByte();
+			final int size = p_Input.readInt();
+			switch (type)
+			{
+				case TYPE_ARRAY:
+				{
+					final char[] values = new char[size];
+					for (int i = 0; i < size; i++)
+					{
+						values[i] = p_Input.readChar();
+					}
+					containers[chunk] = new ArrayContainer(values);
+				}
+					break;
+				case TYPE_BITMAP:
+				{
+					final long[] words = new long[size];
+					for (int i = 0; i < size; i++)
+					{
+						words[i] = p_Input.readLong();
+					}
+					containers[chunk] = new BitmapContainer(words);
+				}
+					break;
+				case TYPE_RUN:
+				{
+					final char[] starts = new char[size];
+					final char[] lengths = new char[size];
+					for (int i = 0; i < size; i++)
+					{
+						starts[i] = p_Input.readChar();
+						lengths[i] = p_Input.readChar();
+					}
+					containers[chunk] = new RunContainer(starts, lengths);
+				}
+					break;
+				default:
+					throw new IOException(
+							String.format("Unknown container type %s", type));
+			}
+		}
+		return new GIOBitmap(keys, containers);
+	}
+
+	/**
+	 * @see #getCardinality()
+	 * @since Oct 18, 2026
+	 */
+	private final int			m_Cardinality;
+
+	/**
+	 * One container per chunk, in the same order as {@link #m_Keys}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Container[]	m_Containers;
+
+	/**
+	 * High 16 bits of each non-empty chunk, ascending
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final char[]		m_Keys;
+
+	/**
+	 * @param p_Keys
+	 *            high 16 bits of each chunk, ascending
+	 * @param p_Containers
+	 *            one non-empty container per chunk
+	 * @since Oct 18, 2026
+	 */
+	private GIOBitmap(final char[] p_Keys, final Container[] p_Containers)
+	{
+		m_Keys = p_Keys;
+		m_Containers = p_Containers;
+		int cardinality = 0;
+		for (final Container container : p_Containers)
+		{
+			cardinality += container.cardinality();
+		}
+		m_Cardinality = cardinality;
+	}
+
+	/**
+	 * Intersect this bitmap with another
+	 *
+	 * @param p_Other
+	 *            the other bitmap
+	 * @return a new bitmap with the values in both bitmaps
+	 * @since Oct 18, 2026
+	 */
+	public GIOBitmap and(final GIOBitmap p_Other)
+	{
+		checkNotNull(p_Other, "Bitmap required.");
+		return combine(this, p_Other, true);
+	}
+
+	/**
+	 * Determine if the provided value is in this bitmap
+	 *
+	 * @param p_Value
+	 *            the value to find
+	 * @return true if the value is in this bitmap
+	 * @since Oct 18, 2026
+	 */
+	public boolean contains(final int p_Value)
+	{
+		if (p_Value < 0)
+		{
+			return false;
+		}
+		final int chunk = Arrays.binarySearch(m_Keys, (char) (p_Value >>> 16));
+		return chunk >= 0 && m_Containers[chunk].contains((char) p_Value);
+	}
+
+	@Override
+	public boolean equals(final Object p_Obj)
+	{
+		if (this == p_Obj)
+		{
+			return true;
+		}
+		if (!(p_Obj instanceof GIOBitmap))
+		{
+			return false;
+		}
+		final GIOBitmap other = (GIOBitmap) p_Obj;
+		return m_Cardinality == other.m_Cardinality
+				&& Arrays.equals(toArray(), other.toArray());
+	}
+
+	/**
+	 * Visit each value in ascending order
+	 *
+	 * @param p_Consumer
+	 *            receives each value
+	 * @since Oct 18, 2026
+	 */
+	public void forEach(final IntConsumer p_Consumer)
+	{
+		checkNotNull(p_Consumer, "Consumer required.");
+		for (int chunk = 0; chunk < m_Keys.length; chunk++)
+		{
+			m_Containers[chunk].forEach(m_Keys[chunk] << 16, p_Consumer);
+		}
+	}
+
+	/**
+	 * Get the number of values
+	 *
+	 * @return the number of values in this bitmap
+	 * @since Oct 18, 2026
+	 */
+	public int getCardinality()
+	{
+		return m_Cardinality;
+	}
+
+	/**
+	 * Get the approximate number of bytes used to store the values
+	 *
+	 * @return the approximate size in bytes
+	 * @since Oct 18, 2026
+	 */
+	public long getSizeInBytes()
+	{
+		long size = Character.BYTES * m_Keys.length;
+		for (final Container container : m_Containers)
+		{
+			size += container.sizeInBytes();
+		}
+		return size;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Arrays.hashCode(toArray());
+	}
+
+	/**
+	 * Determine if this bitmap has no values
+	 *
+	 * @return true if this bitmap has no values
+	 * @since Oct 18, 2026
+	 */
+	public boolean isEmpty()
+	{
+		return m_Cardinality == 0;
+	}
+
+	/**
+	 * Union this bitmap with another
+	 *
+	 * @param p_Other
+	 *            the other bitmap
+	 * @return a new bitmap with the values in either bitmap
+	 * @since Oct 18, 2026
+	 */
+	public GIOBitmap or(final GIOBitmap p_Other)
+	{
+		checkNotNull(p_Other, "Bitmap required.");
+		return combine(this, p_Other, false);
+	}
+
+	/**
+	 * Get the values of this bitmap
+	 *
+	 * @return the values in ascending order
+	 * @since Oct 18, 2026
+	 */
+	public int[] toArray()
+	{
+		final int[] values = new int[m_Cardinality];
+		final int[] index = new int[1];
+		forEach(value -> values[index[0]++] = value);
+		return values;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("cardinality", m_Cardinality).add("chunks", m_Keys.length)
+				.add("bytes", getSizeInBytes()).toString();
+	}
+
+	/**
+	 * Serialize this bitmap
+	 *
+	 * @param p_Output
+	 *            the output to write to
+	 * @throws IOException
+	 *             problem writing
+	 * @since Oct 18, 2026
+	 */
+	public void write(final DataOutput p_Output) throws IOException
+	{
+		checkNotNull(p_Output, "Output required.");
+		p_Output.writeInt(m_Keys.length);
+		for (int chunk = 0; chunk < m_Keys.length; chunk++)
+		{
+			p_Output.writeChar(m_Keys[chunk]);
+			p_Output.writeByte(m_Containers[chunk].type());
+			m_Containers[chunk].write(p_Output);
+		}
+	}
+}
@@ -0,0 +1,631 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Differences an alternative (scenario) SFWMM GridIO file against a baseline
+ * file, timestep by timestep, without reading either file into memory. The
+ * two files must have the same grid dimensions, cell size and availability;
+ * by default they must also have the same dates, or optionally only their
+ * common dates are differenced.
+ *
+ * While the scenario timestep is read on the calling thread, the matching
+ * baseline timestep is read on a background thread, and the next baseline
+ * timestep is prefetched while the difference is computed and consumed.
+ * Differences are scenario minus baseline; NaN in either file gives NaN.
+ * Since the two files are read concurrently, the scenario and baseline
+ * readers must not share a stream, nor be used elsewhere during
+ * {@link #difference(GIOTimestepListener)}.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIODifference
+{
+	/**
+	 * Builds new instances of {@link GIODifference}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withBaseline(GIOReader)
+		 */
+		private GIOReader	m_bBaseline;
+
+		/**
+		 * @see #withCommonDates(boolean)
+		 */
+		private boolean		m_bCommonDates;
+
+		/**
+		 * @see #withScenario(GIOReader)
+		 */
+		private GIOReader	m_bScenario;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bCommonDates = false;
+		}
+
+		/**
+		 * Validate that the files are compatible and align their timelines
+		 *
+		 * @return {@link GIODifference} instance
+		 * @throws IOException
+		 *             problem reading from file
+		 * @throws ParseException
+		 *             problem parsing dates
+		 * @throws IllegalArgumentException
+		 *             if the files are not compatible, or if the scenario and
+		 *             baseline are the same reader
+		 * @since Oct 18, 2026
+		 */
+		public GIODifference build() throws IOException, ParseException
+		{
+			checkNotNull(m_bScenario, "Scenario required.");
+			checkNotNull(m_bBaseline, "Baseline required.");
+			checkArgument(m_bScenario != m_bBaseline,
+					"Scenario and baseline must be different readers, since they are read concurrently: %s",
+					m_bScenario.getFilePath());
+
+			final GIOHeader scenario = m_bScenario.getHeader();
+			final GIOHeader baseline = m_bBaseline.getHeader();
+			checkArgument(
+					scenario.getRowsSize() == baseline.getRowsSize()
+							&& scenario.getColsSize() == baseline
+									.getColsSize()
+							&& scenario.getNodesSize() == baseline
+									.getNodesSize(),
+					"Grid dimensions differ: %s and %s", scenario, baseline);
+			checkArgument(
+					scenario.getSizeX() == baseline.getSizeX()
+							&& scenario.getSizeY() == baseline.getSizeY(),
+					"Cell sizes differ: %s and %s", scenario, baseline);
+			checkArgument(
+					m_bScenario.getAvailability()
+							.equals(m_bBaseline.getAvailability()),
+					"Availability differs between %s and %s",
+					m_bScenario.getFilePath(), m_bBaseline.getFilePath());
+
+			final List<Date> scenarioDates = m_bScenario.getDates();
+			final List<Date> baselineDates = m_bBaseline.getDates();
+			final Map<Date, Integer> baselineIndices = Maps.newHashMap();
+			for (int i = 0; i < baselineDates.size(); i++)
+			{
+				baselineIndices.put(baselineDates.get(i), i);
+			}
+			final List<Date> dates = Lists.newArrayList();
+			final int[] scenarioIndices = new int[scenarioDates.size()];
+			final int[] baselineIndicesByDate = new int[scenarioDates.size()];
+			for (int i = 0; i < scenarioDates.size(); i++)
+			{
+				final Date date = scenarioDates.get(i);
+				final Integer baselineIndex = baselineIndices.get(date);
+				if (baselineIndex == null)
+				{
+					continue;
+				}
+				scenarioIndices[dates.size()] = i;
+				baselineIndicesByDate[dates.size()] = baselineIndex;
+				dates.add(date);
+			}
+			if (!m_bCommonDates)
+			{
+				checkArgument(
+						dates.size() == scenarioDates.size()
+								&& dates.size() == baselineDates.size(),
+						"Timelines differ: %s has %s dates and %s has %s, %s in common",
+						m_bScenario.getFilePath(), scenarioDates.size(),
+						m_bBaseline.getFilePath(), baselineDates.size(),
+						dates.size());
+			}
+			return new GIODifference(this, dates,
+					Arrays.copyOf(scenarioIndices, dates.size()),
+					Arrays.copyOf(baselineIndicesByDate, dates.size()));
+		}
+
+		/**
+		 * Set the reader of the baseline file, which is subtracted
+		 *
+		 * @param p_Baseline
+		 *            an open {@link GIOReader}, read on a background thread, so
+		 *            not the scenario reader nor one sharing its stream
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withBaseline(final GIOReader p_Baseline)
+		{
+			m_bBaseline = p_Baseline;
+			return this;
+		}
+
+		/**
+		 * Set whether files with different timelines are differenced on their
+		 * common dates. By default, the timelines must be identical.
+		 *
+		 * @param p_CommonDates
+		 *            true to difference only the dates in both files
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withCommonDates(final boolean p_CommonDates)
+		{
+			m_bCommonDates = p_CommonDates;
+			return this;
+		}
+
+		/**
+		 * Set the reader of the scenario file, which is subtracted from
+		 *
+		 * @param p_Scenario
+		 *            an open {@link GIOReader}, not the baseline reader nor
+		 *            one sharing its stream
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withScenario(final GIOReader p_Scenario)
+		{
+			m_bScenario = p_Scenario;
+			return this;
+		}
+	}
+
+	/**
+	 * Summary statistics of the differences, ignoring NaN
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Summary
+	{
+		/**
+		 * @see #getMax()
+		 */
+		private final float[]	m_Max;
+
+		/**
+		 * @see #getMean()
+		 */
+		private final float[]	m_Mean;
+
+		/**
+		 * @see #getMeanAbsByTimestep()
+		 */
+		private final float[]	m_MeanAbsByTimestep;
+
+		/**
+		 * @see #getMeanByTimestep()
+		 */
+		private final float[]	m_MeanByTimestep;
+
+		/**
+		 * @see #getMin()
+		 */
+		private final float[]	m_Min;
+
+		/**
+		 * @param p_Mean
+		 *            the mean difference of each node
+		 * @param p_Min
+		 *            the minimum difference of each node
+		 * @param p_Max
+		 *            the maximum difference of each node
+		 * @param p_MeanByTimestep
+		 *            the mean difference of each timestep
+		 * @param p_MeanAbsByTimestep
+		 *            the mean absolute difference of each timestep
+		 * @since Oct 18, 2026
+		 */
+		private Summary(final float[] p_Mean, final float[] p_Min,
+				final float[] p_Max, final float[] p_MeanByTimestep,
+				final float[] p_MeanAbsByTimestep)
+		{
+			m_Mean = p_Mean;
+			m_Min = p_Min;
+			m_Max = p_Max;
+			m_MeanByTimestep = p_MeanByTimestep;
+			m_MeanAbsByTimestep = p_MeanAbsByTimestep;
+		}
+
+		/**
+		 * @return the maximum difference of each node over all timesteps, in
+		 *         file order
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMax()
+		{
+			return m_Max;
+		}
+
+		/**
+		 * @return the mean difference of each node over all timesteps, in
+		 *         file order
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMean()
+		{
+			return m_Mean;
+		}
+
+		/**
+		 * @return the mean absolute difference over all nodes of each
+		 *         timestep
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMeanAbsByTimestep()
+		{
+			return m_MeanAbsByTimestep;
+		}
+
+		/**
+		 * @return the mean difference over all nodes of each timestep
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMeanByTimestep()
+		{
+			return m_MeanByTimestep;
+		}
+
+		/**
+		 * @return the minimum difference of each node over all timesteps, in
+		 *         file order
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMin()
+		{
+			return m_Min;
+		}
+
+		@Override
+		public String toString()
+		{
+			return MoreObjects.toStringHelper(this)
+					.add("nodes", m_Mean.length)
+					.add("timesteps", m_MeanByTimestep.length).toString();
+		}
+	}
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Wait for a prefetched timestep
+	 *
+	 * @param p_Future
+	 *            the prefetch
+	 * @return the node vector read
+	 * @throws IOException
+	 *             problem reading from file, or if interrupted
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private static float[] await(final Future<float[]> p_Future)
+			throws IOException, ParseException
+	{
+		try
+		{
+			return p_Future.get();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted.", e);
+		}
+		catch (final ExecutionException e)
+		{
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			if (cause instanceof ParseException)
+			{
+				throw (ParseException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * @see Builder#withBaseline(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader		m_Baseline;
+
+	/**
+	 * Baseline date index of each aligned timestep
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]			m_BaselineIndices;
+
+	/**
+	 * @see #getDates()
+	 * @since Oct 18, 2026
+	 */
+	private final List<Date>	m_Dates;
+
+	/**
+	 * @see Builder#withScenario(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader		m_Scenario;
+
+	/**
+	 * Scenario date index of each aligned timestep
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]			m_ScenarioIndices;
+
+	/**
+	 * Create a new difference engine from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @param p_Dates
+	 *            the aligned dates
+	 * @param p_ScenarioIndices
+	 *            the scenario date index of each aligned date
+	 * @param p_BaselineIndices
+	 *            the baseline date index of each aligned date
+	 * @since Oct 18, 2026
+	 */
+	private GIODifference(final Builder p_Builder, final List<Date> p_Dates,
+			final int[] p_ScenarioIndices, final int[] p_BaselineIndices)
+	{
+		m_Scenario = p_Builder.m_bScenario;
+		m_Baseline = p_Builder.m_bBaseline;
+		m_Dates = Collections.unmodifiableList(p_Dates);
+		m_ScenarioIndices = p_ScenarioIndices;
+		m_BaselineIndices = p_BaselineIndices;
+	}
+
+	/**
+	 * Difference each aligned timestep, in date order, and pass it to the
+	 * provided listener. The date index passed is the index into
+	 * {@link #getDates()}.
+	 *
+	 * @param p_Listener
+	 *            receives each difference node vector
+	 * @return the number of timesteps passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int difference(final GIOTimestepListener p_Listener)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Listener, "Listener required.");
+		final int count = m_Dates.size();
+		if (count == 0)
+		{
+			return 0;
+		}
+		final int numNodes = m_Scenario.getHeader().getNodesSize();
+		final float[][] baseline = new float[2][numNodes];
+		final float[] scenario = new float[numNodes];
+		final float[] difference = new float[numNodes];
+		final ExecutorService prefetch = Executors
+				.newSingleThreadExecutor(new ThreadFactoryBuilder()
+						.setDaemon(true)
+						.setNameFormat(getClass().getSimpleName() + "-%d")
+						.build());
+		try
+		{
+			Future<float[]> next = prefetch.submit(() -> m_Baseline
+					.readNodes(m_BaselineIndices[0], baseline[0]));
+			for (int i = 0; i < count; i++)
+			{
+				m_Scenario.readNodes(m_ScenarioIndices[i], scenario);
+				final float[] base = await(next);
+				if (i + 1 < count)
+				{
+					/**
+					 * Alternate buffers so the prefetch does not overwrite
+					 * the timestep being differenced
+					 */
+					final int nextIndex = m_BaselineIndices[i + 1];
+					final float[] nextBuffer = baseline[(i + 1) % 2];
+					next = prefetch.submit(
+							() -> m_Baseline.readNodes(nextIndex, nextBuffer));
+				}
+				GIOKernels.subtract(scenario, base, numNodes, difference);
+				p_Listener.timestep(i, m_Dates.get(i), difference);
+			}
+		}
+		finally
+		{
+			prefetch.shutdownNow();
+
+			/**
+			 * Do not return while a baseline read is still in flight, which
+			 * would race the caller's next use of the baseline reader
+			 */
+			boolean interrupted = false;
+			while (true)
+			{
+				try
+				{
+					if (prefetch.awaitTermination(1, TimeUnit.MINUTES))
+					{
+						break;
+					}
+				}
+				catch (final InterruptedException e)
+				{
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get the dates that are differenced
+	 *
+	 * @return the aligned dates, in date order
+	 * @since Oct 18, 2026
+	 */
+	public List<Date> getDates()
+	{
+		return m_Dates;
+	}
+
+	/**
+	 * Compute summary statistics of the differences in a single pass
+	 *
+	 * @return the summary
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public Summary summarize() throws IOException, ParseException
+	{
+		final int numNodes = m_Scenario.getHeader().getNodesSize();
+		final double[] sum = new double[numNodes];
+		final int[] count = new int[numNodes];
+		final float[] min = new float[numNodes];
+		final float[] max = new float[numNodes];
+		Arrays.fill(min, Float.NaN);
+		Arrays.fill(max, Float.NaN);
+		final float[] meanByTimestep = new float[m_Dates.size()];
+		final float[] meanAbsByTimestep = new float[m_Dates.size()];
+		difference((p_DateIndex, p_Date, p_Nodes) -> {
+			double timestepSum = 0.0;
+			double timestepAbsSum = 0.0;
+			int timestepCount = 0;
+			for (int node = 0; node < numNodes; node++)
+			{
+				final float value = p_Nodes[node];
+				if (Float.isNaN(value))
+				{
+					continue;
+				}
+				sum[node] += value;
+				if (count[node]++ == 0)
+				{
+					min[node] = value;
+					max[node] = value;
+				}
+				else
+				{
+					min[node] = Math.min(min[node], value);
+					max[node] = Math.max(max[node], value);
+				}
+				timestepSum += value;
+				timestepAbsSum += Math.abs(value);
+				timestepCount++;
+			}
+			meanByTimestep[p_DateIndex] = timestepCount == 0 ? Float.NaN
+					: (float) (timestepSum / timestepCount);
+			meanAbsByTimestep[p_DateIndex] = timestepCount == 0 ? Float.NaN
+					: (float) (timestepAbsSum / timestepCount);
+		});
+
+		final float[] mean = new float[numNodes];
+		for (int node = 0; node < numNodes; node++)
+		{
+			mean[node] = count[node] == 0 ? Float.NaN
+					: (float) (sum[node] / count[node]);
+		}
+		return new Summary(mean, min, max, meanByTimestep, meanAbsByTimestep);
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("scenario", m_Scenario.getFilePath())
+				.add("baseline", m_Baseline.getFilePath())
+				.add("dates", m_Dates.size()).toString();
+	}
+
+	/**
+	 * Write the differences to a new SFWMM GridIO file, with the grid of the
+	 * scenario file
+	 *
+	 * @param p_FilePath
+	 *            the path of the file to create
+	 * @return the number of timesteps written
+	 * @throws IOException
+	 *             problem reading or writing
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int write(final String p_FilePath)
+			throws IOException, ParseException
+	{
+		final GIOHeader scenario = m_Scenario.getHeader();
+		String title = String.format("%s minus %s",
+				m_Scenario.getHeader().getTitle().trim(),
+				m_Baseline.getHeader().getTitle().trim());
+		if (title.length() > GIOHeader.GRID_TITLE_LENGTH)
+		{
+			title = title.substring(0, GIOHeader.GRID_TITLE_LENGTH);
+		}
+		GIOHeader header;
+		try
+		{
+			header = GIOHeader.builder().withTitle(title)
+					.withNumRows(scenario.getRowsSize())
+					.withNumCols(scenario.getColsSize())
+					.withNumNodes(scenario.getNodesSize())
+					.withSize(scenario.getSizeX(), scenario.getSizeY())
+					.build();
+		}
+		catch (final Exception e)
+		{
+			throw new IOException("Unable to create header.", e);
+		}
+		try (GIOWriter writer = GIOWriter.builder().withFilePath(p_FilePath)
+				.withHeader(header)
+				.withAvailability(m_Scenario.getAvailability()).build())
+		{
+			return difference((p_DateIndex, p_Date, p_Nodes) -> writer
+					.writeNodes(p_Date, p_Nodes));
+		}
+	}
+}
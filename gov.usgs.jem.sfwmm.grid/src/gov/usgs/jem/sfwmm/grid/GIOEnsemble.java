@@ -0,0 +1,647 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computes ensemble statistics across many SFWMM GridIO files (scenarios)
+ * that share a grid and timeline: for every timestep and node, the mean,
+ * standard deviation and requested percentiles over the scenarios. NaN
+ * values are left out; a node with no valid value is NaN.
+ *
+ * Timestep t is read from all scenarios in parallel, then reduced node by
+ * node into reused primitive arrays, so memory is one node vector per
+ * scenario regardless of the number of timesteps. Percentiles are exact:
+ * the scenario values of a node are sorted in a reused buffer and linearly
+ * interpolated between closest ranks.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOEnsemble
+{
+	/**
+	 * Builds new instances of {@link GIOEnsemble}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withPercentiles(double...)
+		 */
+		private double[]		m_bPercentiles;
+
+		/**
+		 * @see #withReaders(Collection)
+		 */
+		private List<GIOReader>	m_bReaders;
+
+		/**
+		 * @see #withThreads(int)
+		 */
+		private int				m_bThreads;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bPercentiles = new double[0];
+			m_bThreads = Runtime.getRuntime().availableProcessors();
+		}
+
+		/**
+		 * Validate that the scenarios share a grid and timeline
+		 *
+		 * @return {@link GIOEnsemble} instance
+		 * @throws IOException
+		 *             problem reading from file
+		 * @throws ParseException
+		 *             problem parsing dates
+		 * @throws IllegalArgumentException
+		 *             if the scenarios are not compatible, or if a reader is
+		 *             given more than once
+		 * @since Oct 18, 2026
+		 */
+		public GIOEnsemble build() throws IOException, ParseException
+		{
+			checkNotNull(m_bReaders, "Readers required.");
+			checkArgument(!m_bReaders.isEmpty(), "At least one reader required.");
+			checkArgument(m_bThreads > 0, "Thread count must be positive.");
+			for (final double percentile : m_bPercentiles)
+			{
+				checkArgument(percentile >= 0.0 && percentile <= 100.0,
+						"Percentiles must be within [0, 100] but got %s",
+						percentile);
+			}
+
+			/**
+			 * Scenarios are read in parallel, so a reader given twice would
+			 * be read by two threads at once
+			 */
+			final Set<GIOReader> distinct = Sets.newIdentityHashSet();
+			for (final GIOReader reader : m_bReaders)
+			{
+				checkArgument(distinct.add(reader),
+						"Reader given more than once: %s",
+						reader.getFilePath());
+			}
+
+			final GIOReader first = m_bReaders.get(0);
+			final GIOHeader header = first.getHeader();
+			final List<Date> dates = first.getDates();
+			for (final GIOReader reader : m_bReaders)
+			{
+				final GIOHeader other = reader.getHeader();
+				checkArgument(
+						header.getRowsSize() == other.getRowsSize()
+								&& header.getColsSize() == other.getColsSize()
+								&& header.getNodesSize() == other
+										.getNodesSize()
+								&& first.getAvailability()
+										.equals(reader.getAvailability()),
+						"Grid of %s differs from %s", reader.getFilePath(),
+						first.getFilePath());
+				checkArgument(dates.equals(reader.getDates()),
+						"Timeline of %s differs from %s",
+						reader.getFilePath(), first.getFilePath());
+			}
+			return new GIOEnsemble(this, dates);
+		}
+
+		/**
+		 * Set the percentiles to compute. By default, none are computed.
+		 *
+		 * @param p_Percentiles
+		 *            percentiles within [0, 100], e.g. 10, 50, 90
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withPercentiles(final double... p_Percentiles)
+		{
+			m_bPercentiles = checkNotNull(p_Percentiles,
+					"Percentiles required.").clone();
+			return this;
+		}
+
+		/**
+		 * Set the readers of the scenarios
+		 *
+		 * @param p_Readers
+		 *            open readers, one per scenario, read in parallel, so
+		 *            each distinct and not sharing a stream
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReaders(final Collection<GIOReader> p_Readers)
+		{
+			m_bReaders = ImmutableList.copyOf(p_Readers);
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of scenarios read at once. Defaults to the
+		 * number of processors.
+		 *
+		 * @param p_Threads
+		 *            the number of reading threads
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThreads(final int p_Threads)
+		{
+			m_bThreads = p_Threads;
+			return this;
+		}
+	}
+
+	/**
+	 * Receives the statistics of each timestep
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	@FunctionalInterface
+	public interface Listener
+	{
+		/**
+		 * Called for each timestep, in date order. The statistics are
+		 * overwritten after this method returns; copy them if they need to be
+		 * kept.
+		 *
+		 * @param p_DateIndex
+		 *            the date index of the timestep
+		 * @param p_Date
+		 *            the date of the timestep
+		 * @param p_Statistics
+		 *            the statistics of the timestep
+		 * @throws IOException
+		 *             if the listener is unable to handle the timestep
+		 * @since Oct 18, 2026
+		 */
+		void timestep(int p_DateIndex, Date p_Date, Statistics p_Statistics)
+				throws IOException;
+	}
+
+	/**
+	 * The ensemble statistics of one timestep, by node index
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Statistics
+	{
+		/**
+		 * @see #getCount()
+		 */
+		private final int[]		m_Count;
+
+		/**
+		 * @see #getMean()
+		 */
+		private final float[]	m_Mean;
+
+		/**
+		 * @see #getPercentile(int)
+		 */
+		private final float[][]	m_Percentiles;
+
+		/**
+		 * @see #getStandardDeviation()
+		 */
+		private final float[]	m_StandardDeviation;
+
+		/**
+		 * @param p_NumNodes
+		 *            the number of nodes
+		 * @param p_NumPercentiles
+		 *            the number of percentiles
+		 * @since Oct 18, 2026
+		 */
+		private Statistics(final int p_NumNodes, final int p_NumPercentiles)
+		{
+			m_Count = new int[p_NumNodes];
+			m_Mean = new float[p_NumNodes];
+			m_StandardDeviation = new float[p_NumNodes];
+			m_Percentiles = new float[p_NumPercentiles][p_NumNodes];
+		}
+
+		/**
+		 * @return the number of scenarios with a valid value at each node
+		 * @since Oct 18, 2026
+		 */
+		public int[] getCount()
+		{
+			return m_Count;
+		}
+
+		/**
+		 * @return the mean over the scenarios of each node
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMean()
+		{
+			return m_Mean;
+		}
+
+		/**
+		 * @param p_Index
+		 *            the index into {@link GIOEnsemble#getPercentiles()}
+		 * @return the percentile over the scenarios of each node
+		 * @since Oct 18, 2026
+		 */
+		public float[] getPercentile(final int p_Index)
+		{
+			checkElementIndex(p_Index, m_Percentiles.length, "Percentile");
+			return m_Percentiles[p_Index];
+		}
+
+		/**
+		 * @return the population standard deviation over the scenarios of
+		 *         each node
+		 * @since Oct 18, 2026
+		 */
+		public float[] getStandardDeviation()
+		{
+			return m_StandardDeviation;
+		}
+
+		@Override
+		public String toString()
+		{
+			return MoreObjects.toStringHelper(this).add("nodes", m_Mean.length)
+					.add("percentiles", m_Percentiles.length).toString();
+		}
+	}
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Get the value at a percentile of sorted values, linearly interpolating
+	 * between closest ranks
+	 *
+	 * @param p_Sorted
+	 *            values in ascending order
+	 * @param p_Count
+	 *            the number of values to use, at least one
+	 * @param p_Percentile
+	 *            the percentile, within [0, 100]
+	 * @return the value at the percentile
+	 * @since Oct 18, 2026
+	 */
+	static float percentile(final float[] p_Sorted, final int p_Count,
+			final double p_Percentile)
+	{
+		final double rank = p_Percentile / 100.0 * (p_Count - 1);
+		final int lower = (int) Math.floor(rank);
+		final int upper = Math.min(lower + 1, p_Count - 1);
+		final double fraction = rank - lower;
+		return (float) (p_Sorted[lower]
+				+ fraction * (p_Sorted[upper] - p_Sorted[lower]));
+	}
+
+	/**
+	 * @see #getDates()
+	 * @since Oct 18, 2026
+	 */
+	private final List<Date>		m_Dates;
+
+	/**
+	 * @see #getPercentiles()
+	 * @since Oct 18, 2026
+	 */
+	private final double[]			m_Percentiles;
+
+	/**
+	 * @see Builder#withReaders(Collection)
+	 * @since Oct 18, 2026
+	 */
+	private final List<GIOReader>	m_Readers;
+
+	/**
+	 * @see Builder#withThreads(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int				m_Threads;
+
+	/**
+	 * Create a new ensemble from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @param p_Dates
+	 *            the shared timeline
+	 * @since Oct 18, 2026
+	 */
+	private GIOEnsemble(final Builder p_Builder, final List<Date> p_Dates)
+	{
+		m_Readers = p_Builder.m_bReaders;
+		m_Percentiles = p_Builder.m_bPercentiles;
+		m_Threads = p_Builder.m_bThreads;
+		m_Dates = ImmutableList.copyOf(p_Dates);
+	}
+
+	/**
+	 * Compute the statistics of each timestep, in date order, and pass them to
+	 * the provided listener
+	 *
+	 * @param p_Listener
+	 *            receives the statistics of each timestep
+	 * @return the number of timesteps passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int compute(final Listener p_Listener)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Listener, "Listener required.");
+		final int numScenarios = m_Readers.size();
+		final int numNodes = m_Readers.get(0).getHeader().getNodesSize();
+		final float[][] nodes = new float[numScenarios][numNodes];
+		final float[] values = new float[numScenarios];
+		final Statistics statistics = new Statistics(numNodes,
+				m_Percentiles.length);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min(m_Threads, numScenarios),
+				new ThreadFactoryBuilder().setDaemon(true)
+						.setNameFormat(getClass().getSimpleName() + "-%d")
+						.build());
+		try
+		{
+			for (int t = 0; t < m_Dates.size(); t++)
+			{
+				read(executor, t, nodes);
+				for (int node = 0; node < numNodes; node++)
+				{
+					int count = 0;
+					double sum = 0.0;
+					for (int s = 0; s < numScenarios; s++)
+					{
+						final float value = nodes[s][node];
+						if (!Float.isNaN(value))
+						{
+							values[count++] = value;
+							sum += value;
+						}
+					}
+					reduce(statistics, node, values, count, sum);
+				}
+				p_Listener.timestep(t, m_Dates.get(t), statistics);
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+		return m_Dates.size();
+	}
+
+	/**
+	 * Get the shared timeline of the scenarios
+	 *
+	 * @return the dates, in date order
+	 * @since Oct 18, 2026
+	 */
+	public List<Date> getDates()
+	{
+		return m_Dates;
+	}
+
+	/**
+	 * Get the percentiles computed
+	 *
+	 * @return the percentiles, in the order provided to the builder
+	 * @since Oct 18, 2026
+	 */
+	public double[] getPercentiles()
+	{
+		return m_Percentiles.clone();
+	}
+
+	/**
+	 * Read one timestep from every scenario in parallel
+	 *
+	 * @param p_Executor
+	 *            runs the reads
+	 * @param p_DateIndex
+	 *            the date index to read
+	 * @param p_Nodes
+	 *            the destination node vector of each scenario
+	 * @throws IOException
+	 *             problem reading from file, or if interrupted
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private void read(final ExecutorService p_Executor, final int p_DateIndex,
+			final float[][] p_Nodes) throws IOException, ParseException
+	{
+		final List<Callable<float[]>> tasks = Lists
+				.newArrayListWithCapacity(m_Readers.size());
+		for (int s = 0; s < m_Readers.size(); s++)
+		{
+			final GIOReader reader = m_Readers.get(s);
+			final float[] nodes = p_Nodes[s];
+			tasks.add(() -> reader.readNodes(p_DateIndex, nodes));
+		}
+		try
+		{
+			for (final Future<float[]> future : p_Executor.invokeAll(tasks))
+			{
+				future.get();
+			}
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted.", e);
+		}
+		catch (final ExecutionException e)
+		{
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			if (cause instanceof ParseException)
+			{
+				throw (ParseException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Reduce the valid scenario values of one node into the statistics
+	 *
+	 * @param p_Statistics
+	 *            the destination statistics
+	 * @param p_Node
+	 *            the node index
+	 * @param p_Values
+	 *            the valid values, reordered by this method
+	 * @param p_Count
+	 *            the number of valid values
+	 * @param p_Sum
+	 *            the sum of the valid values
+	 * @since Oct 18, 2026
+	 */
+	private void reduce(final Statistics p_Statistics, final int p_Node,
+			final float[] p_Values, final int p_Count, final double p_Sum)
+	{
+		p_Statistics.m_Count[p_Node] = p_Count;
+		if (p_Count == 0)
+		{
+			p_Statistics.m_Mean[p_Node] = Float.NaN;
+			p_Statistics.m_StandardDeviation[p_Node] = Float.NaN;
+			for (final float[] percentile : p_Statistics.m_Percentiles)
+			{
+				percentile[p_Node] = Float.NaN;
+			}
+			return;
+		}
+
+		final double mean = p_Sum / p_Count;
+		double squares = 0.0;
+		for (int i = 0; i < p_Count; i++)
+		{
+			final double deviation = p_Values[i] - mean;
+			squares += deviation * deviation;
+		}
+		p_Statistics.m_Mean[p_Node] = (float) mean;
+		p_Statistics.m_StandardDeviation[p_Node] = (float) Math
+				.sqrt(squares / p_Count);
+
+		if (m_Percentiles.length > 0)
+		{
+			Arrays.sort(p_Values, 0, p_Count);
+			for (int i = 0; i < m_Percentiles.length; i++)
+			{
+				p_Statistics.m_Percentiles[i][p_Node] = percentile(p_Values,
+						p_Count, m_Percentiles[i]);
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("scenarios", m_Readers.size())
+				.add("dates", m_Dates.size())
+				.add("percentiles", Arrays.toString(m_Percentiles))
+				.toString();
+	}
+
+	/**
+	 * Write the ensemble products as SFWMM GridIO files named
+	 * {@code <prefix>_mean.bin}, {@code <prefix>_std.bin} and
+	 * {@code <prefix>_p<percentile>.bin}, with the grid of the first scenario
+	 *
+	 * @param p_FilePathPrefix
+	 *            the path prefix of the files to create
+	 * @return the paths of the files written
+	 * @throws IOException
+	 *             problem reading or writing
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public List<String> write(final String p_FilePathPrefix)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_FilePathPrefix, "File path prefix required.");
+		final GIOReader first = m_Readers.get(0);
+		final List<String> names = Lists.newArrayList("mean", "std");
+		for (final double percentile : m_Percentiles)
+		{
+			names.add("p" + String.format(Locale.US, "%s", percentile)
+					.replaceAll("\\.0$", "").replace('.', '_'));
+		}
+
+		final List<String> filePaths = Lists.newArrayList();
+		final List<GIOWriter> writers = Lists.newArrayList();
+		try
+		{
+			for (final String name : names)
+			{
+				final String filePath = String.format("%s_%s.bin",
+						p_FilePathPrefix, name);
+				final GIOHeader header;
+				try
+				{
+					final GIOHeader source = first.getHeader();
+					header = GIOHeader.builder()
+							.withTitle(String.format("Ensemble %s", name))
+							.withNumRows(source.getRowsSize())
+							.withNumCols(source.getColsSize())
+							.withNumNodes(source.getNodesSize())
+							.withSize(source.getSizeX(), source.getSizeY())
+							.build();
+				}
+				catch (final Exception e)
+				{
+					throw new IOException("Unable to create header.", e);
+				}
+				writers.add(GIOWriter.builder().withFilePath(filePath)
+						.withHeader(header)
+						.withAvailability(first.getAvailability()).build());
+				filePaths.add(filePath);
+			}
+
+			compute((p_DateIndex, p_Date, p_Statistics) -> {
+				writers.get(0).writeNodes(p_Date, p_Statistics.getMean());
+				writers.get(1).writeNodes(p_Date,
+						p_Statistics.getStandardDeviation());
+				for (int i = 0; i < m_Percentiles.length; i++)
+				{
+					writers.get(2 + i).writeNodes(p_Date,
+							p_Statistics.getPercentile(i));
+				}
+			});
+		}
+		finally
+		{
+			for (final GIOWriter writer : writers)
+			{
+				writer.close();
+			}
+		}
+		return filePaths;
+	}
+}
@@ -0,0 +1,518 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * An index of the nodes exceeding one or more thresholds at each timestep of
+ * an SFWMM GridIO file. The file is decoded once, when the index is built, and
+ * each (threshold, timestep) pair is stored as a compressed {@link GIOBitmap}
+ * of node indices. Exceedance counts, first/last exceedance dates and spatial
+ * masks are then answered from the bitmaps alone. Use {@link #builder()} to
+ * build a new index from a {@link GIOReader}, or {@link #read(DataInput)} to
+ * load one written by {@link #write(DataOutput)}.
+ *
+ * A value exceeds a threshold if it is strictly greater than it; NaN never
+ * exceeds.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOExceedanceIndex
+{
+	/**
+	 * Builds new instances of {@link GIOExceedanceIndex}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withThresholds(float...)
+		 */
+		private float[]		m_bThresholds;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			/** Nothing for now */
+		}
+
+		/**
+		 * Scan the file and build the index
+		 *
+		 * @return {@link GIOExceedanceIndex} instance
+		 * @throws IOException
+		 *             problem reading from file
+		 * @throws ParseException
+		 *             problem parsing dates
+		 * @since Oct 18, 2026
+		 */
+		public GIOExceedanceIndex build() throws IOException, ParseException
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkNotNull(m_bThresholds, "Thresholds required.");
+			checkArgument(m_bThresholds.length > 0,
+					"At least one threshold required.");
+
+			final float[] thresholds = m_bThresholds.clone();
+			Arrays.sort(thresholds);
+			for (int i = 0; i < thresholds.length; i++)
+			{
+				checkArgument(!Float.isNaN(thresholds[i]),
+						"Thresholds cannot be NaN.");
+				checkArgument(i == 0 || thresholds[i] != thresholds[i - 1],
+						"Duplicate threshold %s", thresholds[i]);
+			}
+
+			final List<Date> dates = m_bReader.getDates();
+			final GIOAvailability availability = m_bReader.getAvailability();
+			final int numNodes = availability.getNodesSize();
+			final GIOBitmap[][] bitmaps = new GIOBitmap[thresholds.length][dates
+					.size()];
+
+			final float[] nodes = new float[numNodes];
+			final int[] exceeding = new int[numNodes];
+			for (int t = 0; t < dates.size(); t++)
+			{
+				m_bReader.readNodes(t, nodes);
+				for (int i = 0; i < thresholds.length; i++)
+				{
+					final float threshold = thresholds[i];
+					int count = 0;
+					for (int node = 0; node < numNodes; node++)
+					{
+						/**
+						 * NaN comparisons are always false
+						 */
+						if (nodes[node] > threshold)
+						{
+							exceeding[count++] = node;
+						}
+					}
+					bitmaps[i][t] = GIOBitmap.of(exceeding, count);
+				}
+			}
+			return new GIOExceedanceIndex(availability, dates, thresholds,
+					bitmaps);
+		}
+
+		/**
+		 * Set the reader to scan
+		 *
+		 * @param p_Reader
+		 *            an open {@link GIOReader}
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set the thresholds to index
+		 *
+		 * @param p_Thresholds
+		 *            distinct threshold values
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThresholds(final float... p_Thresholds)
+		{
+			m_bThresholds = p_Thresholds;
+			return this;
+		}
+	}
+
+	/**
+	 * Identifies serialized indices
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int MAGIC = 0x47494F58;
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Read an index previously written with {@link #write(DataOutput)}
+	 *
+	 * @param p_Input
+	 *            the input to read from
+	 * @return the index
+	 * @throws IOException
+	 *             problem reading, or the input is not an index
+	 * @since Oct 18, 2026
+	 */
+	public static GIOExceedanceIndex read(final DataInput p_Input)
+			throws IOException
+	{
+		checkNotNull(p_Input, "Input required.");
+		if (p_Input.readInt() != MAGIC)
+		{
+			throw new IOException("Not an exceedance index.");
+		}
+
+		final int numRows = p_Input.readInt();
+		final GIOAvailability.Builder availabilityBuilder = GIOAvailability
+				.builder();
+		for (int row = 0; row < numRows; row++)
+		{
+			availabilityBuilder.withRow(row, p_Input.readInt(),
+					p_Input.readInt());
+		}
+		GIOAvailability availability;
+		try
+		{
+			availability = availabilityBuilder.build();
+		}
+		catch (final Exception e)
+		{
+			throw new IOException("Unable to read availability.", e);
+		}
+
+		final int numDates = p_Input.readInt();
+		final List<Date> dates = Lists.newArrayListWithCapacity(numDates);
+		for (int t = 0; t < numDates; t++)
+		{
+			dates.add(new Date(p_Input.readLong()));
+		}
+
+		final float[] thresholds = new float[p_Input.readInt()];
+		final GIOBitmap[][] bitmaps = new GIOBitmap[thresholds.length][numDates];
+		for (int i = 0; i < thresholds.length; i++)
+		{
+			thresholds[i] = p_Input.readFloat();
+			for (int t = 0; t < numDates; t++)
+			{
+				bitmaps[i][t] = GIOBitmap.read(p_Input);
+			}
+		}
+		return new GIOExceedanceIndex(availability, dates, thresholds,
+				bitmaps);
+	}
+
+	/**
+	 * Maps nodes to grid cells
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final GIOAvailability	m_Availability;
+
+	/**
+	 * Exceeding nodes, by threshold index then date index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final GIOBitmap[][]		m_Bitmaps;
+
+	/**
+	 * @see #getDates()
+	 * @since Oct 18, 2026
+	 */
+	private final List<Date>		m_Dates;
+
+	/**
+	 * @see #getThresholds()
+	 * @since Oct 18, 2026
+	 */
+	private final float[]			m_Thresholds;
+
+	/**
+	 * @param p_Availability
+	 *            maps nodes to grid cells
+	 * @param p_Dates
+	 *            the timestep dates
+	 * @param p_Thresholds
+	 *            sorted thresholds
+	 * @param p_Bitmaps
+	 *            exceeding nodes, by threshold index then date index
+	 * @since Oct 18, 2026
+	 */
+	private GIOExceedanceIndex(final GIOAvailability p_Availability,
+			final List<Date> p_Dates, final float[] p_Thresholds,
+			final GIOBitmap[][] p_Bitmaps)
+	{
+		m_Availability = p_Availability;
+		m_Dates = Collections.unmodifiableList(Lists.newArrayList(p_Dates));
+		m_Thresholds = p_Thresholds;
+		m_Bitmaps = p_Bitmaps;
+	}
+
+	/**
+	 * Get the nodes exceeding a threshold at one timestep
+	 *
+	 * @param p_Threshold
+	 *            one of the indexed thresholds
+	 * @param p_DateIndex
+	 *            the 0-based date index
+	 * @return the node indices exceeding the threshold
+	 * @since Oct 18, 2026
+	 */
+	public GIOBitmap getBitmap(final float p_Threshold, final int p_DateIndex)
+	{
+		checkElementIndex(p_DateIndex, m_Dates.size(), "Date index");
+		return m_Bitmaps[thresholdIndex(p_Threshold)][p_DateIndex];
+	}
+
+	/**
+	 * Get the number of cells exceeding a threshold at one timestep
+	 *
+	 * @param p_Threshold
+	 *            one of the indexed thresholds
+	 * @param p_DateIndex
+	 *            the 0-based date index
+	 * @return the number of exceeding cells
+	 * @since Oct 18, 2026
+	 */
+	public int getCount(final float p_Threshold, final int p_DateIndex)
+	{
+		return getBitmap(p_Threshold, p_DateIndex).getCardinality();
+	}
+
+	/**
+	 * Get the indexed timestep dates
+	 *
+	 * @return the dates, in the same order as the file
+	 * @since Oct 18, 2026
+	 */
+	public List<Date> getDates()
+	{
+		return m_Dates;
+	}
+
+	/**
+	 * Count, for every node, the number of timesteps in which it exceeds a
+	 * threshold
+	 *
+	 * @param p_Threshold
+	 *            one of the indexed thresholds
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices to count
+	 * @return the number of exceeding timesteps, by node index
+	 * @since Oct 18, 2026
+	 */
+	public int[] getExceedanceCounts(final float p_Threshold,
+			final Range<Integer> p_DateIndices)
+	{
+		checkNotNull(p_DateIndices, "Date index range required.");
+		final GIOBitmap[] bitmaps = m_Bitmaps[thresholdIndex(p_Threshold)];
+		final int[] counts = new int[m_Availability.getNodesSize()];
+		final int first = p_DateIndices.hasLowerBound()
+				? p_DateIndices.lowerEndpoint()
+						+ (p_DateIndices.lowerBoundType() == BoundType.OPEN ? 1
+								: 0)
+				: 0;
+		final int last = p_DateIndices.hasUpperBound()
+				? p_DateIndices.upperEndpoint()
+						- (p_DateIndices.upperBoundType() == BoundType.OPEN ? 1
+								: 0)
+				: bitmaps.length - 1;
+		for (int t = Math.max(0, first); t <= Math.min(last,
+				bitmaps.length - 1); t++)
+		{
+			bitmaps[t].forEach(node -> counts[node]++);
+		}
+		return counts;
+	}
+
+	/**
+	 * Get the first date a cell exceeds a threshold
+	 *
+	 * @param p_Threshold
+	 *            one of the indexed thresholds
+	 * @param p_Row
+	 *            the 0-based row
+	 * @param p_Col
+	 *            the 0-based column
+	 * @return the first exceeding date, or null if the cell never exceeds the
+	 *         threshold or has no node
+	 * @since Oct 18, 2026
+	 */
+	public Date getFirstExceedance(final float p_Threshold, final int p_Row,
+			final int p_Col)
+	{
+		final GIOBitmap[] bitmaps = m_Bitmaps[thresholdIndex(p_Threshold)];
+		final int node = m_Availability.getNodeIndex(p_Row, p_Col);
+		if (node >= 0)
+		{
+			for (int t = 0; t < bitmaps.length; t++)
+			{
+				if (bitmaps[t].contains(node))
+				{
+					return m_Dates.get(t);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the last date a cell exceeds a threshold
+	 *
+	 * @param p_Threshold
+	 *            one of the indexed thresholds
+	 * @param p_Row
+	 *            the 0-based row
+	 * @param p_Col
+	 *            the 0-based column
+	 * @return the last exceeding date, or null if the cell never exceeds the
+	 *         threshold or has no node
+	 * @since Oct 18, 2026
+	 */
+	public Date getLastExceedance(final float p_Threshold, final int p_Row,
+			final int p_Col)
+	{
+		final GIOBitmap[] bitmaps = m_Bitmaps[thresholdIndex(p_Threshold)];
+		final int node = m_Availability.getNodeIndex(p_Row, p_Col);
+		if (node >= 0)
+		{
+			for (int t = bitmaps.length - 1; t >= 0; t--)
+			{
+				if (bitmaps[t].contains(node))
+				{
+					return m_Dates.get(t);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the spatial mask of cells exceeding a threshold at one timestep
+	 *
+	 * @param p_Threshold
+	 *            one of the indexed thresholds
+	 * @param p_DateIndex
+	 *            the 0-based date index
+	 * @return a full grid (row-major, row 0 first, the same order as
+	 *         {@link GIOReader#readData(Range, Range, Range)}) that is true
+	 *         where the cell exceeds the threshold
+	 * @since Oct 18, 2026
+	 */
+	public boolean[] getMask(final float p_Threshold, final int p_DateIndex)
+	{
+		final int numCols = m_Availability.getColsSize();
+		final boolean[] mask = new boolean[m_Availability.getRowsSize()
+				* numCols];
+		getBitmap(p_Threshold, p_DateIndex)
+				.forEach(node -> mask[m_Availability.getRow(node) * numCols
+						+ m_Availability.getColumn(node)] = true);
+		return mask;
+	}
+
+	/**
+	 * Get the indexed thresholds
+	 *
+	 * @return the thresholds, in ascending order
+	 * @since Oct 18, 2026
+	 */
+	public float[] getThresholds()
+	{
+		return m_Thresholds.clone();
+	}
+
+	/**
+	 * Find the index of the provided threshold
+	 *
+	 * @param p_Threshold
+	 *            the threshold
+	 * @return the index into {@link #m_Thresholds}
+	 * @throws IllegalArgumentException
+	 *             if the threshold is not indexed
+	 * @since Oct 18, 2026
+	 */
+	private int thresholdIndex(final float p_Threshold)
+	{
+		final int index = Arrays.binarySearch(m_Thresholds, p_Threshold);
+		checkArgument(index >= 0,
+				"Threshold %s is not indexed; expected one of %s", p_Threshold,
+				Arrays.toString(m_Thresholds));
+		return index;
+	}
+
+	@Override
+	public String toString()
+	{
+		long bytes = 0;
+		for (final GIOBitmap[] bitmaps : m_Bitmaps)
+		{
+			for (final GIOBitmap bitmap : bitmaps)
+			{
+				bytes += bitmap.getSizeInBytes();
+			}
+		}
+		return MoreObjects.toStringHelper(this)
+				.add("thresholds", Arrays.toString(m_Thresholds))
+				.add("dates", m_Dates.size()).add("bytes", bytes).toString();
+	}
+
+	/**
+	 * Serialize this index, so that it can be re-used without scanning the
+	 * file again
+	 *
+	 * @param p_Output
+	 *            the output to write to
+	 * @throws IOException
+	 *             problem writing
+	 * @since Oct 18, 2026
+	 */
+	public void write(final DataOutput p_Output) throws IOException
+	{
+		checkNotNull(p_Output, "Output required.");
+		p_Output.writeInt(MAGIC);
+		p_Output.writeInt(m_Availability.getRowsSize());
+		for (int row = 0; row < m_Availability.getRowsSize(); row++)
+		{
+			final Range<Integer> columns = m_Availability.getColumns(row);
+			p_Output.writeInt(columns.lowerEndpoint());
+			p_Output.writeInt(columns.upperEndpoint());
+		}
+		p_Output.writeInt(m_Dates.size());
+		for (final Date date : m_Dates)
+		{
+			p_Output.writeLong(date.getTime());
+		}
+		p_Output.writeInt(m_Thresholds.length);
+		for (int i = 0; i < m_Thresholds.length; i++)
+		{
+			p_Output.writeFloat(m_Thresholds[i]);
+			for (final GIOBitmap bitmap : m_Bitmaps[i])
+			{
+				bitmap.write(p_Output);
+			}
+		}
+	}
+}
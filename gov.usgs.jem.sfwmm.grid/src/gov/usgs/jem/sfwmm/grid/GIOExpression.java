@@ -0,0 +1,1074 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.primitives.Floats;
+import com.google.common.primitives.Ints;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An arithmetic expression over SFWMM GridIO files and constants, such as
+ * {@code (stage - ground_elev) > 0.1} or {@code max(stage_alt - stage_base,
+ * 0)}, evaluated node by node and timestep by timestep. Build expressions
+ * with {@link #parse(String, Map)} or from {@link #variable(String, GIOReader)}
+ * and {@link #constant(float)} combined with
+ * {@link #combine(Operator, GIOExpression)}.
+ *
+ * Each expression is compiled into one postfix program that is run for each
+ * node over the input node vectors of a timestep, so no intermediate vector
+ * is built for sub-expressions. Only the selected timesteps are read, and a
+ * row/column selection is read through
+ * {@link GIOReader#readData(Range, Range, Range)} so that unselected nodes
+ * are skipped in the file.
+ *
+ * Every input must share the grid of the others. Inputs with more than one
+ * timestep must share the same dates, which are the dates of the
+ * expression; an input with a single timestep, such as ground elevation, is
+ * used at every timestep. NaN propagates through every operation, and
+ * comparisons give 1 when true and 0 when false.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOExpression
+{
+	/**
+	 * The binary operators of expressions
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public enum Operator
+	{
+		/**
+		 * {@code a + b}
+		 */
+		ADD("+"),
+
+		/**
+		 * {@code a / b}
+		 */
+		DIVIDE("/"),
+
+		/**
+		 * {@code a == b}
+		 */
+		EQUAL("=="),
+
+		/**
+		 * {@code a > b}
+		 */
+		GREATER(">"),
+
+		/**
+		 * {@code a >= b}
+		 */
+		GREATER_EQUAL(">="),
+
+		/**
+		 * {@code a < b}
+		 */
+		LESS("<"),
+
+		/**
+		 * {@code a <= b}
+		 */
+		LESS_EQUAL("<="),
+
+		/**
+		 * {@code max(a, b)}
+		 */
+		MAX("max"),
+
+		/**
+		 * {@code min(a, b)}
+		 */
+		MIN("min"),
+
+		/**
+		 * {@code a * b}
+		 */
+		MULTIPLY("*"),
+
+		/**
+		 * {@code a != b}
+		 */
+		NOT_EQUAL("!="),
+
+		/**
+		 * {@code a - b}
+		 */
+		SUBTRACT("-");
+
+		/**
+		 * The symbol or function name of the operator
+		 */
+		private final String m_Symbol;
+
+		/**
+		 * @param p_Symbol
+		 *            the symbol or function name of the operator
+		 * @since Oct 18, 2026
+		 */
+		Operator(final String p_Symbol)
+		{
+			m_Symbol = p_Symbol;
+		}
+
+		/**
+		 * Apply the operator
+		 *
+		 * @param p_A
+		 *            the left operand
+		 * @param p_B
+		 *            the right operand
+		 * @return the result
+		 * @since Oct 18, 2026
+		 */
+		private float apply(final float p_A, final float p_B)
+		{
+			if (Float.isNaN(p_A) || Float.isNaN(p_B))
+			{
+				return Float.NaN;
+			}
+			switch (this)
+			{
+				case ADD:
+					return p_A + p_B;
+				case DIVIDE:
+					return p_A / p_B;
+				case EQUAL:
+					return p_A == p_B ? 1.0f : 0.0f;
+				case GREATER:
+					return p_A > p_B ? 1.0f : 0.0f;
+				case GREATER_EQUAL:
+					return p_A >= p_B ? 1.0f : 0.0f;
+				case LESS:
+					return p_A < p_B ? 1.0f : 0.0f;
+				case LESS_EQUAL:
+					return p_A <= p_B ? 1.0f : 0.0f;
+				case MAX:
+					return Math.max(p_A, p_B);
+				case MIN:
+					return Math.min(p_A, p_B);
+				case MULTIPLY:
+					return p_A * p_B;
+				case NOT_EQUAL:
+					return p_A != p_B ? 1.0f : 0.0f;
+				case SUBTRACT:
+					return p_A - p_B;
+				default:
+					throw new IllegalStateException("Unsupported " + this);
+			}
+		}
+
+		/**
+		 * @return the symbol, or function name, of the operator
+		 * @since Oct 18, 2026
+		 */
+		public String getSymbol()
+		{
+			return m_Symbol;
+		}
+	}
+
+	/**
+	 * Recursive-descent parser of expression text
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class Parser
+	{
+		/**
+		 * The position of the next character
+		 */
+		private int								m_Position;
+
+		/**
+		 * The expression text
+		 */
+		private final String					m_Text;
+
+		/**
+		 * The readers of the variable names
+		 */
+		private final Map<String, GIOReader>	m_Variables;
+
+		/**
+		 * @param p_Text
+		 *            the expression text
+		 * @param p_Variables
+		 *            the readers of the variable names
+		 * @since Oct 18, 2026
+		 */
+		private Parser(final String p_Text,
+				final Map<String, GIOReader> p_Variables)
+		{
+			m_Text = p_Text;
+			m_Variables = p_Variables;
+		}
+
+		/**
+		 * @param p_Token
+		 *            the expected token
+		 * @throws ParseException
+		 *             if the next token is not the expected one
+		 * @since Oct 18, 2026
+		 */
+		private void expect(final String p_Token) throws ParseException
+		{
+			if (!take(p_Token))
+			{
+				throw new ParseException(String.format("Expected '%s' at %s in %s",
+						p_Token, m_Position, m_Text), m_Position);
+			}
+		}
+
+		/**
+		 * {@code additive := term (('+' | '-') term)*}
+		 *
+		 * @return the expression
+		 * @throws ParseException
+		 *             if the text is not valid
+		 * @since Oct 18, 2026
+		 */
+		private GIOExpression parseAdditive() throws ParseException
+		{
+			GIOExpression result = parseTerm();
+			while (true)
+			{
+				if (take("+"))
+				{
+					result = result.combine(Operator.ADD, parseTerm());
+				}
+				else if (take("-"))
+				{
+					result = result.combine(Operator.SUBTRACT, parseTerm());
+				}
+				else
+				{
+					return result;
+				}
+			}
+		}
+
+		/**
+		 * {@code comparison := additive (operator additive)?}
+		 *
+		 * @return the expression
+		 * @throws ParseException
+		 *             if the text is not valid
+		 * @since Oct 18, 2026
+		 */
+		private GIOExpression parseComparison() throws ParseException
+		{
+			final GIOExpression left = parseAdditive();
+
+			/**
+			 * Two-character operators first, so ">=" is not read as ">"
+			 */
+			for (final Operator operator : new Operator[] {
+					Operator.GREATER_EQUAL, Operator.LESS_EQUAL,
+					Operator.EQUAL, Operator.NOT_EQUAL, Operator.GREATER,
+					Operator.LESS })
+			{
+				if (take(operator.getSymbol()))
+				{
+					return left.combine(operator, parseAdditive());
+				}
+			}
+			return left;
+		}
+
+		/**
+		 * Parse the whole text
+		 *
+		 * @return the expression
+		 * @throws ParseException
+		 *             if the text is not valid
+		 * @since Oct 18, 2026
+		 */
+		private GIOExpression parseExpression() throws ParseException
+		{
+			final GIOExpression result = parseComparison();
+			skipSpaces();
+			if (m_Position < m_Text.length())
+			{
+				throw new ParseException(
+						String.format("Unexpected '%s' at %s in %s",
+								m_Text.charAt(m_Position), m_Position, m_Text),
+						m_Position);
+			}
+			return result;
+		}
+
+		/**
+		 * {@code primary := number | name | name '(' args ')' | '(' comparison
+		 * ')'}
+		 *
+		 * @return the expression
+		 * @throws ParseException
+		 *             if the text is not valid
+		 * @since Oct 18, 2026
+		 */
+		private GIOExpression parsePrimary() throws ParseException
+		{
+			skipSpaces();
+			if (take("("))
+			{
+				final GIOExpression result = parseComparison();
+				expect(")");
+				return result;
+			}
+			final int start = m_Position;
+			if (m_Position < m_Text.length()
+					&& (Character.isDigit(m_Text.charAt(m_Position))
+							|| m_Text.charAt(m_Position) == '.'))
+			{
+				while (m_Position < m_Text.length() && (Character
+						.isLetterOrDigit(m_Text.charAt(m_Position))
+						|| m_Text.charAt(m_Position) == '.'
+						|| (m_Text.charAt(m_Position) == '-'
+								|| m_Text.charAt(m_Position) == '+')
+								&& Character.toLowerCase(
+										m_Text.charAt(m_Position - 1)) == 'e'))
+				{
+					m_Position++;
+				}
+				final Float value = Floats
+						.tryParse(m_Text.substring(start, m_Position));
+				if (value == null)
+				{
+					throw new ParseException(String.format(
+							"Invalid number '%s' in %s",
+							m_Text.substring(start, m_Position), m_Text),
+							start);
+				}
+				return constant(value);
+			}
+			while (m_Position < m_Text.length()
+					&& (Character.isLetterOrDigit(m_Text.charAt(m_Position))
+							|| m_Text.charAt(m_Position) == '_'))
+			{
+				m_Position++;
+			}
+			final String name = m_Text.substring(start, m_Position);
+			if (name.isEmpty())
+			{
+				throw new ParseException(
+						String.format("Expected a value at %s in %s", start,
+								m_Text),
+						start);
+			}
+			if (take("("))
+			{
+				final GIOExpression first = parseComparison();
+				if (name.equals("abs"))
+				{
+					expect(")");
+					return first.abs();
+				}
+				for (final Operator operator : new Operator[] { Operator.MIN,
+						Operator.MAX })
+				{
+					if (name.equals(operator.getSymbol()))
+					{
+						expect(",");
+						final GIOExpression second = parseComparison();
+						expect(")");
+						return first.combine(operator, second);
+					}
+				}
+				throw new ParseException(String.format(
+						"Unknown function '%s' in %s", name, m_Text), start);
+			}
+			final GIOReader reader = m_Variables.get(name);
+			if (reader == null)
+			{
+				throw new ParseException(String.format(
+						"Unknown variable '%s' in %s", name, m_Text), start);
+			}
+			return variable(name, reader);
+		}
+
+		/**
+		 * {@code term := unary (('*' | '/') unary)*}
+		 *
+		 * @return the expression
+		 * @throws ParseException
+		 *             if the text is not valid
+		 * @since Oct 18, 2026
+		 */
+		private GIOExpression parseTerm() throws ParseException
+		{
+			GIOExpression result = parseUnary();
+			while (true)
+			{
+				if (take("*"))
+				{
+					result = result.combine(Operator.MULTIPLY, parseUnary());
+				}
+				else if (take("/"))
+				{
+					result = result.combine(Operator.DIVIDE, parseUnary());
+				}
+				else
+				{
+					return result;
+				}
+			}
+		}
+
+		/**
+		 * {@code unary := '-' unary | primary}
+		 *
+		 * @return the expression
+		 * @throws ParseException
+		 *             if the text is not valid
+		 * @since Oct 18, 2026
+		 */
+		private GIOExpression parseUnary() throws ParseException
+		{
+			if (take("-"))
+			{
+				return parseUnary().negate();
+			}
+			return parsePrimary();
+		}
+
+		/**
+		 * Skip white space
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private void skipSpaces()
+		{
+			while (m_Position < m_Text.length()
+					&& Character.isWhitespace(m_Text.charAt(m_Position)))
+			{
+				m_Position++;
+			}
+		}
+
+		/**
+		 * Consume a token if it is next
+		 *
+		 * @param p_Token
+		 *            the token
+		 * @return true if the token was consumed
+		 * @since Oct 18, 2026
+		 */
+		private boolean take(final String p_Token)
+		{
+			skipSpaces();
+			if (m_Text.startsWith(p_Token, m_Position))
+			{
+				m_Position += p_Token.length();
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Program code of the absolute value of the top of the stack
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	ABS			= -4;
+
+	/**
+	 * Program code pushing the constant indexed by the next code
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	CONSTANT	= -1;
+
+	/**
+	 * Program code negating the top of the stack
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	NEGATE		= -3;
+
+	/**
+	 * Program code pushing the input indexed by the next code
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	VARIABLE	= -2;
+
+	/**
+	 * Create an expression of a constant
+	 *
+	 * @param p_Value
+	 *            the constant
+	 * @return the expression
+	 * @since Oct 18, 2026
+	 */
+	public static GIOExpression constant(final float p_Value)
+	{
+		return new GIOExpression(ImmutableList.of(), ImmutableList.of(),
+				new int[] { CONSTANT, 0 }, new float[] { p_Value },
+				Float.toString(p_Value));
+	}
+
+	/**
+	 * Parse an expression of variables, numbers, the operators {@code + - * /
+	 * > >= < <= == !=}, unary minus, parentheses and the functions
+	 * {@code abs(x)}, {@code min(a, b)} and {@code max(a, b)}
+	 *
+	 * @param p_Text
+	 *            the expression text, e.g. {@code (stage - ground) > 0.1}
+	 * @param p_Variables
+	 *            the readers of the variable names used in the text
+	 * @return the expression
+	 * @throws ParseException
+	 *             if the text is not valid
+	 * @since Oct 18, 2026
+	 */
+	public static GIOExpression parse(final String p_Text,
+			final Map<String, GIOReader> p_Variables) throws ParseException
+	{
+		checkNotNull(p_Text, "Expression required.");
+		checkNotNull(p_Variables, "Variables required.");
+		return new Parser(p_Text, p_Variables).parseExpression();
+	}
+
+	/**
+	 * Clip a range of date indices to the available dates
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices
+	 * @param p_Size
+	 *            the number of dates
+	 * @return the closed range of selected date indices, or null if none
+	 * @since Oct 18, 2026
+	 */
+	private static Range<Integer> select(final Range<Integer> p_DateIndices,
+			final int p_Size)
+	{
+		if (p_Size == 0)
+		{
+			return null;
+		}
+		final Range<Integer> all = Range.closed(0, p_Size - 1);
+		if (!all.isConnected(p_DateIndices))
+		{
+			return null;
+		}
+		final Range<Integer> selected = all.intersection(p_DateIndices);
+		final int lower = selected.lowerEndpoint()
+				+ (selected.lowerBoundType() == BoundType.OPEN
+						? 1
+						: 0);
+		final int upper = selected.upperEndpoint()
+				- (selected.upperBoundType() == BoundType.OPEN
+						? 1
+						: 0);
+		return lower > upper ? null : Range.closed(lower, upper);
+	}
+
+	/**
+	 * Create an expression of the values of a file
+	 *
+	 * @param p_Name
+	 *            the name of the variable in {@link #toString()}
+	 * @param p_Reader
+	 *            an open reader of the file
+	 * @return the expression
+	 * @since Oct 18, 2026
+	 */
+	public static GIOExpression variable(final String p_Name,
+			final GIOReader p_Reader)
+	{
+		checkNotNull(p_Name, "Name required.");
+		checkNotNull(p_Reader, "Reader required.");
+		return new GIOExpression(ImmutableList.of(p_Reader),
+				ImmutableList.of(p_Name), new int[] { VARIABLE, 0 },
+				new float[0], p_Name);
+	}
+
+	/**
+	 * The constants, indexed by the program
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float[]			m_Constants;
+
+	/**
+	 * The input readers, indexed by the program
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final List<GIOReader>	m_Inputs;
+
+	/**
+	 * The variable names of {@link #m_Inputs}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final List<String>		m_Names;
+
+	/**
+	 * The postfix program
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_Program;
+
+	/**
+	 * The largest stack depth reached by the program
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int				m_StackSize;
+
+	/**
+	 * @see #toString()
+	 * @since Oct 18, 2026
+	 */
+	private final String			m_Text;
+
+	/**
+	 * Create a compiled expression
+	 *
+	 * @param p_Inputs
+	 *            the input readers
+	 * @param p_Names
+	 *            the variable names of the inputs
+	 * @param p_Program
+	 *            the postfix program
+	 * @param p_Constants
+	 *            the constants
+	 * @param p_Text
+	 *            the expression text
+	 * @since Oct 18, 2026
+	 */
+	private GIOExpression(final List<GIOReader> p_Inputs,
+			final List<String> p_Names, final int[] p_Program,
+			final float[] p_Constants, final String p_Text)
+	{
+		m_Inputs = ImmutableList.copyOf(p_Inputs);
+		m_Names = ImmutableList.copyOf(p_Names);
+		m_Program = p_Program;
+		m_Constants = p_Constants;
+		m_Text = p_Text;
+
+		for (final GIOReader input : m_Inputs)
+		{
+			checkArgument(
+					m_Inputs.get(0).getAvailability()
+							.equals(input.getAvailability()),
+					"Grid of %s differs from %s", input.getFilePath(),
+					m_Inputs.get(0).getFilePath());
+		}
+
+		int depth = 0;
+		int stackSize = 0;
+		for (int pc = 0; pc < m_Program.length; pc++)
+		{
+			final int code = m_Program[pc];
+			if (code == CONSTANT || code == VARIABLE)
+			{
+				pc++;
+				depth++;
+			}
+			else if (code >= 0)
+			{
+				depth--;
+			}
+			stackSize = Math.max(stackSize, depth);
+		}
+		m_StackSize = stackSize;
+	}
+
+	/**
+	 * Get the absolute value of this expression
+	 *
+	 * @return a new expression
+	 * @since Oct 18, 2026
+	 */
+	public GIOExpression abs()
+	{
+		return new GIOExpression(m_Inputs, m_Names,
+				Ints.concat(m_Program, new int[] { ABS }), m_Constants,
+				String.format("abs(%s)", m_Text));
+	}
+
+	/**
+	 * Combine this expression with another one
+	 *
+	 * @param p_Operator
+	 *            the operator
+	 * @param p_Other
+	 *            the right operand
+	 * @return a new expression, {@code this operator other}
+	 * @throws IllegalArgumentException
+	 *             if the inputs do not share a grid
+	 * @since Oct 18, 2026
+	 */
+	public GIOExpression combine(final Operator p_Operator,
+			final GIOExpression p_Other)
+	{
+		checkNotNull(p_Operator, "Operator required.");
+		checkNotNull(p_Other, "Expression required.");
+
+		/**
+		 * Share inputs read by both operands, and renumber those of the
+		 * other operand
+		 */
+		final List<GIOReader> inputs = Lists.newArrayList(m_Inputs);
+		final List<String> names = Lists.newArrayList(m_Names);
+		final int[] inputMap = new int[p_Other.m_Inputs.size()];
+		for (int i = 0; i < inputMap.length; i++)
+		{
+			final GIOReader input = p_Other.m_Inputs.get(i);
+			int index = -1;
+			for (int j = 0; j < inputs.size() && index < 0; j++)
+			{
+				index = inputs.get(j) == input ? j : -1;
+			}
+			if (index < 0)
+			{
+				index = inputs.size();
+				inputs.add(input);
+				names.add(p_Other.m_Names.get(i));
+			}
+			inputMap[i] = index;
+		}
+		final int[] other = p_Other.m_Program.clone();
+		for (int pc = 0; pc < other.length; pc++)
+		{
+			if (other[pc] == CONSTANT)
+			{
+				other[++pc] += m_Constants.length;
+			}
+			else if (other[pc] == VARIABLE)
+			{
+				pc++;
+				other[pc] = inputMap[other[pc]];
+			}
+		}
+
+		final String text = p_Operator == Operator.MIN
+				|| p_Operator == Operator.MAX
+						? String.format("%s(%s, %s)", p_Operator.getSymbol(),
+								m_Text, p_Other.m_Text)
+						: String.format("(%s %s %s)", m_Text,
+								p_Operator.getSymbol(), p_Other.m_Text);
+		return new GIOExpression(inputs, names,
+				Ints.concat(m_Program, other,
+						new int[] { p_Operator.ordinal() }),
+				Floats.concat(m_Constants, p_Other.m_Constants), text);
+	}
+
+	/**
+	 * Evaluate the expression at each selected timestep, in date order, and
+	 * pass the result to the provided listener as a node vector. The node
+	 * vector is reused between calls.
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices
+	 * @param p_Listener
+	 *            receives the result of each timestep
+	 * @return the number of timesteps passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int evaluate(final Range<Integer> p_DateIndices,
+			final GIOTimestepListener p_Listener)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_DateIndices, "Date index range required.");
+		checkNotNull(p_Listener, "Listener required.");
+		final List<Date> dates = getDates();
+		final Range<Integer> dateIndices = select(p_DateIndices, dates.size());
+		if (dateIndices == null)
+		{
+			return 0;
+		}
+		final int numNodes = m_Inputs.get(0).getHeader().getNodesSize();
+		final float[][] inputs = new float[m_Inputs.size()][numNodes];
+		final boolean[] varying = new boolean[m_Inputs.size()];
+		for (int i = 0; i < inputs.length; i++)
+		{
+			varying[i] = m_Inputs.get(i).getDates().size() != 1;
+			if (!varying[i])
+			{
+				m_Inputs.get(i).readNodes(0, inputs[i]);
+			}
+		}
+
+		final float[] result = new float[numNodes];
+		final float[] stack = new float[m_StackSize];
+		int count = 0;
+		for (int t = dateIndices.lowerEndpoint(); t <= dateIndices
+				.upperEndpoint(); t++)
+		{
+			for (int i = 0; i < inputs.length; i++)
+			{
+				if (varying[i])
+				{
+					m_Inputs.get(i).readNodes(t, inputs[i]);
+				}
+			}
+			run(inputs, stack, result);
+			p_Listener.timestep(t, dates.get(t), result);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Evaluate the expression over a block of rows and columns at each
+	 * selected timestep, in date order, and pass the result to the provided
+	 * listener as a row-major grid of the selected cells, the layout of
+	 * {@link GIOReader#readData(Range, Range, Range)}. Only the selected cells
+	 * are read.
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices
+	 * @param p_RowIndices
+	 *            the range of rows
+	 * @param p_ColumnIndices
+	 *            the range of columns
+	 * @param p_Listener
+	 *            receives the result of each timestep
+	 * @return the number of timesteps passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int evaluate(final Range<Integer> p_DateIndices,
+			final Range<Integer> p_RowIndices,
+			final Range<Integer> p_ColumnIndices,
+			final GIOTimestepListener p_Listener)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_DateIndices, "Date index range required.");
+		checkNotNull(p_RowIndices, "Row index range required.");
+		checkNotNull(p_ColumnIndices, "Column index range required.");
+		checkNotNull(p_Listener, "Listener required.");
+		final List<Date> dates = getDates();
+		final Range<Integer> dateIndices = select(p_DateIndices, dates.size());
+		if (dateIndices == null)
+		{
+			return 0;
+		}
+		final float[][] inputs = new float[m_Inputs.size()][];
+		final boolean[] varying = new boolean[m_Inputs.size()];
+		for (int i = 0; i < inputs.length; i++)
+		{
+			varying[i] = m_Inputs.get(i).getDates().size() != 1;
+			if (!varying[i])
+			{
+				inputs[i] = m_Inputs.get(i).readData(Range.singleton(0),
+						p_RowIndices, p_ColumnIndices);
+			}
+		}
+
+		float[] result = null;
+		final float[] stack = new float[m_StackSize];
+		int count = 0;
+		for (int t = dateIndices.lowerEndpoint(); t <= dateIndices
+				.upperEndpoint(); t++)
+		{
+			for (int i = 0; i < inputs.length; i++)
+			{
+				if (varying[i])
+				{
+					inputs[i] = m_Inputs.get(i).readData(Range.singleton(t),
+							p_RowIndices, p_ColumnIndices);
+				}
+			}
+			if (result == null)
+			{
+				result = new float[inputs[0].length];
+			}
+			run(inputs, stack, result);
+			p_Listener.timestep(t, dates.get(t), result);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Get the dates of the expression: those of its inputs with more than one
+	 * timestep, or the single date of its first input if all have one
+	 *
+	 * @return the dates
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @throws IllegalStateException
+	 *             if the expression has no variable
+	 * @throws IllegalArgumentException
+	 *             if the inputs with more than one timestep have different
+	 *             dates
+	 * @since Oct 18, 2026
+	 */
+	public List<Date> getDates() throws IOException, ParseException
+	{
+		checkState(!m_Inputs.isEmpty(), "Expression %s has no variable.",
+				m_Text);
+		List<Date> dates = null;
+		GIOReader source = null;
+		for (final GIOReader input : m_Inputs)
+		{
+			final List<Date> inputDates = input.getDates();
+			if (inputDates.size() == 1)
+			{
+				continue;
+			}
+			if (dates == null)
+			{
+				dates = inputDates;
+				source = input;
+			}
+			else
+			{
+				checkArgument(dates.equals(inputDates),
+						"Timeline of %s differs from %s", input.getFilePath(),
+						source.getFilePath());
+			}
+		}
+		return dates == null ? m_Inputs.get(0).getDates() : dates;
+	}
+
+	/**
+	 * Get the negation of this expression
+	 *
+	 * @return a new expression
+	 * @since Oct 18, 2026
+	 */
+	public GIOExpression negate()
+	{
+		return new GIOExpression(m_Inputs, m_Names,
+				Ints.concat(m_Program, new int[] { NEGATE }), m_Constants,
+				String.format("-%s", m_Text));
+	}
+
+	/**
+	 * Run the program for each node
+	 *
+	 * @param p_Inputs
+	 *            the values of each input
+	 * @param p_Stack
+	 *            the evaluation stack
+	 * @param p_Result
+	 *            the destination
+	 * @since Oct 18, 2026
+	 */
+	private void run(final float[][] p_Inputs, final float[] p_Stack,
+			final float[] p_Result)
+	{
+		final Operator[] operators = Operator.values();
+		final int[] program = m_Program;
+		for (int node = 0; node < p_Result.length; node++)
+		{
+			int top = -1;
+			for (int pc = 0; pc < program.length; pc++)
+			{
+				final int code = program[pc];
+				switch (code)
+				{
+					case CONSTANT:
+						p_Stack[++top] = m_Constants[program[++pc]];
+						break;
+					case VARIABLE:
+						p_Stack[++top] = p_Inputs[program[++pc]][node];
+						break;
+					case NEGATE:
+						p_Stack[top] = -p_Stack[top];
+						break;
+					case ABS:
+						p_Stack[top] = Math.abs(p_Stack[top]);
+						break;
+					default:
+						top--;
+						p_Stack[top] = operators[code].apply(p_Stack[top],
+								p_Stack[top + 1]);
+						break;
+				}
+			}
+			p_Result[node] = p_Stack[0];
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("expression", m_Text)
+				.add("variables", m_Names)
+				.add("program", Arrays.toString(m_Program)).toString();
+	}
+
+	/**
+	 * Write the expression at every timestep as a new SFWMM GridIO file with
+	 * the grid of the inputs, titled with the expression
+	 *
+	 * @param p_FilePath
+	 *            the path of the file to create
+	 * @return the number of timesteps written
+	 * @throws IOException
+	 *             problem reading or writing
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int write(final String p_FilePath)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_FilePath, "File path required.");
+		checkState(!m_Inputs.isEmpty(), "Expression %s has no variable.",
+				m_Text);
+		final GIOReader first = m_Inputs.get(0);
+		final GIOHeader source = first.getHeader();
+		String title = m_Text;
+		if (title.length() > GIOHeader.GRID_TITLE_LENGTH)
+		{
+			title = title.substring(0, GIOHeader.GRID_TITLE_LENGTH);
+		}
+		final GIOHeader header;
+		try
+		{
+			header = GIOHeader.builder().withTitle(title)
+					.withNumRows(source.getRowsSize())
+					.withNumCols(source.getColsSize())
+					.withNumNodes(source.getNodesSize())
+					.withSize(source.getSizeX(), source.getSizeY()).build();
+		}
+		catch (final Exception e)
+		{
+			throw new IOException("Unable to create header.", e);
+		}
+
+		try (GIOWriter writer = GIOWriter.builder().withFilePath(p_FilePath)
+				.withHeader(header).withAvailability(first.getAvailability())
+				.build())
+		{
+			return evaluate(Range.all(), (p_DateIndex, p_Date,
+					p_Nodes) -> writer.writeNodes(p_Date, p_Nodes));
+		}
+	}
+}
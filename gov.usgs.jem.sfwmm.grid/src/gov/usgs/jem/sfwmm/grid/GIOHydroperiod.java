@@ -0,0 +1,601 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computes hydroperiod and the longest continuous inundation of each node, by
+ * year, from an SFWMM GridIO stage or depth file. A node is inundated at a
+ * timestep if its value is strictly greater than its threshold, either a
+ * single value (e.g. 0 for a depth file) or one value per node (e.g. ground
+ * elevation for a stage file); NaN is never inundated.
+ *
+ * For each year, the hydroperiod of a node is the number of timesteps it is
+ * inundated and the longest run is the largest number of consecutive
+ * inundated timesteps; for daily files, both are in days. Runs do not carry
+ * across years.
+ *
+ * Timesteps are read once, in order, into blocks of up to
+ * {@value #BLOCK_SIZE} timesteps that never span a year. Each block is then
+ * processed in parallel by node range, with the per-node run-length state
+ * kept in primitive arrays.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOHydroperiod
+{
+	/**
+	 * Builds new instances of {@link GIOHydroperiod}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withThreads(int)
+		 */
+		private int			m_bThreads;
+
+		/**
+		 * @see #withThreshold(float)
+		 * @see #withThresholds(float[])
+		 */
+		private float[]		m_bThresholds;
+
+		/**
+		 * @see #withWaterYearStart(Month)
+		 */
+		private Month		m_bWaterYearStart;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bThreads = Runtime.getRuntime().availableProcessors();
+			m_bWaterYearStart = Month.JANUARY;
+		}
+
+		/**
+		 * Create the calculator
+		 *
+		 * @return {@link GIOHydroperiod} instance
+		 * @since Oct 18, 2026
+		 */
+		public GIOHydroperiod build()
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkNotNull(m_bThresholds, "Threshold required.");
+			checkNotNull(m_bWaterYearStart, "Water year start required.");
+			checkArgument(m_bThreads > 0, "Thread count must be positive.");
+			final int numNodes = m_bReader.getHeader().getNodesSize();
+			if (m_bThresholds.length == 1 && numNodes != 1)
+			{
+				final float threshold = m_bThresholds[0];
+				m_bThresholds = new float[numNodes];
+				Arrays.fill(m_bThresholds, threshold);
+			}
+			checkArgument(m_bThresholds.length == numNodes,
+					"Expected %s thresholds but got %s", numNodes,
+					m_bThresholds.length);
+			return new GIOHydroperiod(this);
+		}
+
+		/**
+		 * Set the reader of the stage or depth file
+		 *
+		 * @param p_Reader
+		 *            an open {@link GIOReader}
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set the number of threads the nodes are split across. Defaults to
+		 * the number of processors.
+		 *
+		 * @param p_Threads
+		 *            the number of threads
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThreads(final int p_Threads)
+		{
+			m_bThreads = p_Threads;
+			return this;
+		}
+
+		/**
+		 * Set a threshold shared by all nodes
+		 *
+		 * @param p_Threshold
+		 *            the value a node must exceed to be inundated
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThreshold(final float p_Threshold)
+		{
+			m_bThresholds = new float[] { p_Threshold };
+			return this;
+		}
+
+		/**
+		 * Set the threshold of each node, such as ground elevation
+		 *
+		 * @param p_Thresholds
+		 *            the value each node must exceed to be inundated, in file
+		 *            order
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThresholds(final float[] p_Thresholds)
+		{
+			m_bThresholds = checkNotNull(p_Thresholds, "Thresholds required.")
+					.clone();
+			return this;
+		}
+
+		/**
+		 * Set the first month of the year. Defaults to {@link Month#JANUARY},
+		 * the calendar year; use e.g. {@link Month#MAY} for the South Florida
+		 * water year.
+		 *
+		 * @param p_Month
+		 *            the first month of the year
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withWaterYearStart(final Month p_Month)
+		{
+			m_bWaterYearStart = p_Month;
+			return this;
+		}
+	}
+
+	/**
+	 * Receives each {@link Year} as soon as it is complete
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	@FunctionalInterface
+	public interface Listener
+	{
+		/**
+		 * Called once per year, in date order
+		 *
+		 * @param p_Year
+		 *            the hydroperiod of the year, owned by the listener
+		 * @throws IOException
+		 *             if the listener is unable to handle the year
+		 * @since Oct 18, 2026
+		 */
+		void year(Year p_Year) throws IOException;
+	}
+
+	/**
+	 * The hydroperiod and longest inundation of one year, by node index
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Year
+	{
+		/**
+		 * @see #getHydroperiod()
+		 */
+		private final int[]	m_Hydroperiod;
+
+		/**
+		 * @see #getLongestRun()
+		 */
+		private final int[]	m_LongestRun;
+
+		/**
+		 * @see #getStart()
+		 */
+		private final Date	m_Start;
+
+		/**
+		 * @see #getTimestepCount()
+		 */
+		private final int	m_TimestepCount;
+
+		/**
+		 * @param p_Start
+		 *            the start of the year
+		 * @param p_TimestepCount
+		 *            the number of timesteps in the year
+		 * @param p_Hydroperiod
+		 *            the number of inundated timesteps of each node
+		 * @param p_LongestRun
+		 *            the longest run of inundated timesteps of each node
+		 * @since Oct 18, 2026
+		 */
+		private Year(final Date p_Start, final int p_TimestepCount,
+				final int[] p_Hydroperiod, final int[] p_LongestRun)
+		{
+			m_Start = p_Start;
+			m_TimestepCount = p_TimestepCount;
+			m_Hydroperiod = p_Hydroperiod;
+			m_LongestRun = p_LongestRun;
+		}
+
+		/**
+		 * @return the number of inundated timesteps of each node, in file
+		 *         order
+		 * @since Oct 18, 2026
+		 */
+		public int[] getHydroperiod()
+		{
+			return m_Hydroperiod;
+		}
+
+		/**
+		 * @return the longest run of consecutive inundated timesteps of each
+		 *         node, in file order
+		 * @since Oct 18, 2026
+		 */
+		public int[] getLongestRun()
+		{
+			return m_LongestRun;
+		}
+
+		/**
+		 * @return the start of the year
+		 * @since Oct 18, 2026
+		 */
+		public Date getStart()
+		{
+			return new Date(m_Start.getTime());
+		}
+
+		/**
+		 * @return the number of timesteps in the year
+		 * @since Oct 18, 2026
+		 */
+		public int getTimestepCount()
+		{
+			return m_TimestepCount;
+		}
+
+		@Override
+		public String toString()
+		{
+			return MoreObjects.toStringHelper(this).add("start", m_Start)
+					.add("timesteps", m_TimestepCount).toString();
+		}
+	}
+
+	/**
+	 * Maximum number of timesteps buffered before they are processed
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int BLOCK_SIZE = 64;
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader	m_Reader;
+
+	/**
+	 * @see Builder#withThreads(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int		m_Threads;
+
+	/**
+	 * @see Builder#withThresholds(float[])
+	 * @since Oct 18, 2026
+	 */
+	private final float[]	m_Thresholds;
+
+	/**
+	 * @see Builder#withWaterYearStart(Month)
+	 * @since Oct 18, 2026
+	 */
+	private final Month		m_WaterYearStart;
+
+	/**
+	 * Create a new calculator from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private GIOHydroperiod(final Builder p_Builder)
+	{
+		m_Reader = p_Builder.m_bReader;
+		m_Thresholds = p_Builder.m_bThresholds;
+		m_Threads = p_Builder.m_bThreads;
+		m_WaterYearStart = p_Builder.m_bWaterYearStart;
+	}
+
+	/**
+	 * Compute every year, keeping them all in memory
+	 *
+	 * @return the hydroperiod of each year, in date order
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public List<Year> calculate() throws IOException, ParseException
+	{
+		final List<Year> years = Lists.newArrayList();
+		calculate(years::add);
+		return years;
+	}
+
+	/**
+	 * Compute every year, passing each to the provided listener as soon as it
+	 * is complete
+	 *
+	 * @param p_Listener
+	 *            receives each year
+	 * @return the number of years passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int calculate(final Listener p_Listener)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Listener, "Listener required.");
+		final int numNodes = m_Thresholds.length;
+		final float[][] block = new float[BLOCK_SIZE][numNodes];
+		final int[] run = new int[numNodes];
+		final int[] hydroperiod = new int[numNodes];
+		final int[] longestRun = new int[numNodes];
+		final Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+		final ExecutorService executor = m_Threads == 1 ? null
+				: Executors.newFixedThreadPool(m_Threads,
+						new ThreadFactoryBuilder().setDaemon(true)
+								.setNameFormat(getClass().getSimpleName()
+										+ "-%d")
+								.build());
+		try
+		{
+			final List<Date> dates = m_Reader.getDates();
+			int years = 0;
+			int timesteps = 0;
+			int blockSize = 0;
+			long yearStart = Long.MIN_VALUE;
+			for (int t = 0; t < dates.size(); t++)
+			{
+				final long start = getYearStart(cal, dates.get(t));
+				if (start != yearStart || blockSize == BLOCK_SIZE)
+				{
+					process(executor, block, blockSize, run, hydroperiod,
+							longestRun);
+					blockSize = 0;
+				}
+				if (start != yearStart)
+				{
+					if (timesteps > 0)
+					{
+						p_Listener.year(new Year(new Date(yearStart),
+								timesteps, hydroperiod.clone(),
+								longestRun.clone()));
+						years++;
+					}
+					Arrays.fill(run, 0);
+					Arrays.fill(hydroperiod, 0);
+					Arrays.fill(longestRun, 0);
+					yearStart = start;
+					timesteps = 0;
+				}
+				m_Reader.readNodes(t, block[blockSize++]);
+				timesteps++;
+			}
+			process(executor, block, blockSize, run, hydroperiod, longestRun);
+			if (timesteps > 0)
+			{
+				p_Listener.year(new Year(new Date(yearStart), timesteps,
+						hydroperiod, longestRun));
+				years++;
+			}
+			return years;
+		}
+		finally
+		{
+			if (executor != null)
+			{
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Get the start of the year containing the provided date
+	 *
+	 * @param p_Calendar
+	 *            a UTC calendar to compute with
+	 * @param p_Date
+	 *            the date
+	 * @return the start of its year, in milliseconds
+	 * @since Oct 18, 2026
+	 */
+	private long getYearStart(final Calendar p_Calendar, final Date p_Date)
+	{
+		p_Calendar.setTime(p_Date);
+		final int year = p_Calendar.get(Calendar.YEAR);
+		final int month = p_Calendar.get(Calendar.MONTH);
+		/**
+		 * Calendar months are 0-based, Month values are 1-based
+		 */
+		final int startMonth = m_WaterYearStart.getValue() - 1;
+		p_Calendar.clear();
+		p_Calendar.set(month >= startMonth ? year : year - 1, startMonth, 1);
+		return p_Calendar.getTimeInMillis();
+	}
+
+	/**
+	 * Fold a block of timesteps into the run-length state, splitting the
+	 * nodes into one contiguous range per thread
+	 *
+	 * @param p_Executor
+	 *            runs the node ranges, or null to run on this thread
+	 * @param p_Block
+	 *            the buffered timesteps
+	 * @param p_BlockSize
+	 *            the number of buffered timesteps
+	 * @param p_Run
+	 *            the current run of each node
+	 * @param p_Hydroperiod
+	 *            the number of inundated timesteps of each node
+	 * @param p_LongestRun
+	 *            the longest run of each node
+	 * @throws IOException
+	 *             if interrupted or a node range fails
+	 * @since Oct 18, 2026
+	 */
+	private void process(final ExecutorService p_Executor,
+			final float[][] p_Block, final int p_BlockSize, final int[] p_Run,
+			final int[] p_Hydroperiod, final int[] p_LongestRun)
+			throws IOException
+	{
+		if (p_BlockSize == 0)
+		{
+			return;
+		}
+		final int numNodes = m_Thresholds.length;
+		if (p_Executor == null)
+		{
+			process(p_Block, p_BlockSize, 0, numNodes, p_Run, p_Hydroperiod,
+					p_LongestRun);
+			return;
+		}
+
+		final int rangeSize = (numNodes + m_Threads - 1) / m_Threads;
+		final List<Callable<Void>> tasks = Lists.newArrayList();
+		for (int first = 0; first < numNodes; first += rangeSize)
+		{
+			final int from = first;
+			final int to = Math.min(numNodes, first + rangeSize);
+			tasks.add(() -> {
+				process(p_Block, p_BlockSize, from, to, p_Run, p_Hydroperiod,
+						p_LongestRun);
+				return null;
+			});
+		}
+		try
+		{
+			for (final Future<Void> future : p_Executor.invokeAll(tasks))
+			{
+				future.get();
+			}
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted.", e);
+		}
+		catch (final ExecutionException e)
+		{
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Fold a block of timesteps into the run-length state of a range of nodes
+	 *
+	 * @param p_Block
+	 *            the buffered timesteps
+	 * @param p_BlockSize
+	 *            the number of buffered timesteps
+	 * @param p_From
+	 *            the first node, inclusive
+	 * @param p_To
+	 *            the last node, exclusive
+	 * @param p_Run
+	 *            the current run of each node
+	 * @param p_Hydroperiod
+	 *            the number of inundated timesteps of each node
+	 * @param p_LongestRun
+	 *            the longest run of each node
+	 * @since Oct 18, 2026
+	 */
+	private void process(final float[][] p_Block, final int p_BlockSize,
+			final int p_From, final int p_To, final int[] p_Run,
+			final int[] p_Hydroperiod, final int[] p_LongestRun)
+	{
+		for (int t = 0; t < p_BlockSize; t++)
+		{
+			final float[] nodes = p_Block[t];
+			for (int node = p_From; node < p_To; node++)
+			{
+				/**
+				 * NaN comparisons are always false
+				 */
+				if (nodes[node] > m_Thresholds[node])
+				{
+					p_Hydroperiod[node]++;
+					if (++p_Run[node] > p_LongestRun[node])
+					{
+						p_LongestRun[node] = p_Run[node];
+					}
+				}
+				else
+				{
+					p_Run[node] = 0;
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("file", m_Reader.getFilePath())
+				.add("threads", m_Threads)
+				.add("waterYearStart", m_WaterYearStart).toString();
+	}
+}
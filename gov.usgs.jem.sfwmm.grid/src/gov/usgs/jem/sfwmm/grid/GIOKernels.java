@@ -0,0 +1,250 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * NaN-aware kernels over the node vectors produced by {@link GIOReader}. Each
+ * kernel is a single counted loop without early exits or calls, with
+ * independent accumulators for the reductions and NaN handled by comparisons
+ * rather than branches, the shape the JIT compiler unrolls and vectorizes
+ * into SIMD instructions on the running processor.
+ *
+ * In the reductions, NaN values are skipped; a reduction over no valid value
+ * is NaN (zero for counts and sums). In the element-wise kernels, NaN
+ * propagates. Every kernel operates on the first {@code p_Length} elements of
+ * its arrays.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOKernels
+{
+	/**
+	 * Check the length against the arrays
+	 *
+	 * @param p_Length
+	 *            the number of elements to process
+	 * @param p_Arrays
+	 *            the arrays
+	 * @since Oct 18, 2026
+	 */
+	private static void checkLength(final int p_Length,
+			final float[]... p_Arrays)
+	{
+		checkArgument(p_Length >= 0, "Length must not be negative.");
+		for (final float[] array : p_Arrays)
+		{
+			checkArgument(array.length >= p_Length,
+					"Expected at least %s values but got %s", p_Length,
+					array.length);
+		}
+	}
+
+	/**
+	 * Count the values that are not NaN
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @param p_Length
+	 *            the number of values to process
+	 * @return the number of values that are not NaN
+	 * @since Oct 18, 2026
+	 */
+	public static int count(final float[] p_Values, final int p_Length)
+	{
+		checkLength(p_Length, p_Values);
+		int count = 0;
+		for (int i = 0; i < p_Length; i++)
+		{
+			final float value = p_Values[i];
+
+			/**
+			 * NaN is the only value not equal to itself
+			 */
+			count += value == value ? 1 : 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Count the values strictly greater than a threshold; NaN never is
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @param p_Length
+	 *            the number of values to process
+	 * @param p_Threshold
+	 *            the threshold
+	 * @return the number of values above the threshold
+	 * @since Oct 18, 2026
+	 */
+	public static int countAbove(final float[] p_Values, final int p_Length,
+			final float p_Threshold)
+	{
+		checkLength(p_Length, p_Values);
+		int count = 0;
+		for (int i = 0; i < p_Length; i++)
+		{
+			count += p_Values[i] > p_Threshold ? 1 : 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Get the largest value
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @param p_Length
+	 *            the number of values to process
+	 * @return the largest value that is not NaN, or NaN if there is none
+	 * @since Oct 18, 2026
+	 */
+	public static float max(final float[] p_Values, final int p_Length)
+	{
+		checkLength(p_Length, p_Values);
+		float max = Float.NEGATIVE_INFINITY;
+		for (int i = 0; i < p_Length; i++)
+		{
+			final float value = p_Values[i];
+
+			/**
+			 * Comparisons with NaN are false, so NaN is skipped
+			 */
+			max = value > max ? value : max;
+		}
+		return max == Float.NEGATIVE_INFINITY && count(p_Values, p_Length) == 0
+				? Float.NaN
+				: max;
+	}
+
+	/**
+	 * Get the smallest value
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @param p_Length
+	 *            the number of values to process
+	 * @return the smallest value that is not NaN, or NaN if there is none
+	 * @since Oct 18, 2026
+	 */
+	public static float min(final float[] p_Values, final int p_Length)
+	{
+		checkLength(p_Length, p_Values);
+		float min = Float.POSITIVE_INFINITY;
+		for (int i = 0; i < p_Length; i++)
+		{
+			final float value = p_Values[i];
+			min = value < min ? value : min;
+		}
+		return min == Float.POSITIVE_INFINITY && count(p_Values, p_Length) == 0
+				? Float.NaN
+				: min;
+	}
+
+	/**
+	 * Scale and offset each value: {@code p_Values * p_Scale + p_Offset},
+	 * such as for unit conversions
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @param p_Length
+	 *            the number of values to process
+	 * @param p_Scale
+	 *            the factor
+	 * @param p_Offset
+	 *            the amount added after scaling
+	 * @param p_Destination
+	 *            the destination, which may be {@code p_Values}
+	 * @return the destination
+	 * @since Oct 18, 2026
+	 */
+	public static float[] scale(final float[] p_Values, final int p_Length,
+			final float p_Scale, final float p_Offset,
+			final float[] p_Destination)
+	{
+		checkLength(p_Length, p_Values, p_Destination);
+		for (int i = 0; i < p_Length; i++)
+		{
+			p_Destination[i] = p_Values[i] * p_Scale + p_Offset;
+		}
+		return p_Destination;
+	}
+
+	/**
+	 * Subtract one vector from another: {@code p_A - p_B}
+	 *
+	 * @param p_A
+	 *            the values subtracted from
+	 * @param p_B
+	 *            the values subtracted
+	 * @param p_Length
+	 *            the number of values to process
+	 * @param p_Destination
+	 *            the destination, which may be either operand
+	 * @return the destination
+	 * @since Oct 18, 2026
+	 */
+	public static float[] subtract(final float[] p_A, final float[] p_B,
+			final int p_Length, final float[] p_Destination)
+	{
+		checkLength(p_Length, p_A, p_B, p_Destination);
+		for (int i = 0; i < p_Length; i++)
+		{
+			p_Destination[i] = p_A[i] - p_B[i];
+		}
+		return p_Destination;
+	}
+
+	/**
+	 * Sum the values, in double precision
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @param p_Length
+	 *            the number of values to process
+	 * @return the sum of the values that are not NaN
+	 * @since Oct 18, 2026
+	 */
+	public static double sum(final float[] p_Values, final int p_Length)
+	{
+		checkLength(p_Length, p_Values);
+
+		/**
+		 * Independent accumulators break the dependency between iterations
+		 */
+		double sum0 = 0.0;
+		double sum1 = 0.0;
+		double sum2 = 0.0;
+		double sum3 = 0.0;
+		final int unrolled = p_Length & ~3;
+		int i = 0;
+		for (; i < unrolled; i += 4)
+		{
+			final float v0 = p_Values[i];
+			final float v1 = p_Values[i + 1];
+			final float v2 = p_Values[i + 2];
+			final float v3 = p_Values[i + 3];
+			sum0 += v0 == v0 ? v0 : 0.0f;
+			sum1 += v1 == v1 ? v1 : 0.0f;
+			sum2 += v2 == v2 ? v2 : 0.0f;
+			sum3 += v3 == v3 ? v3 : 0.0f;
+		}
+		for (; i < p_Length; i++)
+		{
+			final float value = p_Values[i];
+			sum0 += value == value ? value : 0.0f;
+		}
+		return sum0 + sum1 + sum2 + sum3;
+	}
+
+	/**
+	 * Static utility
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private GIOKernels()
+	{
+		/** Nothing for now */
+	}
+}
@@ -0,0 +1,500 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Range;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * Computes trailing moving-window statistics of each node of a SFWMM GridIO
+ * file in one streaming pass: the mean, minimum and maximum of the last
+ * {@code window} timesteps, ignoring NaN. A window is reported at the date of
+ * its last timestep, once it is full, so the first
+ * {@code window - 1} timesteps produce no output. A node with no valid value
+ * in the window is NaN.
+ *
+ * The last {@code window} node vectors are kept in a ring. Means come from
+ * running sums, and minima and maxima from a monotonic deque of date indices
+ * per node, so the total work is O(timesteps × nodes) regardless of the
+ * window length, and memory is O(window × nodes), all in primitive arrays.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOMovingWindow
+{
+	/**
+	 * Builds new instances of {@link GIOMovingWindow}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withWindow(int)
+		 */
+		private int			m_bWindow;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+		}
+
+		/**
+		 * Validate and build
+		 *
+		 * @return {@link GIOMovingWindow} instance
+		 * @since Oct 18, 2026
+		 */
+		public GIOMovingWindow build()
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkArgument(m_bWindow > 0, "Window must be positive but got %s",
+					m_bWindow);
+			return new GIOMovingWindow(this);
+		}
+
+		/**
+		 * Set the reader of the file
+		 *
+		 * @param p_Reader
+		 *            an open reader
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set the window length, such as 30 or 365 for daily files
+		 *
+		 * @param p_Window
+		 *            the number of timesteps in each window
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withWindow(final int p_Window)
+		{
+			m_bWindow = p_Window;
+			return this;
+		}
+	}
+
+	/**
+	 * Receives the statistics of each full window
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	@FunctionalInterface
+	public interface Listener
+	{
+		/**
+		 * Called for each full window, in date order. The statistics are
+		 * overwritten after this method returns; copy them if they need to be
+		 * kept.
+		 *
+		 * @param p_DateIndex
+		 *            the date index of the last timestep in the window
+		 * @param p_Date
+		 *            the date of the last timestep in the window
+		 * @param p_Window
+		 *            the statistics of the window
+		 * @throws IOException
+		 *             if the listener is unable to handle the window
+		 * @since Oct 18, 2026
+		 */
+		void window(int p_DateIndex, Date p_Date, Window p_Window)
+				throws IOException;
+	}
+
+	/**
+	 * The moving-window statistics available from a {@link Window}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public enum Statistic
+	{
+		/**
+		 * Maximum over the window
+		 */
+		MAX,
+
+		/**
+		 * Mean over the window
+		 */
+		MEAN,
+
+		/**
+		 * Minimum over the window
+		 */
+		MIN;
+	}
+
+	/**
+	 * The statistics of one window, by node index
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Window
+	{
+		/**
+		 * @see #getMax()
+		 */
+		private final float[]	m_Max;
+
+		/**
+		 * @see #getMean()
+		 */
+		private final float[]	m_Mean;
+
+		/**
+		 * @see #getMin()
+		 */
+		private final float[]	m_Min;
+
+		/**
+		 * @param p_NumNodes
+		 *            the number of nodes
+		 * @since Oct 18, 2026
+		 */
+		private Window(final int p_NumNodes)
+		{
+			m_Mean = new float[p_NumNodes];
+			m_Min = new float[p_NumNodes];
+			m_Max = new float[p_NumNodes];
+		}
+
+		/**
+		 * @param p_Statistic
+		 *            the statistic
+		 * @return the statistic of each node
+		 * @since Oct 18, 2026
+		 */
+		public float[] get(final Statistic p_Statistic)
+		{
+			switch (checkNotNull(p_Statistic, "Statistic required."))
+			{
+				case MAX:
+					return m_Max;
+				case MEAN:
+					return m_Mean;
+				case MIN:
+					return m_Min;
+				default:
+					throw new IllegalArgumentException(
+							"Unsupported statistic " + p_Statistic);
+			}
+		}
+
+		/**
+		 * @return the maximum of each node over the window
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMax()
+		{
+			return m_Max;
+		}
+
+		/**
+		 * @return the mean of each node over the window
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMean()
+		{
+			return m_Mean;
+		}
+
+		/**
+		 * @return the minimum of each node over the window
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMin()
+		{
+			return m_Min;
+		}
+
+		@Override
+		public String toString()
+		{
+			return MoreObjects.toStringHelper(this)
+					.add("nodes", m_Mean.length).toString();
+		}
+	}
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Append a date index to the back of a node's monotonic deque, first
+	 * removing the entries it dominates
+	 *
+	 * @param p_Ring
+	 *            the ring of node vectors, by date index modulo window
+	 * @param p_Deques
+	 *            the deque slots of all nodes, window slots per node
+	 * @param p_Heads
+	 *            the head slot of each node's deque
+	 * @param p_Sizes
+	 *            the size of each node's deque
+	 * @param p_Node
+	 *            the node index
+	 * @param p_DateIndex
+	 *            the date index to append
+	 * @param p_Value
+	 *            the value at the date index
+	 * @param p_Min
+	 *            true for a minimum deque, false for a maximum deque
+	 * @since Oct 18, 2026
+	 */
+	private static void push(final float[][] p_Ring, final int[] p_Deques,
+			final int[] p_Heads, final int[] p_Sizes, final int p_Node,
+			final int p_DateIndex, final float p_Value, final boolean p_Min)
+	{
+		final int window = p_Ring.length;
+		final int base = p_Node * window;
+		int size = p_Sizes[p_Node];
+		while (size > 0)
+		{
+			final float back = p_Ring[p_Deques[base
+					+ (p_Heads[p_Node] + size - 1) % window] % window][p_Node];
+			if (p_Min ? back < p_Value : back > p_Value)
+			{
+				break;
+			}
+			size--;
+		}
+		p_Deques[base + (p_Heads[p_Node] + size) % window] = p_DateIndex;
+		p_Sizes[p_Node] = size + 1;
+	}
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader	m_Reader;
+
+	/**
+	 * @see #getWindow()
+	 * @since Oct 18, 2026
+	 */
+	private final int		m_Window;
+
+	/**
+	 * Create a new instance from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private GIOMovingWindow(final Builder p_Builder)
+	{
+		m_Reader = p_Builder.m_bReader;
+		m_Window = p_Builder.m_bWindow;
+	}
+
+	/**
+	 * Compute the statistics of each full window, in date order, and pass
+	 * them to the provided listener
+	 *
+	 * @param p_Listener
+	 *            receives the statistics of each full window
+	 * @return the number of windows passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int filter(final Listener p_Listener)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Listener, "Listener required.");
+		final int numNodes = m_Reader.getHeader().getNodesSize();
+		final int window = m_Window;
+
+		/**
+		 * The last window node vectors, by date index modulo window
+		 */
+		final float[][] ring = new float[window][numNodes];
+		final double[] sums = new double[numNodes];
+		final int[] counts = new int[numNodes];
+
+		/**
+		 * Monotonic deques of date indices, window slots per node: values
+		 * increase from the head for minima and decrease for maxima
+		 */
+		final int[] minDeques = new int[numNodes * window];
+		final int[] minHeads = new int[numNodes];
+		final int[] minSizes = new int[numNodes];
+		final int[] maxDeques = new int[numNodes * window];
+		final int[] maxHeads = new int[numNodes];
+		final int[] maxSizes = new int[numNodes];
+
+		final Window result = new Window(numNodes);
+		final int[] emitted = new int[1];
+		m_Reader.forEachTimestep(Range.all(), (p_DateIndex, p_Date,
+				p_Nodes) -> {
+			final float[] slot = ring[p_DateIndex % window];
+			final int expired = p_DateIndex - window;
+			for (int node = 0; node < numNodes; node++)
+			{
+				/**
+				 * Drop the timestep leaving the window before its slot is
+				 * reused
+				 */
+				if (expired >= 0 && !Float.isNaN(slot[node]))
+				{
+					sums[node] -= slot[node];
+					counts[node]--;
+				}
+				final int base = node * window;
+				if (minSizes[node] > 0
+						&& minDeques[base + minHeads[node]] <= expired)
+				{
+					minHeads[node] = (minHeads[node] + 1) % window;
+					minSizes[node]--;
+				}
+				if (maxSizes[node] > 0
+						&& maxDeques[base + maxHeads[node]] <= expired)
+				{
+					maxHeads[node] = (maxHeads[node] + 1) % window;
+					maxSizes[node]--;
+				}
+
+				final float value = p_Nodes[node];
+				slot[node] = value;
+				if (!Float.isNaN(value))
+				{
+					sums[node] += value;
+					counts[node]++;
+
+					push(ring, minDeques, minHeads, minSizes, node, p_DateIndex,
+							value, true);
+					push(ring, maxDeques, maxHeads, maxSizes, node, p_DateIndex,
+							value, false);
+				}
+
+				if (p_DateIndex >= window - 1)
+				{
+					if (counts[node] == 0)
+					{
+						result.m_Mean[node] = Float.NaN;
+						result.m_Min[node] = Float.NaN;
+						result.m_Max[node] = Float.NaN;
+					}
+					else
+					{
+						result.m_Mean[node] = (float) (sums[node]
+								/ counts[node]);
+						result.m_Min[node] = ring[minDeques[base
+								+ minHeads[node]] % window][node];
+						result.m_Max[node] = ring[maxDeques[base
+								+ maxHeads[node]] % window][node];
+					}
+				}
+			}
+			if (p_DateIndex >= window - 1)
+			{
+				p_Listener.window(p_DateIndex, p_Date, result);
+				emitted[0]++;
+			}
+		});
+		return emitted[0];
+	}
+
+	/**
+	 * Get the window length
+	 *
+	 * @return the number of timesteps in each window
+	 * @since Oct 18, 2026
+	 */
+	public int getWindow()
+	{
+		return m_Window;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("filePath", m_Reader.getFilePath())
+				.add("window", m_Window).toString();
+	}
+
+	/**
+	 * Write one statistic of each full window as a new SFWMM GridIO file with
+	 * the grid of the source file
+	 *
+	 * @param p_Statistic
+	 *            the statistic to write
+	 * @param p_FilePath
+	 *            the path of the file to create
+	 * @return the number of timesteps written
+	 * @throws IOException
+	 *             problem reading or writing
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int write(final Statistic p_Statistic, final String p_FilePath)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Statistic, "Statistic required.");
+		checkNotNull(p_FilePath, "File path required.");
+		final GIOHeader source = m_Reader.getHeader();
+		String title = String.format("%s %s-step %s",
+				source.getTitle().trim(), m_Window,
+				p_Statistic.name().toLowerCase());
+		if (title.length() > GIOHeader.GRID_TITLE_LENGTH)
+		{
+			title = title.substring(0, GIOHeader.GRID_TITLE_LENGTH);
+		}
+		final GIOHeader header;
+		try
+		{
+			header = GIOHeader.builder().withTitle(title)
+					.withNumRows(source.getRowsSize())
+					.withNumCols(source.getColsSize())
+					.withNumNodes(source.getNodesSize())
+					.withSize(source.getSizeX(), source.getSizeY()).build();
+		}
+		catch (final Exception e)
+		{
+			throw new IOException("Unable to create header.", e);
+		}
+
+		try (GIOWriter writer = GIOWriter.builder().withFilePath(p_FilePath)
+				.withHeader(header)
+				.withAvailability(m_Reader.getAvailability()).build())
+		{
+			return filter((p_DateIndex, p_Date, p_Window) -> writer
+					.writeNodes(p_Date, p_Window.get(p_Statistic)));
+		}
+	}
+}
@@ -0,0 +1,734 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Range;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Arrays;
+
+/**
+ * Computes percentiles of the time series of every node of a SFWMM GridIO
+ * file, such as the points of stage-duration curves: the value exceeded
+ * {@code x} percent of the time is the {@code 100 - x} percentile. NaN values
+ * are ignored; a node with no valid value is NaN.
+ *
+ * In {@link Mode#EXACT} mode, the series of a block of nodes is gathered
+ * node-major, sorted and linearly interpolated between closest ranks. Blocks
+ * are sized to fit the memory limit, so large files may take more than one
+ * pass. In {@link Mode#APPROXIMATE} mode, every value is added to a small
+ * compactor sketch per node in a single pass: when a level is full, it is
+ * sorted and every other value is promoted to the next level with twice the
+ * weight. As in the KLL sketch, the top level holds {@code sketchSize}
+ * values and each level below it two thirds of the one above, down to 2, so
+ * memory per node is about six times {@code sketchSize} values whatever the
+ * number of timesteps. The result is exact while a node has fewer than
+ * {@code sketchSize} values.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOQuantiles
+{
+	/**
+	 * Builds new instances of {@link GIOQuantiles}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withMaxMemory(long)
+		 */
+		private long		m_bMaxMemory;
+
+		/**
+		 * @see #withMode(Mode)
+		 */
+		private Mode		m_bMode;
+
+		/**
+		 * @see #withPercentiles(double...)
+		 */
+		private double[]	m_bPercentiles;
+
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withSketchSize(int)
+		 */
+		private int			m_bSketchSize;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bMaxMemory = DEFAULT_MAX_MEMORY;
+			m_bMode = Mode.EXACT;
+			m_bSketchSize = DEFAULT_SKETCH_SIZE;
+		}
+
+		/**
+		 * Validate and build
+		 *
+		 * @return {@link GIOQuantiles} instance
+		 * @since Oct 18, 2026
+		 */
+		public GIOQuantiles build()
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkNotNull(m_bMode, "Mode required.");
+			checkNotNull(m_bPercentiles, "Percentiles required.");
+			checkArgument(m_bPercentiles.length > 0,
+					"At least one percentile required.");
+			for (final double percentile : m_bPercentiles)
+			{
+				checkArgument(percentile >= 0.0 && percentile <= 100.0,
+						"Percentiles must be within [0, 100] but got %s",
+						percentile);
+			}
+			checkArgument(m_bMaxMemory > 0, "Memory limit must be positive.");
+			checkArgument(m_bSketchSize >= 2,
+					"Sketch size must be at least 2 but got %s",
+					m_bSketchSize);
+			return new GIOQuantiles(this);
+		}
+
+		/**
+		 * Set the memory available to gather node series in
+		 * {@link Mode#EXACT} mode. Defaults to 256 MiB. A pass gathers no more
+		 * than {@link Integer#MAX_VALUE} values whatever the limit.
+		 *
+		 * @param p_MaxMemory
+		 *            the limit, in bytes
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withMaxMemory(final long p_MaxMemory)
+		{
+			m_bMaxMemory = p_MaxMemory;
+			return this;
+		}
+
+		/**
+		 * Set the mode. Defaults to {@link Mode#EXACT}.
+		 *
+		 * @param p_Mode
+		 *            the mode
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withMode(final Mode p_Mode)
+		{
+			m_bMode = p_Mode;
+			return this;
+		}
+
+		/**
+		 * Set the percentiles to compute
+		 *
+		 * @param p_Percentiles
+		 *            percentiles within [0, 100], e.g. 10, 50, 90
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withPercentiles(final double... p_Percentiles)
+		{
+			m_bPercentiles = checkNotNull(p_Percentiles,
+					"Percentiles required.").clone();
+			return this;
+		}
+
+		/**
+		 * Set the reader of the file
+		 *
+		 * @param p_Reader
+		 *            an open reader
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set the number of values of the top sketch level in
+		 * {@link Mode#APPROXIMATE} mode; lower levels hold geometrically fewer.
+		 * Larger sketches are more accurate.
+		 * Defaults to {@value GIOQuantiles#DEFAULT_SKETCH_SIZE}.
+		 *
+		 * @param p_SketchSize
+		 *            the number of values of the top level, at least 2
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withSketchSize(final int p_SketchSize)
+		{
+			m_bSketchSize = p_SketchSize;
+			return this;
+		}
+	}
+
+	/**
+	 * How percentiles are computed
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public enum Mode
+	{
+		/**
+		 * One pass with a sketch per node of about six times the sketch size
+		 * values, independent of the number of timesteps
+		 */
+		APPROXIMATE,
+
+		/**
+		 * Sort the full series of every node, in as many passes as the
+		 * memory limit requires
+		 */
+		EXACT;
+	}
+
+	/**
+	 * A compactor sketch of the values of one node
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class Sketch
+	{
+		/**
+		 * The number of values each level holds before it is compacted
+		 */
+		private int[]		m_Capacities;
+
+		/**
+		 * The number of values the top level holds before it is compacted
+		 */
+		private final int	m_Capacity;
+
+		/**
+		 * The values held at each level; a value at level l stands for 2^l
+		 * values. Levels have room for twice their capacity, so that a level
+		 * can receive promoted values before it is compacted itself.
+		 */
+		private float[][]	m_Levels;
+
+		/**
+		 * The largest value added, kept exactly
+		 */
+		private float		m_Max;
+
+		/**
+		 * The smallest value added, kept exactly
+		 */
+		private float		m_Min;
+
+		/**
+		 * Which half is promoted by the next compaction of each level, one
+		 * bit per level, alternated to balance the error. Levels alternate
+		 * on their own so that small levels, which compact together, do not
+		 * always promote the same end.
+		 */
+		private long		m_Odd;
+
+		/**
+		 * The number of values held at each level
+		 */
+		private int[]		m_Sizes;
+
+		/**
+		 * @param p_Capacity
+		 *            the number of values of the top level
+		 * @since Oct 18, 2026
+		 */
+		private Sketch(final int p_Capacity)
+		{
+			m_Capacity = p_Capacity;
+			m_Capacities = new int[] { p_Capacity };
+			m_Levels = new float[][] { new float[2 * p_Capacity] };
+			m_Sizes = new int[1];
+			m_Min = Float.POSITIVE_INFINITY;
+			m_Max = Float.NEGATIVE_INFINITY;
+		}
+
+		/**
+		 * Add a value
+		 *
+		 * @param p_Value
+		 *            the value, not NaN
+		 * @since Oct 18, 2026
+		 */
+		private void add(final float p_Value)
+		{
+			m_Min = Math.min(m_Min, p_Value);
+			m_Max = Math.max(m_Max, p_Value);
+			m_Levels[0][m_Sizes[0]++] = p_Value;
+			if (m_Sizes[0] >= m_Capacities[0])
+			{
+				for (int level = 0; level < m_Sizes.length; level++)
+				{
+					if (m_Sizes[level] >= m_Capacities[level])
+					{
+						compact(level);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Sort a full level and promote half of its values to the next one
+		 *
+		 * @param p_Level
+		 *            the level to compact
+		 * @since Oct 18, 2026
+		 */
+		private void compact(final int p_Level)
+		{
+			if (p_Level + 1 == m_Levels.length)
+			{
+				grow();
+			}
+			final float[] values = m_Levels[p_Level];
+			final int size = m_Sizes[p_Level];
+			final int paired = size - size % 2;
+			Arrays.sort(values, 0, paired);
+			final int needed = m_Sizes[p_Level + 1] + paired / 2;
+			if (needed > m_Levels[p_Level + 1].length)
+			{
+				m_Levels[p_Level + 1] = Arrays.copyOf(m_Levels[p_Level + 1],
+						Math.max(needed, 2 * m_Capacities[p_Level + 1]));
+			}
+			final float[] next = m_Levels[p_Level + 1];
+			for (int i = (int) (m_Odd >>> p_Level & 1); i < paired; i += 2)
+			{
+				next[m_Sizes[p_Level + 1]++] = values[i];
+			}
+			m_Odd ^= 1L << p_Level;
+
+			/**
+			 * An unpaired value stays at this level, which gives back any
+			 * room beyond twice its capacity once that has shrunk
+			 */
+			if (size > paired)
+			{
+				values[0] = values[paired];
+			}
+			m_Sizes[p_Level] = size - paired;
+			if (values.length > 2 * m_Capacities[p_Level])
+			{
+				m_Levels[p_Level] = Arrays.copyOf(values,
+						2 * m_Capacities[p_Level]);
+			}
+		}
+
+		/**
+		 * Add a top level and shrink the capacities below it geometrically,
+		 * by 2/3 per level down to 2, so that the sketch holds a bounded
+		 * number of values however many are added
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private void grow()
+		{
+			final int numLevels = m_Levels.length + 1;
+			m_Levels = Arrays.copyOf(m_Levels, numLevels);
+			m_Levels[numLevels - 1] = new float[2 * m_Capacity];
+			m_Sizes = Arrays.copyOf(m_Sizes, numLevels);
+			m_Capacities = new int[numLevels];
+			double capacity = m_Capacity;
+			for (int level = numLevels - 1; level >= 0; level--)
+			{
+				m_Capacities[level] = Math.max(2, (int) Math.ceil(capacity));
+				capacity *= 2.0 / 3.0;
+			}
+		}
+
+		/**
+		 * Get percentiles of the values added, interpolating between the
+		 * closest weighted ranks. The first and last ranks are the exact
+		 * minimum and maximum.
+		 *
+		 * @param p_Percentiles
+		 *            the percentiles, within [0, 100]
+		 * @param p_Node
+		 *            the node index to write in the destination
+		 * @param p_Destination
+		 *            the destination, by percentile index then node index
+		 * @since Oct 18, 2026
+		 */
+		private void query(final double[] p_Percentiles, final int p_Node,
+				final float[][] p_Destination)
+		{
+			int numValues = 0;
+			for (final int size : m_Sizes)
+			{
+				numValues += size;
+			}
+			if (numValues == 0)
+			{
+				for (final float[] destination : p_Destination)
+				{
+					destination[p_Node] = Float.NaN;
+				}
+				return;
+			}
+
+			/**
+			 * Sort values with their weights by packing the level into the
+			 * low bits of a sortable key
+			 */
+			final long[] keys = new long[numValues];
+			int index = 0;
+			long total = 0;
+			for (int level = 0; level < m_Levels.length; level++)
+			{
+				for (int i = 0; i < m_Sizes[level]; i++)
+				{
+					keys[index++] = (long) sortable(m_Levels[level][i]) << 6
+							| level;
+				}
+				total += (long) m_Sizes[level] << level;
+			}
+			Arrays.sort(keys);
+
+			for (int p = 0; p < p_Percentiles.length; p++)
+			{
+				final double rank = p_Percentiles[p] / 100.0 * (total - 1);
+				final long lower = (long) Math.floor(rank);
+				final float low = valueAt(keys, lower, total);
+				final float high = valueAt(keys,
+						Math.min(lower + 1, total - 1), total);
+				p_Destination[p][p_Node] = (float) (low
+						+ (rank - lower) * (high - low));
+			}
+		}
+
+		/**
+		 * Get the value at a rank of the sorted, weighted keys, using the
+		 * exact extremes for the first and last ranks
+		 *
+		 * @param p_Keys
+		 *            the sorted packed keys
+		 * @param p_Rank
+		 *            the 0-based rank
+		 * @param p_Total
+		 *            the total weight of the keys
+		 * @return the value at the rank
+		 * @since Oct 18, 2026
+		 */
+		private float valueAt(final long[] p_Keys, final long p_Rank,
+				final long p_Total)
+		{
+			if (p_Rank == 0)
+			{
+				return m_Min;
+			}
+			if (p_Rank == p_Total - 1)
+			{
+				return m_Max;
+			}
+			return GIOQuantiles.valueAt(p_Keys, p_Rank);
+		}
+	}
+
+	/**
+	 * Default memory limit of {@link Mode#EXACT} mode, in bytes
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final long	DEFAULT_MAX_MEMORY	= 256L << 20;
+
+	/**
+	 * Default number of values of the top sketch level of
+	 * {@link Mode#APPROXIMATE} mode
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final int		DEFAULT_SKETCH_SIZE	= 256;
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Map a float to an int whose signed order matches the float order
+	 *
+	 * @param p_Value
+	 *            the value, not NaN
+	 * @return the sortable int
+	 * @since Oct 18, 2026
+	 */
+	private static int sortable(final float p_Value)
+	{
+		final int bits = Float.floatToIntBits(p_Value);
+		return bits ^ bits >> 31 & 0x7fffffff;
+	}
+
+	/**
+	 * Get the value of a packed key, the reverse of {@link #sortable(float)}
+	 *
+	 * @param p_Key
+	 *            the packed key, the sortable int above a 6-bit level
+	 * @return the value
+	 * @since Oct 18, 2026
+	 */
+	private static float unsortable(final long p_Key)
+	{
+		final int sortable = (int) (p_Key >> 6);
+		return Float.intBitsToFloat(sortable ^ sortable >> 31 & 0x7fffffff);
+	}
+
+	/**
+	 * Get the value at a rank of the sorted, weighted keys
+	 *
+	 * @param p_Keys
+	 *            the sorted packed keys
+	 * @param p_Rank
+	 *            the 0-based rank, counting each key as 2^level values
+	 * @return the value at the rank
+	 * @since Oct 18, 2026
+	 */
+	private static float valueAt(final long[] p_Keys, final long p_Rank)
+	{
+		long cumulative = 0;
+		for (final long key : p_Keys)
+		{
+			cumulative += 1L << (key & 0x3f);
+			if (cumulative > p_Rank)
+			{
+				return unsortable(key);
+			}
+		}
+		return unsortable(p_Keys[p_Keys.length - 1]);
+	}
+
+	/**
+	 * @see Builder#withMaxMemory(long)
+	 * @since Oct 18, 2026
+	 */
+	private final long		m_MaxMemory;
+
+	/**
+	 * @see #getMode()
+	 * @since Oct 18, 2026
+	 */
+	private final Mode		m_Mode;
+
+	/**
+	 * @see #getPercentiles()
+	 * @since Oct 18, 2026
+	 */
+	private final double[]	m_Percentiles;
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader	m_Reader;
+
+	/**
+	 * @see Builder#withSketchSize(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int		m_SketchSize;
+
+	/**
+	 * Create a new instance from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private GIOQuantiles(final Builder p_Builder)
+	{
+		m_Reader = p_Builder.m_bReader;
+		m_Mode = p_Builder.m_bMode;
+		m_Percentiles = p_Builder.m_bPercentiles;
+		m_MaxMemory = p_Builder.m_bMaxMemory;
+		m_SketchSize = p_Builder.m_bSketchSize;
+	}
+
+	/**
+	 * Compute the percentiles of every node
+	 *
+	 * @return the percentiles, by percentile index (the order of
+	 *         {@link #getPercentiles()}) then node index
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public float[][] calculate() throws IOException, ParseException
+	{
+		final int numNodes = m_Reader.getHeader().getNodesSize();
+		final float[][] result = new float[m_Percentiles.length][numNodes];
+		if (m_Mode == Mode.APPROXIMATE)
+		{
+			calculateApproximate(result);
+		}
+		else
+		{
+			calculateExact(result);
+		}
+		return result;
+	}
+
+	/**
+	 * Compute the percentiles from one sketch per node
+	 *
+	 * @param p_Result
+	 *            the destination, by percentile index then node index
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private void calculateApproximate(final float[][] p_Result)
+			throws IOException, ParseException
+	{
+		final int numNodes = p_Result[0].length;
+		final Sketch[] sketches = new Sketch[numNodes];
+		for (int node = 0; node < numNodes; node++)
+		{
+			sketches[node] = new Sketch(m_SketchSize);
+		}
+		m_Reader.forEachTimestep(Range.all(), (p_DateIndex, p_Date,
+				p_Nodes) -> {
+			for (int node = 0; node < numNodes; node++)
+			{
+				if (!Float.isNaN(p_Nodes[node]))
+				{
+					sketches[node].add(p_Nodes[node]);
+				}
+			}
+		});
+		for (int node = 0; node < numNodes; node++)
+		{
+			sketches[node].query(m_Percentiles, node, p_Result);
+		}
+	}
+
+	/**
+	 * Compute the percentiles from the sorted series of each node, gathering
+	 * as many nodes per pass as fit in the memory limit
+	 *
+	 * @param p_Result
+	 *            the destination, by percentile index then node index
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private void calculateExact(final float[][] p_Result)
+			throws IOException, ParseException
+	{
+		final int numNodes = p_Result[0].length;
+		final int numDates = Math.max(1, m_Reader.getDates().size());
+
+		/**
+		 * The block is a single array, so it can hold no more than
+		 * Integer.MAX_VALUE values whatever the memory limit
+		 */
+		final long maxNodes = Math.min(m_MaxMemory / Float.BYTES / numDates,
+				Integer.MAX_VALUE / numDates);
+		final int blockNodes = (int) Math.max(1,
+				Math.min(numNodes, maxNodes));
+		final float[] series = new float[blockNodes * numDates];
+		for (int from = 0; from < numNodes; from += blockNodes)
+		{
+			final int first = from;
+			final int count = Math.min(blockNodes, numNodes - from);
+
+			/**
+			 * Transpose the block to node-major order
+			 */
+			m_Reader.forEachTimestep(Range.all(), (p_DateIndex, p_Date,
+					p_Nodes) -> {
+				for (int i = 0; i < count; i++)
+				{
+					series[i * numDates + p_DateIndex] = p_Nodes[first + i];
+				}
+			});
+
+			final float[] values = new float[numDates];
+			for (int i = 0; i < count; i++)
+			{
+				int valid = 0;
+				for (int t = 0; t < numDates; t++)
+				{
+					final float value = series[i * numDates + t];
+					if (!Float.isNaN(value))
+					{
+						values[valid++] = value;
+					}
+				}
+				if (valid == 0)
+				{
+					for (final float[] destination : p_Result)
+					{
+						destination[first + i] = Float.NaN;
+					}
+					continue;
+				}
+				Arrays.sort(values, 0, valid);
+				for (int p = 0; p < m_Percentiles.length; p++)
+				{
+					p_Result[p][first + i] = GIOEnsemble.percentile(values,
+							valid, m_Percentiles[p]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the mode
+	 *
+	 * @return the mode
+	 * @since Oct 18, 2026
+	 */
+	public Mode getMode()
+	{
+		return m_Mode;
+	}
+
+	/**
+	 * Get the percentiles computed
+	 *
+	 * @return the percentiles, in the order provided to the builder
+	 * @since Oct 18, 2026
+	 */
+	public double[] getPercentiles()
+	{
+		return m_Percentiles.clone();
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("filePath", m_Reader.getFilePath()).add("mode", m_Mode)
+				.add("percentiles", Arrays.toString(m_Percentiles))
+				.toString();
+	}
+}
@@ -1,7 +1,9 @@
 package gov.usgs.jem.sfwmm.grid;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Objects;
@@ -13,8 +15,9 @@ import com.google.common.collect.SortedMultiset;
 import com.google.common.collect.TreeMultiset;
 import com.google.common.io.Files;
 import java.io.Closeable;
-import java.io.File;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -41,14 +44,86 @@ public final class GIOReader implements Closeable
 	 *
 	 * @since Oct 25, 2016
 	 */
-	private static final int				GRID_TAG_LENGTH	= 80;
+	private static final int				GRID_TAG_LENGTH			= 80;
+
+	/**
+	 * Most out-of-place configuration values tolerated by
+	 * {@link #isGridIO(SeekableDataFileInputStream)} before giving up
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				PROBE_MAX_CONFIG_FIXES	= 16;
+
+	/**
+	 * Most rows accepted by {@link #isGridIO(SeekableDataFileInputStream)},
+	 * far more than any SFWMM grid has, so that the configuration it reads is
+	 * bounded whatever the header claims
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				PROBE_MAX_ROWS			= 1 << 16;
+
+	/**
+	 * Format of grid tags, observed to look like "January 1, 1965"
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final String				TAG_FORMAT				= "MMMM d, yyyy";
+
+	/**
+	 * Number of byte offsets after the configuration searched for the first
+	 * grid tag
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				TAG_SEARCH_OFFSETS		= 5;
 
 	/**
 	 * Class logger
 	 */
-	private static org.apache.log4j.Logger	log				= org.apache.log4j.Logger
+	private static org.apache.log4j.Logger	log						= org.apache.log4j.Logger
 			.getLogger(GIOReader.class);
 
+	/**
+	 * Find the first grid tag after the header: the first of
+	 * {@link #TAG_SEARCH_OFFSETS} byte offsets from the provided position at
+	 * which a tag parses as a date
+	 *
+	 * @param p_Stream
+	 *            the stream, positioned at the end of the header
+	 * @param p_DateFormat
+	 *            the format of tags
+	 * @return the byte offset of the first grid, or -1 if no tag was found
+	 * @throws IOException
+	 *             problem reading from the stream
+	 * @since Oct 18, 2026
+	 */
+	private static long findGridStart(final SeekableDataFileInputStream p_Stream,
+			final SimpleDateFormat p_DateFormat) throws IOException
+	{
+		final long start = p_Stream.getPosition();
+		for (int offset = 0; offset < TAG_SEARCH_OFFSETS; offset++)
+		{
+			if (p_Stream.getPosition() != start + offset)
+			{
+				p_Stream.seek(Math.toIntExact(start + offset));
+			}
+			final String tag = new String(
+					p_Stream.readCharsAsAscii(GRID_TAG_LENGTH)).trim();
+			try
+			{
+				p_DateFormat.parse(tag);
+				return start + offset;
+			}
+			catch (final ParseException e)
+			{
+				checkNotNull(e);
+				continue;
+			}
+		}
+		return -1;
+	}
+
 	/**
 	 * Formats the provided input range in such a way that it has closed bounds
 	 * and those bounds obey the provided minimum and maximum parameters.
@@ -87,13 +162,104 @@ public final class GIOReader implements Closeable
 			}
 			else
 			{
-				max = Math.max(p_Max, p_InputRange.upperEndpoint() - 1);
+				max = Math.min(p_Max, p_InputRange.upperEndpoint() - 1);
 			}
 		}
 
 		return Range.closed(min, max);
 	}
 
+	/**
+	 * Check whether a stream holds an SFWMM GridIO file with at least one
+	 * complete grid: the title is text, the row configuration is consistent
+	 * with the number of nodes, the first and last grid tags parse as dates
+	 * and the file length is a whole number of grids. The header is checked
+	 * against the file length before the configuration is read, and the
+	 * configuration is checked as it is read, so the I/O is bounded by
+	 * {@link #PROBE_MAX_ROWS}: a few hundred bytes for an SFWMM grid. The
+	 * stream is left at an unspecified position.
+	 *
+	 * @param p_Stream
+	 *            a big-endian stream of the file to check
+	 * @return true if the stream looks like an SFWMM GridIO file
+	 * @throws IOException
+	 *             problem reading from the stream, other than reaching its end
+	 * @since Oct 18, 2026
+	 */
+	public static boolean isGridIO(final SeekableDataFileInputStream p_Stream)
+			throws IOException
+	{
+		checkNotNull(p_Stream, "Stream required.");
+		final long length = p_Stream.getLength();
+		final int fixedLength = GIOHeader.GRID_TITLE_LENGTH
+				+ 2 * Integer.BYTES + 2 * Float.BYTES;
+		if (length < fixedLength)
+		{
+			return false;
+		}
+		try
+		{
+			if (p_Stream.getPosition() != 0)
+			{
+				p_Stream.seek(0);
+			}
+			for (final char c : p_Stream
+					.readCharsAsAscii(GIOHeader.GRID_TITLE_LENGTH))
+			{
+				if (c != 0 && (c < ' ' || c > '~')
+						&& !Character.isWhitespace(c))
+				{
+					return false;
+				}
+			}
+			final int numRows = p_Stream.readInt();
+			final int numNodes = p_Stream.readInt();
+			final float sizeX = p_Stream.readFloat();
+			final float sizeY = p_Stream.readFloat();
+			final long gridSize = GRID_TAG_LENGTH
+					+ (long) numNodes * Float.BYTES;
+			if (numRows <= 0 || numRows > PROBE_MAX_ROWS || numNodes <= 0
+					|| numRows > numNodes || !(sizeX > 0.0f)
+					|| !(sizeY > 0.0f) || Float.isInfinite(sizeX)
+					|| Float.isInfinite(sizeY) || length < fixedLength
+							+ 3L * Integer.BYTES * numRows + gridSize)
+			{
+				return false;
+			}
+			if (!probeConfig(p_Stream, numRows, numNodes)
+					|| length - p_Stream.getPosition() < gridSize)
+			{
+				return false;
+			}
+			final SimpleDateFormat dateFormat = new SimpleDateFormat(
+					TAG_FORMAT);
+			dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+			final long gridStart = findGridStart(p_Stream, dateFormat);
+			if (gridStart < 0 || (length - gridStart) % gridSize != 0)
+			{
+				return false;
+			}
+			p_Stream.seek(Math.toIntExact(length - gridSize));
+			final String tag = new String(
+					p_Stream.readCharsAsAscii(GRID_TAG_LENGTH)).trim();
+			try
+			{
+				dateFormat.parse(tag);
+				return true;
+			}
+			catch (final ParseException e)
+			{
+				checkNotNull(e);
+				return false;
+			}
+		}
+		catch (final EOFException e)
+		{
+			checkNotNull(e);
+			return false;
+		}
+	}
+
 	/**
 	 * Open the SFWMM GridIO file at the provided path and read its header
 	 *
@@ -151,6 +317,166 @@ public final class GIOReader implements Closeable
 		return binReader;
 	}
 
+	/**
+	 * Read the SFWMM GridIO file from an already open, big-endian
+	 * {@link SeekableDataFileInputStream}, such as one backed by a file handle
+	 * and buffer managed by a caller's cache, instead of opening the file
+	 * again. The reader takes ownership of the stream and closes it in
+	 * {@link #close()}.
+	 *
+	 * @param p_Stream
+	 *            the stream of the SFWMM GridIO file
+	 * @return the {@link GIOReader}
+	 * @throws IOException
+	 *             if the header could not be read for any reason
+	 * @since Oct 18, 2026
+	 */
+	public static GIOReader openStream(
+			final SeekableDataFileInputStream p_Stream) throws IOException
+	{
+		checkNotNull(p_Stream, "Stream required.");
+		checkArgument(ByteOrder.BIG_ENDIAN.equals(p_Stream.getByteOrder()),
+				"Big-endian stream required, but got %s instead",
+				p_Stream.getByteOrder());
+		log.setLevel(Level.INFO);
+		final GIOReader binReader = new GIOReader(p_Stream.getFilePath());
+		binReader.m_DIS = p_Stream;
+		binReader.readHeader();
+		return binReader;
+	}
+
+	/**
+	 * Check the row configuration that follows the header fields as it is
+	 * read, stopping at the first row that cannot be consistent: the first
+	 * columns must not be negative, each last column must lie between the
+	 * first column of its row and the number of nodes, and the node offsets
+	 * must be the running sums of the row lengths, adding up to the number of
+	 * nodes. Like {@link #readConfig(SeekableDataFileInputStream, int, int, int)},
+	 * up to {@link #PROBE_MAX_CONFIG_FIXES} out-of-place values are skipped.
+	 *
+	 * @param p_Stream
+	 *            the stream, positioned at the configuration
+	 * @param p_NumRows
+	 *            the number of rows, at most {@link #PROBE_MAX_ROWS}
+	 * @param p_NumNodes
+	 *            the number of nodes
+	 * @return true if the configuration is consistent with the number of
+	 *         nodes
+	 * @throws IOException
+	 *             problem reading from the stream
+	 * @since Oct 18, 2026
+	 */
+	private static boolean probeConfig(
+			final SeekableDataFileInputStream p_Stream, final int p_NumRows,
+			final int p_NumNodes) throws IOException
+	{
+		final int[] starts = new int[p_NumRows];
+		for (int row = 0; row < p_NumRows; row++)
+		{
+			starts[row] = p_Stream.readInt();
+			if (starts[row] < 0 || starts[row] > p_NumNodes)
+			{
+				return false;
+			}
+		}
+
+		int fixes = 0;
+		final int[] lengths = new int[p_NumRows];
+		for (int row = 0; row < p_NumRows; row++)
+		{
+			final int xend = p_Stream.readInt();
+			if (xend < starts[row] || xend > p_NumNodes)
+			{
+				if (++fixes > PROBE_MAX_CONFIG_FIXES)
+				{
+					return false;
+				}
+				row--;
+				continue;
+			}
+			lengths[row] = xend - starts[row] + 1;
+		}
+
+		long sum = 0;
+		for (int row = 0; row < p_NumRows; row++)
+		{
+			if (p_Stream.readInt() != sum)
+			{
+				if (++fixes > PROBE_MAX_CONFIG_FIXES)
+				{
+					return false;
+				}
+				row--;
+				continue;
+			}
+			sum += lengths[row];
+			if (sum > p_NumNodes)
+			{
+				return false;
+			}
+		}
+		return sum == p_NumNodes;
+	}
+
+	/**
+	 * Read the row configuration that follows the header fields: the first
+	 * columns, last columns and node offsets of the rows. There might be
+	 * "junk" data in this config; values failing simple sanity checks are
+	 * dropped and replaced by the next value in the file.
+	 *
+	 * @param p_Stream
+	 *            the stream, positioned at the configuration
+	 * @param p_NumRows
+	 *            the number of rows
+	 * @param p_NumNodes
+	 *            the number of nodes
+	 * @return the first columns, last columns and node offsets of the rows,
+	 *         in that order
+	 * @throws IOException
+	 *             problem reading from the stream
+	 * @since Oct 18, 2026
+	 */
+	private static List<Integer> readConfig(
+			final SeekableDataFileInputStream p_Stream, final int p_NumRows,
+			final int p_NumNodes) throws IOException
+	{
+		final List<Integer> config = Lists
+				.newArrayListWithCapacity(p_NumRows * 3);
+		for (int i = 0; i < p_NumRows * 3; i++)
+		{
+			config.add(p_Stream.readInt());
+		}
+
+		for (int row = 0; row < p_NumRows - 1; row++)
+		{
+			final int xstart = config.get(row);
+			final int xend = config.get(row + p_NumRows);
+			final int sumPrev = config.get(row + p_NumRows * 2);
+			final int sum = config.get(row + p_NumRows * 2 + 1);
+			if (xstart > xend || xend > p_NumNodes)
+			{
+				config.remove(row + p_NumRows);
+			}
+			else if (sum != sumPrev + xend - xstart + 1)
+			{
+				config.remove(row + p_NumRows * 2);
+			}
+			else
+			{
+				continue;
+			}
+			config.add(p_Stream.readInt());
+			row--;
+		}
+		return config;
+	}
+
+	/**
+	 * @see #getAvailability()
+	 * @since Oct 18, 2026
+	 */
+	private GIOAvailability						m_Availability;
+
 	/**
 	 * Maps 0-based row to range of available cells (columns) within the row
 	 *
@@ -158,6 +484,13 @@ public final class GIOReader implements Closeable
 	 */
 	private final Map<Integer, Range<Integer>>	m_AvailabilityMap;
 
+	/**
+	 * Reusable buffer for bulk reads of node vectors
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private byte[]								m_Buffer;
+
 	/**
 	 * The {@link ByteOrder} to read from the file.
 	 *
@@ -186,11 +519,11 @@ public final class GIOReader implements Closeable
 	private SeekableDataFileInputStream			m_DIS;
 
 	/**
-	 * Number of bytes in the file.
+	 * Number of bytes in the file. Updated by {@link #refresh()}.
 	 *
 	 * @since Oct 28, 2016
 	 */
-	private final long							m_FileLength;
+	private long								m_FileLength;
 
 	/**
 	 * The path to the SFWMM GridIO file
@@ -222,6 +555,21 @@ public final class GIOReader implements Closeable
 	 */
 	private GIOHeader							m_Header;
 
+	/**
+	 * The number of complete grids that have been indexed
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private int									m_TagCount;
+
+	/**
+	 * Parsed tags of all indexed grids, kept so that {@link #m_Dates} can be
+	 * rebuilt when new grids are indexed
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final SortedMultiset<Date>			m_Tags;
+
 	/**
 	 * Create a new reader for the SFWMM GridIO file at the provided path
 	 *
@@ -236,10 +584,10 @@ public final class GIOReader implements Closeable
 		/**
 		 * Tags have been observed to look like "January 1, 1965"
 		 */
-		m_DateFormat = new SimpleDateFormat("MMMM d, yyyy");
+		m_DateFormat = new SimpleDateFormat(TAG_FORMAT);
 		m_DateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-		m_FileLength = new File(p_FilePath).length();
 		m_Dates = Lists.newArrayList();
+		m_Tags = TreeMultiset.create();
 		m_AvailabilityMap = Maps.newTreeMap();
 	}
 
@@ -271,6 +619,77 @@ public final class GIOReader implements Closeable
 		}
 	}
 
+	/**
+	 * Read each timestep in the provided range as a node vector and pass it to
+	 * the provided listener, in date index order. The node vector is reused
+	 * between calls.
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices to read from
+	 * @param p_Listener
+	 *            receives each timestep
+	 * @return the number of timesteps passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int forEachTimestep(final Range<Integer> p_DateIndices,
+			final GIOTimestepListener p_Listener)
+			throws ParseException, IOException
+	{
+		java.util.Objects.requireNonNull(p_DateIndices,
+				"Date index range required.");
+		java.util.Objects.requireNonNull(p_Listener, "Listener required.");
+
+		final List<Date> dates = getDates();
+		if (dates.isEmpty())
+		{
+			return 0;
+		}
+		final Range<Integer> dateIndices = formatRange(p_DateIndices, 0,
+				dates.size() - 1);
+		final float[] nodes = new float[getHeader().getNodesSize()];
+		int count = 0;
+		for (int index = dateIndices.lowerEndpoint(); index <= dateIndices
+				.upperEndpoint(); index++)
+		{
+			p_Listener.timestep(index, dates.get(index),
+					readNodes(index, nodes));
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Get the availability configuration, which maps the nodes stored for each
+	 * timestep to grid cells
+	 *
+	 * @return the availability configuration
+	 * @since Oct 18, 2026
+	 */
+	public GIOAvailability getAvailability()
+	{
+		validate();
+		return m_Availability;
+	}
+
+	/**
+	 * Get the number of timesteps in the file, computed from the file length
+	 * and the grid size without reading any tags. This is the size of
+	 * {@link #getDates()}.
+	 *
+	 * @return the number of complete grids in the file
+	 * @since Oct 18, 2026
+	 */
+	public int getDateCount()
+	{
+		validate();
+		return Math.toIntExact(Math.max(0L,
+				(m_FileLength - m_GridStartByte) / m_GridSize));
+	}
+
 	/**
 	 * Get the list of "tags" in the file
 	 *
@@ -288,63 +707,7 @@ public final class GIOReader implements Closeable
 		 */
 		if (m_Dates.isEmpty())
 		{
-			/**
-			 * It has been observed that the same tag name will appear multiple
-			 * times in a dataset
-			 */
-			final SortedMultiset<Date> dates = TreeMultiset.create();
-			/**
-			 * Start at the first grid tag location
-			 */
-			m_DIS.seek((int) m_GridStartByte);
-
-			/**
-			 * Read until EOF
-			 */
-			while (m_DIS.getPosition() < m_FileLength)
-			{
-				/**
-				 * Ensure that enough bytes exist to continue reading tag name
-				 */
-				if (m_DIS.getPosition() + GRID_TAG_LENGTH >= m_FileLength)
-				{
-					break;
-				}
-				/**
-				 * Read tag and parse as date
-				 */
-				final String tag = new String(
-						m_DIS.readCharsAsAscii(GRID_TAG_LENGTH)).trim();
-				final Date date = m_DateFormat.parse(tag);
-				dates.add(date);
-				/**
-				 * Skip the data that follows the tag name
-				 */
-				final int skipBytes = (int) (m_GridSize - GRID_TAG_LENGTH);
-				if (m_DIS.skipBytes(skipBytes) < skipBytes)
-				{
-					break;
-				}
-			}
-
-			/**
-			 * Since multiple entries for the same date (tag name) may exist,
-			 * subdivide the milliseconds in that day by the count of
-			 * occurrences. E.g. if a tag appears twice, the first date will be
-			 * at midnight, the second will be at noon.
-			 */
-			final long dayMS = 1000 * 60 * 60 * 24;
-			for (final Date date : dates.elementSet())
-			{
-				final long count = dates.count(date);
-				final long addMS = dayMS / count;
-
-				for (long i = 0; i < count; i++)
-				{
-					m_Dates.add(new java.util.Date(date.getTime() + i * addMS));
-				}
-			}
-
+			indexTags();
 		}
 		return Collections.unmodifiableList(m_Dates);
 	}
@@ -385,6 +748,57 @@ public final class GIOReader implements Closeable
 		return Float.NaN;
 	}
 
+	/**
+	 * Index the tags of complete grids that have not been indexed yet, then
+	 * rebuild {@link #m_Dates}. Only the newly available grids are read, so
+	 * this is cheap to call repeatedly on a growing file.
+	 *
+	 * @return the number of newly indexed grids
+	 * @throws ParseException
+	 *             if a date could not be parsed successfully from the file
+	 * @throws IOException
+	 *             unable to read a portion of the file
+	 * @since Oct 18, 2026
+	 */
+	private int indexTags() throws ParseException, IOException
+	{
+		/**
+		 * Only complete grids are indexed; a grid that is still being written
+		 * will be picked up by a later call
+		 */
+		final int count = getDateCount() - m_TagCount;
+		if (count <= 0)
+		{
+			return 0;
+		}
+		for (int i = 0; i < count; i++)
+		{
+			m_Tags.add(readTag(m_TagCount));
+			m_TagCount++;
+		}
+
+		/**
+		 * It has been observed that the same tag name will appear multiple
+		 * times in a dataset. Since multiple entries for the same date (tag
+		 * name) may exist, subdivide the milliseconds in that day by the count
+		 * of occurrences. E.g. if a tag appears twice, the first date will be
+		 * at midnight, the second will be at noon.
+		 */
+		m_Dates.clear();
+		final long dayMS = 1000 * 60 * 60 * 24;
+		for (final Date date : m_Tags.elementSet())
+		{
+			final long occurrences = m_Tags.count(date);
+			final long addMS = dayMS / occurrences;
+
+			for (long i = 0; i < occurrences; i++)
+			{
+				m_Dates.add(new java.util.Date(date.getTime() + i * addMS));
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * Read data from the file. If provided parameters are out of bounds, they
 	 * are silently corrected to be within the bounds of the dataset. This is to
@@ -410,6 +824,41 @@ public final class GIOReader implements Closeable
 			final Range<Integer> p_RowIndices,
 			final Range<Integer> p_ColumnIndices)
 			throws ParseException, IOException
+	{
+		return readData(p_DateIndices, p_RowIndices, p_ColumnIndices, false,
+				null, 0);
+	}
+
+	/**
+	 * Read data from the file into the layout described by
+	 * {@link #readData(Range, Range, Range)}, optionally storing the rows of
+	 * each timestep last to first
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices to read from
+	 * @param p_RowIndices
+	 *            the range of rows to read from
+	 * @param p_ColumnIndices
+	 *            the range of columns to read from
+	 * @param p_ReverseRows
+	 *            true to store the rows of each timestep last to first
+	 * @param p_Data
+	 *            the destination array, or null to allocate one of the size
+	 *            needed
+	 * @param p_Offset
+	 *            the offset in the destination array to start at
+	 * @return the destination array
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private float[] readData(final Range<Integer> p_DateIndices,
+			final Range<Integer> p_RowIndices,
+			final Range<Integer> p_ColumnIndices, final boolean p_ReverseRows,
+			final float[] p_Data, final int p_Offset)
+			throws ParseException, IOException
 	{
 		java.util.Objects.requireNonNull(p_DateIndices,
 				"Date index range required.");
@@ -418,13 +867,9 @@ public final class GIOReader implements Closeable
 		java.util.Objects.requireNonNull(p_ColumnIndices,
 				"Column index range required.");
 
-		/**
-		 * getDates will ensure tags are read first
-		 */
-		final List<Date> tsteps = getDates();
 		final GIOHeader header = getHeader();
 		final Range<Integer> dateIndices = formatRange(p_DateIndices, 0,
-				tsteps.size() - 1);
+				getDateCount() - 1);
 		final int rowsSize = header.getRowsSize();
 		final Range<Integer> rows = formatRange(p_RowIndices, 0, rowsSize - 1);
 		final int colsSize = header.getColsSize();
@@ -435,7 +880,9 @@ public final class GIOReader implements Closeable
 				- dateIndices.lowerEndpoint() + 1;
 		final int thisRows = rows.upperEndpoint() - rows.lowerEndpoint() + 1;
 		final int thisCols = cols.upperEndpoint() - cols.lowerEndpoint() + 1;
-		final float[] data = new float[thisTSteps * thisRows * thisCols];
+		final int size = thisTSteps * thisRows * thisCols;
+		final float[] data = p_Data == null ? new float[size] : p_Data;
+		checkPositionIndexes(p_Offset, p_Offset + size, data.length);
 
 		/**
 		 * Skip to the start of data for the specific tstep
@@ -443,7 +890,6 @@ public final class GIOReader implements Closeable
 		m_DIS.seek((int) (m_GridStartByte + GRID_TAG_LENGTH
 				+ m_GridSize * dateIndices.lowerEndpoint()));
 
-		int index = 0;
 		for (int tstep = 0; tstep < thisTSteps; tstep++)
 		{
 			/**
@@ -469,6 +915,9 @@ public final class GIOReader implements Closeable
 			{
 				final Integer row = rIndex + rows.lowerEndpoint();
 				final Range<Integer> availableCols = m_AvailabilityMap.get(row);
+				int index = p_Offset + (tstep * thisRows
+						+ (p_ReverseRows ? thisRows - 1 - rIndex : rIndex))
+						* thisCols;
 
 				/**
 				 * If the lower endpoint is after the start of data for this
@@ -537,6 +986,96 @@ public final class GIOReader implements Closeable
 		return data;
 	}
 
+	/**
+	 * Read data from the file as {@link #readData(Range, Range, Range)} does,
+	 * but store the rows of each timestep last to first, the north-up order
+	 * of NetCDF grids. Values are written directly into their final position,
+	 * so callers need neither a flipped view nor a copy.
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices to read from
+	 * @param p_RowIndices
+	 *            the range of rows to read from
+	 * @param p_ColumnIndices
+	 *            the range of columns to read from
+	 * @return the values, indexed by timestep, then row from the last selected
+	 *         row to the first, then column. If there is not a corresponding
+	 *         valid value in the dataset, then NaN is used in its place.
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public float[] readDataReversedRows(final Range<Integer> p_DateIndices,
+			final Range<Integer> p_RowIndices,
+			final Range<Integer> p_ColumnIndices)
+			throws ParseException, IOException
+	{
+		return readData(p_DateIndices, p_RowIndices, p_ColumnIndices, true,
+				null, 0);
+	}
+
+	/**
+	 * Read data as {@link #readDataReversedRows(Range, Range, Range)} does,
+	 * but into a section of the provided array, so that callers assembling a
+	 * larger array, e.g. one scenario at a time, do not need to copy.
+	 *
+	 * @param p_DateIndices
+	 *            the range (could be open-ended) of date indices to read from
+	 * @param p_RowIndices
+	 *            the range of rows to read from
+	 * @param p_ColumnIndices
+	 *            the range of columns to read from
+	 * @param p_Data
+	 *            the destination array
+	 * @param p_Offset
+	 *            the offset in the destination array to start at
+	 * @return the destination array
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @throws IndexOutOfBoundsException
+	 *             if the values do not fit in the destination array
+	 * @since Oct 18, 2026
+	 */
+	public float[] readDataReversedRowsInto(final Range<Integer> p_DateIndices,
+			final Range<Integer> p_RowIndices,
+			final Range<Integer> p_ColumnIndices, final float[] p_Data,
+			final int p_Offset) throws ParseException, IOException
+	{
+		java.util.Objects.requireNonNull(p_Data, "Destination array required.");
+		return readData(p_DateIndices, p_RowIndices, p_ColumnIndices, true,
+				p_Data, p_Offset);
+	}
+
+	/**
+	 * Read bulk floats from the current position of {@link #m_DIS}
+	 *
+	 * @param p_Values
+	 *            the destination array
+	 * @param p_Offset
+	 *            the offset in the destination array to start at
+	 * @param p_Count
+	 *            the number of floats to read
+	 * @throws IOException
+	 *             problem reading from file
+	 * @since Oct 18, 2026
+	 */
+	private void readFloats(final float[] p_Values, final int p_Offset,
+			final int p_Count) throws IOException
+	{
+		final int numBytes = p_Count * Float.BYTES;
+		if (m_Buffer == null || m_Buffer.length < numBytes)
+		{
+			m_Buffer = new byte[numBytes];
+		}
+		m_DIS.readFully(m_Buffer, 0, numBytes);
+		ByteBuffer.wrap(m_Buffer, 0, numBytes).order(m_ByteOrder)
+				.asFloatBuffer().get(p_Values, p_Offset, p_Count);
+	}
+
 	/**
 	 * Reads the header from the file, initializing the {@link #m_DIS},
 	 * {@link #m_Header} fields and retrieving the variable names, variable
@@ -553,7 +1092,16 @@ public final class GIOReader implements Closeable
 	{
 		final GIOHeader.Builder headerBuilder = GIOHeader.builder();
 		log.debug(String.format("Open %s", m_FilePath));
-		m_DIS = new SeekableDataFileInputStreamImpl(m_FilePath, m_ByteOrder);
+		if (m_DIS == null)
+		{
+			m_DIS = new SeekableDataFileInputStreamImpl(m_FilePath,
+					m_ByteOrder);
+		}
+		else
+		{
+			seekTo(0);
+		}
+		m_FileLength = m_DIS.getLength();
 
 		try
 		{
@@ -569,32 +1117,7 @@ public final class GIOReader implements Closeable
 			final float sizeX = m_DIS.readFloat();
 			final float sizeY = m_DIS.readFloat();
 
-			final List<Integer> config = IntStream.range(0, numRows * 3)
-					.map(this::readInt).boxed().collect(Collectors.toList());
-
-			/**
-			 * There might be "junk" data in this config. Adjust for this
-			 * possibility with some simple sanity checks.
-			 */
-			for (int row = 0; row < numRows - 1; row++)
-			{
-				final int xstart = config.get(row);
-				final int xend = config.get(row + numRows);
-				final int sumPrev = config.get(row + numRows * 2);
-				final int sum = config.get(row + numRows * 2 + 1);
-				if (xstart > xend || xend > numNodes)
-				{
-					config.remove(row + numRows);
-					config.add(readInt());
-					row--;
-				}
-				else if (sum != sumPrev + xend - xstart + 1)
-				{
-					config.remove(row + numRows * 2);
-					config.add(readInt());
-					row--;
-				}
-			}
+			final List<Integer> config = readConfig(m_DIS, numRows, numNodes);
 
 			int numCols = 0;
 			for (int row = 0; row < numRows; row++)
@@ -605,6 +1128,18 @@ public final class GIOReader implements Closeable
 				numCols = Math.max(numCols, xend + 1);
 			}
 
+			try
+			{
+				m_Availability = GIOAvailability.builder()
+						.withRows(m_AvailabilityMap).build();
+			}
+			catch (final Exception e)
+			{
+				final String message = "Unable to read availability from file: "
+						+ m_FilePath;
+				throw new IOException(message, e);
+			}
+
 			try
 			{
 				m_Header = headerBuilder.withTitle(title).withNumRows(numRows)
@@ -644,27 +1179,17 @@ public final class GIOReader implements Closeable
 			m_GridSize = GRID_TAG_LENGTH + numNodes * Float.BYTES;
 			m_GridStartByte = m_DIS.getPosition();
 			/**
-			 * Find the start of the first tag. Should be pretty close...
+			 * Find the start of the first tag. Should be pretty close... A file
+			 * that is still being written may not contain a tag yet, in which
+			 * case grids are assumed to start right after the header.
 			 */
-			for (int i = 0; i < 4; i++)
+			final boolean hasGrid = m_FileLength - m_GridStartByte >= m_GridSize;
+			if (hasGrid)
 			{
-				if (i > 0)
-				{
-					m_DIS.skipBytes(1);
-				}
-				final String tag = new String(
-						m_DIS.readCharsAsAscii(GRID_TAG_LENGTH)).trim();
-				try
-				{
-					m_DateFormat.parse(tag);
-					break;
-				}
-				catch (final ParseException e)
-				{
-					checkNotNull(e);
-					m_GridStartByte++;
-					continue;
-				}
+				final long gridStart = findGridStart(m_DIS, m_DateFormat);
+				m_GridStartByte = gridStart < 0
+						? m_GridStartByte + TAG_SEARCH_OFFSETS - 1
+						: gridStart;
 			}
 		}
 		catch (final Throwable t)
@@ -675,30 +1200,120 @@ public final class GIOReader implements Closeable
 	}
 
 	/**
-	 * Reads an intenger from the input stream
+	 * Read the node vector of one timestep: the values stored for each node, in
+	 * file order. Use {@link GIOAvailability} from {@link #getAvailability()}
+	 * to map nodes to grid cells. Consecutive timesteps are read sequentially
+	 * without re-positioning the underlying stream.
 	 *
-	 * @param p_Anything
-	 *            ignore this parameter, used for streams
-	 * @return reads an integer from the {@link #m_DIS}
-	 * @param <T>
-	 *            any object type, parameter added so that function reference
-	 *            can be used for streams
-	 * @since Oct 27, 2016
+	 * @param p_DateIndex
+	 *            the 0-based date index to read
+	 * @param p_Nodes
+	 *            the destination array, at least
+	 *            {@link GIOHeader#getNodesSize()} long
+	 * @return the destination array
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
 	 */
-	private <T> int readInt(
-			@SuppressWarnings("unchecked") final T... p_Anything)
+	public float[] readNodes(final int p_DateIndex, final float[] p_Nodes)
+			throws ParseException, IOException
 	{
-		try
+		java.util.Objects.requireNonNull(p_Nodes, "Node array required.");
+		final int numNodes = getHeader().getNodesSize();
+		checkArgument(p_Nodes.length >= numNodes,
+				"Expected at least %s nodes but got %s", numNodes,
+				p_Nodes.length);
+		checkElementIndex(p_DateIndex, getDateCount(), "Date index");
+
+		seekTo(m_GridStartByte + GRID_TAG_LENGTH + m_GridSize * p_DateIndex);
+		readFloats(p_Nodes, 0, numNodes);
+		return p_Nodes;
+	}
+
+	/**
+	 * Read and parse the tag of a single grid, without indexing the tags of
+	 * the whole file. Unlike {@link #getDates()}, repeated tags are returned
+	 * as written, at midnight.
+	 *
+	 * @param p_DateIndex
+	 *            the 0-based date index of the grid
+	 * @return the date of the tag
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             if the tag could not be parsed as a date
+	 * @since Oct 18, 2026
+	 */
+	public Date readTag(final int p_DateIndex)
+			throws ParseException, IOException
+	{
+		checkElementIndex(p_DateIndex, getDateCount(), "Date index");
+
+		seekTo(m_GridStartByte + m_GridSize * (long) p_DateIndex);
+		final String tag = new String(m_DIS.readCharsAsAscii(GRID_TAG_LENGTH))
+				.trim();
+		return m_DateFormat.parse(tag);
+	}
+
+	/**
+	 * Check whether the file has grown since it was opened or last refreshed,
+	 * and index only the grids that have been completely written since. Use
+	 * this to follow a file that is still being written by a running model.
+	 *
+	 * @return the number of newly available timesteps
+	 * @throws IOException
+	 *             problem reading from file, or the file has shrunk
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int refresh() throws ParseException, IOException
+	{
+		validate();
+		getDates();
+		final long fileLength = m_DIS.getLength();
+		if (fileLength < m_FileLength)
+		{
+			throw new IOException(
+					String.format("File %s shrank from %s to %s bytes.",
+							m_FilePath, m_FileLength, fileLength));
+		}
+		m_FileLength = fileLength;
+		final int count = indexTags();
+		if (count > 0)
+		{
+			log.debug(String.format("Indexed %s new grids in %s", count,
+					m_FilePath));
+		}
+		return count;
+	}
+
+	/**
+	 * Position {@link #m_DIS} at the provided byte offset, skipping forward
+	 * when possible since {@link SeekableDataFileInputStream#seek(int)} may
+	 * reopen the file.
+	 *
+	 * @param p_Position
+	 *            the byte offset from the beginning of the file
+	 * @throws IOException
+	 *             problem positioning within the file
+	 * @since Oct 18, 2026
+	 */
+	private void seekTo(final long p_Position) throws IOException
+	{
+		final long delta = p_Position - m_DIS.getPosition();
+		if (delta == 0)
 		{
-			return m_DIS.readInt();
+			return;
 		}
-		catch (final IOException e)
+		if (delta > 0 && delta <= Integer.MAX_VALUE
+				&& m_DIS.skipBytesAggressive((int) delta) == delta)
 		{
-			final String message = String
-					.format("Unable to read from input file.");
-			log.error(message, e);
-			throw new RuntimeException(message, e);
+			return;
 		}
+		m_DIS.seek(Math.toIntExact(p_Position));
 	}
 
 	/**
@@ -0,0 +1,572 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Derives spatial products, such as water-surface slope and flow direction,
+ * from the 3×3 neighbourhood of every node of a SFWMM GridIO file. Timesteps
+ * are streamed one at a time: each is scattered into a dense grid, where
+ * cells outside the available columns of their row are NaN, and the nodes are
+ * then computed in parallel by bands of rows into a node vector with the
+ * same availability as the file. Only one grid and one node vector are held,
+ * however many timesteps there are.
+ *
+ * Neighbours are addressed by row and column. Row 0 is the south edge of
+ * the grid, so increasing row index is north and increasing column index is
+ * east; directions are given in these compass terms. Distances use
+ * {@link GIOHeader#getSizeX()} between columns and
+ * {@link GIOHeader#getSizeY()} between rows.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOStencil
+{
+	/**
+	 * Builds new instances of {@link GIOStencil}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withProduct(Product)
+		 */
+		private Product		m_bProduct;
+
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withThreads(int)
+		 */
+		private int			m_bThreads;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bProduct = Product.SLOPE;
+			m_bThreads = Runtime.getRuntime().availableProcessors();
+		}
+
+		/**
+		 * Validate and build
+		 *
+		 * @return {@link GIOStencil} instance
+		 * @since Oct 18, 2026
+		 */
+		public GIOStencil build()
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkNotNull(m_bProduct, "Product required.");
+			checkArgument(m_bThreads > 0, "Thread count must be positive.");
+			final GIOHeader header = m_bReader.getHeader();
+			checkArgument(header.getSizeX() > 0 && header.getSizeY() > 0,
+					"Cell size must be positive but got %s x %s",
+					header.getSizeX(), header.getSizeY());
+			return new GIOStencil(this);
+		}
+
+		/**
+		 * Set the product to derive. Defaults to {@link Product#SLOPE}.
+		 *
+		 * @param p_Product
+		 *            the product
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withProduct(final Product p_Product)
+		{
+			m_bProduct = p_Product;
+			return this;
+		}
+
+		/**
+		 * Set the reader of the file
+		 *
+		 * @param p_Reader
+		 *            an open reader
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set the number of row bands computed at once. Defaults to the
+		 * number of processors.
+		 *
+		 * @param p_Threads
+		 *            the number of worker threads
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThreads(final int p_Threads)
+		{
+			m_bThreads = p_Threads;
+			return this;
+		}
+	}
+
+	/**
+	 * The products derived from the neighbourhood of each node. Gradients and
+	 * slope use Horn's weighted 3×3 differences, with a missing neighbour
+	 * (outside the grid, unavailable or NaN) taking the value of the centre.
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public enum Product
+	{
+		/**
+		 * D8 flow direction: the code of the neighbour with the steepest
+		 * drop, 1 east, 2 south-east, 4 south, 8 south-west, 16 west, 32
+		 * north-west, 64 north and 128 north-east; 0 if no neighbour is
+		 * lower
+		 */
+		FLOW_DIRECTION,
+
+		/**
+		 * Gradient toward the east (increasing column index), per unit of
+		 * distance
+		 */
+		GRADIENT_X,
+
+		/**
+		 * Gradient toward the north (increasing row index), per unit of
+		 * distance
+		 */
+		GRADIENT_Y,
+
+		/**
+		 * Magnitude of the gradient, rise over run
+		 */
+		SLOPE;
+	}
+
+	/**
+	 * D8 codes by neighbour, in the order of {@link #NEIGHBOUR_ROWS}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int[]	D8_CODES		= { 1, 2, 4, 8, 16, 32, 64,
+			128 };
+
+	/**
+	 * Column offsets of the neighbours, in the order of {@link #D8_CODES}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int[]	NEIGHBOUR_COLS	= { 1, 1, 0, -1, -1, -1, 0,
+			1 };
+
+	/**
+	 * Row offsets of the neighbours, in the order of {@link #D8_CODES}; rows
+	 * are stored south to north, so south is the previous row
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int[]	NEIGHBOUR_ROWS	= { 0, -1, -1, -1, 0, 1, 1,
+			1 };
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOAvailability	m_Availability;
+
+	/**
+	 * The first available column of each row
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_FirstColumns;
+
+	/**
+	 * The last available column of each row
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_LastColumns;
+
+	/**
+	 * @see #getProduct()
+	 * @since Oct 18, 2026
+	 */
+	private final Product			m_Product;
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader			m_Reader;
+
+	/**
+	 * Distance between columns
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float				m_SizeX;
+
+	/**
+	 * Distance between rows
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float				m_SizeY;
+
+	/**
+	 * @see Builder#withThreads(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int				m_Threads;
+
+	/**
+	 * Create a new instance from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private GIOStencil(final Builder p_Builder)
+	{
+		m_Reader = p_Builder.m_bReader;
+		m_Product = p_Builder.m_bProduct;
+		m_Threads = p_Builder.m_bThreads;
+		m_Availability = m_Reader.getAvailability();
+		m_SizeX = m_Reader.getHeader().getSizeX();
+		m_SizeY = m_Reader.getHeader().getSizeY();
+
+		final int numRows = m_Availability.getRowsSize();
+		m_FirstColumns = new int[numRows];
+		m_LastColumns = new int[numRows];
+		for (int row = 0; row < numRows; row++)
+		{
+			final Range<Integer> columns = m_Availability.getColumns(row);
+			m_FirstColumns[row] = columns.lowerEndpoint();
+			m_LastColumns[row] = columns.upperEndpoint();
+		}
+	}
+
+	/**
+	 * Derive the product for each timestep, in date order, and pass it to the
+	 * provided listener as a node vector with the availability of the file.
+	 * The node vector is reused between calls.
+	 *
+	 * @param p_Listener
+	 *            receives the product of each timestep
+	 * @return the number of timesteps passed to the listener
+	 * @throws IOException
+	 *             problem reading from file, or thrown by the listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int apply(final GIOTimestepListener p_Listener)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_Listener, "Listener required.");
+		final int numRows = m_Availability.getRowsSize();
+		final int numCols = m_Availability.getColsSize();
+		final float[] grid = new float[numRows * numCols];
+		final float[] result = new float[m_Availability.getNodesSize()];
+
+		/**
+		 * Bands of consecutive rows, reused for every timestep
+		 */
+		final int numBands = Math.max(1, Math.min(m_Threads, numRows));
+		final List<Callable<Void>> bands = Lists.newArrayList();
+		for (int band = 0; band < numBands; band++)
+		{
+			final int from = (int) ((long) numRows * band / numBands);
+			final int to = (int) ((long) numRows * (band + 1) / numBands);
+			bands.add(() -> {
+				compute(grid, from, to, result);
+				return null;
+			});
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				numBands,
+				new ThreadFactoryBuilder().setDaemon(true)
+						.setNameFormat(getClass().getSimpleName() + "-%d")
+						.build());
+		try
+		{
+			return m_Reader.forEachTimestep(Range.all(),
+					(p_DateIndex, p_Date, p_Nodes) -> {
+						m_Availability.toGrid(p_Nodes, grid);
+						try
+						{
+							for (final Future<Void> future : executor
+									.invokeAll(bands))
+							{
+								future.get();
+							}
+						}
+						catch (final InterruptedException e)
+						{
+							Thread.currentThread().interrupt();
+							throw new IOException("Interrupted.", e);
+						}
+						catch (final ExecutionException e)
+						{
+							throw new IOException(e.getCause());
+						}
+						p_Listener.timestep(p_DateIndex, p_Date, result);
+					});
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Compute the product of the nodes in a band of rows
+	 *
+	 * @param p_Grid
+	 *            the dense grid of the timestep
+	 * @param p_FromRow
+	 *            the first row, inclusive
+	 * @param p_ToRow
+	 *            the last row, exclusive
+	 * @param p_Result
+	 *            the destination node vector
+	 * @since Oct 18, 2026
+	 */
+	private void compute(final float[] p_Grid, final int p_FromRow,
+			final int p_ToRow, final float[] p_Result)
+	{
+		for (int row = p_FromRow; row < p_ToRow; row++)
+		{
+			int node = m_Availability.getRowOffset(row);
+			for (int col = m_FirstColumns[row]; col <= m_LastColumns[row]; col++)
+			{
+				p_Result[node++] = m_Product == Product.FLOW_DIRECTION
+						? flowDirection(p_Grid, row, col)
+						: gradient(p_Grid, row, col);
+			}
+		}
+	}
+
+	/**
+	 * Get the D8 flow direction of a cell
+	 *
+	 * @param p_Grid
+	 *            the dense grid
+	 * @param p_Row
+	 *            the row of the cell
+	 * @param p_Col
+	 *            the column of the cell
+	 * @return the D8 code, 0 if no neighbour is lower, or NaN if the cell is
+	 *         NaN
+	 * @since Oct 18, 2026
+	 */
+	private float flowDirection(final float[] p_Grid, final int p_Row,
+			final int p_Col)
+	{
+		final int numCols = m_Availability.getColsSize();
+		final float center = p_Grid[p_Row * numCols + p_Col];
+		if (Float.isNaN(center))
+		{
+			return Float.NaN;
+		}
+		final double diagonal = Math.hypot(m_SizeX, m_SizeY);
+		double steepest = 0.0;
+		int code = 0;
+		for (int i = 0; i < D8_CODES.length; i++)
+		{
+			final float neighbour = value(p_Grid, p_Row + NEIGHBOUR_ROWS[i],
+					p_Col + NEIGHBOUR_COLS[i], Float.NaN);
+			if (Float.isNaN(neighbour))
+			{
+				continue;
+			}
+			final double distance = NEIGHBOUR_ROWS[i] == 0 ? m_SizeX
+					: NEIGHBOUR_COLS[i] == 0 ? m_SizeY : diagonal;
+			final double drop = (center - neighbour) / distance;
+			if (drop > steepest)
+			{
+				steepest = drop;
+				code = D8_CODES[i];
+			}
+		}
+		return code;
+	}
+
+	/**
+	 * Get the product this stencil derives
+	 *
+	 * @return the product
+	 * @since Oct 18, 2026
+	 */
+	public Product getProduct()
+	{
+		return m_Product;
+	}
+
+	/**
+	 * Get a gradient product of a cell with Horn's method
+	 *
+	 * @param p_Grid
+	 *            the dense grid
+	 * @param p_Row
+	 *            the row of the cell
+	 * @param p_Col
+	 *            the column of the cell
+	 * @return the gradient product, or NaN if the cell is NaN
+	 * @since Oct 18, 2026
+	 */
+	private float gradient(final float[] p_Grid, final int p_Row,
+			final int p_Col)
+	{
+		final int numCols = m_Availability.getColsSize();
+		final float e = p_Grid[p_Row * numCols + p_Col];
+		if (Float.isNaN(e))
+		{
+			return Float.NaN;
+		}
+
+		/**
+		 * a b c / d e f / g h i, with a in the previous (southern) row and
+		 * previous (western) column
+		 */
+		final float a = value(p_Grid, p_Row - 1, p_Col - 1, e);
+		final float b = value(p_Grid, p_Row - 1, p_Col, e);
+		final float c = value(p_Grid, p_Row - 1, p_Col + 1, e);
+		final float d = value(p_Grid, p_Row, p_Col - 1, e);
+		final float f = value(p_Grid, p_Row, p_Col + 1, e);
+		final float g = value(p_Grid, p_Row + 1, p_Col - 1, e);
+		final float h = value(p_Grid, p_Row + 1, p_Col, e);
+		final float i = value(p_Grid, p_Row + 1, p_Col + 1, e);
+		final double gradientX = (c + 2.0 * f + i - (a + 2.0 * d + g))
+				/ (8.0 * m_SizeX);
+		final double gradientY = (g + 2.0 * h + i - (a + 2.0 * b + c))
+				/ (8.0 * m_SizeY);
+		switch (m_Product)
+		{
+			case GRADIENT_X:
+				return (float) gradientX;
+			case GRADIENT_Y:
+				return (float) gradientY;
+			default:
+				return (float) Math.hypot(gradientX, gradientY);
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("filePath", m_Reader.getFilePath())
+				.add("product", m_Product).toString();
+	}
+
+	/**
+	 * Get the value of a cell, or a default if it is outside the grid or NaN
+	 *
+	 * @param p_Grid
+	 *            the dense grid
+	 * @param p_Row
+	 *            the row of the cell
+	 * @param p_Col
+	 *            the column of the cell
+	 * @param p_Default
+	 *            the value of a missing cell
+	 * @return the value of the cell
+	 * @since Oct 18, 2026
+	 */
+	private float value(final float[] p_Grid, final int p_Row, final int p_Col,
+			final float p_Default)
+	{
+		final int numCols = m_Availability.getColsSize();
+		if (p_Row < 0 || p_Row >= m_FirstColumns.length || p_Col < 0
+				|| p_Col >= numCols)
+		{
+			return p_Default;
+		}
+		final float value = p_Grid[p_Row * numCols + p_Col];
+		return Float.isNaN(value) ? p_Default : value;
+	}
+
+	/**
+	 * Write the product of each timestep as a new SFWMM GridIO file with the
+	 * grid of the source file
+	 *
+	 * @param p_FilePath
+	 *            the path of the file to create
+	 * @return the number of timesteps written
+	 * @throws IOException
+	 *             problem reading or writing
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public int write(final String p_FilePath)
+			throws IOException, ParseException
+	{
+		checkNotNull(p_FilePath, "File path required.");
+		final GIOHeader source = m_Reader.getHeader();
+		String title = String.format("%s %s", source.getTitle().trim(),
+				m_Product.name().toLowerCase().replace('_', ' '));
+		if (title.length() > GIOHeader.GRID_TITLE_LENGTH)
+		{
+			title = title.substring(0, GIOHeader.GRID_TITLE_LENGTH);
+		}
+		final GIOHeader header;
+		try
+		{
+			header = GIOHeader.builder().withTitle(title)
+					.withNumRows(source.getRowsSize())
+					.withNumCols(source.getColsSize())
+					.withNumNodes(source.getNodesSize())
+					.withSize(source.getSizeX(), source.getSizeY()).build();
+		}
+		catch (final Exception e)
+		{
+			throw new IOException("Unable to create header.", e);
+		}
+
+		try (GIOWriter writer = GIOWriter.builder().withFilePath(p_FilePath)
+				.withHeader(header).withAvailability(m_Availability).build())
+		{
+			return apply(
+					(p_DateIndex, p_Date, p_Nodes) -> writer.writeNodes(p_Date,
+							p_Nodes));
+		}
+	}
+}
@@ -0,0 +1,344 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Range;
+import java.io.Closeable;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows an SFWMM GridIO file that is still being written by a running
+ * model. Each {@link #poll()} checks the file for growth using
+ * {@link GIOReader#refresh()}, which indexes only the newly written tags, and
+ * passes each new timestep to the registered {@link GIOTimestepListener}s.
+ * Polling can be driven by the caller or scheduled with {@link #start()}.
+ *
+ * While polling is scheduled, the reader should not be used from other
+ * threads.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOTailer implements Closeable
+{
+	/**
+	 * Builds new instances of {@link GIOTailer}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withPollInterval(long, TimeUnit)
+		 */
+		private long		m_bPollInterval;
+
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withReplay(boolean)
+		 */
+		private boolean		m_bReplay;
+
+		/**
+		 * @see #withPollInterval(long, TimeUnit)
+		 */
+		private TimeUnit	m_bUnit;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bPollInterval = DEFAULT_POLL_INTERVAL_MS;
+			m_bUnit = TimeUnit.MILLISECONDS;
+			m_bReplay = false;
+		}
+
+		/**
+		 * Create the tailer
+		 *
+		 * @return {@link GIOTailer} instance
+		 * @throws IOException
+		 *             problem reading from file
+		 * @throws ParseException
+		 *             problem parsing dates
+		 * @since Oct 18, 2026
+		 */
+		public GIOTailer build() throws IOException, ParseException
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkNotNull(m_bUnit, "Time unit required.");
+			checkArgument(m_bPollInterval > 0,
+					"Poll interval must be positive.");
+			return new GIOTailer(this);
+		}
+
+		/**
+		 * Set how often the file is polled once {@link GIOTailer#start()} is
+		 * called. Defaults to one second.
+		 *
+		 * @param p_Interval
+		 *            the poll interval
+		 * @param p_Unit
+		 *            the unit of the poll interval
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withPollInterval(final long p_Interval,
+				final TimeUnit p_Unit)
+		{
+			m_bPollInterval = p_Interval;
+			m_bUnit = p_Unit;
+			return this;
+		}
+
+		/**
+		 * Set the reader of the file to follow
+		 *
+		 * @param p_Reader
+		 *            an open reader
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set whether the timesteps already in the file are passed to
+		 * listeners on the first poll. By default only timesteps written after
+		 * the tailer is built are passed.
+		 *
+		 * @param p_Replay
+		 *            true to replay existing timesteps
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReplay(final boolean p_Replay)
+		{
+			m_bReplay = p_Replay;
+			return this;
+		}
+	}
+
+	/**
+	 * Default poll interval, in milliseconds
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final long				DEFAULT_POLL_INTERVAL_MS	= 1000L;
+
+	/**
+	 * Class logger
+	 */
+	private static org.apache.log4j.Logger	log							= org.apache.log4j.Logger
+			.getLogger(GIOTailer.class);
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Scheduled polling, if started
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private ScheduledExecutorService		m_Executor;
+
+	/**
+	 * Registered listeners
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final List<GIOTimestepListener>	m_Listeners;
+
+	/**
+	 * @see #getNextIndex()
+	 * @since Oct 18, 2026
+	 */
+	private int								m_NextIndex;
+
+	/**
+	 * @see Builder#withPollInterval(long, TimeUnit)
+	 * @since Oct 18, 2026
+	 */
+	private final long						m_PollInterval;
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader					m_Reader;
+
+	/**
+	 * @see Builder#withPollInterval(long, TimeUnit)
+	 * @since Oct 18, 2026
+	 */
+	private final TimeUnit					m_Unit;
+
+	/**
+	 * Create a new tailer from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	private GIOTailer(final Builder p_Builder)
+			throws IOException, ParseException
+	{
+		m_Reader = p_Builder.m_bReader;
+		m_PollInterval = p_Builder.m_bPollInterval;
+		m_Unit = p_Builder.m_bUnit;
+		m_Listeners = new CopyOnWriteArrayList<>();
+		m_NextIndex = p_Builder.m_bReplay ? 0 : m_Reader.getDates().size();
+	}
+
+	/**
+	 * Register a listener to receive new timesteps
+	 *
+	 * @param p_Listener
+	 *            the listener
+	 * @since Oct 18, 2026
+	 */
+	public void addListener(final GIOTimestepListener p_Listener)
+	{
+		m_Listeners.add(checkNotNull(p_Listener, "Listener required."));
+	}
+
+	/**
+	 * Stop scheduled polling, if started. The reader is not closed.
+	 *
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public synchronized void close()
+	{
+		if (m_Executor != null)
+		{
+			m_Executor.shutdownNow();
+			m_Executor = null;
+		}
+	}
+
+	/**
+	 * Get the date index of the next timestep that will be passed to
+	 * listeners
+	 *
+	 * @return the next date index
+	 * @since Oct 18, 2026
+	 */
+	public synchronized int getNextIndex()
+	{
+		return m_NextIndex;
+	}
+
+	/**
+	 * Check the file for new timesteps and pass each of them to the registered
+	 * listeners. Timesteps that are still being written are left for a later
+	 * poll.
+	 *
+	 * @return the number of new timesteps passed to listeners
+	 * @throws IOException
+	 *             problem reading from file, or thrown by a listener
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public synchronized int poll() throws IOException, ParseException
+	{
+		m_Reader.refresh();
+		final int size = m_Reader.getDates().size();
+		if (m_NextIndex >= size)
+		{
+			return 0;
+		}
+		final int count = m_Reader.forEachTimestep(
+				Range.closedOpen(m_NextIndex, size),
+				(p_DateIndex, p_Date, p_Nodes) -> {
+					for (final GIOTimestepListener listener : m_Listeners)
+					{
+						listener.timestep(p_DateIndex, p_Date, p_Nodes);
+					}
+					m_NextIndex = p_DateIndex + 1;
+				});
+		log.debug(String.format("Passed %s new timesteps from %s", count,
+				m_Reader.getFilePath()));
+		return count;
+	}
+
+	/**
+	 * Unregister a listener
+	 *
+	 * @param p_Listener
+	 *            the listener
+	 * @return true if the listener was registered
+	 * @since Oct 18, 2026
+	 */
+	public boolean removeListener(final GIOTimestepListener p_Listener)
+	{
+		return m_Listeners.remove(p_Listener);
+	}
+
+	/**
+	 * Start polling the file on a background thread at the configured
+	 * interval. Problems are logged and polling continues.
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public synchronized void start()
+	{
+		checkState(m_Executor == null, "Already started.");
+		m_Executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread thread = new Thread(r,
+					"GIOTailer-" + m_Reader.getFilePath());
+			thread.setDaemon(true);
+			return thread;
+		});
+		m_Executor.scheduleWithFixedDelay(() -> {
+			try
+			{
+				poll();
+			}
+			catch (final Exception e)
+			{
+				log.error("Error polling " + m_Reader.getFilePath(), e);
+			}
+		}, 0L, m_PollInterval, m_Unit);
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("file", m_Reader.getFilePath())
+				.add("nextIndex", m_NextIndex)
+				.add("listeners", m_Listeners.size()).toString();
+	}
+}
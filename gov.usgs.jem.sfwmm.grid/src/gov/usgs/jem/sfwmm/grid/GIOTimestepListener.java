@@ -0,0 +1,36 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * Receives timesteps read from an SFWMM GridIO file, one node vector at a
+ * time.
+ *
+ * @see GIOReader#forEachTimestep(com.google.common.collect.Range,
+ *      GIOTimestepListener)
+ * @see GIOTailer
+ * @since Oct 18, 2026
+ *
+ */
+@FunctionalInterface
+public interface GIOTimestepListener
+{
+	/**
+	 * Called for each timestep. The node vector is owned by the caller and
+	 * will be overwritten after this method returns; copy it if the values
+	 * need to be kept.
+	 *
+	 * @param p_DateIndex
+	 *            the date index of the timestep
+	 * @param p_Date
+	 *            the date of the timestep
+	 * @param p_Nodes
+	 *            the node values, in file order
+	 * @throws IOException
+	 *             if the listener is unable to handle the timestep
+	 * @since Oct 18, 2026
+	 */
+	void timestep(int p_DateIndex, Date p_Date, float[] p_Nodes)
+			throws IOException;
+}
@@ -0,0 +1,543 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.MoreObjects;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Writes SFWMM GridIO files that can be read by {@link GIOReader}. The title,
+ * header and availability configuration are written when the writer is
+ * built; each call to {@link #writeNodes(Date, float[])} or
+ * {@link #writeGrid(Date, float[])} then appends one 80-byte date tag and the
+ * node values of one timestep. Output goes through a large direct buffer and a
+ * {@link FileChannel}, so streaming many timesteps results in few, large
+ * sequential writes.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOWriter implements Closeable
+{
+	/**
+	 * Builds new instances of {@link GIOWriter}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withAvailability(GIOAvailability)
+		 */
+		private GIOAvailability	m_bAvailability;
+
+		/**
+		 * @see #withBufferSize(int)
+		 */
+		private int				m_bBufferSize;
+
+		/**
+		 * @see #withFilePath(String)
+		 */
+		private String			m_bFilePath;
+
+		/**
+		 * @see #withHeader(GIOHeader)
+		 */
+		private GIOHeader		m_bHeader;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bBufferSize = DEFAULT_BUFFER_SIZE;
+		}
+
+		/**
+		 * Create the file and write its header
+		 *
+		 * @return {@link GIOWriter} instance
+		 * @throws IOException
+		 *             if the file could not be created or written
+		 * @since Oct 18, 2026
+		 */
+		public GIOWriter build() throws IOException
+		{
+			checkNotNull(m_bFilePath, "File path required.");
+			checkNotNull(m_bHeader, "Header required.");
+			checkNotNull(m_bAvailability, "Availability required.");
+			checkArgument(
+					m_bHeader.getRowsSize() == m_bAvailability.getRowsSize(),
+					"Header has %s rows but availability has %s",
+					m_bHeader.getRowsSize(), m_bAvailability.getRowsSize());
+			checkArgument(
+					m_bHeader.getNodesSize() == m_bAvailability
+							.getNodesSize(),
+					"Header has %s nodes but availability has %s",
+					m_bHeader.getNodesSize(), m_bAvailability.getNodesSize());
+			checkArgument(
+					m_bHeader.getColsSize() == m_bAvailability.getColsSize(),
+					"Header has %s columns but availability has %s",
+					m_bHeader.getColsSize(), m_bAvailability.getColsSize());
+			checkArgument(m_bBufferSize >= GRID_TAG_LENGTH,
+					"Buffer size must be at least %s bytes", GRID_TAG_LENGTH);
+
+			final GIOWriter writer = new GIOWriter(this);
+			try
+			{
+				writer.writeHeader();
+			}
+			catch (final IOException e)
+			{
+				writer.close();
+				throw e;
+			}
+			return writer;
+		}
+
+		/**
+		 * Set the availability configuration, which determines which cells
+		 * are stored for each row
+		 *
+		 * @param p_Availability
+		 *            the availability configuration
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withAvailability(final GIOAvailability p_Availability)
+		{
+			m_bAvailability = p_Availability;
+			return this;
+		}
+
+		/**
+		 * Set the size of the write buffer
+		 *
+		 * @param p_BufferSize
+		 *            the number of bytes to buffer between writes
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withBufferSize(final int p_BufferSize)
+		{
+			m_bBufferSize = p_BufferSize;
+			return this;
+		}
+
+		/**
+		 * Set the path of the file to create. An existing file is replaced.
+		 *
+		 * @param p_FilePath
+		 *            the path to the SFWMM GridIO file
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withFilePath(final String p_FilePath)
+		{
+			m_bFilePath = p_FilePath;
+			return this;
+		}
+
+		/**
+		 * Set the header
+		 *
+		 * @param p_Header
+		 *            the header
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withHeader(final GIOHeader p_Header)
+		{
+			m_bHeader = p_Header;
+			return this;
+		}
+	}
+
+	/**
+	 * Default size of the write buffer
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				DEFAULT_BUFFER_SIZE	= 4 * 1024 * 1024;
+
+	/**
+	 * The number of bytes used for grid tags
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int				GRID_TAG_LENGTH		= 80;
+
+	/**
+	 * Class logger
+	 */
+	private static org.apache.log4j.Logger	log					= org.apache.log4j.Logger
+			.getLogger(GIOWriter.class);
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * @see Builder#withAvailability(GIOAvailability)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOAvailability	m_Availability;
+
+	/**
+	 * Direct write buffer
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final ByteBuffer		m_Buffer;
+
+	/**
+	 * Used to determine the day of month of tags
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Calendar			m_Calendar;
+
+	/**
+	 * The channel written to
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private FileChannel				m_Channel;
+
+	/**
+	 * @see #getFilePath()
+	 * @since Oct 18, 2026
+	 */
+	private final String			m_FilePath;
+
+	/**
+	 * @see Builder#withHeader(GIOHeader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOHeader			m_Header;
+
+	/**
+	 * The last date written, used to enforce date order
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private Date					m_LastDate;
+
+	/**
+	 * Formats the month name of tags
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final SimpleDateFormat	m_MonthFormat;
+
+	/**
+	 * Scratch node vector for {@link #writeGrid(Date, float[])}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private float[]					m_Nodes;
+
+	/**
+	 * @see #getTimestepCount()
+	 * @since Oct 18, 2026
+	 */
+	private int						m_TimestepCount;
+
+	/**
+	 * Create a new writer from the provided builder and open the file
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @throws IOException
+	 *             if the file could not be created
+	 * @since Oct 18, 2026
+	 */
+	private GIOWriter(final Builder p_Builder) throws IOException
+	{
+		m_FilePath = p_Builder.m_bFilePath;
+		m_Header = p_Builder.m_bHeader;
+		m_Availability = p_Builder.m_bAvailability;
+		m_Buffer = ByteBuffer.allocateDirect(p_Builder.m_bBufferSize)
+				.order(ByteOrder.BIG_ENDIAN);
+		final TimeZone timeZone = TimeZone.getTimeZone("UTC");
+		/**
+		 * Tags look like "January  1, 1965": full month name and a day of
+		 * month padded to two characters
+		 */
+		m_MonthFormat = new SimpleDateFormat("MMMM", Locale.US);
+		m_MonthFormat.setTimeZone(timeZone);
+		m_Calendar = Calendar.getInstance(timeZone, Locale.US);
+		log.debug(String.format("Create %s", m_FilePath));
+		m_Channel = FileChannel.open(Paths.get(m_FilePath),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
+	/**
+	 * Flush any buffered timesteps and close the file
+	 *
+	 * @throws IOException
+	 *             if flushing or closing the file failed
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		if (m_Channel != null)
+		{
+			try
+			{
+				flush();
+			}
+			finally
+			{
+				m_Channel.close();
+				m_Channel = null;
+			}
+		}
+	}
+
+	/**
+	 * Ensure the buffer has room for the provided number of bytes, writing its
+	 * contents out if needed
+	 *
+	 * @param p_Count
+	 *            the number of bytes needed
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	private void ensureRemaining(final int p_Count) throws IOException
+	{
+		if (m_Buffer.remaining() < p_Count)
+		{
+			flush();
+		}
+	}
+
+	/**
+	 * Write any buffered bytes to the file
+	 *
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	public void flush() throws IOException
+	{
+		validate();
+		m_Buffer.flip();
+		while (m_Buffer.hasRemaining())
+		{
+			m_Channel.write(m_Buffer);
+		}
+		m_Buffer.clear();
+	}
+
+	/**
+	 * Get the path of the file being written
+	 *
+	 * @return the file path
+	 * @since Oct 18, 2026
+	 */
+	public String getFilePath()
+	{
+		return m_FilePath;
+	}
+
+	/**
+	 * Get the number of timesteps written so far
+	 *
+	 * @return the number of timesteps
+	 * @since Oct 18, 2026
+	 */
+	public int getTimestepCount()
+	{
+		return m_TimestepCount;
+	}
+
+	/**
+	 * Put an ASCII string, padded with zeros (or truncated) to the provided
+	 * length
+	 *
+	 * @param p_Text
+	 *            the text
+	 * @param p_Length
+	 *            the number of bytes to put
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	private void putAscii(final String p_Text, final int p_Length)
+			throws IOException
+	{
+		ensureRemaining(p_Length);
+		final byte[] bytes = p_Text.getBytes(StandardCharsets.US_ASCII);
+		final int count = Math.min(bytes.length, p_Length);
+		m_Buffer.put(bytes, 0, count);
+		for (int i = count; i < p_Length; i++)
+		{
+			m_Buffer.put((byte) 0);
+		}
+	}
+
+	/**
+	 * Put an integer
+	 *
+	 * @param p_Value
+	 *            the value
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	private void putInt(final int p_Value) throws IOException
+	{
+		ensureRemaining(Integer.BYTES);
+		m_Buffer.putInt(p_Value);
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("file", m_FilePath)
+				.add("header", m_Header).add("timesteps", m_TimestepCount)
+				.toString();
+	}
+
+	/**
+	 * Validate the writer.
+	 *
+	 * @throws IllegalStateException
+	 *             if the writer has been closed
+	 * @since Oct 18, 2026
+	 */
+	private void validate() throws IllegalStateException
+	{
+		checkState(m_Channel != null, "File is not open.");
+	}
+
+	/**
+	 * Append one timestep from a full grid (row-major, row 0 first, the same
+	 * order as {@link GIOReader#readData(com.google.common.collect.Range,
+	 * com.google.common.collect.Range, com.google.common.collect.Range)}).
+	 * Cells without a node are ignored.
+	 *
+	 * @param p_Date
+	 *            the date of the timestep, not before the previous timestep
+	 * @param p_Grid
+	 *            the grid values, at least rows * cols long
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	public void writeGrid(final Date p_Date, final float[] p_Grid)
+			throws IOException
+	{
+		checkNotNull(p_Grid, "Grid required.");
+		if (m_Nodes == null)
+		{
+			m_Nodes = new float[m_Availability.getNodesSize()];
+		}
+		writeNodes(p_Date, m_Availability.toNodes(p_Grid, m_Nodes));
+	}
+
+	/**
+	 * Write the title, header and availability configuration
+	 *
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	private void writeHeader() throws IOException
+	{
+		putAscii(m_Header.getTitle(), GIOHeader.GRID_TITLE_LENGTH);
+		final int numRows = m_Header.getRowsSize();
+		putInt(numRows);
+		putInt(m_Header.getNodesSize());
+		ensureRemaining(2 * Float.BYTES);
+		m_Buffer.putFloat(m_Header.getSizeX());
+		m_Buffer.putFloat(m_Header.getSizeY());
+		for (int row = 0; row < numRows; row++)
+		{
+			putInt(m_Availability.getColumns(row).lowerEndpoint());
+		}
+		for (int row = 0; row < numRows; row++)
+		{
+			putInt(m_Availability.getColumns(row).upperEndpoint());
+		}
+		for (int row = 0; row < numRows; row++)
+		{
+			putInt(m_Availability.getRowOffset(row));
+		}
+	}
+
+	/**
+	 * Append one timestep from a node vector
+	 *
+	 * @param p_Date
+	 *            the date of the timestep, not before the previous timestep
+	 * @param p_Nodes
+	 *            the node values, in file order, at least
+	 *            {@link GIOHeader#getNodesSize()} long
+	 * @throws IOException
+	 *             problem writing to file
+	 * @since Oct 18, 2026
+	 */
+	public void writeNodes(final Date p_Date, final float[] p_Nodes)
+			throws IOException
+	{
+		validate();
+		checkNotNull(p_Date, "Date required.");
+		checkNotNull(p_Nodes, "Nodes required.");
+		final int numNodes = m_Header.getNodesSize();
+		checkArgument(p_Nodes.length >= numNodes,
+				"Expected at least %s nodes but got %s", numNodes,
+				p_Nodes.length);
+		checkArgument(m_LastDate == null || !p_Date.before(m_LastDate),
+				"Date %s is before previous date %s", p_Date, m_LastDate);
+
+		m_Calendar.setTime(p_Date);
+		putAscii(String.format(Locale.US, "%s %2d, %d",
+				m_MonthFormat.format(p_Date),
+				m_Calendar.get(Calendar.DAY_OF_MONTH),
+				m_Calendar.get(Calendar.YEAR)), GRID_TAG_LENGTH);
+
+		int offset = 0;
+		while (offset < numNodes)
+		{
+			if (m_Buffer.remaining() < Float.BYTES)
+			{
+				flush();
+			}
+			final int count = Math.min(numNodes - offset,
+					m_Buffer.remaining() / Float.BYTES);
+			m_Buffer.asFloatBuffer().put(p_Nodes, offset, count);
+			m_Buffer.position(m_Buffer.position() + count * Float.BYTES);
+			offset += count;
+		}
+		m_LastDate = p_Date;
+		m_TimestepCount++;
+	}
+}
@@ -0,0 +1,555 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Computes statistics of SFWMM GridIO file zones, such as indicator regions,
+ * over time. Zones are labelled by an integer mask grid matching the rows and
+ * columns of the file; cells labelled zero or less, and cells without a node,
+ * belong to no zone. For every zone and timestep, the mean, minimum, maximum
+ * and the area of nodes strictly above a threshold are computed, ignoring
+ * NaN. A zone with no valid value at a timestep is NaN, except its area,
+ * which is zero.
+ *
+ * The node indices of each zone are resolved once from the mask. Timesteps
+ * are then read once, in blocks of up to {@value #BLOCK_SIZE} consecutive
+ * timesteps claimed by worker threads, each with its own reader of the file,
+ * so that every worker reads sequentially and fills its own columns of the
+ * zone × time table.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOZonalStatistics
+{
+	/**
+	 * Builds new instances of {@link GIOZonalStatistics}
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static class Builder
+	{
+		/**
+		 * @see #withMask(int[])
+		 */
+		private int[]		m_bMask;
+
+		/**
+		 * @see #withReader(GIOReader)
+		 */
+		private GIOReader	m_bReader;
+
+		/**
+		 * @see #withThreads(int)
+		 */
+		private int			m_bThreads;
+
+		/**
+		 * @see #withThreshold(float)
+		 */
+		private float		m_bThreshold;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bThreads = Runtime.getRuntime().availableProcessors();
+			m_bThreshold = Float.NaN;
+		}
+
+		/**
+		 * Validate the mask and resolve the nodes of each zone
+		 *
+		 * @return {@link GIOZonalStatistics} instance
+		 * @throws IllegalArgumentException
+		 *             if the mask does not match the grid
+		 * @since Oct 18, 2026
+		 */
+		public GIOZonalStatistics build()
+		{
+			checkNotNull(m_bReader, "Reader required.");
+			checkNotNull(m_bMask, "Mask required.");
+			checkArgument(m_bThreads > 0, "Thread count must be positive.");
+			final GIOAvailability availability = m_bReader.getAvailability();
+			final int numCells = availability.getRowsSize()
+					* availability.getColsSize();
+			checkArgument(m_bMask.length == numCells,
+					"Expected a mask of %s cells but got %s", numCells,
+					m_bMask.length);
+			return new GIOZonalStatistics(this);
+		}
+
+		/**
+		 * Set the zone label of each grid cell, row-major with row 0 first,
+		 * the same order as {@link GIOAvailability#toGrid(float[], float[])}
+		 *
+		 * @param p_Mask
+		 *            the zone label of each cell; zero or less for no zone
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withMask(final int[] p_Mask)
+		{
+			m_bMask = checkNotNull(p_Mask, "Mask required.").clone();
+			return this;
+		}
+
+		/**
+		 * Set the reader of the file
+		 *
+		 * @param p_Reader
+		 *            an open reader
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withReader(final GIOReader p_Reader)
+		{
+			m_bReader = p_Reader;
+			return this;
+		}
+
+		/**
+		 * Set the number of worker threads, each reading its own blocks of
+		 * timesteps. Defaults to the number of processors.
+		 *
+		 * @param p_Threads
+		 *            the number of worker threads
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThreads(final int p_Threads)
+		{
+			m_bThreads = p_Threads;
+			return this;
+		}
+
+		/**
+		 * Set the threshold of the area statistic. Without a threshold, the
+		 * area is zero.
+		 *
+		 * @param p_Threshold
+		 *            values strictly greater than this are counted
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withThreshold(final float p_Threshold)
+		{
+			m_bThreshold = p_Threshold;
+			return this;
+		}
+	}
+
+	/**
+	 * The zone × time table of statistics. Statistics are indexed by zone
+	 * index, the position of the zone label in {@link #getZones()}, then by
+	 * date index.
+	 *
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Table
+	{
+		/**
+		 * @see #getArea(int)
+		 */
+		private final float[][]		m_Area;
+
+		/**
+		 * @see #getDates()
+		 */
+		private final List<Date>	m_Dates;
+
+		/**
+		 * @see #getMax(int)
+		 */
+		private final float[][]		m_Max;
+
+		/**
+		 * @see #getMean(int)
+		 */
+		private final float[][]		m_Mean;
+
+		/**
+		 * @see #getMin(int)
+		 */
+		private final float[][]		m_Min;
+
+		/**
+		 * @see #getZones()
+		 */
+		private final int[]			m_Zones;
+
+		/**
+		 * @param p_Zones
+		 *            the zone labels
+		 * @param p_Dates
+		 *            the dates
+		 * @since Oct 18, 2026
+		 */
+		private Table(final int[] p_Zones, final List<Date> p_Dates)
+		{
+			m_Zones = p_Zones;
+			m_Dates = ImmutableList.copyOf(p_Dates);
+			m_Mean = new float[p_Zones.length][p_Dates.size()];
+			m_Min = new float[p_Zones.length][p_Dates.size()];
+			m_Max = new float[p_Zones.length][p_Dates.size()];
+			m_Area = new float[p_Zones.length][p_Dates.size()];
+		}
+
+		/**
+		 * @param p_ZoneIndex
+		 *            the zone index
+		 * @return the area of valid nodes strictly above the threshold at
+		 *         each timestep, in the units of
+		 *         {@link GIOHeader#getSizeX()} squared
+		 * @since Oct 18, 2026
+		 */
+		public float[] getArea(final int p_ZoneIndex)
+		{
+			return m_Area[p_ZoneIndex];
+		}
+
+		/**
+		 * @return the dates of the timesteps
+		 * @since Oct 18, 2026
+		 */
+		public List<Date> getDates()
+		{
+			return m_Dates;
+		}
+
+		/**
+		 * @param p_ZoneIndex
+		 *            the zone index
+		 * @return the maximum of the zone at each timestep
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMax(final int p_ZoneIndex)
+		{
+			return m_Max[p_ZoneIndex];
+		}
+
+		/**
+		 * @param p_ZoneIndex
+		 *            the zone index
+		 * @return the mean of the zone at each timestep
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMean(final int p_ZoneIndex)
+		{
+			return m_Mean[p_ZoneIndex];
+		}
+
+		/**
+		 * @param p_ZoneIndex
+		 *            the zone index
+		 * @return the minimum of the zone at each timestep
+		 * @since Oct 18, 2026
+		 */
+		public float[] getMin(final int p_ZoneIndex)
+		{
+			return m_Min[p_ZoneIndex];
+		}
+
+		/**
+		 * @return the zone labels, in ascending order
+		 * @since Oct 18, 2026
+		 */
+		public int[] getZones()
+		{
+			return m_Zones.clone();
+		}
+
+		@Override
+		public String toString()
+		{
+			return MoreObjects.toStringHelper(this)
+					.add("zones", m_Zones.length).add("dates", m_Dates.size())
+					.toString();
+		}
+	}
+
+	/**
+	 * Maximum number of consecutive timesteps claimed by a worker at once
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int BLOCK_SIZE = 64;
+
+	/**
+	 * Creates a new, empty builder
+	 *
+	 * @return a new builder instance.
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * @see Builder#withReader(GIOReader)
+	 * @since Oct 18, 2026
+	 */
+	private final GIOReader	m_Reader;
+
+	/**
+	 * @see Builder#withThreads(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int		m_Threads;
+
+	/**
+	 * @see Builder#withThreshold(float)
+	 * @since Oct 18, 2026
+	 */
+	private final float		m_Threshold;
+
+	/**
+	 * The node indices of each zone, by zone index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[][]	m_ZoneNodes;
+
+	/**
+	 * @see #getZones()
+	 * @since Oct 18, 2026
+	 */
+	private final int[]		m_Zones;
+
+	/**
+	 * Create a new instance from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the {@link Builder} to take initialization from
+	 * @since Oct 18, 2026
+	 */
+	private GIOZonalStatistics(final Builder p_Builder)
+	{
+		m_Reader = p_Builder.m_bReader;
+		m_Threads = p_Builder.m_bThreads;
+		m_Threshold = p_Builder.m_bThreshold;
+
+		final GIOAvailability availability = m_Reader.getAvailability();
+		final SortedMap<Integer, List<Integer>> zones = new TreeMap<>();
+		for (int node = 0; node < availability.getNodesSize(); node++)
+		{
+			final int label = p_Builder.m_bMask[availability.getRow(node)
+					* availability.getColsSize()
+					+ availability.getColumn(node)];
+			if (label > 0)
+			{
+				zones.computeIfAbsent(label, k -> Lists.newArrayList())
+						.add(node);
+			}
+		}
+		m_Zones = Ints.toArray(zones.keySet());
+		m_ZoneNodes = new int[m_Zones.length][];
+		int zoneIndex = 0;
+		for (final List<Integer> nodes : zones.values())
+		{
+			m_ZoneNodes[zoneIndex++] = Ints.toArray(nodes);
+		}
+	}
+
+	/**
+	 * Compute the zone × time table in one pass over the file
+	 *
+	 * @return the table of statistics
+	 * @throws IOException
+	 *             problem reading from file
+	 * @throws ParseException
+	 *             problem parsing dates
+	 * @since Oct 18, 2026
+	 */
+	public Table calculate() throws IOException, ParseException
+	{
+		final List<Date> dates = m_Reader.getDates();
+		final Table table = new Table(m_Zones, dates);
+		final int numBlocks = (dates.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		final int numWorkers = Math.max(1, Math.min(m_Threads, numBlocks));
+		final AtomicInteger next = new AtomicInteger();
+		final float cellArea = m_Reader.getHeader().getSizeX()
+				* m_Reader.getHeader().getSizeY();
+
+		final List<Callable<Void>> tasks = Lists.newArrayList();
+		for (int worker = 0; worker < numWorkers; worker++)
+		{
+			/**
+			 * The first worker uses the provided reader; the others need
+			 * their own, as readers are not safe for concurrent use
+			 */
+			final boolean shared = worker == 0;
+			tasks.add(() -> {
+				final GIOReader reader = shared ? m_Reader
+						: GIOReader.open(m_Reader.getFilePath());
+				try
+				{
+					final GIOTimestepListener listener = (p_DateIndex, p_Date,
+							p_Nodes) -> reduce(table, p_DateIndex, p_Nodes,
+									cellArea);
+					int start;
+					while ((start = next.getAndAdd(BLOCK_SIZE)) < dates.size())
+					{
+						reader.forEachTimestep(Range.closed(start,
+								Math.min(start + BLOCK_SIZE, dates.size()) - 1),
+								listener);
+					}
+				}
+				finally
+				{
+					if (!shared)
+					{
+						reader.close();
+					}
+				}
+				return null;
+			});
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				numWorkers,
+				new ThreadFactoryBuilder().setDaemon(true)
+						.setNameFormat(getClass().getSimpleName() + "-%d")
+						.build());
+		try
+		{
+			for (final Future<Void> future : executor.invokeAll(tasks))
+			{
+				future.get();
+			}
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted.", e);
+		}
+		catch (final ExecutionException e)
+		{
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			if (cause instanceof ParseException)
+			{
+				throw (ParseException) cause;
+			}
+			throw new IOException(cause);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+		return table;
+	}
+
+	/**
+	 * Get the node indices of a zone
+	 *
+	 * @param p_Zone
+	 *            the zone label
+	 * @return the node indices, in ascending order
+	 * @throws IllegalArgumentException
+	 *             if the mask has no node with the label
+	 * @since Oct 18, 2026
+	 */
+	public int[] getNodes(final int p_Zone)
+	{
+		final int zoneIndex = Arrays.binarySearch(m_Zones, p_Zone);
+		checkArgument(zoneIndex >= 0, "No nodes in zone %s", p_Zone);
+		return m_ZoneNodes[zoneIndex].clone();
+	}
+
+	/**
+	 * Get the labels of the zones with at least one node
+	 *
+	 * @return the zone labels, in ascending order
+	 * @since Oct 18, 2026
+	 */
+	public int[] getZones()
+	{
+		return m_Zones.clone();
+	}
+
+	/**
+	 * Reduce one timestep into its column of the table
+	 *
+	 * @param p_Table
+	 *            the destination table
+	 * @param p_DateIndex
+	 *            the date index of the timestep
+	 * @param p_Nodes
+	 *            the node vector of the timestep
+	 * @param p_CellArea
+	 *            the area of one node
+	 * @since Oct 18, 2026
+	 */
+	private void reduce(final Table p_Table, final int p_DateIndex,
+			final float[] p_Nodes, final float p_CellArea)
+	{
+		for (int zoneIndex = 0; zoneIndex < m_ZoneNodes.length; zoneIndex++)
+		{
+			int count = 0;
+			int above = 0;
+			double sum = 0.0;
+			float min = Float.POSITIVE_INFINITY;
+			float max = Float.NEGATIVE_INFINITY;
+			for (final int node : m_ZoneNodes[zoneIndex])
+			{
+				final float value = p_Nodes[node];
+				if (!Float.isNaN(value))
+				{
+					count++;
+					sum += value;
+					min = Math.min(min, value);
+					max = Math.max(max, value);
+					if (value > m_Threshold)
+					{
+						above++;
+					}
+				}
+			}
+			p_Table.m_Mean[zoneIndex][p_DateIndex] = count == 0 ? Float.NaN
+					: (float) (sum / count);
+			p_Table.m_Min[zoneIndex][p_DateIndex] = count == 0 ? Float.NaN
+					: min;
+			p_Table.m_Max[zoneIndex][p_DateIndex] = count == 0 ? Float.NaN
+					: max;
+			p_Table.m_Area[zoneIndex][p_DateIndex] = above * p_CellArea;
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("filePath", m_Reader.getFilePath())
+				.add("zones", Arrays.toString(m_Zones))
+				.add("threshold", m_Threshold).toString();
+	}
+}
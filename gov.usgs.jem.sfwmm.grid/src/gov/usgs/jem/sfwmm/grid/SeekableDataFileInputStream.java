@@ -51,6 +51,17 @@ public interface SeekableDataFileInputStream extends DataInput, Closeable
 	 */
 	String getFilePath();
 
+	/**
+	 * Get the current number of bytes in the file, which may grow while a
+	 * model is still writing it
+	 *
+	 * @return the length of the file in bytes
+	 * @throws IOException
+	 *             if the length could not be determined
+	 * @since Oct 18, 2026
+	 */
+	long getLength() throws IOException;
+
 	/**
 	 * @return the position of the pointer within the file
 	 * @since Oct 27, 2016
@@ -171,6 +171,12 @@ final class SeekableDataFileInputStreamImpl
 		return m_FilePath;
 	}
 
+	@Override
+	public long getLength() throws IOException
+	{
+		return Files.size(Paths.get(m_FilePath));
+	}
+
 	@Override
 	public long getPosition()
 	{
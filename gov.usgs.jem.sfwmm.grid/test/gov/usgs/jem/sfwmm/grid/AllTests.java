@@ -1,6 +1,10 @@
 package gov.usgs.jem.sfwmm.grid;
 
 import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
 import org.apache.log4j.BasicConfigurator;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -17,7 +21,14 @@ import org.junit.runners.Suite.SuiteClasses;
  */
 @RunWith(Suite.class)
 @SuiteClasses({ SeekableDataFileInputStreamImplTest.class, GIOHeaderTest.class,
-		GIOReaderTest.class })
+		GIOReaderTest.class, GIOAvailabilityTest.class, GIOBitmapTest.class,
+		GIOExceedanceIndexTest.class, GIOWriterTest.class,
+		GIOTailerTest.class, GIOAggregatorTest.class,
+		GIOHydroperiodTest.class, GIODifferenceTest.class,
+		GIOEnsembleTest.class, GIOZonalStatisticsTest.class,
+		GIOMovingWindowTest.class, GIOQuantilesTest.class,
+		GIOKernelsTest.class, GIOStencilTest.class,
+		GIOExpressionTest.class })
 public class AllTests
 {
 	/**
@@ -51,6 +62,47 @@ public class AllTests
 		}
 	}
 
+	/**
+	 * Write a copy of the first timesteps of a reader, with every value
+	 * offset, and open it
+	 *
+	 * @param p_Reader
+	 *            the reader to copy from
+	 * @param p_File
+	 *            the file to write
+	 * @param p_Count
+	 *            the number of timesteps to write
+	 * @param p_Offset
+	 *            the amount added to every value
+	 * @return a reader of the copy
+	 * @throws IOException
+	 * @throws ParseException
+	 * @since Oct 18, 2026
+	 */
+	public static GIOReader createOffsetCopy(final GIOReader p_Reader,
+			final File p_File, final int p_Count, final float p_Offset)
+			throws IOException, ParseException
+	{
+		final List<Date> dates = p_Reader.getDates();
+		final float[] nodes = new float[p_Reader.getHeader().getNodesSize()];
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(p_File.getAbsolutePath())
+				.withHeader(p_Reader.getHeader())
+				.withAvailability(p_Reader.getAvailability()).build())
+		{
+			for (int t = 0; t < p_Count; t++)
+			{
+				p_Reader.readNodes(t, nodes);
+				for (int node = 0; node < nodes.length; node++)
+				{
+					nodes[node] += p_Offset;
+				}
+				writer.writeNodes(dates.get(t), nodes);
+			}
+		}
+		return GIOReader.open(p_File.getAbsolutePath());
+	}
+
 	/**
 	 * @return the test file to use
 	 * @since Oct 26, 2016
@@ -0,0 +1,279 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.Lists;
+import gov.usgs.jem.sfwmm.grid.GIOAggregator.Aggregate;
+import gov.usgs.jem.sfwmm.grid.GIOAggregator.Period;
+import java.io.IOException;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOAggregator}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOAggregatorTest
+{
+	@SuppressWarnings("javadoc")
+	private static GIOReader s_Reader;
+
+	/**
+	 * Get a field of a date, in UTC
+	 *
+	 * @param p_Date
+	 *            the date
+	 * @param p_Field
+	 *            the {@link Calendar} field
+	 * @return the value of the field
+	 * @since Oct 18, 2026
+	 */
+	private static int get(final Date p_Date, final int p_Field)
+	{
+		final Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+		cal.setTime(p_Date);
+		return cal.get(p_Field);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOAggregator.class;
+		final Class<?> testingClass = GIOAggregatorTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+		s_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception
+	{
+		s_Reader.close();
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOAggregator#aggregate()}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testAggregate() throws Exception
+	{
+		final List<Date> dates = s_Reader.getDates();
+		final int numNodes = s_Reader.getHeader().getNodesSize();
+		final List<Aggregate> aggregates = GIOAggregator.builder()
+				.withReader(s_Reader).withPeriod(Period.YEAR).build()
+				.aggregate();
+		Assert.assertEquals(
+				get(dates.get(dates.size() - 1), Calendar.YEAR)
+						- get(dates.get(0), Calendar.YEAR) + 1,
+				aggregates.size());
+
+		/**
+		 * Compare the first year to statistics computed from readNodes
+		 */
+		final Aggregate first = aggregates.get(0);
+		Assert.assertEquals(get(dates.get(0), Calendar.YEAR),
+				get(first.getStart(), Calendar.YEAR));
+		Assert.assertEquals(Calendar.JANUARY,
+				get(first.getStart(), Calendar.MONTH));
+		Assert.assertEquals(get(first.getStart(), Calendar.YEAR) + 1,
+				get(first.getEnd(), Calendar.YEAR));
+		final float[] nodes = new float[numNodes];
+		final double[] sum = new double[numNodes];
+		final float[] min = new float[numNodes];
+		final float[] max = new float[numNodes];
+		Arrays.fill(min, Float.POSITIVE_INFINITY);
+		Arrays.fill(max, Float.NEGATIVE_INFINITY);
+		for (int t = 0; t < first.getTimestepCount(); t++)
+		{
+			s_Reader.readNodes(t, nodes);
+			for (int node = 0; node < numNodes; node++)
+			{
+				sum[node] += nodes[node];
+				min[node] = Math.min(min[node], nodes[node]);
+				max[node] = Math.max(max[node], nodes[node]);
+			}
+		}
+		Assert.assertTrue(first.getEnd()
+				.after(dates.get(first.getTimestepCount() - 1)));
+		Assert.assertFalse(first.getEnd()
+				.after(dates.get(first.getTimestepCount())));
+		for (int node = 0; node < numNodes; node++)
+		{
+			Assert.assertEquals(sum[node] / first.getTimestepCount(),
+					first.getMean()[node], 1.0e-4);
+			Assert.assertEquals(min[node], first.getMin()[node], 0.0f);
+			Assert.assertEquals(max[node], first.getMax()[node], 0.0f);
+			Assert.assertEquals(sum[node], first.getSum()[node], 1.0e-3);
+		}
+
+		int timesteps = 0;
+		for (final Aggregate aggregate : aggregates)
+		{
+			timesteps += aggregate.getTimestepCount();
+		}
+		Assert.assertEquals(dates.size(), timesteps);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAggregator#aggregate(gov.usgs.jem.sfwmm.grid.GIOAggregator.Listener)}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testAggregateListener() throws Exception
+	{
+		final List<Date> starts = Lists.newArrayList();
+		final int count = GIOAggregator.builder().withReader(s_Reader)
+				.withPeriod(Period.WATER_YEAR)
+				.withWaterYearStart(Month.MAY).build()
+				.aggregate(p_Aggregate -> starts.add(p_Aggregate.getStart()));
+		Assert.assertEquals(starts.size(), count);
+		for (final Date start : starts)
+		{
+			Assert.assertEquals(Calendar.MAY, get(start, Calendar.MONTH));
+			Assert.assertEquals(1, get(start, Calendar.DAY_OF_MONTH));
+		}
+		Assert.assertFalse(starts.get(0).after(s_Reader.getDates().get(0)));
+
+		/**
+		 * Listener problems stop the pass
+		 */
+		try
+		{
+			GIOAggregator.builder().withReader(s_Reader).build()
+					.aggregate(p_Aggregate -> {
+						throw new IOException("Expected");
+					});
+			Assert.fail("Not passing listener problem.");
+		}
+		catch (final IOException e)
+		{
+			Assert.assertEquals("Expected", e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOAggregator#builder()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(GIOAggregator.builder());
+		try
+		{
+			GIOAggregator.builder().build();
+			Assert.fail("Not trapping missing reader.");
+		}
+		catch (final NullPointerException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAggregator#getPeriod()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetPeriod()
+	{
+		Assert.assertEquals(Period.MONTH,
+				GIOAggregator.builder().withReader(s_Reader).build()
+						.getPeriod());
+		Assert.assertEquals(Period.YEAR,
+				GIOAggregator.builder().withReader(s_Reader)
+						.withPeriod(Period.YEAR).build().getPeriod());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAggregator#getPeriodStarts()}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetPeriodStarts() throws Exception
+	{
+		for (final Period period : Period.values())
+		{
+			final GIOAggregator aggregator = GIOAggregator.builder()
+					.withReader(s_Reader).withPeriod(period).build();
+			final List<Date> expected = aggregator.aggregate().stream()
+					.map(Aggregate::getStart).collect(Collectors.toList());
+			Assert.assertEquals(period.toString(), expected,
+					aggregator.getPeriodStarts());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAggregator#getPeriodStarts(java.util.Date, java.util.Date)}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetPeriodStartsDateDate() throws Exception
+	{
+		final List<Date> dates = s_Reader.getDates();
+		for (final Period period : Period.values())
+		{
+			final GIOAggregator aggregator = GIOAggregator.builder()
+					.withReader(s_Reader).withPeriod(period).build();
+			final List<Date> expected = aggregator.getPeriodStarts();
+			Assert.assertEquals(period.toString(), expected,
+					aggregator.getPeriodStarts(dates.get(0),
+							dates.get(dates.size() - 1)));
+			Assert.assertEquals(period.toString(),
+					expected.subList(0, 1), aggregator
+							.getPeriodStarts(dates.get(0), dates.get(0)));
+		}
+
+		try
+		{
+			GIOAggregator.builder().withReader(s_Reader).build()
+					.getPeriodStarts(dates.get(1), dates.get(0));
+			Assert.fail("Not trapping reversed dates.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+}
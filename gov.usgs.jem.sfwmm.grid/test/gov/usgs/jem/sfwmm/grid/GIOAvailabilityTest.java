@@ -0,0 +1,245 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.Range;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOAvailability}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOAvailabilityTest
+{
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOAvailability.class;
+		final Class<?> testingClass = GIOAvailabilityTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	/**
+	 * Rows: 0 -> [2, 3], 1 -> [0, 4], 2 -> [1, 1]
+	 */
+	@SuppressWarnings("javadoc")
+	private GIOAvailability m_Availability;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Availability = GIOAvailability.builder().withRow(0, 2, 3)
+				.withRow(1, 0, 4).withRow(2, 1, 1).build();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#builder()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(GIOAvailability.builder());
+		try
+		{
+			GIOAvailability.builder().withRow(1, 0, 1).build();
+			Assert.fail("Not trapping non-contiguous rows.");
+		}
+		catch (final Exception e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			GIOAvailability.builder().withRow(0, 2, 1);
+			Assert.fail("Not trapping bad columns.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#equals(java.lang.Object)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testEquals() throws Exception
+	{
+		Assert.assertEquals(m_Availability, GIOAvailability.builder()
+				.withRow(0, 2, 3).withRow(1, 0, 4).withRow(2, 1, 1).build());
+		Assert.assertNotEquals(m_Availability, GIOAvailability.builder()
+				.withRow(0, 2, 3).withRow(1, 0, 4).withRow(2, 1, 2).build());
+		Assert.assertNotEquals(m_Availability, null);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#getColsSize()}.
+	 */
+	@Test
+	public void testGetColsSize()
+	{
+		Assert.assertEquals(5, m_Availability.getColsSize());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#getColumn(int)}.
+	 */
+	@Test
+	public void testGetColumn()
+	{
+		Assert.assertEquals(2, m_Availability.getColumn(0));
+		Assert.assertEquals(3, m_Availability.getColumn(1));
+		Assert.assertEquals(0, m_Availability.getColumn(2));
+		Assert.assertEquals(4, m_Availability.getColumn(6));
+		Assert.assertEquals(1, m_Availability.getColumn(7));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#getColumns(int)}.
+	 */
+	@Test
+	public void testGetColumns()
+	{
+		Assert.assertEquals(Range.closed(2, 3), m_Availability.getColumns(0));
+		Assert.assertEquals(Range.closed(0, 4), m_Availability.getColumns(1));
+		Assert.assertEquals(Range.closed(1, 1), m_Availability.getColumns(2));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#getNodeIndex(int, int)}.
+	 */
+	@Test
+	public void testGetNodeIndex()
+	{
+		Assert.assertEquals(-1, m_Availability.getNodeIndex(0, 0));
+		Assert.assertEquals(0, m_Availability.getNodeIndex(0, 2));
+		Assert.assertEquals(1, m_Availability.getNodeIndex(0, 3));
+		Assert.assertEquals(2, m_Availability.getNodeIndex(1, 0));
+		Assert.assertEquals(7, m_Availability.getNodeIndex(2, 1));
+		Assert.assertEquals(-1, m_Availability.getNodeIndex(2, 2));
+		Assert.assertEquals(-1, m_Availability.getNodeIndex(3, 1));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#getNodesSize()}.
+	 */
+	@Test
+	public void testGetNodesSize()
+	{
+		Assert.assertEquals(8, m_Availability.getNodesSize());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#getRow(int)}.
+	 */
+	@Test
+	public void testGetRow()
+	{
+		Assert.assertEquals(0, m_Availability.getRow(0));
+		Assert.assertEquals(0, m_Availability.getRow(1));
+		Assert.assertEquals(1, m_Availability.getRow(2));
+		Assert.assertEquals(1, m_Availability.getRow(6));
+		Assert.assertEquals(2, m_Availability.getRow(7));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#getRowOffset(int)}.
+	 */
+	@Test
+	public void testGetRowOffset()
+	{
+		Assert.assertEquals(0, m_Availability.getRowOffset(0));
+		Assert.assertEquals(2, m_Availability.getRowOffset(1));
+		Assert.assertEquals(7, m_Availability.getRowOffset(2));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#getRowsSize()}.
+	 */
+	@Test
+	public void testGetRowsSize()
+	{
+		Assert.assertEquals(3, m_Availability.getRowsSize());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#hashCode()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testHashCode() throws Exception
+	{
+		Assert.assertEquals(m_Availability.hashCode(),
+				GIOAvailability.builder().withRow(0, 2, 3).withRow(1, 0, 4)
+						.withRow(2, 1, 1).build().hashCode());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#toGrid(float[], float[])}.
+	 */
+	@Test
+	public void testToGrid()
+	{
+		final float[] nodes = { 0, 1, 2, 3, 4, 5, 6, 7 };
+		final float[] grid = m_Availability.toGrid(nodes, new float[15]);
+		final float n = Float.NaN;
+		Assert.assertArrayEquals(
+				new float[] { n, n, 0, 1, n, 2, 3, 4, 5, 6, n, 7, n, n, n },
+				grid, 0.0f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOAvailability#toNodes(float[], float[])}.
+	 */
+	@Test
+	public void testToNodes()
+	{
+		final float[] grid = new float[15];
+		for (int i = 0; i < grid.length; i++)
+		{
+			grid[i] = i;
+		}
+		Assert.assertArrayEquals(
+				new float[] { 2, 3, 5, 6, 7, 8, 9, 11 },
+				m_Availability.toNodes(grid, new float[8]), 0.0f);
+	}
+}
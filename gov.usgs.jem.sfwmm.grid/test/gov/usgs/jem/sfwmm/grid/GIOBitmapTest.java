@@ -0,0 +1,295 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOBitmap}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOBitmapTest
+{
+	@SuppressWarnings("javadoc")
+	private static final Random r;
+
+	static
+	{
+		r = new Random(System.currentTimeMillis());
+	}
+
+	/**
+	 * Create a random set of values spanning several chunks, mixing sparse
+	 * values, dense values and runs.
+	 *
+	 * @return the values, as a {@link BitSet}
+	 * @since Oct 18, 2026
+	 */
+	private static BitSet randomValues()
+	{
+		final BitSet bits = new BitSet();
+		/**
+		 * Sparse chunk
+		 */
+		for (int i = 0; i < 100; i++)
+		{
+			bits.set(r.nextInt(1 << 16));
+		}
+		/**
+		 * Dense chunk
+		 */
+		for (int i = 0; i < 20000; i++)
+		{
+			bits.set((1 << 16) + r.nextInt(1 << 16));
+		}
+		/**
+		 * Runs
+		 */
+		bits.set((3 << 16) + 10, (3 << 16) + 5000);
+		bits.set((3 << 16) + 6000, (3 << 16) + 6001);
+		return bits;
+	}
+
+	/**
+	 * Create a bitmap from the provided values
+	 *
+	 * @param p_Bits
+	 *            the values
+	 * @return the new bitmap
+	 * @since Oct 18, 2026
+	 */
+	private static GIOBitmap toBitmap(final BitSet p_Bits)
+	{
+		final int[] values = p_Bits.stream().toArray();
+		return GIOBitmap.of(values, values.length);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOBitmap.class;
+		final Class<?> testingClass = GIOBitmapTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	private BitSet		m_Bits;
+
+	@SuppressWarnings("javadoc")
+	private GIOBitmap	m_Bitmap;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Bits = randomValues();
+		m_Bitmap = toBitmap(m_Bits);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#and(gov.usgs.jem.sfwmm.grid.GIOBitmap)}.
+	 */
+	@Test
+	public void testAnd()
+	{
+		final BitSet other = randomValues();
+		final BitSet expected = (BitSet) m_Bits.clone();
+		expected.and(other);
+		Assert.assertArrayEquals(expected.stream().toArray(),
+				m_Bitmap.and(toBitmap(other)).toArray());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#contains(int)}.
+	 */
+	@Test
+	public void testContains()
+	{
+		for (int value = 0; value < 4 << 16; value++)
+		{
+			Assert.assertEquals(m_Bits.get(value), m_Bitmap.contains(value));
+		}
+		Assert.assertFalse(m_Bitmap.contains(-1));
+		Assert.assertFalse(m_Bitmap.contains(Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#equals(java.lang.Object)}.
+	 */
+	@Test
+	public void testEquals()
+	{
+		Assert.assertEquals(m_Bitmap, toBitmap(m_Bits));
+		final BitSet other = (BitSet) m_Bits.clone();
+		other.flip(5);
+		Assert.assertNotEquals(m_Bitmap, toBitmap(other));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#forEach(java.util.function.IntConsumer)}.
+	 */
+	@Test
+	public void testForEach()
+	{
+		final BitSet visited = new BitSet();
+		final int[] previous = { -1 };
+		m_Bitmap.forEach(value -> {
+			Assert.assertTrue(value > previous[0]);
+			previous[0] = value;
+			visited.set(value);
+		});
+		Assert.assertEquals(m_Bits, visited);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#getCardinality()}.
+	 */
+	@Test
+	public void testGetCardinality()
+	{
+		Assert.assertEquals(m_Bits.cardinality(), m_Bitmap.getCardinality());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#getSizeInBytes()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetSizeInBytes()
+	{
+		/**
+		 * A single run should be much smaller than its values
+		 */
+		final int[] values = IntStream.range(100, 2000).toArray();
+		final GIOBitmap bitmap = GIOBitmap.of(values, values.length);
+		Assert.assertTrue(bitmap.getSizeInBytes() <= 8);
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#hashCode()}.
+	 */
+	@Test
+	public void testHashCode()
+	{
+		Assert.assertEquals(m_Bitmap.hashCode(), toBitmap(m_Bits).hashCode());
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#isEmpty()}.
+	 */
+	@Test
+	public void testIsEmpty()
+	{
+		Assert.assertFalse(m_Bitmap.isEmpty());
+		Assert.assertTrue(GIOBitmap.of(new int[0], 0).isEmpty());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#of(int[], int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testOf()
+	{
+		final GIOBitmap bitmap = GIOBitmap.of(new int[] { 1, 5, 9, 100 }, 3);
+		Assert.assertArrayEquals(new int[] { 1, 5, 9 }, bitmap.toArray());
+		try
+		{
+			GIOBitmap.of(new int[] { 5, 1 }, 2);
+			Assert.fail("Not trapping unsorted values.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#or(gov.usgs.jem.sfwmm.grid.GIOBitmap)}.
+	 */
+	@Test
+	public void testOr()
+	{
+		final BitSet other = randomValues();
+		other.set(10 << 16);
+		final BitSet expected = (BitSet) m_Bits.clone();
+		expected.or(other);
+		Assert.assertArrayEquals(expected.stream().toArray(),
+				m_Bitmap.or(toBitmap(other)).toArray());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#read(java.io.DataInput)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testRead() throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		m_Bitmap.write(new DataOutputStream(bytes));
+		final GIOBitmap read = GIOBitmap.read(new DataInputStream(
+				new ByteArrayInputStream(bytes.toByteArray())));
+		Assert.assertEquals(m_Bitmap, read);
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#toArray()}.
+	 */
+	@Test
+	public void testToArray()
+	{
+		Assert.assertArrayEquals(m_Bits.stream().toArray(),
+				m_Bitmap.toArray());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOBitmap#write(java.io.DataOutput)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testWrite() throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		m_Bitmap.write(new DataOutputStream(bytes));
+		Assert.assertTrue(bytes.size() > 0);
+		Assert.assertTrue(bytes.size() < m_Bits.cardinality() * Integer.BYTES);
+	}
+}
@@ -0,0 +1,305 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIODifference}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIODifferenceTest
+{
+	/**
+	 * Amount the scenario is offset from the baseline
+	 */
+	private static final float	OFFSET		= 1.5f;
+
+	/**
+	 * Number of timesteps in the shortened scenario
+	 */
+	private static final int	SHORT_SIZE	= 10;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIODifference.class;
+		final Class<?> testingClass = GIODifferenceTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	private GIOReader		m_Baseline;
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder	m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private GIOReader		m_Scenario;
+
+	@SuppressWarnings("javadoc")
+	private GIOReader		m_Short;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Baseline = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+		m_Scenario = AllTests.createOffsetCopy(m_Baseline,
+				m_Folder.newFile("scenario.bin"), m_Baseline.getDates().size(),
+				OFFSET);
+		m_Short = AllTests.createOffsetCopy(m_Baseline,
+				m_Folder.newFile("short.bin"), SHORT_SIZE, OFFSET);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Short.close();
+		m_Scenario.close();
+		m_Baseline.close();
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIODifference#builder()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBuilder() throws Exception
+	{
+		Assert.assertNotNull(GIODifference.builder());
+		try
+		{
+			GIODifference.builder().withScenario(m_Baseline)
+					.withBaseline(m_Baseline).build();
+			Assert.fail("Not trapping the same reader twice.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			GIODifference.builder().withScenario(m_Short)
+					.withBaseline(m_Baseline).build();
+			Assert.fail("Not trapping different timelines.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		Assert.assertEquals(SHORT_SIZE,
+				GIODifference.builder().withScenario(m_Short)
+						.withBaseline(m_Baseline).withCommonDates(true).build()
+						.getDates().size());
+
+		final File other = m_Folder.newFile("other.bin");
+		final GIOHeader header = m_Baseline.getHeader();
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(other.getAbsolutePath())
+				.withHeader(GIOHeader.builder().withTitle("other")
+						.withNumRows(1).withNumCols(2).withNumNodes(2)
+						.withSize(header.getSizeX(), header.getSizeY())
+						.build())
+				.withAvailability(
+						GIOAvailability.builder().withRow(0, 0, 1).build())
+				.build())
+		{
+			writer.writeNodes(m_Baseline.getDates().get(0), new float[2]);
+		}
+		try (GIOReader reader = GIOReader.open(other.getAbsolutePath()))
+		{
+			GIODifference.builder().withScenario(reader)
+					.withBaseline(m_Baseline).withCommonDates(true).build();
+			Assert.fail("Not trapping different grids.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIODifference#difference(gov.usgs.jem.sfwmm.grid.GIOTimestepListener)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDifference() throws Exception
+	{
+		final GIODifference difference = GIODifference.builder()
+				.withScenario(m_Scenario).withBaseline(m_Baseline).build();
+		final List<Integer> indices = Lists.newArrayList();
+		final List<Date> dates = m_Baseline.getDates();
+		final int count = difference.difference((p_DateIndex, p_Date, p_Nodes) -> {
+			indices.add(p_DateIndex);
+			Assert.assertEquals(dates.get(p_DateIndex), p_Date);
+			for (final float value : p_Nodes)
+			{
+				Assert.assertEquals(OFFSET, value, 1.0e-5f);
+			}
+		});
+		Assert.assertEquals(dates.size(), count);
+		Assert.assertEquals(dates.size(), indices.size());
+		for (int i = 0; i < indices.size(); i++)
+		{
+			Assert.assertEquals(i, indices.get(i).intValue());
+		}
+
+		/**
+		 * Baseline minus scenario, on common dates
+		 */
+		final int shortCount = GIODifference.builder().withScenario(m_Baseline)
+				.withBaseline(m_Short).withCommonDates(true).build()
+				.difference((p_DateIndex, p_Date, p_Nodes) -> {
+					for (final float value : p_Nodes)
+					{
+						Assert.assertEquals(-OFFSET, value, 1.0e-5f);
+					}
+				});
+		Assert.assertEquals(SHORT_SIZE, shortCount);
+
+		/**
+		 * A failing listener leaves no baseline read in flight, so the
+		 * baseline reader can be used as soon as difference returns
+		 */
+		final float[] expected = new float[m_Baseline.getHeader()
+				.getNodesSize()];
+		m_Baseline.readNodes(1, expected);
+		try
+		{
+			difference.difference((p_DateIndex, p_Date, p_Nodes) -> {
+				throw new IOException("Stop.");
+			});
+			Assert.fail("Not propagating listener exception.");
+		}
+		catch (final IOException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		Assert.assertArrayEquals(expected,
+				m_Baseline.readNodes(1, new float[expected.length]), 0.0f);
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIODifference#getDates()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetDates() throws Exception
+	{
+		Assert.assertEquals(m_Baseline.getDates(),
+				GIODifference.builder().withScenario(m_Scenario)
+						.withBaseline(m_Baseline).build().getDates());
+		Assert.assertEquals(m_Baseline.getDates().subList(0, SHORT_SIZE),
+				GIODifference.builder().withScenario(m_Short)
+						.withBaseline(m_Baseline).withCommonDates(true).build()
+						.getDates());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIODifference#summarize()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSummarize() throws Exception
+	{
+		final GIODifference.Summary summary = GIODifference.builder()
+				.withScenario(m_Scenario).withBaseline(m_Baseline).build()
+				.summarize();
+		final int numNodes = m_Baseline.getHeader().getNodesSize();
+		Assert.assertEquals(numNodes, summary.getMean().length);
+		for (int node = 0; node < numNodes; node++)
+		{
+			Assert.assertEquals(OFFSET, summary.getMean()[node], 1.0e-5f);
+			Assert.assertEquals(OFFSET, summary.getMin()[node], 1.0e-5f);
+			Assert.assertEquals(OFFSET, summary.getMax()[node], 1.0e-5f);
+		}
+		Assert.assertEquals(m_Baseline.getDates().size(),
+				summary.getMeanByTimestep().length);
+		for (int t = 0; t < summary.getMeanByTimestep().length; t++)
+		{
+			Assert.assertEquals(OFFSET, summary.getMeanByTimestep()[t],
+					1.0e-5f);
+			Assert.assertEquals(OFFSET, summary.getMeanAbsByTimestep()[t],
+					1.0e-5f);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIODifference#write(java.lang.String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testWrite() throws Exception
+	{
+		final File file = m_Folder.newFile("difference.bin");
+		final int count = GIODifference.builder().withScenario(m_Short)
+				.withBaseline(m_Baseline).withCommonDates(true).build()
+				.write(file.getAbsolutePath());
+		Assert.assertEquals(SHORT_SIZE, count);
+		try (GIOReader reader = GIOReader.open(file.getAbsolutePath()))
+		{
+			Assert.assertEquals(m_Baseline.getDates().subList(0, SHORT_SIZE),
+					reader.getDates());
+			Assert.assertEquals(m_Baseline.getAvailability(),
+					reader.getAvailability());
+			Assert.assertTrue(
+					reader.getHeader().getTitle().contains("minus"));
+			final float[] nodes = reader.readNodes(SHORT_SIZE - 1,
+					new float[reader.getHeader().getNodesSize()]);
+			for (final float value : nodes)
+			{
+				Assert.assertEquals(OFFSET, value, 1.0e-5f);
+			}
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOEnsemble}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOEnsembleTest
+{
+	/**
+	 * Number of scenarios, each offset from the test file by its index
+	 */
+	private static final int	NUM_SCENARIOS	= 4;
+
+	/**
+	 * Population standard deviation of the offsets 0, 1, 2 and 3
+	 */
+	private static final double	OFFSET_STD		= Math.sqrt(1.25);
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOEnsemble.class;
+		final Class<?> testingClass = GIOEnsembleTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	private GIOReader		m_Base;
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder	m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private List<GIOReader>	m_Scenarios;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Base = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+		m_Scenarios = Lists.newArrayList();
+		for (int s = 0; s < NUM_SCENARIOS; s++)
+		{
+			m_Scenarios.add(AllTests.createOffsetCopy(m_Base,
+					m_Folder.newFile("scenario" + s + ".bin"),
+					m_Base.getDates().size(), s));
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		for (final GIOReader scenario : m_Scenarios)
+		{
+			scenario.close();
+		}
+		m_Base.close();
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOEnsemble#builder()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBuilder() throws Exception
+	{
+		Assert.assertNotNull(GIOEnsemble.builder());
+		try
+		{
+			GIOEnsemble.builder().build();
+			Assert.fail("Not trapping missing readers.");
+		}
+		catch (final NullPointerException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			GIOEnsemble.builder().withReaders(m_Scenarios)
+					.withPercentiles(50, 101).build();
+			Assert.fail("Not trapping invalid percentile.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			GIOEnsemble.builder()
+					.withReaders(Lists.newArrayList(m_Base, m_Scenarios.get(0),
+							m_Base))
+					.build();
+			Assert.fail("Not trapping the same reader twice.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+
+		/**
+		 * A scenario with a different timeline is rejected
+		 */
+		try (GIOReader reader = AllTests.createOffsetCopy(m_Base,
+				m_Folder.newFile("short.bin"), 1, 0.0f))
+		{
+			final List<GIOReader> readers = Lists.newArrayList(m_Scenarios);
+			readers.add(reader);
+			GIOEnsemble.builder().withReaders(readers).build();
+			Assert.fail("Not trapping different timelines.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOEnsemble#compute(gov.usgs.jem.sfwmm.grid.GIOEnsemble.Listener)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCompute() throws Exception
+	{
+		final GIOEnsemble ensemble = GIOEnsemble.builder()
+				.withReaders(m_Scenarios).withPercentiles(0, 50, 100)
+				.withThreads(2).build();
+		final List<Date> dates = m_Base.getDates();
+		final float[] base = new float[m_Base.getHeader().getNodesSize()];
+		final int count = ensemble.compute((p_DateIndex, p_Date, p_Statistics) -> {
+			Assert.assertEquals(dates.get(p_DateIndex), p_Date);
+			try
+			{
+				m_Base.readNodes(p_DateIndex, base);
+			}
+			catch (final ParseException e)
+			{
+				throw new IOException(e);
+			}
+			for (int node = 0; node < base.length; node++)
+			{
+				Assert.assertEquals(NUM_SCENARIOS,
+						p_Statistics.getCount()[node]);
+				Assert.assertEquals(base[node] + 1.5f,
+						p_Statistics.getMean()[node], 1.0e-4);
+				Assert.assertEquals(OFFSET_STD,
+						p_Statistics.getStandardDeviation()[node], 1.0e-3);
+				Assert.assertEquals(base[node],
+						p_Statistics.getPercentile(0)[node], 1.0e-4);
+				Assert.assertEquals(base[node] + 1.5f,
+						p_Statistics.getPercentile(1)[node], 1.0e-4);
+				Assert.assertEquals(base[node] + 3.0f,
+						p_Statistics.getPercentile(2)[node], 1.0e-4);
+			}
+		});
+		Assert.assertEquals(dates.size(), count);
+
+		/**
+		 * Listener problems stop the pass
+		 */
+		try
+		{
+			ensemble.compute((p_DateIndex, p_Date, p_Statistics) -> {
+				throw new IOException("Expected");
+			});
+			Assert.fail("Not passing listener problem.");
+		}
+		catch (final IOException e)
+		{
+			Assert.assertEquals("Expected", e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOEnsemble#getDates()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetDates() throws Exception
+	{
+		Assert.assertEquals(m_Base.getDates(), GIOEnsemble.builder()
+				.withReaders(m_Scenarios).build().getDates());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOEnsemble#getPercentiles()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetPercentiles() throws Exception
+	{
+		Assert.assertEquals(0, GIOEnsemble.builder().withReaders(m_Scenarios)
+				.build().getPercentiles().length);
+		Assert.assertArrayEquals(new double[] { 10, 90 },
+				GIOEnsemble.builder().withReaders(m_Scenarios)
+						.withPercentiles(10, 90).build().getPercentiles(),
+				0.0);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOEnsemble#percentile(float[], int, double)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testPercentile()
+	{
+		final float[] sorted = { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f };
+		Assert.assertEquals(1.0f, GIOEnsemble.percentile(sorted, 5, 0), 0.0f);
+		Assert.assertEquals(3.0f, GIOEnsemble.percentile(sorted, 5, 50), 0.0f);
+		Assert.assertEquals(5.0f, GIOEnsemble.percentile(sorted, 5, 100),
+				0.0f);
+		Assert.assertEquals(1.4f, GIOEnsemble.percentile(sorted, 5, 10),
+				1.0e-6f);
+		Assert.assertEquals(1.5f, GIOEnsemble.percentile(sorted, 2, 50),
+				0.0f);
+		Assert.assertEquals(1.0f, GIOEnsemble.percentile(sorted, 1, 90),
+				0.0f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOEnsemble#write(java.lang.String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testWrite() throws Exception
+	{
+		final String prefix = new File(m_Folder.getRoot(), "ensemble")
+				.getAbsolutePath();
+		final List<String> filePaths = GIOEnsemble.builder()
+				.withReaders(m_Scenarios).withPercentiles(50, 12.5).build()
+				.write(prefix);
+		Assert.assertEquals(Lists.newArrayList(prefix + "_mean.bin",
+				prefix + "_std.bin", prefix + "_p50.bin", prefix + "_p12_5.bin"),
+				filePaths);
+
+		final int last = m_Base.getDates().size() - 1;
+		final float[] base = m_Base.readNodes(last,
+				new float[m_Base.getHeader().getNodesSize()]);
+		try (GIOReader mean = GIOReader.open(filePaths.get(0));
+				GIOReader std = GIOReader.open(filePaths.get(1)))
+		{
+			Assert.assertEquals(m_Base.getDates(), mean.getDates());
+			Assert.assertEquals(m_Base.getAvailability(),
+					mean.getAvailability());
+			final float[] nodes = mean.readNodes(last, new float[base.length]);
+			final float[] spread = std.readNodes(last, new float[base.length]);
+			for (int node = 0; node < base.length; node++)
+			{
+				Assert.assertEquals(base[node] + 1.5f, nodes[node], 1.0e-4);
+				Assert.assertEquals(OFFSET_STD, spread[node], 1.0e-3);
+			}
+		}
+	}
+}
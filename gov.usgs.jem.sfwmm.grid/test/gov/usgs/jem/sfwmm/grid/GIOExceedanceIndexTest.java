@@ -0,0 +1,352 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.Range;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Date;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOExceedanceIndex}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOExceedanceIndexTest
+{
+	/**
+	 * Thresholds to index
+	 */
+	private static final float[]		THRESHOLDS	= { 5.0f, 10.0f };
+
+	@SuppressWarnings("javadoc")
+	private static GIOExceedanceIndex	s_Index;
+
+	@SuppressWarnings("javadoc")
+	private static GIOReader			s_Reader;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOExceedanceIndex.class;
+		final Class<?> testingClass = GIOExceedanceIndexTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+		s_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+		s_Index = GIOExceedanceIndex.builder().withReader(s_Reader)
+				.withThresholds(THRESHOLDS[1], THRESHOLDS[0]).build();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception
+	{
+		s_Reader.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#builder()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(GIOExceedanceIndex.builder());
+		try
+		{
+			GIOExceedanceIndex.builder().withReader(s_Reader)
+					.withThresholds(1.0f, 1.0f).build();
+			Assert.fail("Not trapping duplicate thresholds.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		catch (final IOException | ParseException e)
+		{
+			e.printStackTrace();
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#getBitmap(float, int)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetBitmap() throws ParseException, IOException
+	{
+		final GIOAvailability availability = s_Reader.getAvailability();
+		final float[] nodes = s_Reader.readNodes(7,
+				new float[availability.getNodesSize()]);
+		for (final float threshold : THRESHOLDS)
+		{
+			final GIOBitmap bitmap = s_Index.getBitmap(threshold, 7);
+			for (int node = 0; node < nodes.length; node++)
+			{
+				Assert.assertEquals(nodes[node] > threshold,
+						bitmap.contains(node));
+			}
+		}
+		try
+		{
+			s_Index.getBitmap(1.0f, 7);
+			Assert.fail("Not trapping unindexed threshold.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#getCount(float, int)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetCount() throws ParseException, IOException
+	{
+		final float[] data = s_Reader.readData(Range.singleton(100),
+				Range.all(), Range.all());
+		int expected = 0;
+		for (final float value : data)
+		{
+			if (value > THRESHOLDS[1])
+			{
+				expected++;
+			}
+		}
+		Assert.assertEquals(expected, s_Index.getCount(THRESHOLDS[1], 100));
+		Assert.assertTrue(s_Index.getCount(THRESHOLDS[0], 100) >= expected);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#getDates()}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetDates() throws ParseException, IOException
+	{
+		Assert.assertEquals(s_Reader.getDates(), s_Index.getDates());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#getExceedanceCounts(float, com.google.common.collect.Range)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetExceedanceCounts() throws ParseException, IOException
+	{
+		final float threshold = THRESHOLDS[0];
+		final Range<Integer> dates = Range.closedOpen(12, 24);
+		final int[] counts = s_Index.getExceedanceCounts(threshold, dates);
+		final GIOAvailability availability = s_Reader.getAvailability();
+		final int[] expected = new int[availability.getNodesSize()];
+		final float[] nodes = new float[availability.getNodesSize()];
+		for (int t = 12; t < 24; t++)
+		{
+			s_Reader.readNodes(t, nodes);
+			for (int node = 0; node < nodes.length; node++)
+			{
+				if (nodes[node] > threshold)
+				{
+					expected[node]++;
+				}
+			}
+		}
+		Assert.assertArrayEquals(expected, counts);
+
+		final int[] all = s_Index.getExceedanceCounts(threshold, Range.all());
+		for (int node = 0; node < all.length; node++)
+		{
+			Assert.assertTrue(all[node] >= counts[node]);
+			Assert.assertTrue(all[node] <= s_Index.getDates().size());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#getFirstExceedance(float, int, int)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetFirstExceedance() throws ParseException, IOException
+	{
+		final int row = 64;
+		final int col = 23;
+		final float threshold = THRESHOLDS[1];
+		final float[] values = s_Reader.readData(Range.all(),
+				Range.singleton(row), Range.singleton(col));
+		Date expected = null;
+		for (int t = 0; t < values.length; t++)
+		{
+			if (values[t] > threshold)
+			{
+				expected = s_Reader.getDates().get(t);
+				break;
+			}
+		}
+		Assert.assertNotNull(expected);
+		Assert.assertEquals(expected,
+				s_Index.getFirstExceedance(threshold, row, col));
+		Assert.assertNull(s_Index.getFirstExceedance(threshold, 0, 0));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#getLastExceedance(float, int, int)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetLastExceedance() throws ParseException, IOException
+	{
+		final int row = 64;
+		final int col = 23;
+		final float threshold = THRESHOLDS[1];
+		final float[] values = s_Reader.readData(Range.all(),
+				Range.singleton(row), Range.singleton(col));
+		Date expected = null;
+		for (int t = values.length - 1; t >= 0; t--)
+		{
+			if (values[t] > threshold)
+			{
+				expected = s_Reader.getDates().get(t);
+				break;
+			}
+		}
+		Assert.assertNotNull(expected);
+		Assert.assertEquals(expected,
+				s_Index.getLastExceedance(threshold, row, col));
+		Assert.assertNull(s_Index.getLastExceedance(threshold, 0, 0));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#getMask(float, int)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetMask() throws ParseException, IOException
+	{
+		final float threshold = THRESHOLDS[0];
+		final float[] data = s_Reader.readData(Range.singleton(200),
+				Range.all(), Range.all());
+		final boolean[] mask = s_Index.getMask(threshold, 200);
+		Assert.assertEquals(data.length, mask.length);
+		for (int cell = 0; cell < data.length; cell++)
+		{
+			Assert.assertEquals(data[cell] > threshold, mask[cell]);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#getThresholds()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetThresholds()
+	{
+		Assert.assertArrayEquals(THRESHOLDS, s_Index.getThresholds(), 0.0f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#read(java.io.DataInput)}.
+	 *
+	 * @throws IOException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testRead() throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		s_Index.write(new DataOutputStream(bytes));
+		final GIOExceedanceIndex read = GIOExceedanceIndex
+				.read(new DataInputStream(
+						new ByteArrayInputStream(bytes.toByteArray())));
+		Assert.assertEquals(s_Index.getDates(), read.getDates());
+		Assert.assertArrayEquals(s_Index.getThresholds(),
+				read.getThresholds(), 0.0f);
+		for (final float threshold : THRESHOLDS)
+		{
+			Assert.assertArrayEquals(
+					s_Index.getExceedanceCounts(threshold, Range.all()),
+					read.getExceedanceCounts(threshold, Range.all()));
+			Assert.assertArrayEquals(s_Index.getMask(threshold, 3),
+					read.getMask(threshold, 3));
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExceedanceIndex#write(java.io.DataOutput)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testWrite() throws IOException, ParseException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		s_Index.write(new DataOutputStream(bytes));
+		/**
+		 * Much smaller than the raw data
+		 */
+		final long rawBytes = (long) s_Reader.getDates().size()
+				* s_Reader.getHeader().getNodesSize() * Float.BYTES;
+		Assert.assertTrue(bytes.size() < rawBytes / 4);
+	}
+}
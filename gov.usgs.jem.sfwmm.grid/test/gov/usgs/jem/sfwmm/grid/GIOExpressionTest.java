@@ -0,0 +1,506 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Range;
+import java.io.File;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOExpression}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOExpressionTest
+{
+	/**
+	 * Amount the ground is below the first stage
+	 */
+	private static final float	DEPTH	= 0.5f;
+
+	/**
+	 * Tolerance of value comparisons
+	 */
+	private static final float	DELTA	= 1.0e-5f;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOExpression.class;
+		final Class<?> testingClass = GIOExpressionTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder		m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private GIOReader			m_Ground;
+
+	@SuppressWarnings("javadoc")
+	private GIOReader			m_Stage;
+
+	@SuppressWarnings("javadoc")
+	private Map<String, GIOReader>	m_Variables;
+
+	/**
+	 * Evaluate an expression at one timestep
+	 *
+	 * @param p_Expression
+	 *            the expression
+	 * @param p_DateIndex
+	 *            the date index
+	 * @return a copy of the node vector
+	 * @throws Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	private static float[] evaluate(final GIOExpression p_Expression,
+			final int p_DateIndex) throws Exception
+	{
+		final float[][] result = new float[1][];
+		Assert.assertEquals(1,
+				p_Expression.evaluate(Range.singleton(p_DateIndex),
+						(p_Index, p_Date, p_Nodes) -> result[0] = p_Nodes
+								.clone()));
+		return result[0];
+	}
+
+	/**
+	 * Read the nodes of a timestep
+	 *
+	 * @param p_Reader
+	 *            the reader
+	 * @param p_DateIndex
+	 *            the date index
+	 * @return the nodes
+	 * @throws Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	private static float[] read(final GIOReader p_Reader,
+			final int p_DateIndex) throws Exception
+	{
+		return p_Reader.readNodes(p_DateIndex,
+				new float[p_Reader.getHeader().getNodesSize()]);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Stage = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+
+		/**
+		 * A single-timestep ground elevation below the first stage
+		 */
+		m_Ground = AllTests.createOffsetCopy(m_Stage,
+				m_Folder.newFile("ground.bin"), 1, -DEPTH);
+		m_Variables = ImmutableMap.of("stage", m_Stage, "ground", m_Ground);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Ground.close();
+		m_Stage.close();
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOExpression#abs()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testAbs() throws Exception
+	{
+		final float[] stage = read(m_Stage, 5);
+		final float[] actual = evaluate(
+				GIOExpression.variable("stage", m_Stage).negate().abs(), 5);
+		for (int node = 0; node < stage.length; node++)
+		{
+			Assert.assertEquals(Math.abs(stage[node]), actual[node], DELTA);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExpression#combine(gov.usgs.jem.sfwmm.grid.GIOExpression.Operator, gov.usgs.jem.sfwmm.grid.GIOExpression)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCombine() throws Exception
+	{
+		final int t = 7;
+		final float[] stage = read(m_Stage, t);
+		final float[] ground = read(m_Ground, 0);
+		final GIOExpression a = GIOExpression.variable("stage", m_Stage);
+		final GIOExpression b = GIOExpression.variable("ground", m_Ground);
+		final float[] add = evaluate(a.combine(GIOExpression.Operator.ADD, b),
+				t);
+		final float[] subtract = evaluate(
+				a.combine(GIOExpression.Operator.SUBTRACT, b), t);
+		final float[] multiply = evaluate(
+				a.combine(GIOExpression.Operator.MULTIPLY, b), t);
+		final float[] divide = evaluate(
+				a.combine(GIOExpression.Operator.DIVIDE, b), t);
+		final float[] greater = evaluate(
+				a.combine(GIOExpression.Operator.GREATER, b), t);
+		final float[] lessEqual = evaluate(
+				a.combine(GIOExpression.Operator.LESS_EQUAL, b), t);
+		final float[] min = evaluate(a.combine(GIOExpression.Operator.MIN, b),
+				t);
+		final float[] max = evaluate(a.combine(GIOExpression.Operator.MAX, b),
+				t);
+		final float[] same = evaluate(
+				a.combine(GIOExpression.Operator.EQUAL, a), t);
+		for (int node = 0; node < stage.length; node++)
+		{
+			final float s = stage[node];
+			final float g = ground[node];
+			Assert.assertEquals(s + g, add[node], DELTA);
+			Assert.assertEquals(s - g, subtract[node], DELTA);
+			Assert.assertEquals(s * g, multiply[node], DELTA);
+			Assert.assertEquals(s / g, divide[node], DELTA);
+			Assert.assertEquals(s > g ? 1.0f : 0.0f, greater[node], 0.0f);
+			Assert.assertEquals(s <= g ? 1.0f : 0.0f, lessEqual[node], 0.0f);
+			Assert.assertEquals(Math.min(s, g), min[node], 0.0f);
+			Assert.assertEquals(Math.max(s, g), max[node], 0.0f);
+			Assert.assertEquals(1.0f, same[node], 0.0f);
+		}
+
+		/**
+		 * NaN propagates, also through comparisons
+		 */
+		final float[] nan = evaluate(a.combine(GIOExpression.Operator.GREATER,
+				GIOExpression.constant(Float.NaN)), t);
+		for (final float value : nan)
+		{
+			Assert.assertTrue(Float.isNaN(value));
+		}
+
+		try
+		{
+			a.combine(GIOExpression.Operator.ADD, null);
+			Assert.fail("Not trapping missing operand.");
+		}
+		catch (final NullPointerException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExpression#constant(float)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testConstant() throws Exception
+	{
+		final float[] stage = read(m_Stage, 2);
+		final float[] actual = evaluate(GIOExpression.constant(2.0f).combine(
+				GIOExpression.Operator.MULTIPLY,
+				GIOExpression.variable("stage", m_Stage)), 2);
+		for (int node = 0; node < stage.length; node++)
+		{
+			Assert.assertEquals(2.0f * stage[node], actual[node], DELTA);
+		}
+		Assert.assertTrue(
+				GIOExpression.constant(2.0f).toString().contains("2.0"));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExpression#evaluate(com.google.common.collect.Range, gov.usgs.jem.sfwmm.grid.GIOTimestepListener)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testEvaluateRangeGIOTimestepListener() throws Exception
+	{
+		final GIOExpression flooded = GIOExpression
+				.parse("(stage - ground) > 0.6", m_Variables);
+		final List<Date> dates = m_Stage.getDates();
+		final float[] ground = read(m_Ground, 0);
+		final float[][] stages = new float[10][];
+		for (int i = 0; i < stages.length; i++)
+		{
+			stages[i] = read(m_Stage, 10 + i);
+		}
+		final int[] next = { 10 };
+		final int count = flooded.evaluate(Range.closed(10, 19),
+				(p_DateIndex, p_Date, p_Nodes) -> {
+					Assert.assertEquals(next[0]++, p_DateIndex);
+					Assert.assertEquals(dates.get(p_DateIndex), p_Date);
+					final float[] stage = stages[p_DateIndex - 10];
+					for (int node = 0; node < p_Nodes.length; node++)
+					{
+						Assert.assertEquals(
+								stage[node] - ground[node] > 0.6f ? 1.0f
+										: 0.0f,
+								p_Nodes[node], 0.0f);
+					}
+				});
+		Assert.assertEquals(10, count);
+
+		/**
+		 * Open-ended and out-of-range selections
+		 */
+		Assert.assertEquals(3, flooded.evaluate(
+				Range.atLeast(dates.size() - 3), (p_DateIndex, p_Date,
+						p_Nodes) -> Assert.assertTrue(p_DateIndex >= 0)));
+		Assert.assertEquals(0, flooded.evaluate(Range.atLeast(dates.size()),
+				(p_DateIndex, p_Date, p_Nodes) -> Assert
+						.fail("Unexpected timestep.")));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExpression#evaluate(com.google.common.collect.Range, com.google.common.collect.Range, com.google.common.collect.Range, gov.usgs.jem.sfwmm.grid.GIOTimestepListener)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testEvaluateRangeRangeRangeGIOTimestepListener()
+			throws Exception
+	{
+		final Range<Integer> rows = Range.closed(10, 20);
+		final Range<Integer> cols = Range.closed(5, 15);
+		final GIOExpression depth = GIOExpression.parse("stage - ground",
+				m_Variables);
+		final float[] ground = m_Ground.readData(Range.singleton(0), rows,
+				cols);
+		final float[][] stages = new float[3][];
+		for (int i = 0; i < stages.length; i++)
+		{
+			stages[i] = m_Stage.readData(Range.singleton(100 + i), rows,
+					cols);
+		}
+		final int count = depth.evaluate(Range.closedOpen(100, 103), rows,
+				cols, (p_DateIndex, p_Date, p_Cells) -> {
+					final float[] stage = stages[p_DateIndex - 100];
+					Assert.assertEquals(11 * 11, p_Cells.length);
+					for (int i = 0; i < p_Cells.length; i++)
+					{
+						if (Float.isNaN(stage[i]))
+						{
+							Assert.assertTrue(Float.isNaN(p_Cells[i]));
+						}
+						else
+						{
+							Assert.assertEquals(stage[i] - ground[i],
+									p_Cells[i], DELTA);
+						}
+					}
+				});
+		Assert.assertEquals(3, count);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExpression#getDates()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetDates() throws Exception
+	{
+		Assert.assertEquals(m_Stage.getDates(), GIOExpression
+				.parse("stage - ground", m_Variables).getDates());
+		Assert.assertEquals(m_Ground.getDates(),
+				GIOExpression.parse("ground * 2", m_Variables).getDates());
+		try
+		{
+			GIOExpression.constant(1.0f).getDates();
+			Assert.fail("Not trapping expression without variable.");
+		}
+		catch (final IllegalStateException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOExpression#negate()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testNegate() throws Exception
+	{
+		final float[] stage = read(m_Stage, 4);
+		final float[] actual = evaluate(
+				GIOExpression.variable("stage", m_Stage).negate(), 4);
+		for (int node = 0; node < stage.length; node++)
+		{
+			Assert.assertEquals(-stage[node], actual[node], 0.0f);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExpression#parse(java.lang.String, java.util.Map)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testParse() throws Exception
+	{
+		/**
+		 * Precedence, unary minus and exponents
+		 */
+		for (final float value : evaluate(GIOExpression.parse(
+				"stage * 0 + 1 + 2 * 3 - -1 - 2e-1 * 5", m_Variables), 0))
+		{
+			Assert.assertEquals(7.0f, value, DELTA);
+		}
+
+		final float[] stage = read(m_Stage, 3);
+		final float[] ground = read(m_Ground, 0);
+		final float[] actual = evaluate(GIOExpression.parse(
+				"max(stage - ground, 0.7) / abs(-2) >= 0.4", m_Variables), 3);
+		for (int node = 0; node < stage.length; node++)
+		{
+			Assert.assertEquals(
+					Math.max(stage[node] - ground[node], 0.7f) / 2.0f >= 0.4f
+							? 1.0f
+							: 0.0f,
+					actual[node], 0.0f);
+		}
+
+		for (final String invalid : new String[] { "stage +", "(stage",
+				"stage ground", "depth * 2", "sqrt(stage)", "min(stage)",
+				"1.2.3" })
+		{
+			try
+			{
+				GIOExpression.parse(invalid, m_Variables);
+				Assert.fail("Not trapping " + invalid);
+			}
+			catch (final ParseException e)
+			{
+				/**
+				 * Expected
+				 */
+				Assert.assertNotNull(e);
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExpression#variable(java.lang.String, gov.usgs.jem.sfwmm.grid.GIOReader)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testVariable() throws Exception
+	{
+		final GIOExpression stage = GIOExpression.variable("stage", m_Stage);
+		Assert.assertArrayEquals(read(m_Stage, 9), evaluate(stage, 9), 0.0f);
+		Assert.assertTrue(stage.toString().contains("stage"));
+
+		/**
+		 * The same reader is read once
+		 */
+		Assert.assertTrue(stage
+				.combine(GIOExpression.Operator.SUBTRACT, stage).toString()
+				.contains("variables=[stage]"));
+
+		final File other = m_Folder.newFile("other.bin");
+		final GIOHeader header = m_Stage.getHeader();
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(other.getAbsolutePath())
+				.withHeader(GIOHeader.builder().withTitle("other")
+						.withNumRows(1).withNumCols(2).withNumNodes(2)
+						.withSize(header.getSizeX(), header.getSizeY())
+						.build())
+				.withAvailability(
+						GIOAvailability.builder().withRow(0, 0, 1).build())
+				.build())
+		{
+			writer.writeNodes(m_Stage.getDates().get(0), new float[2]);
+		}
+		try (GIOReader reader = GIOReader.open(other.getAbsolutePath()))
+		{
+			stage.combine(GIOExpression.Operator.ADD,
+					GIOExpression.variable("other", reader));
+			Assert.fail("Not trapping different grids.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOExpression#write(java.lang.String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testWrite() throws Exception
+	{
+		final File file = m_Folder.newFile("depth.bin");
+		final int count = GIOExpression.parse("stage - ground", m_Variables)
+				.write(file.getAbsolutePath());
+		Assert.assertEquals(m_Stage.getDates().size(), count);
+		try (GIOReader reader = GIOReader.open(file.getAbsolutePath()))
+		{
+			Assert.assertEquals(m_Stage.getDates(), reader.getDates());
+			Assert.assertEquals(m_Stage.getAvailability(),
+					reader.getAvailability());
+			Assert.assertTrue(
+					reader.getHeader().getTitle().contains("stage - ground"));
+			final float[] expected = read(m_Stage, 0);
+			final float[] actual = read(reader, 0);
+			for (int node = 0; node < actual.length; node++)
+			{
+				Assert.assertEquals(DEPTH, actual[node], DELTA);
+				Assert.assertEquals(expected[node] - DEPTH,
+						expected[node] - actual[node], DELTA);
+			}
+		}
+	}
+}
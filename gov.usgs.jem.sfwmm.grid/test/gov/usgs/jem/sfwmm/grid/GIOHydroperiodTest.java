@@ -0,0 +1,195 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.Lists;
+import gov.usgs.jem.sfwmm.grid.GIOHydroperiod.Year;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOHydroperiod}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOHydroperiodTest
+{
+	/**
+	 * Threshold that some nodes exceed some of the time
+	 */
+	private static final float	THRESHOLD	= 5.0f;
+
+	@SuppressWarnings("javadoc")
+	private static GIOReader	s_Reader;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOHydroperiod.class;
+		final Class<?> testingClass = GIOHydroperiodTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+		s_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception
+	{
+		s_Reader.close();
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOHydroperiod#builder()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(GIOHydroperiod.builder());
+		try
+		{
+			GIOHydroperiod.builder().withReader(s_Reader)
+					.withThresholds(new float[3]).build();
+			Assert.fail("Not trapping wrong number of thresholds.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			GIOHydroperiod.builder().withReader(s_Reader).build();
+			Assert.fail("Not trapping missing threshold.");
+		}
+		catch (final NullPointerException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOHydroperiod#calculate()}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testCalculate() throws Exception
+	{
+		final List<Year> years = GIOHydroperiod.builder().withReader(s_Reader)
+				.withThreshold(THRESHOLD).withThreads(3).build().calculate();
+		final List<Date> dates = s_Reader.getDates();
+		final int numNodes = s_Reader.getHeader().getNodesSize();
+
+		/**
+		 * Compute each year directly, one node at a time
+		 */
+		final Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+		final float[] nodes = new float[numNodes];
+		int t = 0;
+		int inundated = 0;
+		for (final Year year : years)
+		{
+			cal.setTime(year.getStart());
+			final int calendarYear = cal.get(Calendar.YEAR);
+			Assert.assertEquals(Calendar.JANUARY, cal.get(Calendar.MONTH));
+			final int[] hydroperiod = new int[numNodes];
+			final int[] run = new int[numNodes];
+			final int[] longestRun = new int[numNodes];
+			for (int i = 0; i < year.getTimestepCount(); i++, t++)
+			{
+				cal.setTime(dates.get(t));
+				Assert.assertEquals(calendarYear, cal.get(Calendar.YEAR));
+				s_Reader.readNodes(t, nodes);
+				for (int node = 0; node < numNodes; node++)
+				{
+					if (nodes[node] > THRESHOLD)
+					{
+						hydroperiod[node]++;
+						run[node]++;
+						longestRun[node] = Math.max(longestRun[node],
+								run[node]);
+					}
+					else
+					{
+						run[node] = 0;
+					}
+				}
+			}
+			Assert.assertArrayEquals(hydroperiod, year.getHydroperiod());
+			Assert.assertArrayEquals(longestRun, year.getLongestRun());
+			inundated += Arrays.stream(hydroperiod).sum();
+		}
+		Assert.assertEquals(dates.size(), t);
+		Assert.assertTrue(inundated > 0);
+		Assert.assertTrue(inundated < dates.size() * numNodes);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOHydroperiod#calculate(gov.usgs.jem.sfwmm.grid.GIOHydroperiod.Listener)}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testCalculateListener() throws Exception
+	{
+		final int numNodes = s_Reader.getHeader().getNodesSize();
+		final float[] thresholds = new float[numNodes];
+		Arrays.fill(thresholds, THRESHOLD);
+		final List<Year> parallel = Lists.newArrayList();
+		final int count = GIOHydroperiod.builder().withReader(s_Reader)
+				.withThresholds(thresholds)
+				.withWaterYearStart(Month.MAY).withThreads(4).build()
+				.calculate(parallel::add);
+		Assert.assertEquals(parallel.size(), count);
+
+		/**
+		 * Same result on one thread
+		 */
+		final List<Year> serial = GIOHydroperiod.builder().withReader(s_Reader)
+				.withThreshold(THRESHOLD).withWaterYearStart(Month.MAY)
+				.withThreads(1).build().calculate();
+		Assert.assertEquals(serial.size(), parallel.size());
+		final Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+		for (int i = 0; i < serial.size(); i++)
+		{
+			Assert.assertEquals(serial.get(i).getStart(),
+					parallel.get(i).getStart());
+			cal.setTime(parallel.get(i).getStart());
+			Assert.assertEquals(Calendar.MAY, cal.get(Calendar.MONTH));
+			Assert.assertArrayEquals(serial.get(i).getHydroperiod(),
+					parallel.get(i).getHydroperiod());
+			Assert.assertArrayEquals(serial.get(i).getLongestRun(),
+					parallel.get(i).getLongestRun());
+		}
+	}
+}
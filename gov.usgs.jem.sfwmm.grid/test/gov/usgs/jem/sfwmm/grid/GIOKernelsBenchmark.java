@@ -0,0 +1,163 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import java.util.Random;
+
+/**
+ * Compares {@link GIOKernels} against the straightforward branching loops
+ * they replace, on node vectors the size of the SFWMM grid and of a finer
+ * regional grid. Not part of {@link AllTests}; run {@link #main(String[])}
+ * from the IDE, optionally with {@code -XX:-UseSuperWord} to see the scalar
+ * baseline of the kernels themselves.
+ *
+ * @since Oct 18, 2026
+ *
+ */
+public final class GIOKernelsBenchmark
+{
+	/**
+	 * Node vector sizes: the SFWMM 2x2 mile grid and a 500 m regional grid
+	 */
+	private static final int[]	SIZES		= { 1746, 150_000 };
+
+	/**
+	 * Approximate number of values processed per measurement
+	 */
+	private static final long	WORK		= 200_000_000L;
+
+	/**
+	 * Fraction of NaN values, as in masked or dry cells
+	 */
+	private static final double	NAN_RATE	= 0.05;
+
+	/**
+	 * Reference NaN-aware sum with a branch per value
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @return the sum
+	 * @since Oct 18, 2026
+	 */
+	private static double branchingSum(final float[] p_Values)
+	{
+		double sum = 0.0;
+		for (final float value : p_Values)
+		{
+			if (!Float.isNaN(value))
+			{
+				sum += value;
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Reference NaN-aware maximum with a branch per value
+	 *
+	 * @param p_Values
+	 *            the values
+	 * @return the maximum
+	 * @since Oct 18, 2026
+	 */
+	private static float branchingMax(final float[] p_Values)
+	{
+		float max = Float.NaN;
+		for (final float value : p_Values)
+		{
+			if (!Float.isNaN(value))
+			{
+				max = Float.isNaN(max) ? value : Math.max(max, value);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Run the comparison and print the time per value of each loop
+	 *
+	 * @param p_Args
+	 *            ignored
+	 * @since Oct 18, 2026
+	 */
+	public static void main(final String[] p_Args)
+	{
+		final Random random = new Random(42);
+		for (final int size : SIZES)
+		{
+			final float[] a = new float[size];
+			final float[] b = new float[size];
+			for (int i = 0; i < size; i++)
+			{
+				a[i] = random.nextDouble() < NAN_RATE ? Float.NaN
+						: random.nextFloat() * 20.0f;
+				b[i] = random.nextFloat() * 20.0f;
+			}
+			final float[] destination = new float[size];
+			final long repeats = Math.max(1, WORK / size);
+
+			/**
+			 * Warm up both variants, then measure each
+			 */
+			for (int pass = 0; pass < 2; pass++)
+			{
+				double sink = 0.0;
+				long start = System.nanoTime();
+				for (long r = 0; r < repeats; r++)
+				{
+					sink += branchingSum(a);
+				}
+				final long branchingSum = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (long r = 0; r < repeats; r++)
+				{
+					sink += GIOKernels.sum(a, size);
+				}
+				final long kernelSum = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (long r = 0; r < repeats; r++)
+				{
+					sink += branchingMax(a);
+				}
+				final long branchingMax = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (long r = 0; r < repeats; r++)
+				{
+					sink += GIOKernels.max(a, size);
+				}
+				final long kernelMax = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (long r = 0; r < repeats; r++)
+				{
+					sink += GIOKernels.countAbove(a, size, 10.0f);
+					sink += GIOKernels.subtract(a, b, size, destination)[0];
+				}
+				final long kernelOther = System.nanoTime() - start;
+
+				if (pass == 1)
+				{
+					final double values = (double) repeats * size;
+					System.out.printf(
+							"%,9d nodes: sum %.3f -> %.3f ns, max %.3f -> %.3f ns,"
+									+ " countAbove+subtract %.3f ns"
+									+ " per value (%s)%n",
+							size, branchingSum / values, kernelSum / values,
+							branchingMax / values, kernelMax / values,
+							kernelOther / values, sink > 0 ? "ok" : "");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Static utility
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private GIOKernelsBenchmark()
+	{
+		/** Nothing for now */
+	}
+}
@@ -0,0 +1,188 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOKernels}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOKernelsTest
+{
+	/**
+	 * Values with NaN, negatives and a trailing element excluded by the
+	 * length
+	 */
+	private static final float[]	VALUES	= { 1.5f, Float.NaN, -2.0f, 4.0f,
+			Float.NaN, 0.5f, 3.0f, 100.0f };
+
+	/**
+	 * Number of {@link #VALUES} processed
+	 */
+	private static final int		LENGTH	= VALUES.length - 1;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOKernels.class;
+		final Class<?> testingClass = GIOKernelsTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOKernels#count(float[], int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testCount()
+	{
+		Assert.assertEquals(5, GIOKernels.count(VALUES, LENGTH));
+		Assert.assertEquals(0, GIOKernels.count(VALUES, 0));
+		try
+		{
+			GIOKernels.count(VALUES, VALUES.length + 1);
+			Assert.fail("Not trapping length beyond the array.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOKernels#countAbove(float[], int, float)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testCountAbove()
+	{
+		Assert.assertEquals(3, GIOKernels.countAbove(VALUES, LENGTH, 1.0f));
+		Assert.assertEquals(2, GIOKernels.countAbove(VALUES, LENGTH, 1.5f));
+		Assert.assertEquals(0,
+				GIOKernels.countAbove(VALUES, LENGTH, Float.NaN));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOKernels#max(float[], int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testMax()
+	{
+		Assert.assertEquals(4.0f, GIOKernels.max(VALUES, LENGTH), 0.0f);
+		Assert.assertEquals(100.0f, GIOKernels.max(VALUES, VALUES.length),
+				0.0f);
+		Assert.assertTrue(Float.isNaN(GIOKernels
+				.max(new float[] { Float.NaN, Float.NaN }, 2)));
+		Assert.assertEquals(Float.NEGATIVE_INFINITY, GIOKernels
+				.max(new float[] { Float.NaN, Float.NEGATIVE_INFINITY }, 2),
+				0.0f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOKernels#min(float[], int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testMin()
+	{
+		Assert.assertEquals(-2.0f, GIOKernels.min(VALUES, LENGTH), 0.0f);
+		Assert.assertTrue(Float.isNaN(GIOKernels.min(VALUES, 0)));
+		Assert.assertEquals(Float.POSITIVE_INFINITY, GIOKernels
+				.min(new float[] { Float.POSITIVE_INFINITY, Float.NaN }, 2),
+				0.0f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOKernels#scale(float[], int, float, float, float[])}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testScale()
+	{
+		final float[] scaled = GIOKernels.scale(VALUES, LENGTH, 0.3048f, 1.0f,
+				new float[LENGTH]);
+		for (int i = 0; i < LENGTH; i++)
+		{
+			Assert.assertEquals(VALUES[i] * 0.3048f + 1.0f, scaled[i], 0.0f);
+		}
+
+		/**
+		 * In place
+		 */
+		final float[] values = VALUES.clone();
+		Assert.assertSame(values,
+				GIOKernels.scale(values, LENGTH, 2.0f, 0.0f, values));
+		Assert.assertEquals(8.0f, values[3], 0.0f);
+		Assert.assertEquals(100.0f, values[LENGTH], 0.0f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOKernels#subtract(float[], float[], int, float[])}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testSubtract()
+	{
+		final float[] other = new float[LENGTH];
+		for (int i = 0; i < LENGTH; i++)
+		{
+			other[i] = i;
+		}
+		final float[] difference = GIOKernels.subtract(VALUES, other, LENGTH,
+				new float[LENGTH]);
+		for (int i = 0; i < LENGTH; i++)
+		{
+			Assert.assertEquals(VALUES[i] - i, difference[i], 0.0f);
+		}
+		Assert.assertTrue(Float.isNaN(difference[1]));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOKernels#sum(float[], int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testSum()
+	{
+		Assert.assertEquals(7.0, GIOKernels.sum(VALUES, LENGTH), 0.0);
+		Assert.assertEquals(107.0, GIOKernels.sum(VALUES, VALUES.length),
+				0.0);
+		Assert.assertEquals(0.0, GIOKernels.sum(VALUES, 0), 0.0);
+
+		/**
+		 * Every remainder of the unrolled loop
+		 */
+		for (int length = 0; length <= LENGTH; length++)
+		{
+			double expected = 0.0;
+			for (int i = 0; i < length; i++)
+			{
+				expected += Float.isNaN(VALUES[i]) ? 0.0 : VALUES[i];
+			}
+			Assert.assertEquals(expected, GIOKernels.sum(VALUES, length),
+					0.0);
+		}
+	}
+}
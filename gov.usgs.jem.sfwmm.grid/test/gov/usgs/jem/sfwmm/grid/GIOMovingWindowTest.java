@@ -0,0 +1,203 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import gov.usgs.jem.sfwmm.grid.GIOMovingWindow.Statistic;
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOMovingWindow}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOMovingWindowTest
+{
+	/**
+	 * Window length used by the tests, a year of monthly timesteps
+	 */
+	private static final int	WINDOW	= 12;
+
+	@SuppressWarnings("javadoc")
+	private static float[][]	s_Data;
+
+	@SuppressWarnings("javadoc")
+	private static GIOReader	s_Reader;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOMovingWindow.class;
+		final Class<?> testingClass = GIOMovingWindowTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+		s_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+		final int numNodes = s_Reader.getHeader().getNodesSize();
+		s_Data = new float[s_Reader.getDates().size()][];
+		for (int t = 0; t < s_Data.length; t++)
+		{
+			s_Data[t] = s_Reader.readNodes(t, new float[numNodes]);
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception
+	{
+		s_Reader.close();
+	}
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder m_Folder = new TemporaryFolder();
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOMovingWindow#builder()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(GIOMovingWindow.builder());
+		try
+		{
+			GIOMovingWindow.builder().withReader(s_Reader).build();
+			Assert.fail("Not trapping missing window.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOMovingWindow#filter(gov.usgs.jem.sfwmm.grid.GIOMovingWindow.Listener)}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testFilter() throws Exception
+	{
+		final List<Date> dates = s_Reader.getDates();
+		final int count = GIOMovingWindow.builder().withReader(s_Reader)
+				.withWindow(WINDOW).build()
+				.filter((p_DateIndex, p_Date, p_Window) -> {
+					Assert.assertEquals(dates.get(p_DateIndex), p_Date);
+					for (int node = 0; node < s_Data[0].length; node++)
+					{
+						/**
+						 * Brute force over the window
+						 */
+						double sum = 0.0;
+						float min = Float.POSITIVE_INFINITY;
+						float max = Float.NEGATIVE_INFINITY;
+						for (int t = p_DateIndex - WINDOW
+								+ 1; t <= p_DateIndex; t++)
+						{
+							sum += s_Data[t][node];
+							min = Math.min(min, s_Data[t][node]);
+							max = Math.max(max, s_Data[t][node]);
+						}
+						Assert.assertEquals(sum / WINDOW,
+								p_Window.getMean()[node], 1.0e-4);
+						Assert.assertEquals(min, p_Window.getMin()[node], 0.0f);
+						Assert.assertEquals(max, p_Window.getMax()[node], 0.0f);
+						Assert.assertSame(p_Window.getMin(),
+								p_Window.get(Statistic.MIN));
+					}
+				});
+		Assert.assertEquals(dates.size() - WINDOW + 1, count);
+
+		/**
+		 * A window of one reproduces the file
+		 */
+		GIOMovingWindow.builder().withReader(s_Reader).withWindow(1).build()
+				.filter((p_DateIndex, p_Date, p_Window) -> {
+					Assert.assertArrayEquals(s_Data[p_DateIndex],
+							p_Window.getMean(), 0.0f);
+					Assert.assertArrayEquals(s_Data[p_DateIndex],
+							p_Window.getMax(), 0.0f);
+				});
+
+		/**
+		 * A window longer than the file produces nothing
+		 */
+		Assert.assertEquals(0,
+				GIOMovingWindow.builder().withReader(s_Reader)
+						.withWindow(dates.size() + 1).build()
+						.filter((p_DateIndex, p_Date, p_Window) -> {
+							throw new IOException("Unexpected");
+						}));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOMovingWindow#getWindow()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetWindow()
+	{
+		Assert.assertEquals(WINDOW, GIOMovingWindow.builder()
+				.withReader(s_Reader).withWindow(WINDOW).build().getWindow());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOMovingWindow#write(gov.usgs.jem.sfwmm.grid.GIOMovingWindow.Statistic, java.lang.String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testWrite() throws Exception
+	{
+		final File file = new File(m_Folder.getRoot(), "max.bin");
+		final int count = GIOMovingWindow.builder().withReader(s_Reader)
+				.withWindow(WINDOW).build()
+				.write(Statistic.MAX, file.getAbsolutePath());
+		try (GIOReader reader = GIOReader.open(file.getAbsolutePath()))
+		{
+			Assert.assertEquals(count, reader.getDates().size());
+			Assert.assertEquals(s_Reader.getDates().get(WINDOW - 1),
+					reader.getDates().get(0));
+			Assert.assertEquals(s_Reader.getAvailability(),
+					reader.getAvailability());
+			final float[] nodes = reader.readNodes(0,
+					new float[s_Data[0].length]);
+			for (int node = 0; node < nodes.length; node++)
+			{
+				float max = Float.NEGATIVE_INFINITY;
+				for (int t = 0; t < WINDOW; t++)
+				{
+					max = Math.max(max, s_Data[t][node]);
+				}
+				Assert.assertEquals(max, nodes[node], 0.0f);
+			}
+		}
+	}
+}
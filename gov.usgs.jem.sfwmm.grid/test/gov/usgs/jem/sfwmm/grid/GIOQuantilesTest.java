@@ -0,0 +1,229 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import gov.usgs.jem.sfwmm.grid.GIOQuantiles.Mode;
+import java.util.Arrays;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOQuantiles}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOQuantilesTest
+{
+	/**
+	 * Percentiles used by the tests
+	 */
+	private static final double[]	PERCENTILES	= { 0, 10, 50, 90, 100 };
+
+	@SuppressWarnings("javadoc")
+	private static GIOReader		s_Reader;
+
+	/**
+	 * The sorted series of each node
+	 */
+	private static float[][]		s_Sorted;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOQuantiles.class;
+		final Class<?> testingClass = GIOQuantilesTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+		s_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+		final int numDates = s_Reader.getDates().size();
+		final int numNodes = s_Reader.getHeader().getNodesSize();
+		s_Sorted = new float[numNodes][numDates];
+		final float[] nodes = new float[numNodes];
+		for (int t = 0; t < numDates; t++)
+		{
+			s_Reader.readNodes(t, nodes);
+			for (int node = 0; node < numNodes; node++)
+			{
+				s_Sorted[node][t] = nodes[node];
+			}
+		}
+		for (final float[] series : s_Sorted)
+		{
+			Arrays.sort(series);
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception
+	{
+		s_Reader.close();
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOQuantiles#builder()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(GIOQuantiles.builder());
+		try
+		{
+			GIOQuantiles.builder().withReader(s_Reader).build();
+			Assert.fail("Not trapping missing percentiles.");
+		}
+		catch (final NullPointerException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			GIOQuantiles.builder().withReader(s_Reader).withPercentiles(50)
+					.withSketchSize(1).build();
+			Assert.fail("Not trapping invalid sketch size.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOQuantiles#calculate()}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testCalculate() throws Exception
+	{
+		final int numDates = s_Sorted[0].length;
+		final float[][] exact = GIOQuantiles.builder().withReader(s_Reader)
+				.withPercentiles(PERCENTILES).build().calculate();
+		for (int p = 0; p < PERCENTILES.length; p++)
+		{
+			for (int node = 0; node < s_Sorted.length; node++)
+			{
+				Assert.assertEquals(
+						GIOEnsemble.percentile(s_Sorted[node], numDates,
+								PERCENTILES[p]),
+						exact[p][node], 0.0f);
+			}
+		}
+
+		/**
+		 * Several passes when the series do not all fit in memory
+		 */
+		final float[][] blocked = GIOQuantiles.builder().withReader(s_Reader)
+				.withPercentiles(PERCENTILES)
+				.withMaxMemory(100L * numDates * Float.BYTES).build()
+				.calculate();
+		for (int p = 0; p < PERCENTILES.length; p++)
+		{
+			Assert.assertArrayEquals(exact[p], blocked[p], 0.0f);
+		}
+
+		/**
+		 * A limit beyond the largest array still gathers one block
+		 */
+		final float[][] unlimited = GIOQuantiles.builder()
+				.withReader(s_Reader).withPercentiles(PERCENTILES)
+				.withMaxMemory(Long.MAX_VALUE).build().calculate();
+		for (int p = 0; p < PERCENTILES.length; p++)
+		{
+			Assert.assertArrayEquals(exact[p], unlimited[p], 0.0f);
+		}
+
+		/**
+		 * A sketch larger than the series is exact
+		 */
+		final float[][] large = GIOQuantiles.builder().withReader(s_Reader)
+				.withPercentiles(PERCENTILES).withMode(Mode.APPROXIMATE)
+				.withSketchSize(numDates + 1).build().calculate();
+		for (int p = 0; p < PERCENTILES.length; p++)
+		{
+			Assert.assertArrayEquals(exact[p], large[p], 1.0e-5f);
+		}
+
+		/**
+		 * A small sketch stays within a few percent of the exact rank
+		 */
+		final float[][] small = GIOQuantiles.builder().withReader(s_Reader)
+				.withPercentiles(PERCENTILES).withMode(Mode.APPROXIMATE)
+				.withSketchSize(32).build().calculate();
+		final int tolerance = numDates / 10;
+		for (int p = 0; p < PERCENTILES.length; p++)
+		{
+			final int rank = (int) Math
+					.round(PERCENTILES[p] / 100.0 * (numDates - 1));
+			for (int node = 0; node < s_Sorted.length; node++)
+			{
+				final float[] sorted = s_Sorted[node];
+				Assert.assertTrue(small[p][node] >= sorted[Math.max(0,
+						rank - tolerance)]);
+				Assert.assertTrue(small[p][node] <= sorted[Math
+						.min(numDates - 1, rank + tolerance)]);
+			}
+			if (PERCENTILES[p] == 0 || PERCENTILES[p] == 100)
+			{
+				/**
+				 * The extremes are kept exactly
+				 */
+				for (int node = 0; node < s_Sorted.length; node++)
+				{
+					Assert.assertEquals(exact[p][node], small[p][node],
+							0.0f);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOQuantiles#getMode()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetMode()
+	{
+		Assert.assertEquals(Mode.EXACT, GIOQuantiles.builder()
+				.withReader(s_Reader).withPercentiles(50).build().getMode());
+		Assert.assertEquals(Mode.APPROXIMATE,
+				GIOQuantiles.builder().withReader(s_Reader).withPercentiles(50)
+						.withMode(Mode.APPROXIMATE).build().getMode());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOQuantiles#getPercentiles()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetPercentiles()
+	{
+		Assert.assertArrayEquals(PERCENTILES,
+				GIOQuantiles.builder().withReader(s_Reader)
+						.withPercentiles(PERCENTILES).build().getPercentiles(),
+				0.0);
+	}
+}
@@ -1,11 +1,17 @@
 package gov.usgs.jem.sfwmm.grid;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.StandardOpenOption;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.DoubleSummaryStatistics;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.After;
@@ -51,6 +57,69 @@ public class GIOReaderTest
 		AllTests.assertHasRequiredMethods(classToTest, testingClass);
 	}
 
+	/**
+	 * Writes the provided bytes to a temporary file and probes it with
+	 * {@link GIOReader#isGridIO(SeekableDataFileInputStream)}
+	 *
+	 * @param p_Bytes
+	 *            the file contents
+	 * @return the result of the probe
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private static boolean isGridIO(final byte[] p_Bytes) throws IOException
+	{
+		final File file = File.createTempFile("probe", ".bin");
+		file.deleteOnExit();
+		java.nio.file.Files.write(file.toPath(), p_Bytes);
+		try (SeekableDataFileInputStream stream = new SeekableDataFileInputStreamImpl(
+				file.getAbsolutePath(), ByteOrder.BIG_ENDIAN))
+		{
+			return GIOReader.isGridIO(stream);
+		}
+	}
+
+	/**
+	 * Probes a sparse file with a printable title and the provided counts,
+	 * long enough for them, whose row configuration is all zeros
+	 *
+	 * @param p_NumRows
+	 *            the number of rows in the header
+	 * @param p_NumNodes
+	 *            the number of nodes in the header
+	 * @return the position of the stream after a failed probe
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private static long probeCraftedHeader(final int p_NumRows,
+			final int p_NumNodes) throws IOException
+	{
+		final File file = File.createTempFile("crafted", ".bin");
+		file.deleteOnExit();
+		try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(file,
+				"rw"))
+		{
+			final byte[] title = new byte[80];
+			Arrays.fill(title, (byte) 'x');
+			raf.write(title);
+			raf.writeInt(p_NumRows);
+			raf.writeInt(p_NumNodes);
+			raf.writeFloat(1.0f);
+			raf.writeFloat(1.0f);
+			raf.setLength(96 + 12L * p_NumRows + 80 + 4L * p_NumNodes);
+		}
+		try (SeekableDataFileInputStream stream = new SeekableDataFileInputStreamImpl(
+				file.getAbsolutePath(), ByteOrder.BIG_ENDIAN))
+		{
+			Assert.assertFalse(GIOReader.isGridIO(stream));
+			return stream.getPosition();
+		}
+		finally
+		{
+			file.delete();
+		}
+	}
+
 	/**
 	 * Unpacks the values in the provided array as a {@link Stream} of
 	 * {@link Float}
@@ -104,6 +173,88 @@ public class GIOReaderTest
 		m_Reader.close();
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#forEachTimestep(com.google.common.collect.Range, gov.usgs.jem.sfwmm.grid.GIOTimestepListener)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testForEachTimestep() throws ParseException, IOException
+	{
+		final List<Integer> indices = Lists.newArrayList();
+		final float[] expected = new float[NUM_NODES];
+		final GIOReader other = GIOReader
+				.open(AllTests.getTestFile().getAbsolutePath());
+		try
+		{
+			final List<Date> dates = m_Reader.getDates();
+			final int count = m_Reader.forEachTimestep(
+					Range.closedOpen(10, 20), (index, date, nodes) -> {
+						indices.add(index);
+						Assert.assertEquals(dates.get(index), date);
+						try
+						{
+							Assert.assertArrayEquals(
+									other.readNodes(index, expected), nodes,
+									0.0f);
+						}
+						catch (final ParseException e)
+						{
+							throw new IOException(e);
+						}
+					});
+			Assert.assertEquals(10, count);
+			Assert.assertEquals(
+					IntStream.range(10, 20).boxed()
+							.collect(Collectors.toList()),
+					indices);
+			Assert.assertEquals(NUM_DATES,
+					m_Reader.forEachTimestep(Range.all(), (i, d, n) -> {
+						/**
+						 * Nothing to do
+						 */
+					}));
+		}
+		finally
+		{
+			other.close();
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#getAvailability()}.
+	 */
+	@Test
+	public void testGetAvailability()
+	{
+		final GIOAvailability availability = m_Reader.getAvailability();
+		Assert.assertNotNull(availability);
+		Assert.assertEquals(NUM_ROWS, availability.getRowsSize());
+		Assert.assertEquals(NUM_NODES, availability.getNodesSize());
+		Assert.assertEquals(m_Reader.getHeader().getColsSize(),
+				availability.getColsSize());
+		Assert.assertEquals(Range.closed(15, 21), availability.getColumns(0));
+		Assert.assertEquals(Range.closed(23, 39),
+				availability.getColumns(NUM_ROWS - 1));
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOReader#getDateCount()}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testGetDateCount() throws ParseException, IOException
+	{
+		Assert.assertEquals(NUM_DATES, m_Reader.getDateCount());
+		Assert.assertEquals(m_Reader.getDates().size(),
+				m_Reader.getDateCount());
+	}
+
 	/**
 	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOReader#getDates()}.
 	 *
@@ -162,6 +313,63 @@ public class GIOReaderTest
 		Assert.assertTrue(Float.isNaN(m_Reader.getNoDataValue()));
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#isGridIO(gov.usgs.jem.sfwmm.grid.SeekableDataFileInputStream)}.
+	 *
+	 * @throws IOException
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testIsGridIO() throws IOException
+	{
+		final byte[] bytes = java.nio.file.Files
+				.readAllBytes(AllTests.getTestFile().toPath());
+		final int gridSize = 80 + NUM_NODES * Float.BYTES;
+		final int firstGrid = bytes.length - NUM_DATES * gridSize;
+		Assert.assertTrue(isGridIO(bytes));
+		Assert.assertTrue(isGridIO(
+				Arrays.copyOfRange(bytes, 0, firstGrid + gridSize)));
+
+		/**
+		 * Header only, partial grids and trailing bytes
+		 */
+		Assert.assertFalse(isGridIO(Arrays.copyOfRange(bytes, 0, firstGrid)));
+		Assert.assertFalse(
+				isGridIO(Arrays.copyOfRange(bytes, 0, bytes.length - 100)));
+		Assert.assertFalse(
+				isGridIO(Arrays.copyOfRange(bytes, 0, bytes.length + 4)));
+		Assert.assertFalse(isGridIO(Arrays.copyOfRange(bytes, 0, 50)));
+
+		/**
+		 * Not GridIO files
+		 */
+		final byte[] text = new byte[bytes.length];
+		Arrays.fill(text, (byte) 'x');
+		Assert.assertFalse(isGridIO(text));
+		final byte[] random = new byte[bytes.length];
+		new java.util.Random(42).nextBytes(random);
+		Assert.assertFalse(isGridIO(random));
+		final byte[] numRows = bytes.clone();
+		numRows[80] = (byte) 0x7f;
+		Assert.assertFalse(isGridIO(numRows));
+		final byte[] tag = bytes.clone();
+		Arrays.fill(tag, bytes.length - gridSize,
+				bytes.length - gridSize + 80, (byte) '?');
+		Assert.assertFalse(isGridIO(tag));
+
+		/**
+		 * Crafted headers are rejected after a bounded read: too many rows
+		 * before the configuration, and an inconsistent configuration at its
+		 * first bad row
+		 */
+		final int header = 96;
+		Assert.assertEquals(header, probeCraftedHeader(1 << 24, 1 << 26));
+		final int craftedRows = 1000;
+		Assert.assertTrue(probeCraftedHeader(craftedRows, 1 << 20) < header
+				+ 3 * Integer.BYTES * craftedRows);
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#open(java.lang.String)}.
@@ -202,6 +410,54 @@ public class GIOReaderTest
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#openStream(gov.usgs.jem.sfwmm.grid.SeekableDataFileInputStream)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testOpenStream() throws IOException, ParseException
+	{
+		final String filePath = AllTests.getTestFile().getAbsolutePath();
+		final SeekableDataFileInputStream stream = new SeekableDataFileInputStreamImpl(
+				filePath, ByteOrder.BIG_ENDIAN);
+
+		/**
+		 * The header is read from the start even if the stream was used
+		 */
+		stream.skipBytes(100);
+		try (GIOReader open = GIOReader.openStream(stream))
+		{
+			Assert.assertEquals(filePath, open.getFilePath());
+			Assert.assertEquals(m_Reader.getHeader().getTitle(),
+					open.getHeader().getTitle());
+			Assert.assertEquals(m_Reader.getAvailability(),
+					open.getAvailability());
+			Assert.assertEquals(m_Reader.getDates(), open.getDates());
+			final int numNodes = m_Reader.getHeader().getNodesSize();
+			final int last = m_Reader.getDates().size() - 1;
+			Assert.assertArrayEquals(
+					m_Reader.readNodes(last, new float[numNodes]),
+					open.readNodes(last, new float[numNodes]), 0.0f);
+		}
+
+		try (SeekableDataFileInputStream littleEndian = new SeekableDataFileInputStreamImpl(
+				filePath, ByteOrder.LITTLE_ENDIAN))
+		{
+			GIOReader.openStream(littleEndian);
+			Assert.fail("Not trapping little-endian stream.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#readData(com.google.common.collect.Range, com.google.common.collect.Range, com.google.common.collect.Range)}.
@@ -344,4 +600,238 @@ public class GIOReaderTest
 		Assert.assertEquals(24.3613235f, summaryStatistics.getAverage(),
 				0.00001);
 	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#readDataReversedRows(com.google.common.collect.Range, com.google.common.collect.Range, com.google.common.collect.Range)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testReadDataReversedRows() throws IOException, ParseException
+	{
+		final Range<Integer> dates = Range.closed(2, 4);
+		final Range<Integer> rows = Range.closed(10, 29);
+		final Range<Integer> cols = Range.closedOpen(3, 21);
+		final int numRows = 20;
+		final int numCols = 18;
+		final float[] expected = m_Reader.readData(dates, rows, cols);
+		final float[] actual = m_Reader.readDataReversedRows(dates, rows,
+				cols);
+		Assert.assertEquals(expected.length, actual.length);
+		for (int t = 0; t < 3; t++)
+		{
+			for (int row = 0; row < numRows; row++)
+			{
+				final int from = (t * numRows + row) * numCols;
+				final int to = (t * numRows + numRows - 1 - row) * numCols;
+				Assert.assertArrayEquals(
+						Arrays.copyOfRange(expected, from, from + numCols),
+						Arrays.copyOfRange(actual, to, to + numCols), 0.0f);
+			}
+		}
+
+		/**
+		 * Whole grid, open-ended
+		 */
+		final float[] all = m_Reader.readDataReversedRows(Range.singleton(0),
+				Range.all(), Range.all());
+		final int rowsSize = m_Reader.getHeader().getRowsSize();
+		final int colsSize = m_Reader.getHeader().getColsSize();
+		final GIOAvailability availability = m_Reader.getAvailability();
+		final float[] nodes = m_Reader.readNodes(0,
+				new float[availability.getNodesSize()]);
+		for (int row = 0; row < rowsSize; row++)
+		{
+			for (int col = 0; col < colsSize; col++)
+			{
+				final int node = availability.getNodeIndex(row, col);
+				Assert.assertEquals(node < 0 ? Float.NaN : nodes[node],
+						all[(rowsSize - 1 - row) * colsSize + col], 0.0f);
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#readDataReversedRowsInto(com.google.common.collect.Range, com.google.common.collect.Range, com.google.common.collect.Range, float[], int)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testReadDataReversedRowsInto()
+			throws IOException, ParseException
+	{
+		final Range<Integer> dates = Range.closed(2, 4);
+		final Range<Integer> rows = Range.closed(10, 29);
+		final Range<Integer> cols = Range.closedOpen(3, 21);
+		final float[] expected = m_Reader.readDataReversedRows(dates, rows,
+				cols);
+		final int offset = 7;
+		final float[] data = new float[offset + expected.length + 5];
+		Arrays.fill(data, -1.0f);
+		Assert.assertSame(data, m_Reader.readDataReversedRowsInto(dates, rows,
+				cols, data, offset));
+		Assert.assertArrayEquals(expected,
+				Arrays.copyOfRange(data, offset, offset + expected.length),
+				0.0f);
+		for (int i = 0; i < offset; i++)
+		{
+			Assert.assertEquals(-1.0f, data[i], 0.0f);
+		}
+		for (int i = offset + expected.length; i < data.length; i++)
+		{
+			Assert.assertEquals(-1.0f, data[i], 0.0f);
+		}
+
+		try
+		{
+			m_Reader.readDataReversedRowsInto(dates, rows, cols,
+					new float[expected.length], 1);
+			Assert.fail("Not trapping destination array too small.");
+		}
+		catch (final IndexOutOfBoundsException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#readNodes(int, float[])}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testReadNodes() throws IOException, ParseException
+	{
+		final GIOAvailability availability = m_Reader.getAvailability();
+		final float[] nodes = new float[NUM_NODES];
+		final float[] grid = new float[NUM_ROWS * availability.getColsSize()];
+		/**
+		 * Out of order on purpose, to exercise seeking backwards
+		 */
+		for (final int tstep : new int[] { 0, 1, 2, 200, 100, NUM_DATES - 1 })
+		{
+			final float[] expected = m_Reader.readData(Range.singleton(tstep),
+					Range.all(), Range.all());
+			Assert.assertSame(nodes, m_Reader.readNodes(tstep, nodes));
+			Assert.assertArrayEquals(expected,
+					availability.toGrid(nodes, grid), 0.0f);
+		}
+		Assert.assertEquals(13.72564f, m_Reader.readNodes(0,
+				nodes)[availability.getNodeIndex(NUM_ROWS - 1, 23)], 0.00001);
+		try
+		{
+			m_Reader.readNodes(NUM_DATES, nodes);
+			Assert.fail("Not trapping bad date index.");
+		}
+		catch (final IndexOutOfBoundsException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOReader#readTag(int)}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testReadTag() throws ParseException, IOException
+	{
+		/**
+		 * Read before the tags are indexed, and in any order
+		 */
+		try (GIOReader reader = GIOReader
+				.open(AllTests.getTestFile().getAbsolutePath()))
+		{
+			Assert.assertEquals(978220800000L,
+					reader.readTag(NUM_DATES - 1).getTime());
+			Assert.assertEquals(-157766400000L, reader.readTag(0).getTime());
+			final List<Date> dates = reader.getDates();
+			Assert.assertEquals(dates.get(1), reader.readTag(1));
+			Assert.assertEquals(dates.get(NUM_DATES / 2),
+					reader.readTag(NUM_DATES / 2));
+			try
+			{
+				reader.readTag(NUM_DATES);
+				Assert.fail("Not trapping date index out of bounds.");
+			}
+			catch (final IndexOutOfBoundsException e)
+			{
+				/**
+				 * Expected
+				 */
+				Assert.assertNotNull(e);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOReader#refresh()}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testRefresh() throws IOException, ParseException
+	{
+		Assert.assertEquals(0, m_Reader.refresh());
+		Assert.assertEquals(NUM_DATES, m_Reader.getDates().size());
+
+		/**
+		 * Simulate a file that is still being written: the header, three
+		 * grids and part of a fourth, then the rest of the file
+		 */
+		final byte[] bytes = java.nio.file.Files
+				.readAllBytes(AllTests.getTestFile().toPath());
+		final int gridSize = 80 + NUM_NODES * Float.BYTES;
+		final int firstGrid = bytes.length - NUM_DATES * gridSize;
+		final int partial = firstGrid + 3 * gridSize + 100;
+		final File file = File.createTempFile("refresh", ".bin");
+		file.deleteOnExit();
+		java.nio.file.Files.write(file.toPath(),
+				Arrays.copyOfRange(bytes, 0, partial));
+		try (GIOReader reader = GIOReader.open(file.getAbsolutePath()))
+		{
+			Assert.assertEquals(3, reader.getDates().size());
+			Assert.assertEquals(0, reader.refresh());
+			java.nio.file.Files.write(file.toPath(),
+					Arrays.copyOfRange(bytes, partial, bytes.length),
+					StandardOpenOption.APPEND);
+			Assert.assertEquals(NUM_DATES - 3, reader.refresh());
+			Assert.assertEquals(m_Reader.getDates(), reader.getDates());
+			final float[] nodes = new float[NUM_NODES];
+			Assert.assertArrayEquals(
+					m_Reader.readNodes(NUM_DATES - 1, new float[NUM_NODES]),
+					reader.readNodes(NUM_DATES - 1, nodes), 0.0f);
+
+			java.nio.file.Files.write(file.toPath(),
+					Arrays.copyOfRange(bytes, 0, partial));
+			try
+			{
+				reader.refresh();
+				Assert.fail("Not trapping truncated file.");
+			}
+			catch (final IOException e)
+			{
+				/**
+				 * Expected
+				 */
+				Assert.assertNotNull(e);
+			}
+		}
+	}
 }
@@ -0,0 +1,263 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import gov.usgs.jem.sfwmm.grid.GIOStencil.Product;
+import java.io.File;
+import java.util.Date;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOStencil}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOStencilTest
+{
+	/**
+	 * Distance between columns of the plane
+	 */
+	private static final float	SIZE_X	= 2.0f;
+
+	/**
+	 * Distance between rows of the plane
+	 */
+	private static final float	SIZE_Y	= 1.0f;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOStencil.class;
+		final Class<?> testingClass = GIOStencilTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder	m_Folder	= new TemporaryFolder();
+
+	/**
+	 * A plane {@code 2 * col + 3 * row} over 4 rows of 5 columns, with a NaN
+	 * node at row 2, column 4 of the second timestep
+	 */
+	private GIOReader		m_Plane;
+
+	/**
+	 * Get a product of the plane at a cell
+	 *
+	 * @param p_Product
+	 *            the product
+	 * @param p_DateIndex
+	 *            the timestep
+	 * @param p_Row
+	 *            the row
+	 * @param p_Col
+	 *            the column
+	 * @return the product at the cell
+	 * @throws Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	private float get(final Product p_Product, final int p_DateIndex,
+			final int p_Row, final int p_Col) throws Exception
+	{
+		final float[] result = new float[1];
+		final int node = m_Plane.getAvailability().getNodeIndex(p_Row, p_Col);
+		GIOStencil.builder().withReader(m_Plane).withProduct(p_Product)
+				.withThreads(2).build().apply((p_Index, p_Date, p_Nodes) -> {
+					if (p_Index == p_DateIndex)
+					{
+						result[0] = p_Nodes[node];
+					}
+				});
+		return result[0];
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		final GIOAvailability availability = GIOAvailability.builder()
+				.withRow(0, 1, 3).withRow(1, 0, 4).withRow(2, 0, 4)
+				.withRow(3, 1, 3).build();
+		final GIOHeader header = GIOHeader.builder().withTitle("Plane")
+				.withNumRows(4).withNumCols(5)
+				.withNumNodes(availability.getNodesSize())
+				.withSize(SIZE_X, SIZE_Y).build();
+		final File file = m_Folder.newFile("plane.bin");
+		final float[] nodes = new float[availability.getNodesSize()];
+		for (int node = 0; node < nodes.length; node++)
+		{
+			nodes[node] = 2.0f * availability.getColumn(node)
+					+ 3.0f * availability.getRow(node);
+		}
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(file.getAbsolutePath()).withHeader(header)
+				.withAvailability(availability).build())
+		{
+			writer.writeNodes(new Date(0L), nodes);
+			nodes[availability.getNodeIndex(2, 4)] = Float.NaN;
+			writer.writeNodes(new Date(86_400_000L), nodes);
+		}
+		m_Plane = GIOReader.open(file.getAbsolutePath());
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Plane.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOStencil#apply(gov.usgs.jem.sfwmm.grid.GIOTimestepListener)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testApply() throws Exception
+	{
+		/**
+		 * Interior cells see the plane exactly
+		 */
+		for (final int row : new int[] { 1, 2 })
+		{
+			Assert.assertEquals(2.0f / SIZE_X,
+					get(Product.GRADIENT_X, 0, row, 2), 1.0e-6f);
+			/**
+			 * Positive toward the north
+			 */
+			Assert.assertEquals(3.0f / SIZE_Y,
+					get(Product.GRADIENT_Y, 0, row, 2), 1.0e-6f);
+			Assert.assertEquals(Math.hypot(2.0f / SIZE_X, 3.0f / SIZE_Y),
+					get(Product.SLOPE, 0, row, 2), 1.0e-6f);
+
+			/**
+			 * The plane rises to the north (row 0 is the south edge), so it
+			 * slopes north to south: south drops 3 over 1, more than west (2
+			 * over 2) or south-west (5 over the diagonal)
+			 */
+			Assert.assertEquals(4.0f, get(Product.FLOW_DIRECTION, 0, row, 2),
+					0.0f);
+		}
+
+		/**
+		 * The lowest cell has no lower neighbour, and a cell whose south
+		 * neighbour is unavailable drains to the only lower one, south-east
+		 */
+		Assert.assertEquals(0.0f, get(Product.FLOW_DIRECTION, 0, 0, 1), 0.0f);
+		Assert.assertEquals(2.0f, get(Product.FLOW_DIRECTION, 0, 1, 0), 0.0f);
+
+		/**
+		 * NaN nodes stay NaN and are not drained into
+		 */
+		Assert.assertTrue(Float.isNaN(get(Product.SLOPE, 1, 2, 4)));
+		Assert.assertTrue(Float.isNaN(get(Product.FLOW_DIRECTION, 1, 2, 4)));
+		Assert.assertFalse(Float.isNaN(get(Product.SLOPE, 1, 2, 3)));
+
+		/**
+		 * Every timestep of the test file is streamed
+		 */
+		try (GIOReader reader = GIOReader
+				.open(AllTests.getTestFile().getAbsolutePath()))
+		{
+			final List<Date> dates = reader.getDates();
+			final int count = GIOStencil.builder().withReader(reader).build()
+					.apply((p_DateIndex, p_Date, p_Nodes) -> {
+						Assert.assertEquals(dates.get(p_DateIndex), p_Date);
+						for (final float value : p_Nodes)
+						{
+							Assert.assertTrue(value >= 0.0f);
+						}
+					});
+			Assert.assertEquals(dates.size(), count);
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOStencil#builder()}.
+	 */
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(GIOStencil.builder());
+		try
+		{
+			GIOStencil.builder().withReader(m_Plane).withThreads(0).build();
+			Assert.fail("Not trapping invalid thread count.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOStencil#getProduct()}.
+	 */
+	@Test
+	public void testGetProduct()
+	{
+		Assert.assertEquals(Product.SLOPE,
+				GIOStencil.builder().withReader(m_Plane).build().getProduct());
+		Assert.assertEquals(Product.FLOW_DIRECTION,
+				GIOStencil.builder().withReader(m_Plane)
+						.withProduct(Product.FLOW_DIRECTION).build()
+						.getProduct());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOStencil#write(java.lang.String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testWrite() throws Exception
+	{
+		final File file = new File(m_Folder.getRoot(), "direction.bin");
+		Assert.assertEquals(2,
+				GIOStencil.builder().withReader(m_Plane)
+						.withProduct(Product.FLOW_DIRECTION).build()
+						.write(file.getAbsolutePath()));
+		try (GIOReader reader = GIOReader.open(file.getAbsolutePath()))
+		{
+			Assert.assertEquals(m_Plane.getDates(), reader.getDates());
+			Assert.assertEquals(m_Plane.getAvailability(),
+					reader.getAvailability());
+			Assert.assertEquals("Plane flow direction",
+					reader.getHeader().getTitle().trim());
+			final float[] nodes = reader.readNodes(0,
+					new float[m_Plane.getHeader().getNodesSize()]);
+			Assert.assertEquals(4.0f,
+					nodes[m_Plane.getAvailability().getNodeIndex(2, 2)], 0.0f);
+		}
+	}
+}
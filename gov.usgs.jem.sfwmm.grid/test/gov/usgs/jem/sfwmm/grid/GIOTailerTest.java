@@ -0,0 +1,318 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOTailer}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOTailerTest
+{
+	/**
+	 * Number of timesteps in the file before tailing starts
+	 */
+	private static final int	INITIAL_TIMESTEPS	= 5;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOTailer.class;
+		final Class<?> testingClass = GIOTailerTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	@SuppressWarnings("javadoc")
+	private List<Date>		m_Dates;
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder	m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private float[]			m_Nodes;
+
+	@SuppressWarnings("javadoc")
+	private GIOReader		m_Reader;
+
+	@SuppressWarnings("javadoc")
+	private GIOReader		m_Source;
+
+	@SuppressWarnings("javadoc")
+	private GIOWriter		m_Writer;
+
+	/**
+	 * Write the next timestep from the source file to the file being tailed
+	 *
+	 * @throws Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	private void append() throws Exception
+	{
+		final int index = m_Writer.getTimestepCount();
+		m_Writer.writeNodes(m_Dates.get(index),
+				m_Source.readNodes(index, m_Nodes));
+	}
+
+	/**
+	 * Start a file with a few timesteps, leaving the writer open to append
+	 * more
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Source = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+		m_Dates = m_Source.getDates();
+		m_Nodes = new float[m_Source.getHeader().getNodesSize()];
+		final File file = m_Folder.newFile("tail.bin");
+		m_Writer = GIOWriter.builder().withFilePath(file.getAbsolutePath())
+				.withHeader(m_Source.getHeader())
+				.withAvailability(m_Source.getAvailability()).build();
+		for (int i = 0; i < INITIAL_TIMESTEPS; i++)
+		{
+			append();
+		}
+		m_Writer.flush();
+		m_Reader = GIOReader.open(file.getAbsolutePath());
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Reader.close();
+		m_Writer.close();
+		m_Source.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOTailer#addListener(gov.usgs.jem.sfwmm.grid.GIOTimestepListener)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testAddListener() throws Exception
+	{
+		try (GIOTailer tailer = GIOTailer.builder().withReader(m_Reader)
+				.build())
+		{
+			final List<Integer> first = Lists.newArrayList();
+			final List<Integer> second = Lists.newArrayList();
+			tailer.addListener((i, d, n) -> first.add(i));
+			tailer.addListener((i, d, n) -> second.add(i));
+			append();
+			m_Writer.flush();
+			tailer.poll();
+			Assert.assertEquals(Lists.newArrayList(INITIAL_TIMESTEPS), first);
+			Assert.assertEquals(first, second);
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOTailer#builder()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBuilder() throws Exception
+	{
+		Assert.assertNotNull(GIOTailer.builder());
+		try (GIOTailer tailer = GIOTailer.builder().withReader(m_Reader)
+				.withReplay(true).build())
+		{
+			Assert.assertEquals(0, tailer.getNextIndex());
+			Assert.assertEquals(INITIAL_TIMESTEPS, tailer.poll());
+		}
+		try
+		{
+			GIOTailer.builder().withReader(m_Reader)
+					.withPollInterval(0, TimeUnit.SECONDS).build();
+			Assert.fail("Not trapping bad poll interval.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOTailer#close()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testClose() throws Exception
+	{
+		final GIOTailer tailer = GIOTailer.builder().withReader(m_Reader)
+				.build();
+		tailer.start();
+		tailer.close();
+		tailer.close();
+		/**
+		 * The reader is left open
+		 */
+		Assert.assertEquals(INITIAL_TIMESTEPS, m_Reader.getDates().size());
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOTailer#getNextIndex()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGetNextIndex() throws Exception
+	{
+		try (GIOTailer tailer = GIOTailer.builder().withReader(m_Reader)
+				.build())
+		{
+			Assert.assertEquals(INITIAL_TIMESTEPS, tailer.getNextIndex());
+			append();
+			append();
+			m_Writer.flush();
+			tailer.poll();
+			Assert.assertEquals(INITIAL_TIMESTEPS + 2, tailer.getNextIndex());
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOTailer#poll()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testPoll() throws Exception
+	{
+		try (GIOTailer tailer = GIOTailer.builder().withReader(m_Reader)
+				.build())
+		{
+			final List<Date> dates = Lists.newArrayList();
+			final float[] expected = new float[m_Nodes.length];
+			tailer.addListener((i, d, n) -> {
+				dates.add(d);
+				try
+				{
+					m_Source.readNodes(i, expected);
+				}
+				catch (final ParseException e)
+				{
+					throw new IOException(e);
+				}
+				Assert.assertArrayEquals(expected, n, 0.0f);
+			});
+			Assert.assertEquals(0, tailer.poll());
+
+			/**
+			 * Only part of a grid has been written: nothing new yet
+			 */
+			append();
+			m_Writer.flush();
+			final File file = new File(m_Reader.getFilePath());
+			final long length = file.length();
+			append();
+			m_Writer.flush();
+			try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(
+					file, "rw"))
+			{
+				raf.setLength(length + 100);
+			}
+			Assert.assertEquals(1, tailer.poll());
+			Assert.assertEquals(m_Dates.subList(INITIAL_TIMESTEPS,
+					INITIAL_TIMESTEPS + 1), dates);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOTailer#removeListener(gov.usgs.jem.sfwmm.grid.GIOTimestepListener)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRemoveListener() throws Exception
+	{
+		try (GIOTailer tailer = GIOTailer.builder().withReader(m_Reader)
+				.build())
+		{
+			final List<Integer> indices = Lists.newArrayList();
+			final GIOTimestepListener listener = (i, d, n) -> indices.add(i);
+			tailer.addListener(listener);
+			Assert.assertTrue(tailer.removeListener(listener));
+			Assert.assertFalse(tailer.removeListener(listener));
+			append();
+			m_Writer.flush();
+			Assert.assertEquals(1, tailer.poll());
+			Assert.assertTrue(indices.isEmpty());
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOTailer#start()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testStart() throws Exception
+	{
+		try (GIOTailer tailer = GIOTailer.builder().withReader(m_Reader)
+				.withPollInterval(10, TimeUnit.MILLISECONDS).build())
+		{
+			final CountDownLatch latch = new CountDownLatch(3);
+			tailer.addListener((i, d, n) -> latch.countDown());
+			tailer.start();
+			for (int i = 0; i < 3; i++)
+			{
+				append();
+			}
+			m_Writer.flush();
+			Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+			try
+			{
+				tailer.start();
+				Assert.fail("Not trapping second start.");
+			}
+			catch (final IllegalStateException e)
+			{
+				/**
+				 * Expected
+				 */
+				Assert.assertNotNull(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,333 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import com.google.common.collect.Range;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOWriter}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOWriterTest
+{
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOWriter.class;
+		final Class<?> testingClass = GIOWriterTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	/**
+	 * Copy every timestep of the provided reader to a new file
+	 *
+	 * @param p_Reader
+	 *            the reader to copy from
+	 * @param p_File
+	 *            the file to write
+	 * @param p_BufferSize
+	 *            the write buffer size
+	 * @throws IOException
+	 * @throws ParseException
+	 * @since Oct 18, 2026
+	 */
+	private static void copy(final GIOReader p_Reader, final File p_File,
+			final int p_BufferSize) throws IOException, ParseException
+	{
+		final List<Date> dates = p_Reader.getDates();
+		final float[] nodes = new float[p_Reader.getHeader().getNodesSize()];
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(p_File.getAbsolutePath())
+				.withHeader(p_Reader.getHeader())
+				.withAvailability(p_Reader.getAvailability())
+				.withBufferSize(p_BufferSize).build())
+		{
+			for (int t = 0; t < dates.size(); t++)
+			{
+				writer.writeNodes(dates.get(t), p_Reader.readNodes(t, nodes));
+			}
+		}
+	}
+
+	@SuppressWarnings("javadoc")
+	@Rule
+	public TemporaryFolder	m_Folder	= new TemporaryFolder();
+
+	@SuppressWarnings("javadoc")
+	private GIOReader		m_Reader;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Reader.close();
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOWriter#builder()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBuilder() throws Exception
+	{
+		Assert.assertNotNull(GIOWriter.builder());
+		try
+		{
+			final GIOHeader header = GIOHeader.builder().withTitle("Title")
+					.withNumRows(3).withNumNodes(8).withNumCols(5)
+					.withSize(1.0f, 1.0f).build();
+			GIOWriter.builder()
+					.withFilePath(m_Folder.newFile("test1.bin").getAbsolutePath())
+					.withHeader(header)
+					.withAvailability(m_Reader.getAvailability()).build();
+			Assert.fail("Not trapping mismatched availability.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOWriter#close()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testClose() throws IOException
+	{
+		final File file = m_Folder.newFile("test2.bin");
+		final GIOWriter writer = GIOWriter.builder()
+				.withFilePath(file.getAbsolutePath())
+				.withHeader(m_Reader.getHeader())
+				.withAvailability(m_Reader.getAvailability()).build();
+		writer.close();
+		writer.close();
+		try
+		{
+			writer.writeNodes(new Date(0L),
+					new float[m_Reader.getHeader().getNodesSize()]);
+			Assert.fail("Not trapping closed writer.");
+		}
+		catch (final IllegalStateException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		/**
+		 * Title, header and configuration block only
+		 */
+		Assert.assertEquals(80L + 16L + 65L * 12L, file.length());
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOWriter#flush()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testFlush() throws IOException
+	{
+		final File file = m_Folder.newFile("test3.bin");
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(file.getAbsolutePath())
+				.withHeader(m_Reader.getHeader())
+				.withAvailability(m_Reader.getAvailability()).build())
+		{
+			writer.writeNodes(new Date(0L),
+					new float[m_Reader.getHeader().getNodesSize()]);
+			Assert.assertEquals(0L, file.length());
+			writer.flush();
+			Assert.assertEquals(80L + 16L + 65L * 12L + 80L + 4L * 1746L, file.length());
+		}
+	}
+
+	/**
+	 * Test method for {@link gov.usgs.jem.sfwmm.grid.GIOWriter#getFilePath()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testGetFilePath() throws IOException
+	{
+		final String path = m_Folder.newFile("test4.bin").getAbsolutePath();
+		try (GIOWriter writer = GIOWriter.builder().withFilePath(path)
+				.withHeader(m_Reader.getHeader())
+				.withAvailability(m_Reader.getAvailability()).build())
+		{
+			Assert.assertEquals(path, writer.getFilePath());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOWriter#getTimestepCount()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testGetTimestepCount() throws IOException
+	{
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(m_Folder.newFile("test5.bin").getAbsolutePath())
+				.withHeader(m_Reader.getHeader())
+				.withAvailability(m_Reader.getAvailability()).build())
+		{
+			Assert.assertEquals(0, writer.getTimestepCount());
+			final float[] nodes = new float[m_Reader.getHeader()
+					.getNodesSize()];
+			writer.writeNodes(new Date(0L), nodes);
+			writer.writeNodes(new Date(0L), nodes);
+			Assert.assertEquals(2, writer.getTimestepCount());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOWriter#writeGrid(java.util.Date, float[])}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testWriteGrid() throws IOException, ParseException
+	{
+		final File file = m_Folder.newFile("test6.bin");
+		final List<Date> dates = m_Reader.getDates();
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(file.getAbsolutePath())
+				.withHeader(m_Reader.getHeader())
+				.withAvailability(m_Reader.getAvailability()).build())
+		{
+			for (int t = 0; t < 12; t++)
+			{
+				writer.writeGrid(dates.get(t), m_Reader.readData(
+						Range.singleton(t), Range.all(), Range.all()));
+			}
+		}
+		try (GIOReader reader = GIOReader.open(file.getAbsolutePath()))
+		{
+			Assert.assertEquals(dates.subList(0, 12), reader.getDates());
+			Assert.assertArrayEquals(
+					m_Reader.readData(Range.closed(0, 11), Range.all(),
+							Range.all()),
+					reader.readData(Range.all(), Range.all(), Range.all()),
+					0.0f);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOWriter#writeNodes(java.util.Date, float[])}.
+	 *
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	@Test
+	public void testWriteNodes() throws IOException, ParseException
+	{
+		/**
+		 * A small buffer forces node vectors to be split across writes
+		 */
+		final File first = m_Folder.newFile("test7.bin");
+		copy(m_Reader, first, 1000);
+		final byte[] written = Files.readAllBytes(first.toPath());
+
+		try (GIOReader reader = GIOReader.open(first.getAbsolutePath()))
+		{
+			final GIOHeader expected = m_Reader.getHeader();
+			final GIOHeader actual = reader.getHeader();
+			Assert.assertEquals(expected.getTitle(), actual.getTitle());
+			Assert.assertEquals(expected.getRowsSize(), actual.getRowsSize());
+			Assert.assertEquals(expected.getNodesSize(),
+					actual.getNodesSize());
+			Assert.assertEquals(expected.getSizeX(), actual.getSizeX(), 0.0f);
+			Assert.assertEquals(expected.getSizeY(), actual.getSizeY(), 0.0f);
+			Assert.assertEquals(m_Reader.getAvailability(),
+					reader.getAvailability());
+			Assert.assertEquals(m_Reader.getDates(), reader.getDates());
+
+			/**
+			 * Rewriting the written file is byte-exact
+			 */
+			final File second = m_Folder.newFile("test8.bin");
+			copy(reader, second, 1 << 20);
+			Assert.assertArrayEquals(written,
+					Files.readAllBytes(second.toPath()));
+		}
+
+		/**
+		 * The tags and data match the original file byte for byte; only the
+		 * padding in the original configuration block differs
+		 */
+		final byte[] original = Files
+				.readAllBytes(AllTests.getTestFile().toPath());
+		final int gridBytes = m_Reader.getDates().size()
+				* (80 + 4 * m_Reader.getHeader().getNodesSize());
+		Assert.assertTrue(Arrays.equals(original,
+				original.length - gridBytes, original.length, written,
+				written.length - gridBytes, written.length));
+
+		try (GIOWriter writer = GIOWriter.builder()
+				.withFilePath(m_Folder.newFile("test9.bin").getAbsolutePath())
+				.withHeader(m_Reader.getHeader())
+				.withAvailability(m_Reader.getAvailability()).build())
+		{
+			final float[] nodes = new float[m_Reader.getHeader()
+					.getNodesSize()];
+			writer.writeNodes(new Date(1000L), nodes);
+			writer.writeNodes(new Date(0L), nodes);
+			Assert.fail("Not trapping out of order dates.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package gov.usgs.jem.sfwmm.grid;
+
+import gov.usgs.jem.sfwmm.grid.GIOZonalStatistics.Table;
+import java.util.Arrays;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link GIOZonalStatistics}
+ *
+ * @since Oct 18, 2026
+ *
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GIOZonalStatisticsTest
+{
+	@SuppressWarnings("javadoc")
+	private static int[]		s_Mask;
+
+	@SuppressWarnings("javadoc")
+	private static GIOReader	s_Reader;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = GIOZonalStatistics.class;
+		final Class<?> testingClass = GIOZonalStatisticsTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+		s_Reader = GIOReader.open(AllTests.getTestFile().getAbsolutePath());
+
+		/**
+		 * Zone 5 in the lower rows, zone 2 in the left of the upper rows, no
+		 * zone elsewhere
+		 */
+		final int numRows = s_Reader.getHeader().getRowsSize();
+		final int numCols = s_Reader.getHeader().getColsSize();
+		s_Mask = new int[numRows * numCols];
+		for (int row = 0; row < numRows; row++)
+		{
+			for (int col = 0; col < numCols; col++)
+			{
+				s_Mask[row * numCols + col] = row < numRows / 2 ? 5
+						: col < numCols / 2 ? 2 : 0;
+			}
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception
+	{
+		s_Reader.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOZonalStatistics#builder()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testBuilder()
+	{
+		Assert.assertNotNull(GIOZonalStatistics.builder());
+		try
+		{
+			GIOZonalStatistics.builder().withReader(s_Reader).build();
+			Assert.fail("Not trapping missing mask.");
+		}
+		catch (final NullPointerException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+		try
+		{
+			GIOZonalStatistics.builder().withReader(s_Reader)
+					.withMask(new int[10]).build();
+			Assert.fail("Not trapping mask of the wrong size.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOZonalStatistics#calculate()}.
+	 *
+	 * @throws Exception
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testCalculate() throws Exception
+	{
+		final float threshold = 5.0f;
+		final GIOZonalStatistics zonal = GIOZonalStatistics.builder()
+				.withReader(s_Reader).withMask(s_Mask).withThreshold(threshold)
+				.withThreads(3).build();
+		final Table table = zonal.calculate();
+		Assert.assertEquals(s_Reader.getDates(), table.getDates());
+		Assert.assertArrayEquals(zonal.getZones(), table.getZones());
+
+		/**
+		 * Compare every timestep against statistics computed from readNodes
+		 */
+		final GIOHeader header = s_Reader.getHeader();
+		final float cellArea = header.getSizeX() * header.getSizeY();
+		final float[] nodes = new float[header.getNodesSize()];
+		for (int t = 0; t < table.getDates().size(); t++)
+		{
+			s_Reader.readNodes(t, nodes);
+			for (int z = 0; z < table.getZones().length; z++)
+			{
+				final int[] zoneNodes = zonal.getNodes(table.getZones()[z]);
+				double sum = 0.0;
+				float min = Float.POSITIVE_INFINITY;
+				float max = Float.NEGATIVE_INFINITY;
+				int above = 0;
+				for (final int node : zoneNodes)
+				{
+					sum += nodes[node];
+					min = Math.min(min, nodes[node]);
+					max = Math.max(max, nodes[node]);
+					above += nodes[node] > threshold ? 1 : 0;
+				}
+				Assert.assertEquals(sum / zoneNodes.length,
+						table.getMean(z)[t], 1.0e-4);
+				Assert.assertEquals(min, table.getMin(z)[t], 0.0f);
+				Assert.assertEquals(max, table.getMax(z)[t], 0.0f);
+				Assert.assertEquals(above * cellArea, table.getArea(z)[t],
+						0.0f);
+			}
+		}
+
+		/**
+		 * Without a threshold, no area is counted
+		 */
+		final Table noThreshold = GIOZonalStatistics.builder()
+				.withReader(s_Reader).withMask(s_Mask).withThreads(1).build()
+				.calculate();
+		Assert.assertEquals(0.0f, noThreshold.getArea(0)[0], 0.0f);
+		Assert.assertArrayEquals(table.getMean(1), noThreshold.getMean(1),
+				0.0f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOZonalStatistics#getNodes(int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetNodes()
+	{
+		final GIOZonalStatistics zonal = GIOZonalStatistics.builder()
+				.withReader(s_Reader).withMask(s_Mask).build();
+		final GIOAvailability availability = s_Reader.getAvailability();
+		final int numCols = availability.getColsSize();
+		for (final int zone : zonal.getZones())
+		{
+			final int[] nodes = zonal.getNodes(zone);
+			Assert.assertTrue(nodes.length > 0);
+			for (final int node : nodes)
+			{
+				Assert.assertEquals(zone,
+						s_Mask[availability.getRow(node) * numCols
+								+ availability.getColumn(node)]);
+			}
+			final int[] sorted = nodes.clone();
+			Arrays.sort(sorted);
+			Assert.assertArrayEquals(sorted, nodes);
+		}
+		try
+		{
+			zonal.getNodes(0);
+			Assert.fail("Not trapping unlabelled zone.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+			Assert.assertNotNull(e);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.GIOZonalStatistics#getZones()}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetZones()
+	{
+		Assert.assertArrayEquals(new int[] { 2, 5 },
+				GIOZonalStatistics.builder().withReader(s_Reader)
+						.withMask(s_Mask).build().getZones());
+	}
+}
@@ -245,6 +245,19 @@ public class SeekableDataFileInputStreamImplTest
 		Assert.assertEquals(m_FilePath, m_Input.getFilePath());
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.sfwmm.grid.SeekableDataFileInputStreamImpl#getLength()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetLength() throws IOException
+	{
+		Assert.assertEquals(AllTests.getTestFile().length(),
+				m_Input.getLength());
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.sfwmm.grid.SeekableDataFileInputStreamImpl#getPosition()}.